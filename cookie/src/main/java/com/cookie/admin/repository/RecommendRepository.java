@@ -1,11 +1,14 @@
 package com.cookie.admin.repository;
 
 import com.cookie.admin.entity.AdminMovieRecommend;
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface RecommendRepository extends JpaRepository<AdminMovieRecommend, Long> {
 
     @Modifying
@@ -14,4 +17,26 @@ public interface RecommendRepository extends JpaRepository<AdminMovieRecommend,
         WHERE amr.movie.id = :movieId
     """)
     void deleteByMovieId(@Param("movieId") Long movieId);
+
+    @Query("SELECT amr FROM AdminMovieRecommend amr JOIN FETCH amr.movie ORDER BY amr.id")
+    List<AdminMovieRecommend> findAllWithMovie();
+
+    // 메인 추천 캐러셀 (좋아요/리뷰 수는 집계 컬럼 사용, 추천 등록 순)
+    @Query("""
+        SELECT new com.cookie.domain.movie.dto.response.MovieSimpleResponse(
+            m.id,
+            m.title,
+            m.poster,
+            m.releasedAt,
+            c.name,
+            m.score,
+            m.movieLikes,
+            CAST(m.reviewCount AS long)
+        )
+        FROM AdminMovieRecommend amr
+        JOIN amr.movie m
+        LEFT JOIN m.country c
+        ORDER BY amr.id
+    """)
+    List<MovieSimpleResponse> findRecommendMovies();
 }
@@ -8,11 +8,13 @@ import com.cookie.domain.matchup.entity.EmotionPoint;
 import com.cookie.domain.matchup.entity.MatchUp;
 import com.cookie.domain.matchup.entity.MatchUpMovie;
 import com.cookie.domain.matchup.entity.enums.MatchUpStatus;
+import com.cookie.domain.matchup.event.MainMatchUpChangedEvent;
 import com.cookie.domain.matchup.repository.CharmPointRepository;
 import com.cookie.domain.matchup.repository.EmotionPointRepository;
 import com.cookie.domain.matchup.repository.MatchUpMovieRepository;
 import com.cookie.domain.matchup.repository.MatchUpRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class AdminMatchUpService {
 
     private final CharmPointRepository charmPointRepository;
     private final EmotionPointRepository emotionPointRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public AdminMatchUpsResponse getMatchUps() {
@@ -93,6 +96,7 @@ public class AdminMatchUpService {
                 .build();
 
         matchUpRepository.save(matchUp);
+        eventPublisher.publishEvent(new MainMatchUpChangedEvent());
     }
 
     @Transactional(readOnly = true)
@@ -169,6 +173,7 @@ public class AdminMatchUpService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치 정보가 존재하지 않습니다."));
 
         matchUpRepository.deleteById(matchUpId);
+        eventPublisher.publishEvent(new MainMatchUpChangedEvent());
     }
 
     private List<AdminMatchUpInfo> convertAdminMatchUpInfo(List<MatchUp> matchUps) {
@@ -21,6 +21,7 @@ import com.cookie.domain.movie.repository.MovieActorRepository;
 import com.cookie.domain.movie.repository.MovieCategoryRepository;
 import com.cookie.domain.movie.repository.MovieImageRepository;
 import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.search.index.MovieSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,6 +59,8 @@ public class AdminMovieCreateService {
     private final MovieActorRepository movieActorRepository;
     private final MovieCategoryRepository movieCategoryRepository;
 
+    private final MovieSearchIndex movieSearchIndex;
+
     @Transactional
     public AdminMovieBaseAddResponse defaultMoviesAdd() {
         long movieAddCount = 0;
@@ -147,6 +150,8 @@ public class AdminMovieCreateService {
         List<MovieCategory> movieCategoryDates = createMovieCategories(movieData, categories);
         movieCategoryRepository.saveAll(movieCategoryDates);
 
+        movieSearchIndex.reindexAfterCommit(List.of(movieData.getId()));
+
         return movieData;
     }
 
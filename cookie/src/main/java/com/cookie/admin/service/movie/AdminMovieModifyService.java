@@ -8,10 +8,15 @@ import com.cookie.domain.category.repository.CategoryRepository;
 import com.cookie.domain.category.entity.Category;
 import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.entity.MovieCategory;
+import com.cookie.domain.movie.event.MainAdminRecommendChangedEvent;
+import com.cookie.domain.movie.event.MovieDetailChangedEvent;
 import com.cookie.domain.movie.repository.*;
 import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.domain.search.index.MovieSearchIndex;
+import com.cookie.domain.search.service.SearchMovieMonthRankingService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +39,9 @@ public class AdminMovieModifyService {
     private final RecommendRepository recommendRepository;
     private final MovieMonthRankingRepository movieMonthRankingRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final MovieSearchIndex movieSearchIndex;
+    private final SearchMovieMonthRankingService searchMovieMonthRankingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AdminMovieCategoryResponse updateMovieCategory(Long movieId, List<MovieCategories> categories) {
@@ -68,6 +76,8 @@ public class AdminMovieModifyService {
             }
         }
 
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(movieId));
+
         List<MovieCategories> movieCategories = categoryRepository.findAll().stream()
                 .map(category -> MovieCategories.builder()
                         .categoryId(category.getId())
@@ -117,8 +127,13 @@ public class AdminMovieModifyService {
             // 추가 삭제 로직 기능 구현 필요
             // 히스토리?
             deleteMovieIds.add(movie.getId());
+            eventPublisher.publishEvent(new MovieDetailChangedEvent(movie.getId()));
         }
 
+        eventPublisher.publishEvent(new MainAdminRecommendChangedEvent());
+        movieSearchIndex.removeAfterCommit(deleteMovieIds);
+        searchMovieMonthRankingService.refreshAfterCommit();
+
         return deleteMovieIds;
     }
 }
@@ -6,8 +6,10 @@ import com.cookie.admin.exception.MovieBadRequestException;
 import com.cookie.admin.exception.MovieNotFoundException;
 import com.cookie.admin.repository.RecommendRepository;
 import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.event.MainAdminRecommendChangedEvent;
 import com.cookie.domain.movie.repository.MovieRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +22,11 @@ public class AdminRecommendService {
 
     private final RecommendRepository recommendRepository;
     private final MovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<RecommendResponse> getRecommendMovies() {
-        List<AdminMovieRecommend> recommends = recommendRepository.findAll();
+        List<AdminMovieRecommend> recommends = recommendRepository.findAllWithMovie();
 
         return recommends.stream()
                 .map(data -> RecommendResponse.builder()
@@ -60,5 +63,7 @@ public class AdminRecommendService {
             recommendRepository.deleteAll();
             recommendRepository.saveAll(adminMovieRecommends);
         }
+
+        eventPublisher.publishEvent(new MainAdminRecommendChangedEvent());
     }
 }
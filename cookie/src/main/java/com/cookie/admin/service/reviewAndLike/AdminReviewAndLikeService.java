@@ -4,8 +4,10 @@ import com.cookie.admin.dto.response.*;
 import com.cookie.admin.exception.MovieNotFoundException;
 import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.entity.MovieLike;
+import com.cookie.domain.movie.event.MovieDetailChangedEvent;
 import com.cookie.domain.movie.repository.MovieLikeRepository;
 import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.movie.service.MovieRatingService;
 import com.cookie.domain.review.entity.Review;
 import com.cookie.domain.review.entity.ReviewComment;
 import com.cookie.domain.review.entity.ReviewLike;
@@ -13,6 +15,7 @@ import com.cookie.domain.review.repository.ReviewCommentRepository;
 import com.cookie.domain.review.repository.ReviewLikeRepository;
 import com.cookie.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,8 @@ public class AdminReviewAndLikeService {
     private final ReviewCommentRepository reviewCommentRepository;
     private final ReviewLikeRepository reviewLikeRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final MovieRatingService movieRatingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<AdminReviewResponse> getMovieReviews(Long movieId, String dateOrder,
@@ -67,7 +72,7 @@ public class AdminReviewAndLikeService {
                         .score(review.getMovieScore())
                         .isHide(review.isHide())
                         .isSpoiler(review.isSpoiler())
-                        .commentCount(review.getReviewComments().size())
+                        .commentCount((int) review.getCommentCount())
                         .createdAt(review.getCreatedAt().format(dateTimeFormatter))
                         .build())
                 .toList();
@@ -93,7 +98,7 @@ public class AdminReviewAndLikeService {
                 .reviewLike(review.getReviewLike())
                 .isHide(review.isHide())
                 .isSpoiler(review.isSpoiler())
-                .commentCount(review.getReviewComments().size())
+                .commentCount((int) review.getCommentCount())
                 .createdAt(review.getCreatedAt().format(dateTimeFormatter))
                 .build();
     }
@@ -153,7 +158,17 @@ public class AdminReviewAndLikeService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 리뷰 정보는 존재하지 않습니다. " + reviewId));
 
-        review.updateIsHide(hideStatus);
+        if (review.isHide() != hideStatus) {
+            review.updateIsHide(hideStatus);
+
+            // 숨김 처리된 리뷰는 평점에서 제외
+            if (hideStatus) {
+                movieRatingService.removeReviewScore(review.getMovie().getId(), review.getMovieScore());
+            } else {
+                movieRatingService.addReviewScore(review.getMovie().getId(), review.getMovieScore());
+            }
+            eventPublisher.publishEvent(new MovieDetailChangedEvent(review.getMovie().getId()));
+        }
 
         return AdminReviewHideResponse.builder()
                 .reviewId(review.getId())
@@ -9,6 +9,7 @@ import com.cookie.domain.movie.entity.MovieActor;
 import com.cookie.domain.movie.repository.MovieActorRepository;
 import com.cookie.domain.movie.repository.MovieLikeRepository;
 import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.global.service.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +24,7 @@ public class ActorService {
     private final MovieActorRepository movieActorRepository;
     private final ReviewRepository reviewRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     public ActorDetailResponse getActorDetails(Long actorId) {
         // 1. 배우 정보 가져오기
@@ -43,7 +45,7 @@ public class ActorService {
                             .releasedAt(movie.getReleasedAt())
                             .country(movie.getCountry().getName())
                             .score(movie.getScore())
-                            .likes(movie.getMovieLikes())
+                            .likes(likeCountBuffer.movieLikes(movie.getId(), movie.getMovieLikes()))
                             .reviews(reviewRepository.countByMovieId(movie.getId()))
                             .build();
                 })
@@ -8,6 +8,7 @@ import com.cookie.domain.movie.dto.response.PersonDetailMovieInfo;
 import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.repository.MovieLikeRepository;
 import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.global.service.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +22,7 @@ public class DirectorService {
     private final DirectorRepository directorRepository;
     private final ReviewRepository reviewRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     public DirectorDetailResponse getDirectorDetails(Long directorId) {
         // 1. 감독 정보 가져오기
@@ -40,7 +42,7 @@ public class DirectorService {
                         .releasedAt(movie.getReleasedAt()) // LocalDateTime -> LocalDate 변환
                         .country(movie.getCountry().getName()) // 제작 국가 이름
                         .score(movie.getScore())
-                        .likes(movie.getMovieLikes()) // 좋아요 수
+                        .likes(likeCountBuffer.movieLikes(movie.getId(), movie.getMovieLikes())) // 좋아요 수
                         .reviews(reviewRepository.countByMovieId(movie.getId())) // 리뷰 개수
                         .build()
                 )
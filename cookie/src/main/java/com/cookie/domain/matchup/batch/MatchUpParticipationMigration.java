@@ -0,0 +1,70 @@
+package com.cookie.domain.matchup.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * match_up_participation.match_up_id 채우기 + NOT NULL 보장
+ * 매치업당 1인 1표 유니크 키(user_id, match_up_id)는 match_up_id 가 NULL 인 기존 행을 막지 못하므로,
+ * 투표한 영화(matchup_movie_id)가 속한 match_up 의 id 로 채운 뒤 컬럼을 NOT NULL 로 바꾼다.
+ * 채울 수 없는 행이 남거나 변경에 실패하면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchUpParticipationMigration {
+
+    private static final String NULLABLE_COLUMN_QUERY = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'match_up_participation'
+              AND column_name = 'match_up_id' AND is_nullable = 'YES'
+            """;
+
+    private static final String BACKFILL = """
+            UPDATE match_up_participation p
+            JOIN match_up m ON p.matchup_movie_id IN (m.movie1_id, m.movie2_id)
+            SET p.match_up_id = m.id
+            WHERE p.match_up_id IS NULL
+            """;
+
+    private static final String REMAINING_NULL_QUERY = "SELECT COUNT(*) FROM match_up_participation WHERE match_up_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureMatchUpId() {
+        // 테이블/컬럼이 없거나 이미 NOT NULL 이면 할 일 없음
+        if (count(NULLABLE_COLUMN_QUERY) == 0) {
+            return;
+        }
+
+        log.warn("match_up_participation.match_up_id 가 NULL 허용, 기존 행 채운 뒤 NOT NULL 로 변경");
+        try {
+            int updated = jdbcTemplate.update(BACKFILL);
+            log.info("match_up_participation.match_up_id 채움: {}건", updated);
+        } catch (Exception e) {
+            throw new IllegalStateException("match_up_participation.match_up_id 를 채우지 못했습니다.", e);
+        }
+
+        long remaining = count(REMAINING_NULL_QUERY);
+        if (remaining > 0) {
+            throw new IllegalStateException("매치업을 찾을 수 없는 match_up_participation 행이 있습니다: " + remaining + "건");
+        }
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE match_up_participation MODIFY match_up_id BIGINT NOT NULL");
+        } catch (Exception e) {
+            throw new IllegalStateException("match_up_participation.match_up_id 를 NOT NULL 로 바꾸지 못했습니다.", e);
+        }
+        log.info("match_up_participation.match_up_id NOT NULL 변경 완료");
+    }
+
+    private long count(String query) {
+        Long count = jdbcTemplate.queryForObject(query, Long.class);
+        return count != null ? count : 0L;
+    }
+}
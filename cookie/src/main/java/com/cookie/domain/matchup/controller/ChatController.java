@@ -1,11 +1,10 @@
 package com.cookie.domain.matchup.controller;
 
-import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.dto.response.ChatHistoryResponse;
 import com.cookie.domain.matchup.service.ChatService;
 import com.cookie.global.util.ApiUtil;
 import com.cookie.global.util.ApiUtil.ApiSuccess;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,10 +13,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @Tag(name = "매치 업 채팅", description = "매치 업 채팅 API")
 @RestController
 @RequiredArgsConstructor
@@ -25,14 +23,15 @@ import java.util.List;
 public class ChatController {
     private final ChatService chatService;
 
-    @Operation(summary = "매치 업 채팅 정보", responses = {
+    @Operation(summary = "매치 업 채팅 기록 (before 메시지 이전 size 개, before 가 없으면 최근 size 개)", responses = {
             @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
-                    array = @ArraySchema(
-                            schema = @Schema(implementation = ChatMessageResponse.class))))
+                    schema = @Schema(implementation = ChatHistoryResponse.class)))
     })
     @GetMapping("/{matchUpId}/messages")
-    public ApiSuccess<?> getMessages(@PathVariable Long matchUpId) {
-        List<ChatMessageResponse> messages = chatService.getMessagesByMatchUpId(matchUpId);
+    public ApiSuccess<?> getMessages(@PathVariable Long matchUpId,
+                                     @RequestParam(name = "before", required = false) String before,
+                                     @RequestParam(name = "size", defaultValue = "50") int size) {
+        ChatHistoryResponse messages = chatService.getMessages(matchUpId, before, size);
         return ApiUtil.success(messages);
     }
 }
@@ -4,6 +4,8 @@ import com.cookie.domain.matchup.dto.request.MatchUpVoteRequest;
 import com.cookie.domain.matchup.dto.response.MatchUpHistoryDetailResponse;
 import com.cookie.domain.matchup.dto.response.MatchUpHistoryResponse;
 import com.cookie.domain.matchup.dto.response.MatchUpResponse;
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse;
+import com.cookie.domain.matchup.service.MatchUpScoreboard;
 import com.cookie.domain.matchup.service.MatchUpService;
 import com.cookie.domain.user.dto.response.auth.CustomOAuth2User;
 import com.cookie.global.util.ApiUtil;
@@ -29,6 +31,7 @@ import java.util.List;
 public class MatchUpController {
 
     private final MatchUpService matchUpService;
+    private final MatchUpScoreboard matchUpScoreboard;
 
     @Operation(summary = "매치 업 히스토리 리스트", responses = {
             @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
@@ -74,4 +77,14 @@ public class MatchUpController {
         return ApiUtil.success(matchUp);
     }
 
+    @Operation(summary = "진행 중 매치 업 실시간 점수 (이후 변경분은 /topic/matchup/{matchUpId}/score 구독)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MatchUpScoreResponse.class)))
+    })
+    @GetMapping("/{matchUpId}/score")
+    public ApiSuccess<?> getMatchUpScore(@PathVariable(name = "matchUpId") Long matchUpId) {
+        MatchUpScoreResponse score = matchUpScoreboard.getScore(matchUpId);
+        return ApiUtil.success(score);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.cookie.domain.matchup.dto.response;
 
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,9 @@ public class CharmPointResponse {
     private long acting;
     private long specialEffect;
 
+    // 투표 집계 벡터(MatchUpVoteField 순서)에서 매력 포인트 비율 계산
+    public static CharmPointResponse fromTotals(long[] totals) {
+        long[] ratio = MatchUpVoteField.proportions(totals, MatchUpVoteField.OST, MatchUpVoteField.SPECIAL_EFFECTS);
+        return new CharmPointResponse(ratio[0], ratio[1], ratio[2], ratio[3], ratio[4], ratio[5], ratio[6]);
+    }
 }
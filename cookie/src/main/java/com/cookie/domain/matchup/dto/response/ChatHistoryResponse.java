@@ -0,0 +1,16 @@
+package com.cookie.domain.matchup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private List<ChatMessageResponse> messages; // 오래된 순
+    private String nextCursor; // 다음 요청의 before (이번 페이지에서 가장 오래된 메시지 id)
+    private boolean hasNext;
+}
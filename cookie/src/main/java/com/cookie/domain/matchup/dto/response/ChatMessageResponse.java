@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatMessageResponse {
+    private String messageId;
     private Long matchUpId;
     private Long senderUserId;
     private String senderNickname;
@@ -20,6 +21,7 @@ public class ChatMessageResponse {
 
     public static ChatMessageResponse fromEntity(ChatMessage chatMessage) {
         return new ChatMessageResponse(
+                chatMessage.getId(),
                 chatMessage.getMatchUpId(),
                 chatMessage.getSenderUserId(),
                 chatMessage.getSenderNickname(),
@@ -1,5 +1,6 @@
 package com.cookie.domain.matchup.dto.response;
 
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,9 @@ public class EmotionPointResponse {
     private long empathy;
     private long tension;
 
+    // 투표 집계 벡터(MatchUpVoteField 순서)에서 감정 포인트 비율 계산
+    public static EmotionPointResponse fromTotals(long[] totals) {
+        long[] ratio = MatchUpVoteField.proportions(totals, MatchUpVoteField.TOUCHING, MatchUpVoteField.TENSION);
+        return new EmotionPointResponse(ratio[0], ratio[1], ratio[2], ratio[3], ratio[4], ratio[5], ratio[6]);
+    }
 }
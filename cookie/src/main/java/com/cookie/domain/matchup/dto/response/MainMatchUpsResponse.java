@@ -6,20 +6,25 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class MainMatchUpsResponse {
+public class MainMatchUpsResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private List<MainMatchUpResponse> matchUps;
     private boolean access;
 
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class MainMatchUpResponse {
+    public static class MainMatchUpResponse implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private Long matchUpId;
         private String matchUpTitle;
         private MatchUpType type;
@@ -44,7 +49,9 @@ public class MainMatchUpsResponse {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class MainMatchUpMovieResponse {
+    public static class MainMatchUpMovieResponse implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private String movieTitle;
         private String moviePoster;
     }
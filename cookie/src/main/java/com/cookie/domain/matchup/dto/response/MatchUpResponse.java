@@ -21,12 +21,12 @@ public class MatchUpResponse {
     private MatchUpMovieResponse movie2;
     private boolean userVote;
 
-    public static MatchUpMovieResponse fromEntity(MatchUpMovie matchUpMovie, CharmPointResponse charmPointResponse, EmotionPointResponse emotionPointResponse) {
+    public static MatchUpMovieResponse fromEntity(MatchUpMovie matchUpMovie, long voteCount, CharmPointResponse charmPointResponse, EmotionPointResponse emotionPointResponse) {
         return new MatchUpMovieResponse(
                 matchUpMovie.getId(),
                 matchUpMovie.getMovieTitle(),
                 matchUpMovie.getMoviePoster(),
-                matchUpMovie.getVoteCount(),
+                voteCount,
                 matchUpMovie.isWin(),
                 charmPointResponse,
                 emotionPointResponse
@@ -0,0 +1,31 @@
+package com.cookie.domain.matchup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매치업 실시간 점수판
+ * /topic/matchup/{matchUpId}/score 로는 직전 발행 이후 바뀐 영화만 담아 보내고,
+ * GET /api/matchups/{matchUpId}/score 는 두 영화를 모두 담는다. version 이 건너뛰면 전체를 다시 받으면 된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchUpScoreResponse {
+    private Long matchUpId;
+    private long version;
+    private List<MatchUpScoreMovieResponse> movies;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatchUpScoreMovieResponse {
+        private Long matchUpMovieId;
+        private long voteCount;
+        private CharmPointResponse charmPoint;
+        private EmotionPointResponse emotionPoint;
+    }
+}
@@ -5,11 +5,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "match_up_messages")
+@CompoundIndex(name = "idx_match_up_sent_at", def = "{'matchUpId': 1, 'sentAt': 1, '_id': 1}")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage {
@@ -24,6 +27,8 @@ public class ChatMessage {
 
     @Builder
     public ChatMessage(Long matchUpId, Long senderUserId, String senderNickname, String senderProfileImage, String content, LocalDateTime sentAt) {
+        // 저장 전에 브로드캐스트하므로 id 를 미리 발급 (일괄 저장 재시도 시 중복 저장 방지에도 사용)
+        this.id = new ObjectId().toHexString();
         this.matchUpId = matchUpId;
         this.senderUserId = senderUserId;
         this.senderNickname = senderNickname;
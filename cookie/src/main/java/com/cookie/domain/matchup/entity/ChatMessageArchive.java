@@ -0,0 +1,41 @@
+package com.cookie.domain.matchup.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+
+/**
+ * 종료된 매치업의 하루치 채팅 기록 (ChatMessageResponse 목록 JSON 을 gzip 으로 압축해 보관)
+ * id 는 {matchUpId}:{day} 로 고정해 같은 날을 다시 보관해도 한 문서로 합쳐진다.
+ */
+@Document(collection = "match_up_message_archives")
+@CompoundIndex(name = "idx_match_up_day", def = "{'matchUpId': 1, 'day': -1}")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageArchive {
+    @Id
+    private String id;
+    private Long matchUpId;
+    private LocalDate day;
+    private int messageCount;
+    private byte[] data;
+
+    @Builder
+    public ChatMessageArchive(Long matchUpId, LocalDate day, int messageCount, byte[] data) {
+        this.id = idOf(matchUpId, day);
+        this.matchUpId = matchUpId;
+        this.day = day;
+        this.messageCount = messageCount;
+        this.data = data;
+    }
+
+    public static String idOf(Long matchUpId, LocalDate day) {
+        return matchUpId + ":" + day;
+    }
+}
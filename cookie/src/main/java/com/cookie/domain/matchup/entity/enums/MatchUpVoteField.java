@@ -0,0 +1,49 @@
+package com.cookie.domain.matchup.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 매치업 투표 시 누적되는 값 (column: 반영 대상 컬럼, mm: match_up_movie / cp: charm_point / ep: emotion_point)
+ * ordinal 을 long[] 투표 집계 벡터의 인덱스로 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MatchUpVoteField {
+    VOTE("mm.vote_count"),
+    OST("cp.ost"),
+    DIRECTING("cp.directing"),
+    STORY("cp.story"),
+    DIALOGUE("cp.dialogue"),
+    VISUAL("cp.visual"),
+    ACTING("cp.acting"),
+    SPECIAL_EFFECTS("cp.special_effects"),
+    TOUCHING("ep.touching"),
+    ANGRY("ep.angry"),
+    JOY("ep.joy"),
+    IMMERSION("ep.immersion"),
+    EXCITED("ep.excited"),
+    EMPATHY("ep.empathy"),
+    TENSION("ep.tension");
+
+    public static final int SIZE = values().length;
+
+    private final String column;
+
+    /**
+     * from ~ to 항목을 가장 높은 항목 = 100 기준 비율로 변환
+     */
+    public static long[] proportions(long[] totals, MatchUpVoteField from, MatchUpVoteField to) {
+        long[] points = Arrays.copyOfRange(totals, from.ordinal(), to.ordinal() + 1);
+        long max = Arrays.stream(points).max().orElse(0);
+        if (max == 0) {
+            return new long[points.length];
+        }
+        for (int i = 0; i < points.length; i++) {
+            points[i] = points[i] * 100 / max;
+        }
+        return points;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cookie.domain.matchup.event;
+
+/**
+ * 메인 화면 매치업 목록이 바뀌었을 때 발행 (매치업 등록/수정/삭제, 진행 시작, 종료)
+ */
+public class MainMatchUpChangedEvent {
+}
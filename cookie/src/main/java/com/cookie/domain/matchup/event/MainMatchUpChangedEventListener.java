@@ -0,0 +1,22 @@
+package com.cookie.domain.matchup.event;
+
+import com.cookie.domain.matchup.service.MatchUpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainMatchUpChangedEventListener {
+
+    private final MatchUpService matchUpService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMainMatchUpChanged(MainMatchUpChangedEvent event) {
+        log.debug("메인 매치업 캐시 무효화");
+        matchUpService.evictMainMatchUps();
+    }
+}
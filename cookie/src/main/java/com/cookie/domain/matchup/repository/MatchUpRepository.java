@@ -28,6 +28,13 @@ public interface MatchUpRepository extends JpaRepository<MatchUp, Long> {
 
     List<MatchUp> findByStatus(MatchUpStatus status);
 
+    @Query("SELECT m.id FROM MatchUp m WHERE m.status = :status")
+    List<Long> findIdsByStatus(@Param("status") MatchUpStatus status);
+
+    // 투표 대상 확인 (영화가 해당 매치업에 속하는지 + 진행 상태)
+    @Query("SELECT m.status FROM MatchUp m WHERE m.id = :matchUpId AND (m.movie1.id = :matchUpMovieId OR m.movie2.id = :matchUpMovieId)")
+    Optional<MatchUpStatus> findStatusByIdAndMovieId(@Param("matchUpId") Long matchUpId, @Param("matchUpMovieId") Long matchUpMovieId);
+
     Optional<MatchUp> findOneMatchUpByStatus(MatchUpStatus status);
 
     List<MatchUp> findTop2ByStatusOrderByEndAtDesc(MatchUpStatus status);
@@ -1,5 +1,6 @@
 package com.cookie.domain.matchup.scheduler;
 
+import com.cookie.domain.matchup.service.ChatArchiveService;
 import com.cookie.domain.matchup.service.MatchUpService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MatchUpScheduler {
     private final MatchUpService matchUpService;
+    private final ChatArchiveService chatArchiveService;
 
     private final JobLauncher jobLauncher;
     private final Job matchUpCloseJob;
@@ -39,4 +41,14 @@ public class MatchUpScheduler {
             log.error(e.getMessage(), e);
         }
     }
+
+    // 종료된 매치업 채팅 기록을 일자별 압축 청크로 보관 (매치업 종료 후 실행)
+    @Scheduled(cron = "0 30 0 ? * SUN")
+    public void archiveExpiredMatchUpChat() {
+        try {
+            chatArchiveService.archiveExpiredMatchUps();
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import com.cookie.domain.matchup.entity.ChatMessageArchive;
+import com.cookie.domain.matchup.entity.enums.MatchUpStatus;
+import com.cookie.domain.matchup.repository.MatchUpRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 종료된 매치업 채팅 기록 보관
+ * match_up_messages 의 메시지를 일자별로 묶어 압축한 ChatMessageArchive 로 옮기고 원본은 삭제한다.
+ * 보관된 기록도 ChatService 의 커서 조회에서 이어서 읽을 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final TypeReference<List<ChatMessageResponse>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private final MongoTemplate mongoTemplate;
+    private final MatchUpRepository matchUpRepository;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatTailCache chatTailCache;
+    private final ObjectMapper objectMapper;
+
+    public void archiveExpiredMatchUps() {
+        // 종료 직전에 보낸 메시지까지 보관 대상에 포함
+        chatMessageWriteBuffer.flush();
+
+        for (Long matchUpId : matchUpRepository.findIdsByStatus(MatchUpStatus.EXPIRATION)) {
+            if (!mongoTemplate.exists(Query.query(Criteria.where("matchUpId").is(matchUpId)), ChatMessage.class)) {
+                continue;
+            }
+            try {
+                archive(matchUpId);
+            } catch (Exception e) {
+                // 원본은 보관에 성공한 날짜만 삭제되므로 다음 실행에서 이어서 보관
+                log.error("매치업 채팅 기록 보관 실패: matchUpId = {}", matchUpId, e);
+            }
+        }
+    }
+
+    public void archive(Long matchUpId) {
+        Query query = Query.query(Criteria.where("matchUpId").is(matchUpId))
+                .with(Sort.by(Sort.Direction.ASC, "sentAt", "id"));
+
+        int archived = 0;
+        LocalDate day = null;
+        List<ChatMessageResponse> dayMessages = new ArrayList<>();
+        try (Stream<ChatMessage> stream = mongoTemplate.stream(query, ChatMessage.class)) {
+            Iterator<ChatMessage> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                ChatMessageResponse message = ChatMessageResponse.fromEntity(iterator.next());
+                LocalDate messageDay = message.getSentAt().toLocalDate();
+                if (day != null && !day.equals(messageDay)) {
+                    archived += archiveDay(matchUpId, day, dayMessages);
+                    dayMessages = new ArrayList<>();
+                }
+                day = messageDay;
+                dayMessages.add(message);
+            }
+        }
+        if (!dayMessages.isEmpty()) {
+            archived += archiveDay(matchUpId, day, dayMessages);
+        }
+
+        chatTailCache.evict(matchUpId);
+        log.info("매치업 채팅 기록 보관 완료: matchUpId = {}, messages = {}", matchUpId, archived);
+    }
+
+    /**
+     * 보관된 기록에서 (sentAt, messageId) 이전 메시지를 최신순으로 최대 limit 개 (sentAt 이 null 이면 가장 최근부터)
+     */
+    public List<ChatMessageResponse> findBefore(Long matchUpId, LocalDateTime sentAt, String messageId, int limit) {
+        Criteria criteria = Criteria.where("matchUpId").is(matchUpId);
+        if (sentAt != null) {
+            criteria = criteria.and("day").lte(sentAt.toLocalDate());
+        }
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "day"));
+
+        List<ChatMessageResponse> page = new ArrayList<>(limit);
+        ChatMessageResponse cursor = sentAt == null ? null
+                : new ChatMessageResponse(messageId, matchUpId, null, null, null, null, sentAt);
+        try (Stream<ChatMessageArchive> stream = mongoTemplate.stream(query, ChatMessageArchive.class)) {
+            Iterator<ChatMessageArchive> iterator = stream.iterator();
+            while (iterator.hasNext() && page.size() < limit) {
+                List<ChatMessageResponse> messages = decode(iterator.next().getData());
+                for (int i = messages.size() - 1; i >= 0 && page.size() < limit; i--) {
+                    ChatMessageResponse message = messages.get(i);
+                    if (cursor == null || ChatTailCache.SENT_ORDER.compare(message, cursor) < 0) {
+                        page.add(message);
+                    }
+                }
+            }
+        }
+        return page;
+    }
+
+    // 보관된 메시지 찾기 (ObjectId 의 생성 시각으로 날짜를 찾되, 자정 부근은 전날 청크도 확인)
+    public Optional<ChatMessageResponse> findMessage(Long matchUpId, String messageId) {
+        if (!ObjectId.isValid(messageId)) {
+            return Optional.empty();
+        }
+        LocalDate day = LocalDate.ofInstant(new ObjectId(messageId).getDate().toInstant(), ZoneId.systemDefault());
+        for (LocalDate candidate : List.of(day, day.minusDays(1))) {
+            ChatMessageArchive archive = mongoTemplate.findById(ChatMessageArchive.idOf(matchUpId, candidate), ChatMessageArchive.class);
+            if (archive == null) {
+                continue;
+            }
+            Optional<ChatMessageResponse> found = decode(archive.getData()).stream()
+                    .filter(message -> message.getMessageId().equals(messageId))
+                    .findFirst();
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 같은 날짜가 이미 보관돼 있으면 합쳐서 다시 저장한 뒤 원본 삭제
+    private int archiveDay(Long matchUpId, LocalDate day, List<ChatMessageResponse> dayMessages) {
+        Map<String, ChatMessageResponse> byId = new LinkedHashMap<>();
+        ChatMessageArchive existing = mongoTemplate.findById(ChatMessageArchive.idOf(matchUpId, day), ChatMessageArchive.class);
+        if (existing != null) {
+            decode(existing.getData()).forEach(message -> byId.put(message.getMessageId(), message));
+        }
+        dayMessages.forEach(message -> byId.put(message.getMessageId(), message));
+
+        List<ChatMessageResponse> merged = new ArrayList<>(byId.values());
+        merged.sort(ChatTailCache.SENT_ORDER);
+        mongoTemplate.save(ChatMessageArchive.builder()
+                .matchUpId(matchUpId)
+                .day(day)
+                .messageCount(merged.size())
+                .data(encode(merged))
+                .build());
+
+        for (int from = 0; from < dayMessages.size(); from += DELETE_BATCH_SIZE) {
+            List<String> ids = dayMessages.subList(from, Math.min(from + DELETE_BATCH_SIZE, dayMessages.size())).stream()
+                    .map(ChatMessageResponse::getMessageId)
+                    .toList();
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), ChatMessage.class);
+        }
+        return dayMessages.size();
+    }
+
+    private byte[] encode(List<ChatMessageResponse> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ChatMessageResponse> decode(byte[] data) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return objectMapper.readValue(in, MESSAGES_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
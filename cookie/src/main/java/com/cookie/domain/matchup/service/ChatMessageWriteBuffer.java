@@ -0,0 +1,166 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.entity.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매치업 채팅 메시지 쓰기 지연 버퍼
+ * 메시지는 브로드캐스트와 함께 고정 크기 버퍼에 넣고, 주기마다 또는 batchSize 개가 쌓이면 MongoDB 에 일괄 저장한다.
+ * 버퍼가 가득 차면 호출 스레드에서 먼저 비우므로 저장이 밀릴 때는 메시지 수신 속도가 그만큼 늦춰진다.
+ * 메시지 id 는 생성 시점에 발급되므로, 재시도 때 이미 저장된 메시지는 중복 키로 건너뛴다.
+ */
+@Slf4j
+@Service
+public class ChatMessageWriteBuffer {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Executor chatFlushExecutor;
+    private final BlockingQueue<ChatMessage> buffer;
+    private final int batchSize;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter bufferedMessages;
+    private final Counter persistedMessages;
+    private final Counter droppedMessages;
+    private final Timer flushTimer;
+
+    public ChatMessageWriteBuffer(MongoTemplate mongoTemplate,
+                                  @Qualifier("chatFlushExecutor") Executor chatFlushExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${matchup.chat.buffer-capacity:10000}") int capacity,
+                                  @Value("${matchup.chat.flush-batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatFlushExecutor = chatFlushExecutor;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+
+        // 처리량은 buffered / persisted 카운터의 초당 증가량으로 확인
+        this.bufferedMessages = meterRegistry.counter("chat.messages.buffered");
+        this.persistedMessages = meterRegistry.counter("chat.messages.persisted");
+        this.droppedMessages = meterRegistry.counter("chat.messages.dropped");
+        this.flushTimer = meterRegistry.timer("chat.messages.flush");
+        meterRegistry.gauge("chat.messages.pending", buffer, BlockingQueue::size);
+    }
+
+    public void append(ChatMessage chatMessage) {
+        if (!buffer.offer(chatMessage)) {
+            flush();
+            if (!buffer.offer(chatMessage)) {
+                // 저장 실패로 버퍼가 계속 가득 찬 상태면 이 메시지만 바로 저장 시도
+                requeue(insert(List.of(chatMessage)));
+            }
+        }
+        bufferedMessages.increment();
+        requestFlushIfFull();
+    }
+
+    /**
+     * 한 번에 한 배치만 저장 (스케줄러 스레드를 오래 붙잡지 않도록)
+     * 남은 메시지는 다음 주기에, batchSize 이상 남았으면 chatFlushExecutor 가 이어서 비운다.
+     */
+    @Scheduled(fixedDelayString = "${matchup.chat.flush-interval-ms:200}")
+    public void flush() {
+        flushBatch();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 채팅 메시지 저장: pending = {}", buffer.size());
+        while (flushBatch()) {
+            // 저장에 실패하거나 버퍼가 빌 때까지
+        }
+        if (!buffer.isEmpty()) {
+            log.error("종료 시 저장하지 못한 채팅 메시지: count = {}", buffer.size());
+        }
+    }
+
+    // batchSize 이상 쌓였으면 주기를 기다리지 않고 전용 스레드에서 한 배치씩 이어서 비운다
+    private void requestFlushIfFull() {
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            chatFlushExecutor.execute(() -> {
+                flushRequested.set(false);
+                if (flushBatch()) {
+                    requestFlushIfFull();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return 한 배치를 모두 저장했으면 true (버퍼가 비어 있거나 저장에 실패하면 false)
+     */
+    private synchronized boolean flushBatch() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        if (buffer.drainTo(batch, batchSize) == 0) {
+            return false;
+        }
+        List<ChatMessage> failed = insert(batch);
+        if (!failed.isEmpty()) {
+            // 실패분은 버퍼에 되돌려 다음 주기에 재시도
+            requeue(failed);
+            return false;
+        }
+        return true;
+    }
+
+    private List<ChatMessage> insert(List<ChatMessage> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(batch)
+                    .execute();
+            persistedMessages.increment(batch.size());
+            log.debug("채팅 메시지 일괄 저장 완료: count = {}", batch.size());
+            return List.of();
+        } catch (BulkOperationException e) {
+            // 이미 저장된 메시지(중복 키)는 제외하고 나머지만 재시도
+            List<ChatMessage> failed = e.getErrors().stream()
+                    .filter(error -> error.getCode() != DUPLICATE_KEY)
+                    .map(error -> batch.get(error.getIndex()))
+                    .toList();
+            persistedMessages.increment(batch.size() - e.getErrors().size());
+            if (!failed.isEmpty()) {
+                log.error("채팅 메시지 일부 저장 실패: count = {}", failed.size(), e);
+            }
+            return failed;
+        } catch (Exception e) {
+            log.error("채팅 메시지 일괄 저장 실패: count = {}", batch.size(), e);
+            return new ArrayList<>(batch);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void requeue(List<ChatMessage> failed) {
+        int dropped = 0;
+        for (ChatMessage chatMessage : failed) {
+            if (!buffer.offer(chatMessage)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedMessages.increment(dropped);
+            log.error("채팅 메시지 버퍼 초과로 저장 포기: count = {}", dropped);
+        }
+    }
+}
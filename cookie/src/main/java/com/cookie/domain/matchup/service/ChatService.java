@@ -1,56 +1,138 @@
 package com.cookie.domain.matchup.service;
 
 import com.cookie.domain.matchup.dto.request.ChatMessageRequest;
+import com.cookie.domain.matchup.dto.response.ChatHistoryResponse;
 import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
 import com.cookie.domain.matchup.entity.ChatMessage;
+import com.cookie.domain.matchup.entity.ChatMessageArchive;
 import com.cookie.domain.matchup.repository.ChatMessageRepository;
-import com.cookie.domain.user.entity.User;
-import com.cookie.domain.user.repository.UserRepository;
+import com.cookie.domain.user.dto.response.UserSummaryResponse;
+import com.cookie.domain.user.service.UserSummaryCacheService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatMessageRepository chatMessageRepository;
-    private final UserRepository userRepository;
-    @Transactional
+    private final MongoTemplate mongoTemplate;
+    private final UserSummaryCacheService userSummaryCacheService;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatTailCache chatTailCache;
+    private final ChatArchiveService chatArchiveService;
+
+    // 커서 조회용 (matchUpId, sentAt, _id) / 보관 청크 조회용 (matchUpId, day) 인덱스
+    @PostConstruct
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : List.of(ChatMessage.class, ChatMessageArchive.class)) {
+            try {
+                IndexOperations indexOperations = mongoTemplate.indexOps(type);
+                resolver.resolveIndexFor(type).forEach(indexOperations::ensureIndex);
+            } catch (Exception e) {
+                log.error("채팅 인덱스 생성 실패: {}", type.getSimpleName(), e);
+            }
+        }
+    }
+
+    // 발신자 정보는 캐시에서 읽고, 저장은 쓰기 지연 버퍼에 맡긴 뒤 바로 반환해 브로드캐스트를 DB 왕복과 분리
     public ChatMessageResponse saveMessage(Long matchUpId, ChatMessageRequest chatMessageRequest, Long senderUserId) {
-        User user = userRepository.findById(senderUserId)
-                .orElseThrow(() -> new IllegalArgumentException("not found user: " + senderUserId));
+        UserSummaryResponse sender = userSummaryCacheService.getUserSummary(senderUserId);
         ChatMessage chatMessage = ChatMessage.builder()
                 .matchUpId(matchUpId)
-                .senderUserId(user.getId())
-                .senderNickname(user.getNickname())
-                .senderProfileImage(user.getProfileImage())
+                .senderUserId(sender.getUserId())
+                .senderNickname(sender.getNickname())
+                .senderProfileImage(sender.getProfileImage())
                 .content(chatMessageRequest.getContent())
                 .sentAt(LocalDateTime.now())
                 .build();
 
-        ChatMessage savedChatMessage = chatMessageRepository.save(chatMessage);
+        chatMessageWriteBuffer.append(chatMessage);
 
-        return ChatMessageResponse.fromEntity(savedChatMessage);
+        ChatMessageResponse response = ChatMessageResponse.fromEntity(chatMessage);
+        chatTailCache.append(response);
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getMessagesByMatchUpId(Long matchUpId) {
-        List<ChatMessage> chatMessages = chatMessageRepository.findByMatchUpIdOrderBySentAtAsc(matchUpId);
-        return chatMessages.stream()
-                .map(chatMessage -> new ChatMessageResponse(
-                        chatMessage.getMatchUpId(),
-                        chatMessage.getSenderUserId(),
-                        chatMessage.getSenderNickname(),
-                        chatMessage.getSenderProfileImage(),
-                        chatMessage.getContent(),
-                        chatMessage.getSentAt()
-                ))
-                .toList();
+    /**
+     * before 메시지 이전 size 개 (before 가 없으면 가장 최근 size 개)
+     * 최근 기록 캐시 -> match_up_messages -> 보관 청크 순으로 읽는다.
+     */
+    public ChatHistoryResponse getMessages(Long matchUpId, String before, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 여부 확인을 위해 한 개 더 조회 (최신순)
+        List<ChatMessageResponse> page = chatTailCache.findBefore(matchUpId, before, pageSize + 1);
+        if (page == null) {
+            page = findBeforeFromStore(matchUpId, before, pageSize + 1);
+        }
+
+        boolean hasNext = page.size() > pageSize;
+        List<ChatMessageResponse> messages = new ArrayList<>(hasNext ? page.subList(0, pageSize) : page);
+        String nextCursor = hasNext ? messages.get(messages.size() - 1).getMessageId() : null;
+        Collections.reverse(messages);
+        return new ChatHistoryResponse(messages, nextCursor, hasNext);
+    }
+
+    private List<ChatMessageResponse> findBeforeFromStore(Long matchUpId, String before, int limit) {
+        LocalDateTime cursorSentAt = null;
+        if (before != null) {
+            cursorSentAt = chatMessageRepository.findById(before)
+                    .map(ChatMessage::getSentAt)
+                    .or(() -> chatArchiveService.findMessage(matchUpId, before).map(ChatMessageResponse::getSentAt))
+                    .orElseThrow(() -> new IllegalArgumentException("not found chat message: " + before));
+        }
+
+        Criteria criteria = Criteria.where("matchUpId").is(matchUpId);
+        if (cursorSentAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("sentAt").lt(cursorSentAt),
+                    Criteria.where("sentAt").is(cursorSentAt).and("id").lt(before));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "sentAt", "id"))
+                .limit(limit);
+
+        List<ChatMessageResponse> page = new ArrayList<>(limit);
+        for (ChatMessage chatMessage : mongoTemplate.find(query, ChatMessage.class)) {
+            page.add(ChatMessageResponse.fromEntity(chatMessage));
+        }
+        if (page.size() >= limit) {
+            return page;
+        }
+
+        // 나머지는 보관된 기록에서 이어서 읽기 (보관 도중이면 양쪽에 같은 메시지가 있을 수 있어 id 로 중복 제거)
+        ChatMessageResponse oldest = page.isEmpty() ? null : page.get(page.size() - 1);
+        LocalDateTime archiveSentAt = oldest != null ? oldest.getSentAt() : cursorSentAt;
+        String archiveMessageId = oldest != null ? oldest.getMessageId() : before;
+        Set<String> seen = new HashSet<>();
+        page.forEach(message -> seen.add(message.getMessageId()));
+        for (ChatMessageResponse message : chatArchiveService.findBefore(matchUpId, archiveSentAt, archiveMessageId, limit)) {
+            if (page.size() >= limit) {
+                break;
+            }
+            if (seen.add(message.getMessageId())) {
+                page.add(message);
+            }
+        }
+        return page;
     }
 }
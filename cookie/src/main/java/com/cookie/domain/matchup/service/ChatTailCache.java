@@ -0,0 +1,186 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진행 중 매치업별 최근 채팅 메시지 캐시
+ * 입장 시 최근 기록 조회는 MongoDB 를 거치지 않고 이 캐시에서 응답한다.
+ * - 이 인스턴스에서 보낸 메시지는 바로 추가되므로 아직 MongoDB 에 저장되지 않은 메시지도 포함된다.
+ * - 다른 인스턴스에서 보낸 메시지는 reloadInterval 마다 MongoDB 에서 다시 읽어 합친다.
+ * 커서가 캐시 범위를 벗어나거나 캐시만으로 limit 개를 채울 수 없으면 null 을 반환하고, 호출 측에서 MongoDB 로 조회한다.
+ * (match_up_messages 에 남은 메시지가 적어도 보관된 기록이 더 있을 수 있으므로 짧은 페이지는 캐시로 답하지 않는다)
+ */
+@Slf4j
+@Component
+public class ChatTailCache {
+
+    // 보낸 시각 -> 메시지 id 순 (MongoDB 커서 조회와 같은 정렬)
+    static final Comparator<ChatMessageResponse> SENT_ORDER = Comparator
+            .comparing(ChatMessageResponse::getSentAt)
+            .thenComparing(ChatMessageResponse::getMessageId);
+
+    private final MongoTemplate mongoTemplate;
+    private final int tailSize;
+    private final long reloadIntervalNanos;
+    private final Cache<Long, Tail> tails;
+
+    public ChatTailCache(MongoTemplate mongoTemplate,
+                         @Value("${matchup.chat.tail-size:300}") int tailSize,
+                         @Value("${matchup.chat.tail-reload-seconds:10}") long reloadSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.tailSize = tailSize;
+        this.reloadIntervalNanos = Duration.ofSeconds(reloadSeconds).toNanos();
+        this.tails = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    public void append(ChatMessageResponse message) {
+        Tail tail = tails.get(message.getMatchUpId(), matchUpId -> new Tail());
+        synchronized (tail) {
+            tail.add(message, tailSize);
+        }
+    }
+
+    /**
+     * beforeId 이전 메시지를 최신순으로 최대 limit 개 (beforeId 가 null 이면 가장 최근부터)
+     * 캐시만으로 답할 수 없으면 null
+     */
+    public List<ChatMessageResponse> findBefore(Long matchUpId, String beforeId, int limit) {
+        Tail tail = tails.get(matchUpId, id -> new Tail());
+        if (!refreshIfStale(matchUpId, tail)) {
+            return null;
+        }
+
+        synchronized (tail) {
+            List<ChatMessageResponse> messages = tail.messages;
+            int end = messages.size();
+            if (beforeId != null) {
+                end = tail.indexOf(beforeId);
+                if (end < 0) {
+                    return null;
+                }
+            }
+            if (end < limit) {
+                return null;
+            }
+
+            List<ChatMessageResponse> page = new ArrayList<>(Math.min(end, limit));
+            for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+                page.add(messages.get(i));
+            }
+            return page;
+        }
+    }
+
+    public void evict(Long matchUpId) {
+        tails.invalidate(matchUpId);
+    }
+
+    // 다시 읽을 때가 됐으면 한 스레드만 MongoDB 에서 읽어 합친다. 아직 한 번도 읽지 못한 상태면 false
+    private boolean refreshIfStale(Long matchUpId, Tail tail) {
+        long now = System.nanoTime();
+        synchronized (tail) {
+            boolean stale = !tail.loaded || now - tail.loadedAt > reloadIntervalNanos;
+            if (!stale || tail.reloading) {
+                return tail.loaded;
+            }
+            tail.reloading = true;
+        }
+
+        List<ChatMessageResponse> latest;
+        try {
+            latest = loadLatest(matchUpId);
+        } catch (Exception e) {
+            log.warn("채팅 최근 기록 캐시 적재 실패: matchUpId = {}", matchUpId, e);
+            synchronized (tail) {
+                tail.reloading = false;
+                return tail.loaded;
+            }
+        }
+
+        synchronized (tail) {
+            tail.merge(latest, tailSize);
+            tail.loaded = true;
+            tail.loadedAt = now;
+            tail.reloading = false;
+            return true;
+        }
+    }
+
+    private List<ChatMessageResponse> loadLatest(Long matchUpId) {
+        Query query = Query.query(Criteria.where("matchUpId").is(matchUpId))
+                .with(Sort.by(Sort.Direction.DESC, "sentAt", "id"))
+                .limit(tailSize);
+        List<ChatMessageResponse> latest = new ArrayList<>(tailSize);
+        for (ChatMessage chatMessage : mongoTemplate.find(query, ChatMessage.class)) {
+            latest.add(ChatMessageResponse.fromEntity(chatMessage));
+        }
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    private static class Tail {
+        // 오래된 순, 최대 tailSize 개
+        private final List<ChatMessageResponse> messages = new ArrayList<>();
+        private boolean loaded;
+        private boolean reloading;
+        private long loadedAt;
+
+        private void add(ChatMessageResponse message, int tailSize) {
+            int i = messages.size();
+            while (i > 0 && SENT_ORDER.compare(messages.get(i - 1), message) > 0) {
+                i--;
+            }
+            messages.add(i, message);
+            trim(tailSize);
+        }
+
+        // MongoDB 에서 읽은 최근 기록과 합치기 (아직 저장되지 않은 로컬 메시지는 유지)
+        private void merge(List<ChatMessageResponse> latest, int tailSize) {
+            Map<String, ChatMessageResponse> byId = new LinkedHashMap<>();
+            latest.forEach(message -> byId.put(message.getMessageId(), message));
+            messages.forEach(message -> byId.putIfAbsent(message.getMessageId(), message));
+
+            messages.clear();
+            messages.addAll(byId.values());
+            messages.sort(SENT_ORDER);
+            trim(tailSize);
+        }
+
+        private void trim(int tailSize) {
+            int overflow = messages.size() - tailSize;
+            if (overflow > 0) {
+                messages.subList(0, overflow).clear();
+            }
+        }
+
+        private int indexOf(String messageId) {
+            for (int i = messages.size() - 1; i >= 0; i--) {
+                if (messages.get(i).getMessageId().equals(messageId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.CharmPointResponse;
+import com.cookie.domain.matchup.dto.response.EmotionPointResponse;
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse;
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse.MatchUpScoreMovieResponse;
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 매치업 실시간 점수판
+ * 주기마다 진행 중 매치업의 집계를 한 번에 읽어 메모리에 두고, 직전 발행과 달라진 영화만 /topic/matchup/{matchUpId}/score 로 보낸다.
+ * 구독자 수와 상관없이 DB 조회는 주기당 한 번이고, 투표가 몰려도 발행은 주기당 최대 한 번으로 합쳐진다.
+ * - 단일 노드(websocket.broker.type=simple): 이 인스턴스의 미반영 증감까지 더해 발행하고 버전도 메모리에서 올린다.
+ * - 여러 노드(redis / relay): 발행이 모든 노드의 구독자에게 전달되므로 Redis 락을 잡은 한 인스턴스만 발행한다.
+ *   노드마다 다른 미반영 증감 대신 DB 에 반영된 집계만 쓰고, 버전은 Redis 에서 올려 발행 담당이 바뀌어도 이어진다.
+ *   발행하지 않는 인스턴스도 조회(getScore)용 점수는 같은 방식으로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchUpScoreboard {
+
+    private static final String DESTINATION = "/topic/matchup/%d/score";
+    static final String PUBLISHER_KEY = "matchup:scoreboard:publisher";
+    static final String VERSION_KEY = "matchup:scoreboard:version";
+
+    // 내가 가진 락이면 연장, 비어 있으면 획득 (1: 발행 담당)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final String SCORE_QUERY = "SELECT m.id, mm.id, "
+            + Arrays.stream(MatchUpVoteField.values()).map(MatchUpVoteField::getColumn).collect(Collectors.joining(", "))
+            + """
+             FROM match_up m
+            JOIN match_up_movie mm ON mm.id IN (m.movie1_id, m.movie2_id)
+            LEFT JOIN charm_point cp ON cp.id = mm.charm_point_id
+            LEFT JOIN emotion_point ep ON ep.id = mm.emotion_point_id
+            WHERE m.status = 'NOW'
+            ORDER BY m.id, mm.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MatchUpVoteBuffer matchUpVoteBuffer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${websocket.broker.type:simple}")
+    private String brokerType;
+
+    @Value("${matchup.scoreboard.publish-interval-ms:500}")
+    private long publishIntervalMs;
+
+    // 매치업 id -> 현재 점수 (발행 스레드에서만 교체, 조회는 그대로 읽음)
+    private volatile Map<Long, Score> scores = Map.of();
+
+    /**
+     * 현재 점수 전체 (메모리에서 바로 응답)
+     */
+    public MatchUpScoreResponse getScore(Long matchUpId) {
+        Score score = scores.get(matchUpId);
+        if (score == null) {
+            throw new IllegalArgumentException("not found ongoing matchUpId: " + matchUpId);
+        }
+        return score.toResponse(score.totals.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${matchup.scoreboard.publish-interval-ms:500}")
+    public void publish() {
+        boolean distributed = isDistributed();
+        Map<Long, Map<Long, long[]>> current;
+        try {
+            current = load(!distributed);
+        } catch (Exception e) {
+            log.error("매치업 점수판 조회 실패", e);
+            return;
+        }
+
+        if (distributed && !acquirePublisher()) {
+            scores = followerScores(current);
+            return;
+        }
+
+        Map<Long, Score> previousScores = scores;
+        Map<Long, Score> nextScores = new HashMap<>();
+        List<MatchUpScoreResponse> diffs = new ArrayList<>();
+
+        try {
+            current.forEach((matchUpId, totals) -> {
+                Score previous = previousScores.get(matchUpId);
+                List<Long> changed = totals.entrySet().stream()
+                        .filter(entry -> previous == null || !Arrays.equals(previous.totals.get(entry.getKey()), entry.getValue()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+
+                if (changed.isEmpty()) {
+                    nextScores.put(matchUpId, previous);
+                    return;
+                }
+                long version = distributed ? nextSharedVersion(matchUpId) : previous == null ? 1 : previous.version + 1;
+                Score next = new Score(matchUpId, version, totals);
+                nextScores.put(matchUpId, next);
+                diffs.add(next.toResponse(changed));
+            });
+            if (distributed) {
+                removeSharedVersions(previousScores.keySet(), current.keySet());
+            }
+        } catch (Exception e) {
+            // 버전을 올리지 못하면 이번 주기는 발행하지 않고 다음 주기에 다시 비교한다
+            log.warn("매치업 점수판 버전 갱신 실패", e);
+            return;
+        }
+        scores = nextScores;
+
+        for (MatchUpScoreResponse diff : diffs) {
+            try {
+                messagingTemplate.convertAndSend(String.format(DESTINATION, diff.getMatchUpId()), diff);
+            } catch (Exception e) {
+                log.warn("매치업 점수판 발행 실패: matchUpId = {}", diff.getMatchUpId(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void releasePublisher() {
+        if (!isDistributed()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(PUBLISHER_KEY), instanceId);
+        } catch (Exception e) {
+            log.warn("매치업 점수판 발행 담당 해제 실패", e);
+        }
+    }
+
+    private boolean isDistributed() {
+        return !"simple".equals(brokerType);
+    }
+
+    // 발행 담당 락 (주기가 몇 번 밀려도 유지되도록 주기의 4배, 최소 2초)
+    private boolean acquirePublisher() {
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(PUBLISHER_KEY),
+                    instanceId, String.valueOf(Math.max(publishIntervalMs * 4, 2000)));
+            return acquired != null && acquired == 1L;
+        } catch (Exception e) {
+            log.warn("매치업 점수판 발행 담당 확인 실패", e);
+            return false;
+        }
+    }
+
+    private long nextSharedVersion(Long matchUpId) {
+        return redisTemplate.opsForHash().increment(VERSION_KEY, String.valueOf(matchUpId), 1);
+    }
+
+    private void removeSharedVersions(Set<Long> previousIds, Set<Long> currentIds) {
+        Object[] ended = previousIds.stream()
+                .filter(matchUpId -> !currentIds.contains(matchUpId))
+                .map(String::valueOf)
+                .toArray();
+        if (ended.length > 0) {
+            redisTemplate.opsForHash().delete(VERSION_KEY, ended);
+        }
+    }
+
+    // 발행하지 않는 인스턴스: 조회용 점수만 갱신하고 버전은 발행 담당이 올린 값을 따른다
+    private Map<Long, Score> followerScores(Map<Long, Map<Long, long[]>> current) {
+        if (current.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Score> previousScores = scores;
+        List<Long> matchUpIds = new ArrayList<>(current.keySet());
+        List<Object> versions;
+        try {
+            versions = redisTemplate.opsForHash().multiGet(VERSION_KEY,
+                    matchUpIds.stream().<Object>map(String::valueOf).toList());
+        } catch (Exception e) {
+            log.warn("매치업 점수판 버전 조회 실패", e);
+            versions = null;
+        }
+
+        Map<Long, Score> nextScores = new HashMap<>();
+        for (int i = 0; i < matchUpIds.size(); i++) {
+            Long matchUpId = matchUpIds.get(i);
+            Score previous = previousScores.get(matchUpId);
+            Object version = versions != null ? versions.get(i) : null;
+            long sharedVersion = version != null ? Long.parseLong(version.toString()) : previous != null ? previous.version : 0L;
+            nextScores.put(matchUpId, new Score(matchUpId, sharedVersion, current.get(matchUpId)));
+        }
+        return nextScores;
+    }
+
+    /**
+     * @param includePending 이 인스턴스에서 아직 반영되지 않은 증감을 더할지 (단일 노드일 때만)
+     */
+    private Map<Long, Map<Long, long[]>> load(boolean includePending) {
+        Map<Long, Map<Long, long[]>> current = new LinkedHashMap<>();
+        jdbcTemplate.query(SCORE_QUERY, rs -> {
+            long matchUpMovieId = rs.getLong(2);
+            long[] totals = new long[MatchUpVoteField.SIZE];
+            for (int i = 0; i < MatchUpVoteField.SIZE; i++) {
+                totals[i] = rs.getLong(i + 3);
+            }
+            if (includePending) {
+                matchUpVoteBuffer.addPending(matchUpMovieId, totals);
+            }
+            current.computeIfAbsent(rs.getLong(1), id -> new LinkedHashMap<>()).put(matchUpMovieId, totals);
+        });
+        return current;
+    }
+
+    private static class Score {
+        private final Long matchUpId;
+        private final long version;
+        private final Map<Long, long[]> totals;
+
+        private Score(Long matchUpId, long version, Map<Long, long[]> totals) {
+            this.matchUpId = matchUpId;
+            this.version = version;
+            this.totals = totals;
+        }
+
+        private MatchUpScoreResponse toResponse(Iterable<Long> matchUpMovieIds) {
+            List<MatchUpScoreMovieResponse> movies = new ArrayList<>();
+            for (Long matchUpMovieId : matchUpMovieIds) {
+                long[] movieTotals = totals.get(matchUpMovieId);
+                movies.add(new MatchUpScoreMovieResponse(
+                        matchUpMovieId,
+                        movieTotals[MatchUpVoteField.VOTE.ordinal()],
+                        CharmPointResponse.fromTotals(movieTotals),
+                        EmotionPointResponse.fromTotals(movieTotals)
+                ));
+            }
+            return new MatchUpScoreResponse(matchUpId, version, movies);
+        }
+    }
+}
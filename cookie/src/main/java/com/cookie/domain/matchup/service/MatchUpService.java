@@ -1,37 +1,44 @@
 package com.cookie.domain.matchup.service;
 
+import com.cookie.domain.matchup.dto.request.CharmPointRequest;
+import com.cookie.domain.matchup.dto.request.EmotionPointRequest;
 import com.cookie.domain.matchup.dto.request.MatchUpVoteRequest;
 import com.cookie.domain.matchup.dto.response.*;
 import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse.MainMatchUpResponse;
-import com.cookie.domain.matchup.entity.CharmPoint;
-import com.cookie.domain.matchup.entity.EmotionPoint;
 import com.cookie.domain.matchup.entity.MatchUp;
 import com.cookie.domain.matchup.entity.MatchUpMovie;
 import com.cookie.domain.matchup.entity.enums.MatchUpStatus;
-import com.cookie.domain.matchup.repository.MatchUpMovieRepository;
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import com.cookie.domain.matchup.event.MainMatchUpChangedEvent;
 import com.cookie.domain.matchup.repository.MatchUpRepository;
-import com.cookie.domain.user.entity.MatchUpParticipation;
 import com.cookie.domain.user.entity.User;
 import com.cookie.domain.user.repository.MatchUpParticipationRepository;
-import com.cookie.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchUpService {
+
+    private static final String PARTICIPATION_INSERT =
+            "INSERT INTO match_up_participation (user_id, match_up_id, matchup_movie_id) VALUES (?, ?, ?)";
+
     private final MatchUpRepository matchUpRepository;
-    private final MatchUpMovieRepository matchUpMovieRepository;
     private final MatchUpParticipationRepository matchUpParticipationRepository;
-    private final UserRepository userRepository;
+    private final MatchUpVoteBuffer matchUpVoteBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<MatchUpHistoryResponse> getMatchUpHistoryList() {
@@ -53,11 +60,14 @@ public class MatchUpService {
         MatchUp matchUp = matchUpRepository.findMatchUpWithMoviesAndPoints(matchUpId)
                 .orElseThrow(() -> new IllegalArgumentException("not found matchUpId: " + matchUpId));
 
-        CharmPointResponse movie1CharmPoint = calculateCharmPointProportions(matchUp.getMovie1());
-        CharmPointResponse movie2CharmPoint = calculateCharmPointProportions(matchUp.getMovie2());
+        long[] movie1Totals = MatchUpVoteBuffer.persisted(matchUp.getMovie1());
+        long[] movie2Totals = MatchUpVoteBuffer.persisted(matchUp.getMovie2());
+
+        CharmPointResponse movie1CharmPoint = CharmPointResponse.fromTotals(movie1Totals);
+        CharmPointResponse movie2CharmPoint = CharmPointResponse.fromTotals(movie2Totals);
 
-        EmotionPointResponse movie1EmotionPoint = calculateEmotionPointProportions(matchUp.getMovie1());
-        EmotionPointResponse movie2EmotionPoint = calculateEmotionPointProportions(matchUp.getMovie2());
+        EmotionPointResponse movie1EmotionPoint = EmotionPointResponse.fromTotals(movie1Totals);
+        EmotionPointResponse movie2EmotionPoint = EmotionPointResponse.fromTotals(movie2Totals);
 
         MatchUpMovieResponse movie1 = MatchUpHistoryDetailResponse.fromEntity(matchUp.getMovie1(), movie1CharmPoint, movie1EmotionPoint);
         MatchUpMovieResponse movie2 = MatchUpHistoryDetailResponse.fromEntity(matchUp.getMovie2(), movie2CharmPoint, movie2EmotionPoint);
@@ -72,35 +82,28 @@ public class MatchUpService {
         );
     }
 
+    /**
+     * 매치업 투표
+     * 1인 1표는 (user_id, match_up_id) 유니크 제약으로 보장하고, 영화/포인트 행은 건드리지 않는다.
+     * 집계 증감은 MatchUpVoteBuffer 에 모아 일괄 반영한다.
+     */
     @Transactional
     public void addMatchUpVote(Long userId, Long matchUpId, Long matchUpMovieId, MatchUpVoteRequest matchUpVoteRequest) {
-        MatchUp matchUp = matchUpRepository.findById(matchUpId)
-                .orElseThrow(() -> new IllegalArgumentException("not found matchUpId: " + matchUpId));
-        log.info("Retrieved matchUp: matchUpId = {}", matchUpId);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("not found userId: " + userId));
-        log.info("Retrieved user: userId = {}", userId);
-
-        MatchUpMovie selectedMovie = matchUpMovieRepository.findById(matchUpMovieId)
-                .orElseThrow(() -> new IllegalArgumentException("not found matchUpMovieId: " + matchUpMovieId));
-        log.info("Retrieved selected movie: matchUpMovieId = {}", matchUpMovieId);
+        MatchUpStatus status = matchUpRepository.findStatusByIdAndMovieId(matchUpId, matchUpMovieId)
+                .orElseThrow(() -> new IllegalArgumentException("not found matchUpMovieId: " + matchUpMovieId + " in matchUpId: " + matchUpId));
 
-        checkIfUserAlreadyParticipated(userId, matchUp);
-        updatePoints(selectedMovie, matchUpVoteRequest);
-
-        MatchUpParticipation matchUpParticipation = MatchUpParticipation.builder()
-                .user(user)
-                .matchUpMovie(selectedMovie)
-                .build();
+        if (status != MatchUpStatus.NOW) {
+            throw new IllegalArgumentException("진행 중인 매치업이 아닙니다.");
+        }
 
-        matchUpParticipationRepository.save(matchUpParticipation);
+        try {
+            jdbcTemplate.update(PARTICIPATION_INSERT, userId, matchUpId, matchUpMovieId);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 매치업 투표에 참여했습니다!");
+        }
         log.info("User added to matchUp participation: userId = {}, matchUpId = {}", userId, matchUpId);
 
-        selectedMovie.incrementVoteCount();
-        matchUpMovieRepository.save(selectedMovie);
-        log.info("Incremented like count for movie: matchUpMovieId = {}, new vote count = {}", matchUpMovieId, selectedMovie.getVoteCount());
-
+        matchUpVoteBuffer.add(matchUpMovieId, toVoteDelta(matchUpVoteRequest));
     }
 
     @Transactional(readOnly = true)
@@ -109,14 +112,18 @@ public class MatchUpService {
                 .orElseThrow(() -> new IllegalArgumentException("not found matchUpId: " + matchUpId));
         log.info("Retrieved matchUp: matchUpId = {}", matchUpId);
 
-        CharmPointResponse movie1CharmPoint = calculateCharmPointProportions(matchUp.getMovie1());
-        CharmPointResponse movie2CharmPoint = calculateCharmPointProportions(matchUp.getMovie2());
+        // 아직 반영되지 않은 투표 집계까지 포함
+        long[] movie1Totals = matchUpVoteBuffer.totals(matchUp.getMovie1());
+        long[] movie2Totals = matchUpVoteBuffer.totals(matchUp.getMovie2());
 
-        EmotionPointResponse movie1EmotionPoint = calculateEmotionPointProportions(matchUp.getMovie1());
-        EmotionPointResponse movie2EmotionPoint = calculateEmotionPointProportions(matchUp.getMovie2());
+        CharmPointResponse movie1CharmPoint = CharmPointResponse.fromTotals(movie1Totals);
+        CharmPointResponse movie2CharmPoint = CharmPointResponse.fromTotals(movie2Totals);
 
-        MatchUpMovieResponse movie1 = MatchUpResponse.fromEntity(matchUp.getMovie1(), movie1CharmPoint, movie1EmotionPoint);
-        MatchUpMovieResponse movie2 = MatchUpResponse.fromEntity(matchUp.getMovie2(), movie2CharmPoint, movie2EmotionPoint);
+        EmotionPointResponse movie1EmotionPoint = EmotionPointResponse.fromTotals(movie1Totals);
+        EmotionPointResponse movie2EmotionPoint = EmotionPointResponse.fromTotals(movie2Totals);
+
+        MatchUpMovieResponse movie1 = MatchUpResponse.fromEntity(matchUp.getMovie1(), movie1Totals[MatchUpVoteField.VOTE.ordinal()], movie1CharmPoint, movie1EmotionPoint);
+        MatchUpMovieResponse movie2 = MatchUpResponse.fromEntity(matchUp.getMovie2(), movie2Totals[MatchUpVoteField.VOTE.ordinal()], movie2CharmPoint, movie2EmotionPoint);
 
         boolean isVoted = hasUserVoted(userId, matchUp);
 
@@ -134,99 +141,40 @@ public class MatchUpService {
     }
 
 
-    private CharmPointResponse calculateCharmPointProportions(MatchUpMovie matchUpMovie) {
-        long max = Arrays.stream(new long[]{
-                matchUpMovie.getCharmPoint().getOst(),
-                matchUpMovie.getCharmPoint().getDirecting(),
-                matchUpMovie.getCharmPoint().getStory(),
-                matchUpMovie.getCharmPoint().getDialogue(),
-                matchUpMovie.getCharmPoint().getVisual(),
-                matchUpMovie.getCharmPoint().getActing(),
-                matchUpMovie.getCharmPoint().getSpecialEffects()
-        }).max().orElse(0);
-
-        if (max == 0) {
-            return new CharmPointResponse(0, 0, 0, 0, 0, 0, 0);
-        }
-
-        return new CharmPointResponse(
-                (int) ((matchUpMovie.getCharmPoint().getOst() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getDirecting() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getStory() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getDialogue() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getVisual() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getActing() * 100) / max),
-                (int) ((matchUpMovie.getCharmPoint().getSpecialEffects() * 100) / max)
-        );
-    }
-
-    private EmotionPointResponse calculateEmotionPointProportions(MatchUpMovie matchUpMovie) {
-        long max = Arrays.stream(new long[]{
-                matchUpMovie.getEmotionPoint().getTouching(),
-                matchUpMovie.getEmotionPoint().getAngry(),
-                matchUpMovie.getEmotionPoint().getJoy(),
-                matchUpMovie.getEmotionPoint().getImmersion(),
-                matchUpMovie.getEmotionPoint().getExcited(),
-                matchUpMovie.getEmotionPoint().getEmpathy(),
-                matchUpMovie.getEmotionPoint().getTension()
-        }).max().orElse(0);
-
-        if (max == 0) {
-            return new EmotionPointResponse(0, 0, 0, 0, 0, 0, 0);
-        }
-
-        return new EmotionPointResponse(
-                (int) ((matchUpMovie.getEmotionPoint().getTouching() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getAngry() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getJoy() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getImmersion() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getExcited() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getEmpathy() * 100) / max),
-                (int) ((matchUpMovie.getEmotionPoint().getTension() * 100) / max)
-        );
-    }
-
-    private void checkIfUserAlreadyParticipated(Long userId, MatchUp matchUp) {
-        boolean alreadyParticipated = matchUpParticipationRepository.existsByUserIdAndMatchUpMovie_Id(userId, matchUp.getMovie1().getId()) ||
-                matchUpParticipationRepository.existsByUserIdAndMatchUpMovie_Id(userId, matchUp.getMovie2().getId());
-
-        if (alreadyParticipated) {
-            throw new IllegalArgumentException("이미 매치업 투표에 참여했습니다!");
-        }
-    }
-
     private boolean hasUserVoted(Long userId, MatchUp matchUp) {
-        return matchUpParticipationRepository.existsByUserIdAndMatchUpMovie_Id(userId, matchUp.getMovie1().getId()) ||
-                matchUpParticipationRepository.existsByUserIdAndMatchUpMovie_Id(userId, matchUp.getMovie2().getId());
+        if (userId == null) {
+            return false;
+        }
+        return matchUpParticipationRepository.existsByUserIdAndMatchUpMovie_IdIn(userId,
+                List.of(matchUp.getMovie1().getId(), matchUp.getMovie2().getId()));
     }
 
-    private void updatePoints(MatchUpMovie selectedMovie, MatchUpVoteRequest matchUpVoteRequest) {
-        CharmPoint charmPoint = selectedMovie.getCharmPoint();
-        EmotionPoint emotionPoint = selectedMovie.getEmotionPoint();
-
-        if (charmPoint != null && matchUpVoteRequest.getCharmPoint() != null) {
-            charmPoint.updatePoints(
-                    matchUpVoteRequest.getCharmPoint().getOst(),
-                    matchUpVoteRequest.getCharmPoint().getDirection(),
-                    matchUpVoteRequest.getCharmPoint().getStory(),
-                    matchUpVoteRequest.getCharmPoint().getDialogue(),
-                    matchUpVoteRequest.getCharmPoint().getVisual(),
-                    matchUpVoteRequest.getCharmPoint().getActing(),
-                    matchUpVoteRequest.getCharmPoint().getSpecialEffect()
-            );
+    private long[] toVoteDelta(MatchUpVoteRequest matchUpVoteRequest) {
+        long[] vote = new long[MatchUpVoteField.SIZE];
+        vote[MatchUpVoteField.VOTE.ordinal()] = 1;
+
+        CharmPointRequest charmPoint = matchUpVoteRequest.getCharmPoint();
+        if (charmPoint != null) {
+            vote[MatchUpVoteField.OST.ordinal()] = charmPoint.getOst();
+            vote[MatchUpVoteField.DIRECTING.ordinal()] = charmPoint.getDirection();
+            vote[MatchUpVoteField.STORY.ordinal()] = charmPoint.getStory();
+            vote[MatchUpVoteField.DIALOGUE.ordinal()] = charmPoint.getDialogue();
+            vote[MatchUpVoteField.VISUAL.ordinal()] = charmPoint.getVisual();
+            vote[MatchUpVoteField.ACTING.ordinal()] = charmPoint.getActing();
+            vote[MatchUpVoteField.SPECIAL_EFFECTS.ordinal()] = charmPoint.getSpecialEffect();
         }
 
-        if (emotionPoint != null && matchUpVoteRequest.getEmotionPoint() != null) {
-            emotionPoint.updatePoints(
-                    matchUpVoteRequest.getEmotionPoint().getTouching(),
-                    matchUpVoteRequest.getEmotionPoint().getAngry(),
-                    matchUpVoteRequest.getEmotionPoint().getJoy(),
-                    matchUpVoteRequest.getEmotionPoint().getImmersion(),
-                    matchUpVoteRequest.getEmotionPoint().getExcited(),
-                    matchUpVoteRequest.getEmotionPoint().getEmpathy(),
-                    matchUpVoteRequest.getEmotionPoint().getTension()
-            );
+        EmotionPointRequest emotionPoint = matchUpVoteRequest.getEmotionPoint();
+        if (emotionPoint != null) {
+            vote[MatchUpVoteField.TOUCHING.ordinal()] = emotionPoint.getTouching();
+            vote[MatchUpVoteField.ANGRY.ordinal()] = emotionPoint.getAngry();
+            vote[MatchUpVoteField.JOY.ordinal()] = emotionPoint.getJoy();
+            vote[MatchUpVoteField.IMMERSION.ordinal()] = emotionPoint.getImmersion();
+            vote[MatchUpVoteField.EXCITED.ordinal()] = emotionPoint.getExcited();
+            vote[MatchUpVoteField.EMPATHY.ordinal()] = emotionPoint.getEmpathy();
+            vote[MatchUpVoteField.TENSION.ordinal()] = emotionPoint.getTension();
         }
+        return vote;
     }
 
     @Transactional
@@ -236,9 +184,15 @@ public class MatchUpService {
             matchUp.changeStatus(MatchUpStatus.NOW);
             matchUpRepository.save(matchUp);
         }
+        if (!pendingMatchUps.isEmpty()) {
+            eventPublisher.publishEvent(new MainMatchUpChangedEvent());
+        }
     }
 
     public List<MatchUpCloseResponse> expireAndReturnMatchUps() {
+        // 승자 판정 전에 쌓인 투표 집계 반영
+        matchUpVoteBuffer.flushAndReconcile();
+
         List<MatchUp> nowMatchUps = matchUpRepository.findByStatus(MatchUpStatus.NOW);
         List<MatchUpCloseResponse> matchUpCloseResponses = new ArrayList<>();
 
@@ -260,6 +214,9 @@ public class MatchUpService {
                     .toList());
         }
 
+        if (!nowMatchUps.isEmpty()) {
+            eventPublisher.publishEvent(new MainMatchUpChangedEvent());
+        }
         return matchUpCloseResponses;
     }
 
@@ -273,7 +230,7 @@ public class MatchUpService {
         }
     }
 
-    @Cacheable(value = "mainMatchUpCache", cacheManager = "mainMatchUpCacheManager") // Caffeine Cache 적용
+    @Cacheable(value = "mainMatchUpCache", cacheManager = "mainMatchUpCacheManager", sync = true) // Caffeine Cache 적용
     public MainMatchUpsResponse getMainMatchUps() {
         List<MatchUp> nowMatchUps = matchUpRepository.findByStatus(MatchUpStatus.NOW);
 
@@ -298,5 +255,9 @@ public class MatchUpService {
         return null;
     }
 
+    @CacheEvict(value = "mainMatchUpCache", cacheManager = "mainMatchUpCacheManager", allEntries = true)
+    public void evictMainMatchUps() {
+    }
+
 }
 
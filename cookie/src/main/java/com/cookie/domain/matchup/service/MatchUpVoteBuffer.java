@@ -0,0 +1,198 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.entity.CharmPoint;
+import com.cookie.domain.matchup.entity.EmotionPoint;
+import com.cookie.domain.matchup.entity.MatchUpMovie;
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import com.cookie.global.util.StripedDeltaCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 매치업 투표 집계 쓰기 지연 버퍼
+ * 투표 참여 행(match_up_participation)은 요청 트랜잭션에서 바로 저장하고,
+ * 매력/감정 포인트 증감만 메모리에 모아 주기적으로 영화별 한 번의 UPDATE 로 반영한다.
+ * 투표 수는 증감이 아니라 참여 행 수로 다시 세어 반영하므로, 여러 인스턴스가 나눠 반영해도 어긋나지 않는다.
+ * 조회 시에는 아직 반영되지 않은 증감량을 더해서 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchUpVoteBuffer {
+
+    // 버퍼 키 = matchUpMovieId << FIELD_BITS | field.ordinal (MatchUpVoteField 는 최대 16개)
+    static final int FIELD_BITS = 4;
+    private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+
+    private static final String VOTE_UPDATE = """
+            UPDATE match_up_movie mm
+            LEFT JOIN charm_point cp ON cp.id = mm.charm_point_id
+            LEFT JOIN emotion_point ep ON ep.id = mm.emotion_point_id
+            SET mm.vote_count = (SELECT COUNT(*) FROM match_up_participation p WHERE p.matchup_movie_id = mm.id), """
+            + Arrays.stream(MatchUpVoteField.values())
+                    .filter(field -> field != MatchUpVoteField.VOTE)
+                    .map(field -> field.getColumn() + " = " + field.getColumn() + " + ?")
+                    .collect(Collectors.joining(", "))
+            + " WHERE mm.id = ?";
+
+    // 진행 중인 매치업 영화의 투표 수를 참여 행 수로 맞춤 (종료 직전 호출)
+    private static final String VOTE_COUNT_RECONCILE = """
+            UPDATE match_up_movie mm
+            JOIN match_up m ON mm.id IN (m.movie1_id, m.movie2_id)
+            SET mm.vote_count = (SELECT COUNT(*) FROM match_up_participation p WHERE p.matchup_movie_id = mm.id)
+            WHERE m.status = 'NOW'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // key(matchUpMovieId, field) -> 증감량
+    private final StripedDeltaCounter deltas = new StripedDeltaCounter();
+
+    /**
+     * 투표 한 건의 집계 증감 (참여 행이 롤백되면 반영하지 않도록 커밋 이후에 누적)
+     */
+    public void add(Long matchUpMovieId, long[] vote) {
+        afterCommit(() -> {
+            for (MatchUpVoteField field : MatchUpVoteField.values()) {
+                if (vote[field.ordinal()] != 0) {
+                    deltas.add(key(matchUpMovieId, field), vote[field.ordinal()]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 저장된 값 + 아직 반영되지 않은 증감량
+     */
+    public long[] totals(MatchUpMovie matchUpMovie) {
+        long[] totals = persisted(matchUpMovie);
+        addPending(matchUpMovie.getId(), totals);
+        return totals;
+    }
+
+    public void addPending(Long matchUpMovieId, long[] totals) {
+        for (MatchUpVoteField field : MatchUpVoteField.values()) {
+            totals[field.ordinal()] += deltas.pending(key(matchUpMovieId, field));
+        }
+    }
+
+    public static long[] persisted(MatchUpMovie matchUpMovie) {
+        long[] values = new long[MatchUpVoteField.SIZE];
+        values[MatchUpVoteField.VOTE.ordinal()] = matchUpMovie.getVoteCount();
+
+        CharmPoint charmPoint = matchUpMovie.getCharmPoint();
+        if (charmPoint != null) {
+            values[MatchUpVoteField.OST.ordinal()] = charmPoint.getOst();
+            values[MatchUpVoteField.DIRECTING.ordinal()] = charmPoint.getDirecting();
+            values[MatchUpVoteField.STORY.ordinal()] = charmPoint.getStory();
+            values[MatchUpVoteField.DIALOGUE.ordinal()] = charmPoint.getDialogue();
+            values[MatchUpVoteField.VISUAL.ordinal()] = charmPoint.getVisual();
+            values[MatchUpVoteField.ACTING.ordinal()] = charmPoint.getActing();
+            values[MatchUpVoteField.SPECIAL_EFFECTS.ordinal()] = charmPoint.getSpecialEffects();
+        }
+
+        EmotionPoint emotionPoint = matchUpMovie.getEmotionPoint();
+        if (emotionPoint != null) {
+            values[MatchUpVoteField.TOUCHING.ordinal()] = emotionPoint.getTouching();
+            values[MatchUpVoteField.ANGRY.ordinal()] = emotionPoint.getAngry();
+            values[MatchUpVoteField.JOY.ordinal()] = emotionPoint.getJoy();
+            values[MatchUpVoteField.IMMERSION.ordinal()] = emotionPoint.getImmersion();
+            values[MatchUpVoteField.EXCITED.ordinal()] = emotionPoint.getExcited();
+            values[MatchUpVoteField.EMPATHY.ordinal()] = emotionPoint.getEmpathy();
+            values[MatchUpVoteField.TENSION.ordinal()] = emotionPoint.getTension();
+        }
+        return values;
+    }
+
+    @Scheduled(fixedDelayString = "${matchup.vote.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> drained = deltas.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 영화별 증감 벡터로 묶기
+        Map<Long, long[]> byMovie = new HashMap<>();
+        drained.forEach((key, delta) -> byMovie
+                .computeIfAbsent(matchUpMovieId(key), id -> new long[MatchUpVoteField.SIZE])
+                [field(key).ordinal()] += delta);
+
+        List<Object[]> args = new ArrayList<>(byMovie.size());
+        byMovie.forEach((matchUpMovieId, vote) -> {
+            Object[] row = new Object[MatchUpVoteField.SIZE];
+            int i = 0;
+            for (MatchUpVoteField field : MatchUpVoteField.values()) {
+                if (field != MatchUpVoteField.VOTE) {
+                    row[i++] = vote[field.ordinal()];
+                }
+            }
+            row[i] = matchUpMovieId;
+            args.add(row);
+        });
+
+        try {
+            // 일부 행만 반영된 채 실패하면 restore 로 다시 더해져 중복 집계되므로 한 트랜잭션으로 묶는다
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(VOTE_UPDATE, args));
+            log.debug("매치업 투표 집계 반영 완료: movies = {}", byMovie.size());
+        } catch (Exception e) {
+            // 반영 실패한 증감량은 버퍼에 되돌려 다음 주기에 재시도
+            deltas.restore(drained);
+            log.error("매치업 투표 집계 반영 실패: movies = {}", byMovie.size(), e);
+        }
+    }
+
+    /**
+     * 매치업 종료 직전 호출: 이 인스턴스의 증감을 반영하고, 다른 인스턴스에서 받은 투표까지 포함해 투표 수를 맞춘다.
+     */
+    public void flushAndReconcile() {
+        flush();
+        int updated = jdbcTemplate.update(VOTE_COUNT_RECONCILE);
+        log.info("진행 중 매치업 투표 수 보정: movies = {}", updated);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 매치업 투표 집계 반영");
+        flush();
+    }
+
+    static long key(Long matchUpMovieId, MatchUpVoteField field) {
+        return matchUpMovieId << FIELD_BITS | field.ordinal();
+    }
+
+    static long matchUpMovieId(long key) {
+        return key >>> FIELD_BITS;
+    }
+
+    static MatchUpVoteField field(long key) {
+        return MatchUpVoteField.values()[(int) (key & FIELD_MASK)];
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
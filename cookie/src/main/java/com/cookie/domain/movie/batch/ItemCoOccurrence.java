@@ -0,0 +1,157 @@
+package com.cookie.domain.movie.batch;
+
+import com.cookie.global.util.LongIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * 유저별 (좋아요 + 고평점 리뷰) 영화 집합에서 영화 쌍 동시 출현 수를 세는 희소 행렬
+ * 영화 id 는 0부터의 인덱스로 압축하고, 쌍 (a, b) (a < b) 는 long 하나로 묶어 LongIntHashMap 에 센다.
+ * user_id 순으로 정렬된 행을 한 번만 훑으며, 메모리에는 현재 유저의 영화 목록만 둔다.
+ */
+class ItemCoOccurrence {
+
+    private final int maxItemsPerUser;
+
+    private final LongIntHashMap movieIndex = new LongIntHashMap(1 << 12);
+    private final LongIntHashMap pairCounts = new LongIntHashMap(1 << 16);
+    private long[] movieIds = new long[1 << 12];
+    private int[] itemCounts = new int[1 << 12];
+    private int movieCount;
+
+    private final int[] userItems;
+    private int userItemCount;
+    private long currentUserId = -1;
+    private int userCount;
+
+    ItemCoOccurrence(int maxItemsPerUser) {
+        this.maxItemsPerUser = maxItemsPerUser;
+        this.userItems = new int[maxItemsPerUser];
+    }
+
+    /**
+     * user_id 오름차순으로 들어오는 (유저, 영화) 행 누적
+     */
+    void add(long userId, long movieId) {
+        if (userId != currentUserId) {
+            flushUser();
+            currentUserId = userId;
+        }
+        // 기록이 아주 많은 유저 한 명이 쌍 개수(n^2)를 지배하지 않도록 상한까지만 반영
+        if (userItemCount < maxItemsPerUser) {
+            userItems[userItemCount++] = indexOf(movieId);
+        }
+    }
+
+    void finish() {
+        flushUser();
+    }
+
+    /**
+     * 영화마다 코사인 유사도 co(a, b) / sqrt(n(a) * n(b)) 상위 limit 개의 이웃을 넘겨준다.
+     * 동시 출현이 minCoOccurrence 미만인 쌍은 우연에 가까워 제외한다.
+     */
+    void forEachNeighbor(int limit, int minCoOccurrence, NeighborConsumer consumer) {
+        int[] neighbors = new int[movieCount * limit];
+        float[] similarities = new float[movieCount * limit];
+        int[] sizes = new int[movieCount];
+
+        pairCounts.forEach((key, count) -> {
+            if (count < minCoOccurrence) {
+                return;
+            }
+            int a = (int) (key >>> 32);
+            int b = (int) key;
+            float similarity = (float) (count / Math.sqrt((double) itemCounts[a] * itemCounts[b]));
+            offer(a, b, similarity, limit, neighbors, similarities, sizes);
+            offer(b, a, similarity, limit, neighbors, similarities, sizes);
+        });
+
+        for (int item = 0; item < movieCount; item++) {
+            int base = item * limit;
+            for (int i = 0; i < sizes[item]; i++) {
+                consumer.accept(movieIds[item], movieIds[neighbors[base + i]], similarities[base + i]);
+            }
+        }
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    int movieCount() {
+        return movieCount;
+    }
+
+    int pairCount() {
+        return pairCounts.size();
+    }
+
+    long estimatedBytes() {
+        return movieIndex.capacityBytes() + pairCounts.capacityBytes()
+                + (long) movieIds.length * Long.BYTES + (long) itemCounts.length * Integer.BYTES;
+    }
+
+    private void flushUser() {
+        if (userItemCount == 0) {
+            return;
+        }
+        for (int i = 0; i < userItemCount; i++) {
+            itemCounts[userItems[i]]++;
+            for (int j = i + 1; j < userItemCount; j++) {
+                pairCounts.addTo(pairKey(userItems[i], userItems[j]), 1);
+            }
+        }
+        userCount++;
+        userItemCount = 0;
+    }
+
+    private int indexOf(long movieId) {
+        int index = movieIndex.get(movieId, -1);
+        if (index >= 0) {
+            return index;
+        }
+        index = movieCount++;
+        if (index == movieIds.length) {
+            movieIds = Arrays.copyOf(movieIds, index << 1);
+            itemCounts = Arrays.copyOf(itemCounts, index << 1);
+        }
+        movieIds[index] = movieId;
+        movieIndex.put(movieId, index);
+        return index;
+    }
+
+    // 작은 인덱스를 상위 32비트에 두므로 (a, b) 와 (b, a) 가 같은 키가 되고, b >= 1 이라 0 이 되지 않는다
+    private static long pairKey(int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return ((long) low << 32) | high;
+    }
+
+    // 영화별 고정 크기 슬롯에 유사도 상위 limit 개 유지 (가득 차면 최솟값과 교체)
+    private static void offer(int item, int neighbor, float similarity, int limit,
+                              int[] neighbors, float[] similarities, int[] sizes) {
+        int base = item * limit;
+        if (sizes[item] < limit) {
+            neighbors[base + sizes[item]] = neighbor;
+            similarities[base + sizes[item]] = similarity;
+            sizes[item]++;
+            return;
+        }
+        int min = base;
+        for (int i = base + 1; i < base + limit; i++) {
+            if (similarities[i] < similarities[min]) {
+                min = i;
+            }
+        }
+        if (similarity > similarities[min]) {
+            neighbors[min] = neighbor;
+            similarities[min] = similarity;
+        }
+    }
+
+    @FunctionalInterface
+    interface NeighborConsumer {
+        void accept(long movieId, long neighborMovieId, double similarity);
+    }
+}
@@ -0,0 +1,34 @@
+package com.cookie.domain.movie.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class MovieSimilarityBatch {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job movieSimilarityJob(@Qualifier("movieSimilarityStep") Step movieSimilarityStep) {
+        return new JobBuilder("movieSimilarityJob", jobRepository)
+                .start(movieSimilarityStep)
+                .build();
+    }
+
+    @Bean
+    public Step movieSimilarityStep(MovieSimilarityTasklet tasklet) {
+        return new StepBuilder("movieSimilarityStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
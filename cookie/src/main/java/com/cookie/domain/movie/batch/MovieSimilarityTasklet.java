@@ -0,0 +1,92 @@
+package com.cookie.domain.movie.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 영화 좋아요 / 고평점 리뷰 동시 출현으로 영화별 유사 영화 상위 N개를 계산해 movie_neighbor 를 교체
+ * 상호작용 행은 user_id 순으로 스트리밍하며 ItemCoOccurrence 에 누적하고, 결과는 스텝 트랜잭션 안에서 지우고 다시 넣는다.
+ * (조회 쪽은 커밋 전까지 이전 이웃 목록을 그대로 본다)
+ */
+@Slf4j
+@Component
+public class MovieSimilarityTasklet implements Tasklet {
+
+    private static final String INTERACTION_QUERY = """
+            SELECT user_id, movie_id FROM movie_like
+            UNION
+            SELECT user_id, movie_id FROM review WHERE movie_score >= ? AND is_hide = false
+            ORDER BY user_id
+            """;
+
+    private static final String NEIGHBOR_DELETE = "DELETE FROM movie_neighbor";
+    private static final String NEIGHBOR_INSERT =
+            "INSERT INTO movie_neighbor (movie_id, neighbor_movie_id, similarity) VALUES (?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    @Value("${recommend.similarity.neighbor-size:20}")
+    private int neighborSize;
+
+    @Value("${recommend.similarity.max-items-per-user:200}")
+    private int maxItemsPerUser;
+
+    @Value("${recommend.similarity.min-co-occurrence:2}")
+    private int minCoOccurrence;
+
+    @Value("${recommend.similarity.min-review-score:4}")
+    private int minReviewScore;
+
+    public MovieSimilarityTasklet(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 번에 받지 않고 행 단위로 스트리밍한다
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        long start = System.currentTimeMillis();
+
+        ItemCoOccurrence coOccurrence = new ItemCoOccurrence(maxItemsPerUser);
+        streamingJdbcTemplate.query(INTERACTION_QUERY, rs -> {
+            coOccurrence.add(rs.getLong("user_id"), rs.getLong("movie_id"));
+        }, minReviewScore);
+        coOccurrence.finish();
+        long built = System.currentTimeMillis();
+
+        jdbcTemplate.update(NEIGHBOR_DELETE);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        long[] written = {0};
+        coOccurrence.forEachNeighbor(neighborSize, minCoOccurrence, (movieId, neighborMovieId, similarity) -> {
+            batch.add(new Object[]{movieId, neighborMovieId, similarity});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(NEIGHBOR_INSERT, batch);
+                written[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(NEIGHBOR_INSERT, batch);
+            written[0] += batch.size();
+        }
+        contribution.incrementWriteCount(written[0]);
+
+        log.info("유사 영화 계산 완료: users = {}, movies = {}, pairs = {}, neighbors = {}, 행렬 {}MB, 계산 {}ms, 저장 {}ms",
+                coOccurrence.userCount(), coOccurrence.movieCount(), coOccurrence.pairCount(), written[0],
+                coOccurrence.estimatedBytes() / (1024 * 1024), built - start, System.currentTimeMillis() - built);
+        return RepeatStatus.FINISHED;
+    }
+}
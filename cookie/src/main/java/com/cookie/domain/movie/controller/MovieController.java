@@ -5,7 +5,9 @@ package com.cookie.domain.movie.controller;
 import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse;
 import com.cookie.domain.matchup.service.MatchUpService;
 import com.cookie.domain.movie.dto.response.*;
+import com.cookie.domain.movie.service.MovieRecommendService;
 import com.cookie.domain.movie.service.MovieService;
+import com.cookie.domain.review.dto.response.MovieReviewCursorResponse;
 import com.cookie.domain.user.dto.response.auth.CustomOAuth2User;
 import com.cookie.global.util.ApiUtil;
 import com.cookie.global.util.ApiUtil.ApiSuccess;
@@ -33,6 +35,7 @@ import java.util.List;
 public class MovieController {
 
     private final MovieService movieService;
+    private final MovieRecommendService movieRecommendService;
     private final MatchUpService matchUpService;
 
     @Operation(summary = "영화 상세 정보", responses = {
@@ -94,6 +97,62 @@ public class MovieController {
         return ApiUtil.success(movieReviews);
     }
 
+    @Operation(summary = "영화에 작성 된 리뷰 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovieReviewCursorResponse.class)))
+    })
+    @GetMapping("{movieId}/reviews/cursor")
+    public ApiSuccess<?> getMovieReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User, @PathVariable(name = "movieId") Long movieId,
+                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                 @RequestParam(name = "size", defaultValue = "10") int size,
+                                 @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        MovieReviewCursorResponse movieReviews = movieService.getMovieReviewFeed(movieId, userId, false, false, cursor, size, withTotal);
+        return ApiUtil.success(movieReviews);
+    }
+
+    @Operation(summary = "영화에 작성 된 스포일러 리뷰 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovieReviewCursorResponse.class)))
+    })
+    @GetMapping("{movieId}/reviews/spoiler/cursor")
+    public ApiSuccess<?> getMovieSpoilerReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User, @PathVariable(name = "movieId") Long movieId,
+                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                 @RequestParam(name = "size", defaultValue = "10") int size,
+                                 @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        MovieReviewCursorResponse movieReviews = movieService.getMovieReviewFeed(movieId, userId, false, true, cursor, size, withTotal);
+        return ApiUtil.success(movieReviews);
+    }
+
+    @Operation(summary = "영화에 작성 된 리뷰 좋아요순 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovieReviewCursorResponse.class)))
+    })
+    @GetMapping("{movieId}/reviews/most-liked/cursor")
+    public ApiSuccess<?> getMostLikedMovieReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User, @PathVariable(name = "movieId") Long movieId,
+                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                 @RequestParam(name = "size", defaultValue = "10") int size,
+                                 @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        MovieReviewCursorResponse movieReviews = movieService.getMovieReviewFeed(movieId, userId, true, false, cursor, size, withTotal);
+        return ApiUtil.success(movieReviews);
+    }
+
+    @Operation(summary = "영화에 작성 된 스포일러 리뷰 좋아요순 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovieReviewCursorResponse.class)))
+    })
+    @GetMapping("{movieId}/reviews/spoiler/most-liked/cursor")
+    public ApiSuccess<?> getMostLikedMovieSpoilerReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User, @PathVariable(name = "movieId") Long movieId,
+                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                 @RequestParam(name = "size", defaultValue = "10") int size,
+                                 @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        MovieReviewCursorResponse movieReviews = movieService.getMovieReviewFeed(movieId, userId, true, true, cursor, size, withTotal);
+        return ApiUtil.success(movieReviews);
+    }
+
     @Operation(summary = "카테고리로 영화 리스트 조회", responses = {
             @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = MoviePagenationResponse.class)))
@@ -117,7 +176,7 @@ public class MovieController {
     @GetMapping("/recommendations")
     public ApiSuccess<List<MovieSimpleResponse>> getRecommendations(@AuthenticationPrincipal CustomOAuth2User customOAuth2User) {
         Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
-        List<MovieSimpleResponse> recommendedMovies = movieService.getRecommendedMovies(userId);
+        List<MovieSimpleResponse> recommendedMovies = movieRecommendService.getRecommendedMovies(userId);
         return ApiUtil.success(recommendedMovies);
     }
 
@@ -9,13 +9,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class MovieResponse {
+public class MovieResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long id;                   // 영화 ID
     private String title;              // 제목
     private String poster;             // 포스터 이미지
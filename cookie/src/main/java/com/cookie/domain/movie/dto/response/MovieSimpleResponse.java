@@ -5,13 +5,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class MovieSimpleResponse {
+public class MovieSimpleResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String title;
     private String poster;
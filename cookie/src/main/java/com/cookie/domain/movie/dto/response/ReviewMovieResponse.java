@@ -4,10 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ReviewMovieResponse {
+public class ReviewMovieResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long movieId;
     private String title;
     private String poster;
@@ -29,6 +29,9 @@ public class Movie {
     private String releasedAt;
     private Integer runtime;
     private double score;
+    // 평점 증분 집계용 (숨김 처리되지 않은 리뷰 기준)
+    private long scoreSum;
+    private long reviewCount;
     private String certification;
     private Long movieLikes;
 
@@ -64,17 +67,4 @@ public class Movie {
         this.director = director;
         this.country = country;
     }
-
-    public void increaseLikeCount() {
-        this.movieLikes++;
-    }
-
-    public void decreaseLikeCount() {
-        if(this.movieLikes > 0) this.movieLikes--;
-    }
-
-    public void updateScore(Double score) {
-        this.score = score;
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.cookie.domain.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영화별 유사 영화 (item-item 협업 필터링 결과)
+ * movieSimilarityJob 이 매일 전체를 다시 계산해 영화마다 상위 N개만 저장한다.
+ * 배치가 JDBC 로 통째로 교체하는 파생 테이블이라 연관관계 없이 id 만 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_movie_neighbor_movie", columnList = "movie_id, similarity"))
+public class MovieNeighbor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "neighbor_movie_id", nullable = false)
+    private Long neighborMovieId;
+
+    private double similarity;
+}
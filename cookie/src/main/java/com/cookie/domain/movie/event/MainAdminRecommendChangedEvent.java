@@ -0,0 +1,7 @@
+package com.cookie.domain.movie.event;
+
+/**
+ * 메인 관리자 추천 영화 목록이 바뀌었을 때 발행 (추천 등록/해제, 추천 영화 삭제)
+ */
+public class MainAdminRecommendChangedEvent {
+}
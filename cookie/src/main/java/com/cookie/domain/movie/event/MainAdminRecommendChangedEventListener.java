@@ -0,0 +1,37 @@
+package com.cookie.domain.movie.event;
+
+import com.cookie.domain.movie.service.MainAdminRecommendCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainAdminRecommendChangedEventListener {
+
+    private final MainAdminRecommendCacheService mainAdminRecommendCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMainAdminRecommendChanged(MainAdminRecommendChangedEvent event) {
+        log.debug("메인 관리자 추천 캐시 무효화");
+        mainAdminRecommendCacheService.evict();
+    }
+
+    /**
+     * 캐시에는 반영 전 좋아요 수가, 버퍼에는 더 이상 증감이 없으므로 그대로 두면 반영된 좋아요가 빠져 보인다.
+     * 추천 영화의 증감이 반영됐을 때만 무효화해 다음 조회에서 DB 값을 다시 읽는다.
+     */
+    @EventListener
+    public void onMovieLikesFlushed(MovieLikesFlushedEvent event) {
+        boolean recommended = mainAdminRecommendCacheService.getMainAdminRecommend().stream()
+                .anyMatch(movie -> event.getMovieIds().contains(movie.getId()));
+        if (recommended) {
+            log.debug("추천 영화 좋아요 반영으로 메인 관리자 추천 캐시 무효화");
+            mainAdminRecommendCacheService.evict();
+        }
+    }
+}
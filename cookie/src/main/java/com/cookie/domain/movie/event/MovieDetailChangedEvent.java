@@ -0,0 +1,13 @@
+package com.cookie.domain.movie.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영화 상세 캐시에 들어가는 정보(리뷰, 평점, 카테고리 등)가 바뀌었을 때 발행
+ */
+@Getter
+@AllArgsConstructor
+public class MovieDetailChangedEvent {
+    private Long movieId;
+}
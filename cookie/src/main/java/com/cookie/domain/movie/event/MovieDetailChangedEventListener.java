@@ -0,0 +1,25 @@
+package com.cookie.domain.movie.event;
+
+import com.cookie.domain.movie.service.MovieDetailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieDetailChangedEventListener {
+
+    private final MovieDetailService movieDetailService;
+
+    /**
+     * 변경이 커밋된 이후에 비워야 다른 요청이 커밋 전 데이터로 캐시를 다시 채우지 않는다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovieDetailChanged(MovieDetailChangedEvent event) {
+        log.debug("영화 상세 캐시 무효화: movieId = {}", event.getMovieId());
+        movieDetailService.evict(event.getMovieId());
+    }
+}
@@ -0,0 +1,15 @@
+package com.cookie.domain.movie.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * LikeCountBuffer 가 영화 좋아요 증감을 movie.movie_likes 에 반영한 뒤 발행
+ */
+@Getter
+@AllArgsConstructor
+public class MovieLikesFlushedEvent {
+    private Set<Long> movieIds;
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +42,11 @@ public interface MovieLikeRepository extends JpaRepository<MovieLike, Long> {
         WHERE ml.movie.id = :movieId
     """)
     void deleteByMovieId(@Param("movieId") Long movieId);
+
+    // 최근 좋아요한 영화 id (유사 영화 추천의 기준)
+    @Query("SELECT ml.movie.id FROM MovieLike ml WHERE ml.user.id = :userId ORDER BY ml.createdAt DESC, ml.id DESC")
+    List<Long> findRecentMovieIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT ml.movie.id FROM MovieLike ml WHERE ml.user.id = :userId AND ml.movie.id IN :movieIds")
+    List<Long> findLikedMovieIds(@Param("userId") Long userId, @Param("movieIds") Collection<Long> movieIds);
 }
@@ -6,8 +6,19 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface MovieMonthRankingRepository extends JpaRepository<MovieMonthRanking, Integer> {
 
+    @Query("""
+        SELECT mmr
+        FROM MovieMonthRanking mmr
+        JOIN FETCH mmr.movie m
+        LEFT JOIN FETCH m.director
+        ORDER BY mmr.ranking
+    """)
+    List<MovieMonthRanking> findAllWithMovieAndDirector();
+
     @Modifying
     @Query("""
         DELETE FROM MovieMonthRanking mmr
@@ -0,0 +1,12 @@
+package com.cookie.domain.movie.repository;
+
+import com.cookie.domain.movie.entity.MovieNeighbor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MovieNeighborRepository extends JpaRepository<MovieNeighbor, Long> {
+
+    List<MovieNeighbor> findByMovieIdIn(Collection<Long> movieIds);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +25,17 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m FROM Movie m LEFT JOIN FETCH m.movieImages WHERE m.id = :movieId")
     Optional<Movie> findByIdWithImages(Long movieId);
 
+    // 영화 상세 (감독, 국가, 이미지 한 번에)
+    @Query("""
+        SELECT DISTINCT m
+        FROM Movie m
+        LEFT JOIN FETCH m.director
+        LEFT JOIN FETCH m.country
+        LEFT JOIN FETCH m.movieImages
+        WHERE m.id = :movieId
+    """)
+    Optional<Movie> findDetailById(@Param("movieId") Long movieId);
+
     @Query("""
         SELECT m
         FROM Movie m
@@ -54,25 +66,43 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m FROM Movie m JOIN FETCH m.director WHERE m.director.name LIKE :keyword%")
     Page<Movie> findMoviesByDirectorName(@Param("keyword") String keyword, Pageable pageable);
 
+    // 장르별 좋아요 순 상위 영화 (LIMIT 은 Pageable 로 전달, 좋아요/리뷰 수는 집계 컬럼 사용)
     @Query("""
     SELECT new com.cookie.domain.movie.dto.response.MovieSimpleResponse(
-        m.id, 
-        m.title, 
-        m.poster, 
-        m.releasedAt, 
-        c2.name, 
-        m.score, 
-        CAST((SELECT COUNT(ml) FROM MovieLike ml WHERE ml.movie.id = m.id) AS long), 
-        CAST((SELECT COUNT(r) FROM Review r WHERE r.movie.id = m.id) AS long)
+        m.id,
+        m.title,
+        m.poster,
+        m.releasedAt,
+        c2.name,
+        m.score,
+        m.movieLikes,
+        CAST(m.reviewCount AS long)
     )
-    FROM Movie m
-    JOIN m.movieCategories mc
+    FROM MovieCategory mc
+    JOIN mc.movie m
     JOIN mc.category c
     JOIN m.country c2
     WHERE c.subCategory = :genre
-    ORDER BY m.movieLikes DESC
+    ORDER BY m.movieLikes DESC, m.id DESC
 """)
-    List<MovieSimpleResponse> findTopMoviesByCategory(String genre);
+    List<MovieSimpleResponse> findTopMoviesByCategory(@Param("genre") String genre, Pageable pageable);
+
+    @Query("""
+    SELECT new com.cookie.domain.movie.dto.response.MovieSimpleResponse(
+        m.id,
+        m.title,
+        m.poster,
+        m.releasedAt,
+        c.name,
+        m.score,
+        m.movieLikes,
+        CAST(m.reviewCount AS long)
+    )
+    FROM Movie m
+    JOIN m.country c
+    WHERE m.id IN :movieIds
+""")
+    List<MovieSimpleResponse> findSimpleMoviesByIds(@Param("movieIds") Collection<Long> movieIds);
 
 
     @Query("SELECT c.subCategory FROM MovieCategory mc " +
@@ -104,8 +134,36 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     """)
     void updateImageByFileName(@Param("TmdbBUrl") String TmdbBUrl, @Param("cloudFrontUrl") String cloudFrontUrl);
 
+    // MySQL 단일 테이블 UPDATE 는 SET 절을 왼쪽부터 평가하므로 score 를 먼저 계산한다
+    @Modifying
+    @Query(value = """
+        UPDATE movie
+        SET score = CASE WHEN review_count + :countDelta > 0
+                         THEN (score_sum + :scoreDelta) / (review_count + :countDelta)
+                         ELSE 0 END,
+            score_sum = score_sum + :scoreDelta,
+            review_count = review_count + :countDelta
+        WHERE id = :movieId
+    """, nativeQuery = true)
+    void applyReviewScore(@Param("movieId") Long movieId, @Param("scoreDelta") long scoreDelta, @Param("countDelta") long countDelta);
+
+    // 숨김 처리되지 않은 리뷰 기준으로 평점 재계산, 증분 집계와 어긋난 영화만 갱신
     @Modifying
-    @Query("UPDATE Movie m SET m.movieLikes = m.movieLikes + 1 WHERE m.id = :movieId")
-    void increaseLikeCount(@Param("movieId") Long movieId);
+    @Query(value = """
+        UPDATE movie m
+        LEFT JOIN (
+            SELECT movie_id, SUM(movie_score) AS score_sum, COUNT(*) AS review_count
+            FROM review
+            WHERE is_hide = false
+            GROUP BY movie_id
+        ) r ON r.movie_id = m.id
+        SET m.score = COALESCE(r.score_sum / r.review_count, 0),
+            m.score_sum = COALESCE(r.score_sum, 0),
+            m.review_count = COALESCE(r.review_count, 0)
+        WHERE m.score_sum <> COALESCE(r.score_sum, 0)
+           OR m.review_count <> COALESCE(r.review_count, 0)
+           OR ABS(m.score - COALESCE(r.score_sum / r.review_count, 0)) > 0.0001
+    """, nativeQuery = true)
+    int recomputeRatings();
 }
 
@@ -3,6 +3,8 @@ package com.cookie.domain.movie.scheduler;
 import com.cookie.domain.movie.service.MovieRatingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,10 +15,18 @@ public class MovieRatingScheduler {
 
     private final MovieRatingService movieRatingService;
 
+    // 평점은 리뷰 변경 시 즉시 증분 반영되고, 이 작업은 집계 검증 및 보정만 수행
     @Scheduled(cron = "0 0 4 * * ?") // 매일 새벽 4시
     public void updateMovieRatingsAt4AM() {
-        movieRatingService.updateMovieRatings();
-        log.info("영화 평점 정보가 갱신되었습니다.");
+        int corrected = movieRatingService.updateMovieRatings();
+        log.info("영화 평점 검증 완료: 보정 {}건", corrected);
+    }
+
+    // 증분 집계 컬럼이 비어 있는 기존 데이터를 기동 시 한 번 채워둔다
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyMovieRatingsOnStartup() {
+        int corrected = movieRatingService.updateMovieRatings();
+        log.info("기동 시 영화 평점 검증 완료: 보정 {}건", corrected);
     }
 
 }
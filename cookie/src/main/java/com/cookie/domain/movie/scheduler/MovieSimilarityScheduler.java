@@ -0,0 +1,34 @@
+package com.cookie.domain.movie.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSimilarityScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job movieSimilarityJob;
+
+    @Scheduled(cron = "${recommend.similarity.cron:0 30 3 * * ?}") // 매일 새벽 3시 30분
+    public void runMovieSimilarityJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(movieSimilarityJob, jobParameters);
+            log.info("유사 영화 배치 정상 처리");
+
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+}
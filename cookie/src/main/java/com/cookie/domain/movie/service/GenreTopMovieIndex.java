@@ -0,0 +1,94 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
+import com.cookie.domain.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장르별 좋아요 순 상위 영화 인덱스
+ * 장르마다 상위 N개만 메모리에 두고, 좋아요가 바뀐 장르는 dirty 로 표시해 주기적으로 해당 장르만 다시 읽는다.
+ * 좋아요 수는 LikeCountBuffer 에서 지연 반영되므로, 표시 후 settle 시간이 지난 장르만 다시 읽는다.
+ * 추천 요청은 DB 조회 없이 상위 k개를 바로 꺼내 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenreTopMovieIndex {
+
+    private final MovieRepository movieRepository;
+
+    private final Map<String, List<MovieSimpleResponse>> topMovies = new ConcurrentHashMap<>();
+    // 장르 -> 처음 dirty 로 표시된 시각
+    private final Map<String, Long> dirtyGenres = new ConcurrentHashMap<>();
+
+    @Value("${recommend.genre-index.size:30}")
+    private int indexSize;
+
+    @Value("${recommend.genre-index.settle-ms:2000}")
+    private long settleMillis;
+
+    /**
+     * 장르 상위 영화 최대 limit 개 (좋아요 순)
+     */
+    public List<MovieSimpleResponse> getTopMovies(String genre, int limit) {
+        List<MovieSimpleResponse> movies = topMovies.get(genre);
+        if (movies == null) {
+            // DB 조회는 맵 잠금(computeIfAbsent) 밖에서 하고, 동시에 적재했으면 먼저 들어간 값을 사용
+            List<MovieSimpleResponse> loaded = load(genre);
+            movies = topMovies.putIfAbsent(genre, loaded);
+            if (movies == null) {
+                movies = loaded;
+            }
+        }
+        return movies.subList(0, Math.min(limit, movies.size()));
+    }
+
+    public void markDirty(Collection<String> genres) {
+        long now = System.currentTimeMillis();
+        genres.stream()
+                .filter(topMovies::containsKey)
+                .forEach(genre -> dirtyGenres.putIfAbsent(genre, now));
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.genre-index.refresh-interval-ms:5000}")
+    public void refreshDirtyGenres() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : List.copyOf(dirtyGenres.entrySet())) {
+            if (now - entry.getValue() < settleMillis) {
+                continue;
+            }
+            // 새로 읽기 전에 표시를 지워서, 읽는 도중 들어온 변경은 다음 주기에 다시 반영
+            if (dirtyGenres.remove(entry.getKey(), entry.getValue())) {
+                refresh(entry.getKey());
+            }
+        }
+    }
+
+    // 리뷰 수, 신규/삭제 영화 등 좋아요 외 변경분 반영
+    @Scheduled(fixedDelayString = "${recommend.genre-index.full-refresh-interval-ms:600000}")
+    public void refreshAll() {
+        topMovies.keySet().forEach(this::refresh);
+    }
+
+    private void refresh(String genre) {
+        try {
+            topMovies.put(genre, load(genre));
+        } catch (Exception e) {
+            log.error("장르 상위 영화 인덱스 갱신 실패: genre = {}", genre, e);
+        }
+    }
+
+    private List<MovieSimpleResponse> load(String genre) {
+        return List.copyOf(movieRepository.findTopMoviesByCategory(genre, PageRequest.of(0, indexSize)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.admin.repository.RecommendRepository;
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 메인 관리자 추천 영화 캐시 (추천 테이블 기준 한 번의 프로젝션 조회)
+ * 좋아요 수는 DB 에 반영된 값 그대로 담고, 아직 반영되지 않은 증감은 MovieService 에서 조회할 때마다 더한다.
+ * 추천 목록이 바뀌거나 추천 영화의 좋아요 증감이 DB 에 반영되면 MainAdminRecommendChangedEventListener 에서 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MainAdminRecommendCacheService {
+
+    private final RecommendRepository recommendRepository;
+
+    @Cacheable(value = "mainAdminRecommendCache", cacheManager = "mainAdminRecommendCacheManager", sync = true)
+    @Transactional(readOnly = true)
+    public List<MovieSimpleResponse> getMainAdminRecommend() {
+        return recommendRepository.findRecommendMovies();
+    }
+
+    @CacheEvict(value = "mainAdminRecommendCache", cacheManager = "mainAdminRecommendCacheManager")
+    public void evict() {
+    }
+}
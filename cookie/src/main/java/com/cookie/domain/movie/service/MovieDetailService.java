@@ -0,0 +1,101 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.domain.actor.dto.response.ActorResponse;
+import com.cookie.domain.actor.repository.ActorRepository;
+import com.cookie.domain.category.dto.CategoryResponse;
+import com.cookie.domain.director.dto.response.DirectorResponse;
+import com.cookie.domain.movie.dto.response.MovieResponse;
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.entity.MovieImage;
+import com.cookie.domain.movie.repository.MovieCategoryRepository;
+import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.review.dto.response.ReviewResponse;
+import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.global.service.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 영화 상세 페이지의 사용자와 무관한 부분(영화, 이미지, 감독, 배우, 카테고리, 상위 리뷰, 리뷰 수)
+ * 영화별로 한 번 만들어 캐시하고, MovieDetailChangedEvent 로 무효화한다.
+ * 좋아요 수는 LikeCountBuffer 에서 지연 반영되므로 캐시 TTL(1분) 안에서 늦게 보일 수 있다.
+ * 사용자별 좋아요 여부는 MovieService 에서 요청마다 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieDetailService {
+
+    private static final int TOP_REVIEW_SIZE = 4;
+
+    private final MovieRepository movieRepository;
+    private final ActorRepository actorRepository;
+    private final ReviewRepository reviewRepository;
+    private final MovieCategoryRepository movieCategoryRepository;
+    private final LikeCountBuffer likeCountBuffer;
+
+    @Cacheable(value = "movieDetailCache", key = "#movieId", cacheManager = "movieDetailCacheManager", sync = true)
+    @Transactional(readOnly = true)
+    public MovieResponse getMovieDetail(Long movieId) {
+        // 1. 영화 + 감독 + 국가 + 이미지 (fetch join)
+        Movie movie = movieRepository.findDetailById(movieId)
+                .orElseThrow(() -> new IllegalArgumentException("Movie not found with id: " + movieId));
+
+        DirectorResponse directorResponse = movie.getDirector() == null ? null : DirectorResponse.builder()
+                .id(movie.getDirector().getId())
+                .name(movie.getDirector().getName())
+                .profileImage(movie.getDirector().getProfileImage())
+                .build();
+
+        // 2. 배우
+        List<ActorResponse> actors = actorRepository.findActorsByMovieId(movieId);
+
+        // 3. 최신 리뷰 상위 4개만 DB 에서 조회 (숨김 리뷰 제외)
+        List<ReviewResponse> reviews = reviewRepository.findLatestVisibleByMovieId(movieId, PageRequest.of(0, TOP_REVIEW_SIZE)).stream()
+                .map(review -> ReviewResponse.fromReview(review,
+                        likeCountBuffer.reviewLikes(review.getId(), review.getReviewLike()), false, review.getCommentCount()))
+                .toList();
+
+        // 4. 카테고리
+        List<CategoryResponse> categories = movieCategoryRepository.findByMovieIdWithCategory(movieId).stream()
+                .map(movieCategory -> new CategoryResponse(
+                        movieCategory.getCategory().getId(),
+                        movieCategory.getCategory().getMainCategory(),
+                        movieCategory.getCategory().getSubCategory()
+                ))
+                .toList();
+
+        return MovieResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .poster(movie.getPoster())
+                .plot(movie.getPlot())
+                .releasedAt(movie.getReleasedAt())
+                .runtime(movie.getRuntime())
+                .score(movie.getScore())
+                .likes(likeCountBuffer.movieLikes(movie.getId(), movie.getMovieLikes()))
+                .certification(movie.getCertification())
+                .images(movie.getMovieImages().stream()
+                        .map(MovieImage::getUrl)
+                        .toList())
+                .video(movie.getYoutubeUrl())
+                .country(movie.getCountry() != null ? movie.getCountry().getName() : null)
+                .director(directorResponse)
+                .actors(actors)
+                .reviews(reviews)
+                .categories(categories)
+                .isLiked(false)
+                // 평점 집계 컬럼(숨김 제외 리뷰 수)을 그대로 사용
+                .totalReviews(movie.getReviewCount())
+                .build();
+    }
+
+    @CacheEvict(value = "movieDetailCache", key = "#movieId", cacheManager = "movieDetailCacheManager")
+    public void evict(Long movieId) {
+    }
+}
@@ -9,6 +9,7 @@ import com.cookie.domain.movie.repository.MovieRepository;
 import com.cookie.domain.movie.repository.MovieMonthRankingRepository;
 import com.cookie.domain.search.dto.response.MovieDateTimeTMDB;
 import com.cookie.domain.search.dto.response.MovieDateTimeTMDBResponse;
+import com.cookie.domain.search.service.SearchMovieMonthRankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
@@ -39,6 +40,7 @@ public class MovieLatestService {
     private final MovieRepository movieRepository;
     private final AdminMovieCreateService adminMovieCreateService;
     private final TMDBService tmdbService;
+    private final SearchMovieMonthRankingService searchMovieMonthRankingService;
 
     private final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -77,6 +79,7 @@ public class MovieLatestService {
                 .collect(Collectors.toList());
 
         saveWeekMovies(addMovieWeekDates, movieDateTimeTMDBS);
+        searchMovieMonthRankingService.refreshAfterCommit();
     }
 
     private List<MovieDateTimeTMDB> fetchMoviesDailyFromTMDB() {
@@ -1,52 +1,50 @@
 package com.cookie.domain.movie.service;
 
-import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.repository.MovieRepository;
-import com.cookie.domain.review.entity.Review;
-import com.cookie.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
+/**
+ * 영화 평점 증분 집계
+ * 영화별 (점수 합, 리뷰 수)를 리뷰 작성/수정/삭제/숨김 시점에 갱신하고 평점은 그 값으로 계산한다.
+ * 숨김 처리된 리뷰는 평점에서 제외한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MovieRatingService {
     private final MovieRepository movieRepository;
-    private final ReviewRepository reviewRepository;
 
     @Transactional
-    public void updateMovieRatings() {
-        List<Movie> movies = movieRepository.findAll();
-
-        int batchSize = 100;
-        int totalMovies = movies.size();
-
-        for (int i = 0; i < totalMovies; i += batchSize) {
-            int endIndex = Math.min(i + batchSize, totalMovies);
-            List<Movie> movieBatch = movies.subList(i, endIndex);
+    public void addReviewScore(Long movieId, int movieScore) {
+        movieRepository.applyReviewScore(movieId, movieScore, 1);
+    }
 
-            for (Movie movie : movieBatch) {
-                double averageRating = calculateAverageRating(movie);
-                movie.updateScore(averageRating);
-            }
+    @Transactional
+    public void removeReviewScore(Long movieId, int movieScore) {
+        movieRepository.applyReviewScore(movieId, -movieScore, -1);
+    }
 
-            movieRepository.saveAll(movieBatch);
+    @Transactional
+    public void changeReviewScore(Long movieId, int oldScore, int newScore) {
+        if (oldScore != newScore) {
+            movieRepository.applyReviewScore(movieId, newScore - oldScore, 0);
         }
     }
 
-    private double calculateAverageRating(Movie movie) {
-        List<Review> reviews = reviewRepository.findByMovieId(movie.getId());
-        if (reviews.isEmpty()) {
-            return 0.0;
+    /**
+     * 전체 평점을 리뷰 테이블 기준으로 한 번에 재계산 (증분 집계 검증용)
+     * @return 보정된 영화 수
+     */
+    @Transactional
+    public int updateMovieRatings() {
+        int corrected = movieRepository.recomputeRatings();
+        if (corrected > 0) {
+            log.warn("증분 집계와 어긋난 영화 평점 보정: {}건", corrected);
         }
-        return reviews.stream()
-                .mapToInt(Review::getMovieScore)
-                .average()
-                .orElse(0.0);
+        return corrected;
     }
 
 }
@@ -0,0 +1,128 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
+import com.cookie.domain.movie.entity.MovieNeighbor;
+import com.cookie.domain.movie.repository.MovieLikeRepository;
+import com.cookie.domain.movie.repository.MovieNeighborRepository;
+import com.cookie.domain.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 맞춤 영화 추천
+ * 최근 좋아요한 영화들의 유사 영화(movie_neighbor)를 최근일수록 큰 가중치로 합산해 추천하고,
+ * 좋아요 기록이나 이웃이 부족하면 장르 점수 기반 추천(MovieService)으로 나머지를 채운다.
+ * 요청당 인덱스 조회 3~4회만 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MovieRecommendService {
+
+    private static final int RECOMMEND_SIZE = 9;
+
+    private final MovieService movieService;
+    private final MovieLikeRepository movieLikeRepository;
+    private final MovieNeighborRepository movieNeighborRepository;
+    private final MovieRepository movieRepository;
+
+    @Value("${recommend.similarity.recent-like-size:20}")
+    private int recentLikeSize;
+
+    @Value("${recommend.similarity.recency-decay:0.9}")
+    private double recencyDecay;
+
+    public List<MovieSimpleResponse> getRecommendedMovies(Long userId) {
+        if (userId == null) {
+            return movieService.getRecommendedMovies(null);
+        }
+
+        List<MovieSimpleResponse> recommendedMovies = new ArrayList<>(findNeighborMovies(userId));
+        if (recommendedMovies.size() >= RECOMMEND_SIZE) {
+            return recommendedMovies;
+        }
+
+        List<MovieSimpleResponse> genreMovies;
+        try {
+            genreMovies = movieService.getRecommendedMovies(userId);
+        } catch (IllegalArgumentException e) {
+            // 장르 점수가 없는 사용자는 유사 영화 결과만 반환
+            if (recommendedMovies.isEmpty()) {
+                throw e;
+            }
+            return recommendedMovies;
+        }
+
+        Set<Long> seenMovieIds = recommendedMovies.stream()
+                .map(MovieSimpleResponse::getId)
+                .collect(Collectors.toSet());
+        for (MovieSimpleResponse movie : genreMovies) {
+            if (recommendedMovies.size() >= RECOMMEND_SIZE) {
+                break;
+            }
+            if (seenMovieIds.add(movie.getId())) {
+                recommendedMovies.add(movie);
+            }
+        }
+        return recommendedMovies;
+    }
+
+    private List<MovieSimpleResponse> findNeighborMovies(Long userId) {
+        // 1. 최근 좋아요 영화별 가중치 (가장 최근이 1, 이후 recencyDecay 배씩 감소)
+        List<Long> recentMovieIds = movieLikeRepository.findRecentMovieIdsByUserId(userId, PageRequest.of(0, recentLikeSize));
+        if (recentMovieIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> weights = new HashMap<>();
+        double weight = 1.0;
+        for (Long movieId : recentMovieIds) {
+            weights.putIfAbsent(movieId, weight);
+            weight *= recencyDecay;
+        }
+
+        // 2. 이웃 영화 점수 = sum(가중치 * 유사도)
+        Map<Long, Double> scores = new HashMap<>();
+        for (MovieNeighbor neighbor : movieNeighborRepository.findByMovieIdIn(weights.keySet())) {
+            if (weights.containsKey(neighbor.getNeighborMovieId())) {
+                continue;
+            }
+            scores.merge(neighbor.getNeighborMovieId(), weights.get(neighbor.getMovieId()) * neighbor.getSimilarity(), Double::sum);
+        }
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // 3. 상위 후보 중 예전에 좋아요한 영화 제외
+        List<Long> candidates = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(RECOMMEND_SIZE * 2L)
+                .map(Map.Entry::getKey)
+                .toList();
+        Set<Long> likedMovieIds = new HashSet<>(movieLikeRepository.findLikedMovieIds(userId, candidates));
+        List<Long> movieIds = candidates.stream()
+                .filter(movieId -> !likedMovieIds.contains(movieId))
+                .limit(RECOMMEND_SIZE)
+                .toList();
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 4. 점수 순서를 유지해 영화 정보 매핑
+        Map<Long, MovieSimpleResponse> movies = movieRepository.findSimpleMoviesByIds(movieIds).stream()
+                .collect(Collectors.toMap(MovieSimpleResponse::getId, Function.identity()));
+        return movieIds.stream()
+                .map(movies::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,39 +1,32 @@
 package com.cookie.domain.movie.service;
 
 
-import com.cookie.admin.dto.response.RecommendResponse;
-import com.cookie.admin.entity.AdminMovieRecommend;
-import com.cookie.admin.service.recommend.AdminRecommendService;
-import com.cookie.domain.actor.dto.response.ActorResponse;
-import com.cookie.domain.actor.repository.ActorRepository;
-import com.cookie.domain.category.dto.CategoryResponse;
 import com.cookie.domain.category.repository.CategoryRepository;
 import com.cookie.domain.category.entity.Category;
 import com.cookie.domain.category.request.CategoryRequest;
-import com.cookie.domain.director.dto.response.DirectorResponse;
 import com.cookie.domain.director.service.DirectorService;
 import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse;
 import com.cookie.domain.matchup.service.MatchUpService;
 import com.cookie.domain.movie.dto.response.*;
 import com.cookie.domain.movie.entity.Movie;
-import com.cookie.domain.movie.entity.MovieImage;
 import com.cookie.domain.movie.entity.MovieLike;
 import com.cookie.domain.movie.repository.MovieCategoryRepository;
 import com.cookie.domain.movie.repository.MovieLikeRepository;
 import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.review.dto.request.ReviewCursor;
+import com.cookie.domain.review.dto.response.MovieReviewCursorResponse;
 import com.cookie.domain.review.dto.response.MovieReviewResponse;
+import com.cookie.domain.review.dto.response.ReviewCard;
 import com.cookie.domain.review.dto.response.ReviewResponse;
 import com.cookie.domain.review.entity.Review;
 import com.cookie.domain.review.repository.ReviewLikeRepository;
 import com.cookie.domain.review.repository.ReviewRepository;
-import com.cookie.domain.user.dto.response.GenreScoreResponse;
-import com.cookie.domain.user.dto.response.MovieReviewUserResponse;
+import com.cookie.domain.review.service.ReviewCardAssembler;
 import com.cookie.domain.user.dto.response.ReviewUserResponse;
-import com.cookie.domain.user.entity.User;
-import com.cookie.domain.user.repository.GenreScoreRepository;
+import com.cookie.domain.user.service.GenrePreferenceService;
+import com.cookie.global.service.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -53,12 +46,15 @@ public class MovieService {
     private final MovieCategoryRepository movieCategoryRepository;
     private final MovieLikeRepository movieLikeRepository;
     private final ReviewLikeRepository reviewLikeRepository;
-    private final GenreScoreRepository genreScoreRepository;
+    private final GenrePreferenceService genrePreferenceService;
+    private final GenreTopMovieIndex genreTopMovieIndex;
     private final CategoryRepository categoryRepository;
     private final MatchUpService matchUpService;
     private final DirectorService directorService;
-    private final ActorRepository actorRepository;
-    private final AdminRecommendService adminRecommendService;
+    private final MainAdminRecommendCacheService mainAdminRecommendCacheService;
+    private final ReviewCardAssembler reviewCardAssembler;
+    private final LikeCountBuffer likeCountBuffer;
+    private final MovieDetailService movieDetailService;
 
 
     @Transactional(readOnly = true)
@@ -68,7 +64,7 @@ public class MovieService {
 
         log.info("Retrieved movie: movieId = {}", movieId);
 
-        Page<Review> reviewsPage = reviewRepository.findReviewsByMovieId(movieId, pageable);
+        Page<ReviewCard> reviewsPage = reviewRepository.findReviewsByMovieId(movieId, pageable);
         log.info("Retrieved {} reviews for movieId = {}", reviewsPage.getContent().size(), movieId);
 
         return buildReviewOfMovieResponse(movie, reviewsPage, userId);
@@ -81,7 +77,7 @@ public class MovieService {
 
         log.info("Retrieved movie: movieId = {}", movieId);
 
-        Page<Review> reviewsPage = reviewRepository.findSpoilerReviewsByMovieId(movieId, pageable);
+        Page<ReviewCard> reviewsPage = reviewRepository.findSpoilerReviewsByMovieId(movieId, pageable);
         log.info("Retrieved {} reviews for movieId = {}", reviewsPage.getContent().size(), movieId);
 
         return buildReviewOfMovieResponse(movie, reviewsPage, userId);
@@ -94,7 +90,7 @@ public class MovieService {
 
         log.info("Retrieved movie: movieId = {}", movieId);
 
-        Page<Review> reviewsPage = reviewRepository.findMostLikedReviewsByMovieId(movieId, pageable);
+        Page<ReviewCard> reviewsPage = reviewRepository.findMostLikedReviewsByMovieId(movieId, pageable);
         log.info("Retrieved {} reviews for movieId = {}", reviewsPage.getContent().size(), movieId);
 
         return buildReviewOfMovieResponse(movie, reviewsPage, userId);
@@ -107,38 +103,53 @@ public class MovieService {
 
         log.info("Retrieved movie: movieId = {}", movieId);
 
-        Page<Review> reviewsPage = reviewRepository.findMostLikedSpoilerReviewsByMovieId(movieId, pageable);
+        Page<ReviewCard> reviewsPage = reviewRepository.findMostLikedSpoilerReviewsByMovieId(movieId, pageable);
         log.info("Retrieved {} reviews for movieId = {}", reviewsPage.getContent().size(), movieId);
 
         return buildReviewOfMovieResponse(movie, reviewsPage, userId);
     }
 
 
-    private ReviewOfMovieResponse buildReviewOfMovieResponse(Movie movie, Page<Review> reviewsPage, Long userId) {
-        List<MovieReviewResponse> reviewResponses = reviewsPage.stream()
-                .map(review -> {
-                    User user = review.getUser();
-                    MovieReviewUserResponse userResponse = new MovieReviewUserResponse(
-                            user.getNickname(),
-                            user.getProfileImage(),
-                            user.getMainBadge() != null ? user.getMainBadge().getBadgeImage() : null,
-                            user.getMainBadge() != null ? user.getMainBadge().getName() : null
-                    );
-
-                    boolean likedByUser = userId != null && reviewLikeRepository.existsByReviewIdAndUserId(review.getId(), userId);
-
-                    return new MovieReviewResponse(
-                            review.getId(),
-                            review.getContent(),
-                            review.getReviewLike(),
-                            review.getMovieScore(),
-                            review.getCreatedAt(),
-                            review.getUpdatedAt(),
-                            userResponse,
-                            likedByUser,
-                            review.isSpoiler()
-                    );
-                }).toList();
+    @Transactional(readOnly = true)
+    public MovieReviewCursorResponse getMovieReviewFeed(Long movieId, Long userId, boolean mostLiked, boolean spoilerOnly,
+                                                        String cursor, int size, boolean withTotal) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new IllegalArgumentException("not found movieId: " + movieId);
+        }
+
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        int pageSize = ReviewCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewCard> reviews;
+        if (mostLiked) {
+            reviews = spoilerOnly
+                    ? reviewRepository.findMostLikedSpoilerByMovieIdAfter(movieId, reviewCursor.getReviewLike(), reviewCursor.getId(), limit)
+                    : reviewRepository.findMostLikedByMovieIdAfter(movieId, reviewCursor.getReviewLike(), reviewCursor.getId(), limit);
+        } else {
+            reviews = spoilerOnly
+                    ? reviewRepository.findSpoilerByMovieIdAfter(movieId, reviewCursor.getCreatedAt(), reviewCursor.getId(), limit)
+                    : reviewRepository.findByMovieIdAfter(movieId, reviewCursor.getCreatedAt(), reviewCursor.getId(), limit);
+        }
+        log.info("Retrieved {} reviews for movieId = {} after cursor", reviews.size(), movieId);
+
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewCard> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewCard last = page.get(page.size() - 1);
+            nextCursor = mostLiked
+                    ? ReviewCursor.ofReviewLike(last.getReviewLike(), last.getReviewId()).encode()
+                    : ReviewCursor.ofCreatedAt(last.getCreatedAt(), last.getReviewId()).encode();
+        }
+        Long totalReviews = withTotal ? reviewRepository.countVisibleReviewsByMovieId(movieId, spoilerOnly) : null;
+
+        return new MovieReviewCursorResponse(reviewCardAssembler.toMovieReviewResponses(page, userId), nextCursor, hasNext, totalReviews);
+    }
+
+    private ReviewOfMovieResponse buildReviewOfMovieResponse(Movie movie, Page<ReviewCard> reviewsPage, Long userId) {
+        List<MovieReviewResponse> reviewResponses = reviewCardAssembler.toMovieReviewResponses(reviewsPage.getContent(), userId);
 
         List<String> subCategories = movieCategoryRepository.findByMovieIdWithCategory(movie.getId()).stream()
                 .map(movieCountry -> movieCountry.getCategory().getSubCategory())
@@ -176,7 +187,7 @@ public class MovieService {
                         .poster(movieLike.getMovie().getPoster())
                         .releasedAt(movieLike.getMovie().getReleasedAt())
                         .country(movieLike.getMovie().getCountry().getName())
-                        .likes(movieLike.getMovie().getMovieLikes())
+                        .likes(likeCountBuffer.movieLikes(movieLike.getMovie().getId(), movieLike.getMovie().getMovieLikes()))
                         .reviews((long) (movieLike.getMovie().getReviews() != null ? movieLike.getMovie().getReviews().size() : 0))
                         .build())
                 .collect(Collectors.toList());
@@ -192,67 +203,28 @@ public class MovieService {
 
     @Transactional(readOnly = true)
     public MovieResponse getMovieDetails(Long movieId, Long userId) {
-        // 1. 기본 영화 정보 가져오기
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new IllegalArgumentException("Movie not found with id: " + movieId));
-
-        // 2. 영화 이미지 가져오기
-        List<MovieImage> movieImages = movieRepository.findByIdWithImages(movieId)
-                .orElseThrow(() -> new IllegalArgumentException("Movie Images not found"))
-                .getMovieImages();
-
-        // 3. 감독 정보 가져오기
-        DirectorResponse directorResponse = DirectorResponse.builder()
-                .id(movie.getDirector().getId())
-                .name(movie.getDirector().getName())
-                .profileImage(movie.getDirector().getProfileImage())
-                .build();
-
-        List<ActorResponse> actors = actorRepository.findActorsByMovieId(movieId);
-
-        // 4. 리뷰 가져오기
-        List<ReviewResponse> reviews = reviewRepository.findReviewsByMovieId(movieId).stream()
-                .limit(4) // 최대 4개의 리뷰만 가져옴
-                .map(review -> {
-                    return ReviewResponse.fromReview(review, userId != null && reviewRepository.existsById(userId),Long.valueOf(review.getReviewComments().size()));
+        // 1. 사용자와 무관한 상세 정보 (캐시)
+        MovieResponse movieDetail = movieDetailService.getMovieDetail(movieId);
+        if (userId == null) {
+            return movieDetail;
+        }
 
-                })
+        // 2. 사용자별 영화 / 리뷰 좋아요 여부만 요청마다 조회
+        boolean isLiked = movieLikeRepository.isMovieLikedByUser(movieId, userId);
+        List<Long> reviewIds = movieDetail.getReviews().stream()
+                .map(ReviewResponse::getReviewId)
                 .toList();
+        Set<Long> likedReviewIds = reviewIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewIds(userId, reviewIds));
 
-        // 5. 카테고리 리스트
-        List<CategoryResponse> categories = movieCategoryRepository.findByMovieIdWithCategory(movieId).stream()
-                .map(movieCategory -> new CategoryResponse(
-                        movieCategory.getCategory().getId(),
-                        movieCategory.getCategory().getMainCategory(),
-                        movieCategory.getCategory().getSubCategory()
-                ))
-                .collect(Collectors.toList());
-
-        // 6. 사용자가 해당 영화에 좋아요를 눌렀는지 안 눌렀는지 여부
-        boolean isLiked = (userId != null) && movieLikeRepository.isMovieLikedByUser(movieId, userId);
-
-        // 7. MovieResponse 생성
-        return MovieResponse.builder()
-                .id(movie.getId())
-                .title(movie.getTitle())
-                .poster(movie.getPoster())
-                .plot(movie.getPlot())
-                .releasedAt(movie.getReleasedAt())
-                .runtime(movie.getRuntime())
-                .score(movie.getScore())
-                .likes(movie.getMovieLikes())
-                .certification(movie.getCertification())
-                .images(movieImages.stream()
-                        .map(MovieImage::getUrl)
-                        .collect(Collectors.toList()))
-                .video(movie.getYoutubeUrl())
-                .country(movie.getCountry().getName())
-                .director(directorResponse)
-                .actors(actors)
-                .reviews(reviews) // 리뷰 리스트 추가
-                .categories(categories)
+        return movieDetail.toBuilder()
                 .isLiked(isLiked)
-                .totalReviews(reviewRepository.countByMovieId(movieId))
+                .reviews(movieDetail.getReviews().stream()
+                        .map(review -> review.toBuilder()
+                                .likedByUser(likedReviewIds.contains(review.getReviewId()))
+                                .build())
+                        .toList())
                 .build();
     }
 
@@ -276,7 +248,7 @@ public class MovieService {
                         .poster(movie.getPoster()) // 포스터 URL
                         .releasedAt(movie.getReleasedAt()) // 출시일
                         .country(movie.getCountry().getName()) // 국가
-                        .likes(movie.getMovieLikes()) // 좋아요 수
+                        .likes(likeCountBuffer.movieLikes(movie.getId(), movie.getMovieLikes())) // 좋아요 수
                         .reviews((long) (movie.getReviews() != null ? movie.getReviews().size() : 0)) // 리뷰 수
                         .build())
                 .collect(Collectors.toList());
@@ -292,14 +264,13 @@ public class MovieService {
 
 
     public List<MovieSimpleResponse> getRecommendedMovies(Long userId) {
-        // 1. 사용자 장르 점수 가져오기
-        GenreScoreResponse genreScoreResponse = genreScoreRepository.findGenreScoresByUserId(userId);
-        if (genreScoreResponse == null) {
+        // 1. 사용자 장르 점수 가져오기 (배치 반영분 + 오늘 쌓인 점수)
+        Map<String, Long> genreMap = genrePreferenceService.getGenreScores(userId);
+        if (genreMap == null) {
             throw new IllegalArgumentException("No genre scores found for user ID: " + userId);
         }
 
-        // 2. 장르 점수 맵핑
-        Map<String, Long> genreMap = mapGenreScores(genreScoreResponse);
+        // 2. 장르 점수 정렬
         List<Map.Entry<String, Long>> sortedGenres = genreMap.entrySet().stream()
                 .filter(entry -> entry.getValue() > 0) // 0점 이상인 장르만
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
@@ -339,7 +310,8 @@ public class MovieService {
     }
 
     private List<MovieSimpleResponse> fetchMoviesForGenre(String genre, int limit, Set<Long> seenMovieIds) {
-        List<MovieSimpleResponse> movies = movieRepository.findTopMoviesByCategory(genre);
+        // 앞선 장르에서 이미 뽑힌 영화만큼 더 읽어서 중복을 건너뛴다
+        List<MovieSimpleResponse> movies = genreTopMovieIndex.getTopMovies(genre, limit + seenMovieIds.size());
         List<MovieSimpleResponse> filteredMovies = new ArrayList<>();
 
         for (MovieSimpleResponse movie : movies) {
@@ -356,59 +328,18 @@ public class MovieService {
     }
 
 
-    private Map<String, Long> mapGenreScores(GenreScoreResponse genreScoreResponse) {
-        Map<String, Long> genreMap = new HashMap<>();
-        genreMap.put("로맨스", genreScoreResponse.getRomance());
-        genreMap.put("공포", genreScoreResponse.getHorror());
-        genreMap.put("코미디", genreScoreResponse.getComedy());
-        genreMap.put("액션", genreScoreResponse.getAction());
-        genreMap.put("판타지", genreScoreResponse.getFantasy());
-        genreMap.put("애니메이션", genreScoreResponse.getAnimation());
-        genreMap.put("범죄", genreScoreResponse.getCrime());
-        genreMap.put("SF", genreScoreResponse.getSf());
-        genreMap.put("음악", genreScoreResponse.getMusic());
-        genreMap.put("스릴러", genreScoreResponse.getThriller());
-        genreMap.put("전쟁", genreScoreResponse.getWar());
-        genreMap.put("다큐멘터리", genreScoreResponse.getDocumentary());
-        genreMap.put("드라마", genreScoreResponse.getDrama());
-        genreMap.put("가족", genreScoreResponse.getFamily());
-        genreMap.put("역사", genreScoreResponse.getHistory());
-        genreMap.put("미스터리", genreScoreResponse.getMistery());
-        genreMap.put("TV 영화", genreScoreResponse.getTvMovie());
-        genreMap.put("서부극", genreScoreResponse.getWestern());
-        genreMap.put("모험", genreScoreResponse.getAdventure());
-        return genreMap;
+    /**
+     * 메인 관리자 추천 영화 (캐시된 목록 + 아직 DB 에 반영되지 않은 좋아요 증감)
+     */
+    public List<MovieSimpleResponse> getMainAdminRecommend() {
+        return mainAdminRecommendCacheService.getMainAdminRecommend().stream()
+                .map(movie -> movie.toBuilder()
+                        .likes(likeCountBuffer.movieLikes(movie.getId(), movie.getLikes()))
+                        .build())
+                .toList();
     }
 
 
-   public List<MovieSimpleResponse> getMainAdminRecommend(){
-       List<RecommendResponse> recommendMovies = adminRecommendService.getRecommendMovies();
-       List<MovieSimpleResponse> movieSimpleResponses = recommendMovies.stream()
-            .map(recommendResponse -> {
-                // movieId로 Movie 조회
-                Movie movie = movieRepository.findById(recommendResponse.getMovieId())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "Movie not found with id: " + recommendResponse.getMovieId()));
-
-                // Movie 데이터를 기반으로 MovieSimpleResponse 생성
-                return MovieSimpleResponse.builder()
-                        .id(movie.getId()) // Movie ID
-                        .title(movie.getTitle()) // 제목
-                        .poster(movie.getPoster()) // 포스터
-                        .releasedAt(movie.getReleasedAt()) // 개봉일
-                        .country(movie.getCountry().getName()) // 제작 국가
-                        .likes(movieRepository.countLikesByMovieId(movie.getId())) // 좋아요 수
-                        .reviews((long) movie.getReviews().size()) // 리뷰 수
-                        .build();
-            })
-            .toList();
-
-
-        return movieSimpleResponses;
-
-   }
-
-
 
 
 }
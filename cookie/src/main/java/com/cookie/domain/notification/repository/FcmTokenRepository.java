@@ -3,6 +3,9 @@ package com.cookie.domain.notification.repository;
 import com.cookie.domain.notification.entity.FcmToken;
 import com.cookie.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,8 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
 
     Optional<FcmToken> findByToken(String token);
     Optional<FcmToken> findByUser(User user);
+
+    @Modifying
+    @Query("DELETE FROM FcmToken ft WHERE ft.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") List<String> tokens);
 }
@@ -0,0 +1,30 @@
+package com.cookie.domain.notification.sender;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 테스트용 전송기 (notification.push.sender=fake)
+ * 실제 FCM 호출 없이 "invalid" 로 시작하는 토큰은 등록 해제된 토큰으로 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> tokens, Map<String, String> data) {
+        log.info("[fake] 멀티캐스트 푸쉬 전송: size {}, data {}", tokens.size(), data);
+        return tokens.stream()
+                .map(token -> new PushSendResult(token, token.startsWith(INVALID_TOKEN_PREFIX)
+                        ? PushSendResult.Status.INVALID_TOKEN
+                        : PushSendResult.Status.SUCCESS))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.cookie.domain.notification.sender;
+
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<PushSendResult> sendMulticast(List<String> tokens, Map<String, String> data) {
+        MulticastMessage message = MulticastMessage.builder()
+                .setWebpushConfig(WebpushConfig.builder()
+                        .putHeader("Urgency", "high")
+                        .build())
+                .putAllData(data)
+                .addAllTokens(tokens)
+                .build();
+
+        List<PushSendResult> results = new ArrayList<>(tokens.size());
+        try {
+            List<SendResponse> responses = firebaseMessaging.sendEachForMulticast(message).getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                results.add(new PushSendResult(tokens.get(i), toStatus(responses.get(i))));
+            }
+        } catch (FirebaseMessagingException e) {
+            log.error("멀티캐스트 푸쉬 전송 실패: size {}, error: {}", tokens.size(), e.getMessage());
+            tokens.forEach(token -> results.add(new PushSendResult(token, PushSendResult.Status.FAILED)));
+        }
+        return results;
+    }
+
+    private PushSendResult.Status toStatus(SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushSendResult.Status.SUCCESS;
+        }
+
+        MessagingErrorCode errorCode = response.getException().getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+            return PushSendResult.Status.INVALID_TOKEN;
+        }
+        return PushSendResult.Status.FAILED;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cookie.domain.notification.sender;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PushSendResult {
+    private String token;
+    private Status status;
+
+    public enum Status {
+        SUCCESS,
+        INVALID_TOKEN, // 만료되었거나 등록 해제된 토큰 -> 삭제 대상
+        FAILED
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    public boolean isInvalidToken() {
+        return status == Status.INVALID_TOKEN;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cookie.domain.notification.sender;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멀티캐스트 푸쉬 전송 인터페이스
+ * 토큰 순서와 동일한 순서로 토큰별 전송 결과를 반환한다.
+ */
+public interface PushSender {
+
+    int MAX_MULTICAST_SIZE = 500;
+
+    List<PushSendResult> sendMulticast(List<String> tokens, Map<String, String> data);
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -64,4 +65,13 @@ public class FcmTokenService {
             log.info("userId:{} 에 삭제 할 FCM 토큰이 존재하지 않습니다.", userId);
         }
     }
+
+    /**
+     * FCM 전송 결과 등록 해제된 토큰 일괄 삭제
+     */
+    @Transactional
+    public void deleteInvalidTokens(List<String> tokens) {
+        int deleted = fcmTokenRepository.deleteAllByTokenIn(tokens);
+        log.info("유효하지 않은 FCM 토큰 삭제: requested = {}, deleted = {}", tokens.size(), deleted);
+    }
 }
@@ -3,24 +3,29 @@ package com.cookie.domain.notification.service;
 
 import com.cookie.domain.notification.dto.request.NotificationRequest;
 import com.cookie.domain.notification.dto.response.NotificationResponse;
-import com.cookie.domain.notification.entity.FcmToken;
 import com.cookie.domain.notification.entity.enums.Status;
 import com.cookie.domain.notification.repository.FcmTokenRepository;
+import com.cookie.domain.notification.sender.PushSendResult;
+import com.cookie.domain.notification.sender.PushSender;
 import com.cookie.domain.user.entity.User;
 import com.cookie.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,43 +37,58 @@ public class NotificationService {
 
     private final UserRepository userRepository;
     private final FcmTokenRepository fcmTokenRepository;
-    private final FirebaseMessaging firebaseMessaging;
+    private final FcmTokenService fcmTokenService;
+    private final PushSender pushSender;
+    private final MeterRegistry meterRegistry;
     private final RedisTemplate<String, Object> template;
     private final ObjectMapper objectMapper;
     private static final String NOTIFICATION_KEY = "notifications:user:";
 
     /**
      * 푸쉬알림 전송
+     * 수신자를 최대 500개 토큰 단위의 멀티캐스트로 묶어 전송하고,
+     * 전송 성공한 수신자의 알림은 파이프라인으로 한 번에 Redis 에 저장한다.
      */
     @Async
     public void sendPushNotificationToUsers(Long senderId, Map<Long, String> tokenUserMap, String title, String body, Long reviewId) {
+        if (tokenUserMap.isEmpty()) {
+            return;
+        }
+
         User sender = userRepository.findById(senderId)
                 .orElseThrow(() -> new IllegalArgumentException("not found userId"));
         String senderProfileImage = sender.getProfileImage();
 
-        for (Map.Entry<Long, String> entry : tokenUserMap.entrySet()) {
-            Long recipientUserId = entry.getKey();
-            String token = entry.getValue();
+        Map<String, Long> tokenToUserId = new HashMap<>();
+        tokenUserMap.forEach((userId, token) -> tokenToUserId.put(token, userId));
+        List<String> tokens = new ArrayList<>(tokenToUserId.keySet());
 
-            log.info("푸쉬알림 수신자 아이디와 토큰: {}, {}", recipientUserId, token);
+        Map<String, String> data = Map.of("title", title, "body", body);
+        List<Long> deliveredUserIds = new ArrayList<>();
+        List<String> invalidTokens = new ArrayList<>();
 
-            Message message = Message.builder()
-                    .setWebpushConfig(WebpushConfig.builder()
-                            .putHeader("Urgency", "high")
-                            .build())
-                    .putData("title", title)
-                    .putData("body", body)
-                    .setToken(token)
-                    .build();
+        for (int from = 0; from < tokens.size(); from += PushSender.MAX_MULTICAST_SIZE) {
+            List<String> chunk = tokens.subList(from, Math.min(from + PushSender.MAX_MULTICAST_SIZE, tokens.size()));
 
-            try {
-                firebaseMessaging.send(message); // 푸쉬 알림 전송
-                log.info("푸쉬 알림 전송 성공: token {}", token);
-                saveUserNotificationToRedis(recipientUserId, body, senderProfileImage, reviewId);
-            } catch (FirebaseMessagingException e) {
-                log.error("푸쉬 알림 전송 실패: token {}, error: {}", token, e.getMessage());
+            List<PushSendResult> results = meterRegistry.timer("push.notification.batch")
+                    .record(() -> pushSender.sendMulticast(chunk, data));
+
+            for (PushSendResult result : results) {
+                if (result.isSuccess()) {
+                    deliveredUserIds.add(tokenToUserId.get(result.getToken()));
+                } else if (result.isInvalidToken()) {
+                    invalidTokens.add(result.getToken());
+                }
+                meterRegistry.counter("push.notification.sent", "result", result.getStatus().name().toLowerCase()).increment();
             }
         }
+        log.info("푸쉬 알림 전송 완료: total {}, success {}, invalid {}", tokens.size(), deliveredUserIds.size(), invalidTokens.size());
+
+        saveUserNotificationsToRedis(deliveredUserIds, body, senderProfileImage, reviewId);
+
+        if (!invalidTokens.isEmpty()) {
+            fcmTokenService.deleteInvalidTokens(invalidTokens);
+        }
     }
 
     /*
@@ -125,6 +145,43 @@ public class NotificationService {
     }
 
 
+    /*
+     * redis 알림 일괄 저장 (파이프라인)
+     */
+    private void saveUserNotificationsToRedis(List<Long> userIds, String body, String senderProfileImage, Long reviewId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            template.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    NotificationRequest notificationRequest = NotificationRequest.builder()
+                            .notificationId(UUID.randomUUID().toString())
+                            .body(body)
+                            .senderProfileImage(senderProfileImage)
+                            .timestamp(now)
+                            .reviewId(reviewId)
+                            .status(Status.UNREAD)
+                            .build();
+
+                    try {
+                        connection.listCommands().lPush(
+                                (NOTIFICATION_KEY + userId).getBytes(StandardCharsets.UTF_8),
+                                objectMapper.writeValueAsString(notificationRequest).getBytes(StandardCharsets.UTF_8));
+                    } catch (JsonProcessingException e) {
+                        log.error("Error serializing notification userId: {}", userId, e);
+                    }
+                }
+                return null;
+            });
+            log.info("알림 일괄 저장 성공 size: {}", userIds.size());
+        } catch (Exception e) {
+            log.error("Error saving notifications to Redis: {}", e.getMessage());
+        }
+    }
+
     /*
      * 읽음 처리 갱신
      */
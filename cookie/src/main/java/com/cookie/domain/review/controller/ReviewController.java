@@ -5,6 +5,7 @@ import com.cookie.domain.review.dto.request.CreateReviewRequest;
 import com.cookie.domain.review.dto.request.ReviewCommentRequest;
 import com.cookie.domain.review.dto.request.UpdateReviewRequest;
 import com.cookie.domain.review.dto.response.CreateReviewResponse;
+import com.cookie.domain.review.dto.response.ReviewCursorResponse;
 import com.cookie.domain.review.dto.response.ReviewDetailResponse;
 import com.cookie.domain.review.dto.response.ReviewListResponse;
 import com.cookie.domain.review.service.ReviewService;
@@ -81,6 +82,34 @@ public class ReviewController {
         return ApiUtil.success(reviewList);
     }
 
+    @Operation(summary = "영화 리뷰 리스트 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReviewCursorResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ApiSuccess<?> getReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+                                       @RequestParam(name = "cursor", required = false) String cursor,
+                                       @RequestParam(name = "size", defaultValue = "10") int size,
+                                       @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        ReviewCursorResponse reviewFeed = reviewService.getReviewFeed(userId, false, cursor, size, withTotal);
+        return ApiUtil.success(reviewFeed);
+    }
+
+    @Operation(summary = "영화 스포일러 리뷰 리스트 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReviewCursorResponse.class)))
+    })
+    @GetMapping("/spoiler/cursor")
+    public ApiSuccess<?> getSpoilerReviewFeed(@AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+                                              @RequestParam(name = "cursor", required = false) String cursor,
+                                              @RequestParam(name = "size", defaultValue = "10") int size,
+                                              @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        Long userId = (customOAuth2User != null) ? customOAuth2User.getId() : null;
+        ReviewCursorResponse reviewFeed = reviewService.getReviewFeed(userId, true, cursor, size, withTotal);
+        return ApiUtil.success(reviewFeed);
+    }
+
     @Operation(summary = "리뷰 삭제", responses = {
             @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
                     schema = @Schema(type = "string", example = "SUCCESS")))
@@ -0,0 +1,62 @@
+package com.cookie.domain.review.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 리뷰 피드 커서 (keyset 페이지네이션)
+ * (createdAt, id) 또는 (reviewLike, id) 를 Base64 로 인코딩한 불투명 문자열로 주고받는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCursor {
+
+    private static final String DELIMITER = "|";
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final LocalDateTime createdAt;
+    private final long reviewLike;
+    private final long id;
+
+    // 첫 페이지 조회용 커서 (모든 행보다 뒤에 위치)
+    public static ReviewCursor first() {
+        return new ReviewCursor(MAX_CREATED_AT, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static ReviewCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new ReviewCursor(createdAt, Long.MAX_VALUE, id);
+    }
+
+    public static ReviewCursor ofReviewLike(long reviewLike, Long id) {
+        return new ReviewCursor(MAX_CREATED_AT, reviewLike, id);
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+    }
+
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + reviewLike + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.cookie.domain.review.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 누른 리뷰 카드 (커서 기준이 되는 좋아요 id, 시각 포함)
+ */
+@Getter
+public class LikedReviewCard extends ReviewCard {
+    private final Long likeId;
+    private final LocalDateTime likedAt;
+
+    public LikedReviewCard(Long reviewId, String content, Integer movieScore, boolean isHide, boolean isSpoiler, long reviewLike, long commentCount,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long movieId, String movieTitle, String moviePoster,
+                           double movieAverageScore, Long userId, String nickname, String profileImage,
+                           Long likeId, LocalDateTime likedAt) {
+        super(reviewId, content, movieScore, isHide, isSpoiler, reviewLike, commentCount, createdAt, updatedAt,
+                movieId, movieTitle, moviePoster, movieAverageScore, userId, nickname, profileImage);
+        this.likeId = likeId;
+        this.likedAt = likedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cookie.domain.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieReviewCursorResponse {
+    private List<MovieReviewResponse> reviews;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalReviews; // withTotal=true 인 경우에만 포함
+}
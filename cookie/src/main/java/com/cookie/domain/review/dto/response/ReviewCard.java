@@ -0,0 +1,32 @@
+package com.cookie.domain.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 카드 목록 조회용 프로젝션
+ * 컬렉션 fetch join 없이 리뷰/영화/작성자 단일 값만 조회하고,
+ * 댓글 수는 리뷰에 유지되는 commentCount 컬럼을 사용하고, 대표 뱃지와 좋아요 여부는 ReviewCardAssembler 에서 리뷰 id 기준으로 일괄 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCard {
+    private Long reviewId;
+    private String content;
+    private Integer movieScore;
+    private boolean isHide;
+    private boolean isSpoiler;
+    private long reviewLike;
+    private long commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long movieId;
+    private String movieTitle;
+    private String moviePoster;
+    private double movieAverageScore;
+    private Long userId;
+    private String nickname;
+    private String profileImage;
+}
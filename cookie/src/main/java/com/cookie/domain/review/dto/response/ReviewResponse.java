@@ -8,13 +8,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
-public class ReviewResponse {
+@Builder(toBuilder = true)
+public class ReviewResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long reviewId;
     private String content;
     private double movieScore;
@@ -28,14 +31,14 @@ public class ReviewResponse {
     private boolean likedByUser;
     private Long comments;
 
-    public static ReviewResponse fromReview(Review review, boolean likedByUser, Long comments) {
+    public static ReviewResponse fromReview(Review review, long reviewLike, boolean likedByUser, Long comments) {
         return new ReviewResponse(
                 review.getId(),
                 review.getContent(),
                 review.getMovieScore(),
                 review.isHide(),
                 review.isSpoiler(),
-                review.getReviewLike(),
+                reviewLike,
                 review.getCreatedAt(),
                 review.getUpdatedAt(),
                 new ReviewMovieResponse(
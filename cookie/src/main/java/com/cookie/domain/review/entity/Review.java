@@ -16,6 +16,11 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_review_feed", columnList = "is_hide, created_at, id"),
+        @Index(name = "idx_review_movie_feed", columnList = "movie_id, is_hide, created_at, id"),
+        @Index(name = "idx_review_movie_like", columnList = "movie_id, is_hide, review_like, id")
+})
 public class Review extends BaseTimeEntity {
 
     @Id
@@ -36,7 +41,11 @@ public class Review extends BaseTimeEntity {
     private Integer movieScore;
     private boolean isHide;
     private boolean isSpoiler;
+    // 카운터는 원자적 UPDATE 쿼리로만 변경 (엔티티 수정 시 UPDATE 문에서 제외해 동시 증감을 덮어쓰지 않도록)
+    @Column(updatable = false)
     private long reviewLike;
+    @Column(updatable = false)
+    private long commentCount;
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewLike> reviewLikes = new ArrayList<>();
@@ -68,12 +77,4 @@ public class Review extends BaseTimeEntity {
     public void updateIsSpoiler(boolean newSpoilerStatus) {
         this.isSpoiler = newSpoilerStatus;
     }
-
-    public void increaseLikeCount() {
-        this.reviewLike++;
-    }
-
-    public void decreaseLikeCount() {
-        if(this.reviewLike > 0) this.reviewLike--;
-    }
 }
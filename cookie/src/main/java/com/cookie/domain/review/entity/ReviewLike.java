@@ -13,6 +13,9 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_review_like_user_feed", columnList = "user_id, created_at, id")
+})
 public class ReviewLike extends BaseTimeEntity {
 
     @Id
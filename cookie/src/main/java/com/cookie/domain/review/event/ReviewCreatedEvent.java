@@ -0,0 +1,37 @@
+package com.cookie.domain.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCreatedEvent {
+    private Long reviewId;
+    private Long userId;
+    private Long movieId;
+    private int movieScore;
+    private int attempt;
+    // 푸쉬 알림을 이미 보낸 장르 (재시도 시 다시 보내지 않음)
+    private List<String> notifiedGenres = new ArrayList<>();
+
+    public ReviewCreatedEvent(Long reviewId, Long userId, Long movieId, int movieScore) {
+        this(reviewId, userId, movieId, movieScore, 0, new ArrayList<>());
+    }
+
+    public ReviewCreatedEvent nextAttempt() {
+        return new ReviewCreatedEvent(reviewId, userId, movieId, movieScore, attempt + 1, new ArrayList<>(notifiedGenres));
+    }
+
+    public boolean isGenreNotified(String genre) {
+        return notifiedGenres.contains(genre);
+    }
+
+    public void markGenreNotified(String genre) {
+        notifiedGenres.add(genre);
+    }
+}
@@ -0,0 +1,109 @@
+package com.cookie.domain.review.event;
+
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.notification.service.NotificationService;
+import com.cookie.domain.reward.service.RewardPointService;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.entity.enums.ActionType;
+import com.cookie.domain.user.repository.UserRepository;
+import com.cookie.domain.user.service.DailyGenreScoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 작성 이후 처리 (장르 점수, 푸쉬 알림, 리워드)
+ * 각 메서드는 소비자 워커에서 독립된 트랜잭션으로 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewCreatedEventHandler {
+
+    private final UserRepository userRepository;
+    private final MovieRepository movieRepository;
+    private final DailyGenreScoreService dailyGenreScoreService;
+    private final NotificationService notificationService;
+    private final RewardPointService rewardPointService;
+
+    @Transactional
+    public void applyGenreScore(ReviewCreatedEvent event) {
+        User user = findUser(event.getUserId());
+        List<String> genres = movieRepository.findGenresByMovieId(event.getMovieId());
+
+        int dailyGenreScore = calculateGenreScore(event.getMovieScore());
+        log.info("영화 점수에 따른 dailyGenreScore 계산 완료: movieScore = {}, dailyGenreScore = {}", event.getMovieScore(), dailyGenreScore);
+
+        genres.forEach(genre -> {
+            log.info("장르별 dailyGenreScore 저장: genre = {}, dailyGenreScore = {}", genre, dailyGenreScore);
+            dailyGenreScoreService.saveScore(user, genre, dailyGenreScore, ActionType.MOVIE_LIKE);
+        });
+    }
+
+    @Transactional
+    public void sendPushNotification(ReviewCreatedEvent event) {
+        User user = findUser(event.getUserId());
+        Movie movie = findMovie(event.getMovieId());
+        List<String> genres = movieRepository.findGenresByMovieId(event.getMovieId());
+
+        String title = "Cookie 🍪";
+        String body = String.format("%s님이 %s 영화에 리뷰를 등록했어요!.", user.getNickname(), movie.getTitle());
+
+        // 여러 장르에 걸친 유저는 한 번만 받도록 앞 장르에서 받은 유저는 제외하고,
+        // 보낸 장르는 이벤트에 기록해 재시도 시 이미 보낸 장르를 다시 보내지 않는다
+        Set<Long> recipientUserIds = new HashSet<>();
+        for (String genre : genres) {
+            List<Object[]> results = userRepository.findTokensByGenreAndExcludeUser(genre, user.getId());
+            Map<Long, String> recipientTokenMap = results.stream()
+                    .filter(result -> !recipientUserIds.contains((Long) result[0]))
+                    .collect(Collectors.toMap(result -> (Long) result[0], result -> (String) result[1], (first, second) -> first));
+            results.forEach(result -> recipientUserIds.add((Long) result[0]));
+
+            if (event.isGenreNotified(genre)) {
+                continue;
+            }
+            log.info("푸시 알림 대상 조회: genre = {}, tokens = {}", genre, recipientTokenMap.keySet());
+            notificationService.sendPushNotificationToUsers(user.getId(), recipientTokenMap, title, body, event.getReviewId());
+            event.markGenreNotified(genre);
+        }
+    }
+
+    @Transactional
+    public void updateRewardPoint(ReviewCreatedEvent event) {
+        User user = findUser(event.getUserId());
+        Movie movie = findMovie(event.getMovieId());
+
+        log.info("리워드 포인트 및 배지 업데이트 시작: userId = {}, movieTitle = {}", user.getId(), movie.getTitle());
+        rewardPointService.updateBadgePointAndBadgeObtain(user, "review", movie.getTitle());
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("not found userId: " + userId));
+    }
+
+    private Movie findMovie(Long movieId) {
+        return movieRepository.findById(movieId)
+                .orElseThrow(() -> new IllegalArgumentException("not found movieId: " + movieId));
+    }
+
+    private int calculateGenreScore(int movieScore) {
+        if (movieScore == 5) {
+            return 8;
+        } else if (movieScore == 4) {
+            return 7;
+        } else if (movieScore == 3) {
+            return 5;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cookie.domain.review.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCreatedEventListener {
+
+    private final ReviewEventQueue reviewEventQueue;
+
+    /**
+     * 리뷰가 커밋된 이후에만 후속 작업 큐에 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        log.info("리뷰 작성 이벤트 등록: reviewId = {}", event.getReviewId());
+        reviewEventQueue.publish(event);
+    }
+}
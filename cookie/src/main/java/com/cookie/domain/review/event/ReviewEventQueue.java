@@ -0,0 +1,229 @@
+package com.cookie.domain.review.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisListCommands.Direction;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 리뷰 작성 이벤트를 소비자별 Redis 리스트에 보관하는 큐
+ * 요청 트랜잭션은 리뷰 저장까지만 책임지고, 후속 작업은 이 큐를 통해 워커가 처리한다.
+ * - poll 은 LMOVE 로 이벤트를 인스턴스별 처리 중 리스트로 옮기고, 처리가 끝나면 ack 로 지운다.
+ * - 처리 도중 종료되면 처리 중 리스트에 남고, 다음 기동 시 대기 리스트로 되돌린다.
+ * - 커밋 직후 Redis 에 넣지 못한 이벤트는 메모리에 두고 주기적으로 다시 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewEventQueue {
+
+    private static final String QUEUE_KEY = "events:review:created:";
+    private static final String PROCESSING_KEY = "events:review:processing:";
+    private static final String DEAD_LETTER_KEY = "events:review:dead:";
+
+    private final RedisTemplate<String, Object> template;
+    private final ObjectMapper objectMapper;
+
+    // 커밋 직후 Redis 에 넣지 못한 이벤트 (key, payload)
+    private final Queue<String[]> unpublished = new ConcurrentLinkedQueue<>();
+
+    // 처리 중 리스트를 구분하는 인스턴스 식별자 (재기동해도 같은 값이어야 함)
+    // 비워 두면 HOSTNAME(쿠버네티스에서는 파드 이름) -> 호스트 이름 순으로 정한다.
+    // 노드끼리 같은 값을 쓰면 recover() 가 다른 노드가 처리 중인 이벤트까지 대기 리스트로 되돌리므로 노드마다 달라야 하고,
+    // 파드 이름이 재기동마다 바뀌는 배포(Deployment)라면 StatefulSet 이름처럼 고정된 값을 직접 설정해야 한다.
+    @Value("${review.event.instance-id:}")
+    private String instanceId;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+        GENRE_SCORE("genre-score"),
+        PUSH("push"),
+        REWARD("reward");
+
+        private final String key;
+    }
+
+    /**
+     * 꺼내 온 이벤트와 Redis 에 저장된 원본 문자열 (ack 시 처리 중 리스트에서 찾아 지우는 데 사용)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Delivery {
+        private final Stage stage;
+        private final String payload;
+        private final ReviewCreatedEvent event;
+    }
+
+    // 이전 실행에서 처리하지 못하고 남은 이벤트를 대기 리스트로 복구 (스케줄러가 시작되기 전에 실행)
+    @PostConstruct
+    public void recover() {
+        instanceId = resolveInstanceId(instanceId);
+        log.info("리뷰 이벤트 큐 인스턴스 식별자: {}", instanceId);
+        for (Stage stage : Stage.values()) {
+            try {
+                int recovered = 0;
+                while (template.opsForList().move(processingKey(stage), Direction.LEFT, queueKey(stage), Direction.RIGHT) != null) {
+                    recovered++;
+                }
+                if (recovered > 0) {
+                    log.warn("처리 중이던 리뷰 이벤트 복구: stage = {}, count = {}", stage, recovered);
+                }
+            } catch (Exception e) {
+                log.error("처리 중 리뷰 이벤트 복구 실패: stage = {}", stage, e);
+            }
+        }
+    }
+
+    public void publish(ReviewCreatedEvent event) {
+        String payload = serialize(event);
+        if (payload == null) {
+            return;
+        }
+        for (Stage stage : Stage.values()) {
+            if (!pushRaw(queueKey(stage), payload, Direction.LEFT)) {
+                unpublished.add(new String[]{queueKey(stage), payload});
+            }
+        }
+    }
+
+    public List<Delivery> poll(Stage stage, int batchSize) {
+        List<Delivery> deliveries = new ArrayList<>();
+
+        for (int i = 0; i < batchSize; i++) {
+            Object value = template.opsForList().move(queueKey(stage), Direction.RIGHT, processingKey(stage), Direction.LEFT);
+            if (value == null) {
+                break;
+            }
+            String payload = value.toString();
+            try {
+                deliveries.add(new Delivery(stage, payload, objectMapper.readValue(payload, ReviewCreatedEvent.class)));
+            } catch (Exception e) {
+                log.error("리뷰 이벤트 역직렬화 실패: stage = {}, value = {}", stage, payload, e);
+                if (pushRaw(DEAD_LETTER_KEY + stage.getKey(), payload, Direction.LEFT)) {
+                    remove(stage, payload);
+                }
+            }
+        }
+
+        return deliveries;
+    }
+
+    // 처리 완료
+    public void ack(Delivery delivery) {
+        remove(delivery.getStage(), delivery.getPayload());
+    }
+
+    // 워커 풀에 넣지 못한 이벤트를 다음 차례에 바로 꺼내도록 대기 리스트 끝으로 되돌림
+    public void release(Delivery delivery) {
+        if (pushRaw(queueKey(delivery.getStage()), delivery.getPayload(), Direction.RIGHT)) {
+            remove(delivery.getStage(), delivery.getPayload());
+        }
+    }
+
+    // 재시도 이벤트를 넣은 뒤에만 원본을 지우므로, 중간에 실패하면 원본이 처리 중 리스트에 남아 재기동 시 복구된다
+    public void retry(Delivery delivery, ReviewCreatedEvent next) {
+        if (push(queueKey(delivery.getStage()), next)) {
+            ack(delivery);
+        }
+    }
+
+    public void deadLetter(Delivery delivery, ReviewCreatedEvent next) {
+        if (push(DEAD_LETTER_KEY + delivery.getStage().getKey(), next)) {
+            ack(delivery);
+        }
+    }
+
+    // Redis 장애로 넣지 못한 이벤트 다시 넣기 (재기동 전까지는 메모리에 보관)
+    @Scheduled(fixedDelayString = "${review.event.republish-interval-ms:5000}")
+    public void republish() {
+        int size = unpublished.size();
+        for (int i = 0; i < size; i++) {
+            String[] entry = unpublished.poll();
+            if (entry == null) {
+                return;
+            }
+            if (!pushRaw(entry[0], entry[1], Direction.LEFT)) {
+                // 아직 Redis 를 쓸 수 없으면 나머지는 다음 주기에
+                unpublished.add(entry);
+                return;
+            }
+        }
+        if (size > 0) {
+            log.info("보관 중이던 리뷰 이벤트 재등록: count = {}", size);
+        }
+    }
+
+    private boolean push(String key, ReviewCreatedEvent event) {
+        String payload = serialize(event);
+        return payload != null && pushRaw(key, payload, Direction.LEFT);
+    }
+
+    private String serialize(ReviewCreatedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            log.error("리뷰 이벤트 직렬화 실패: reviewId = {}", event.getReviewId(), e);
+            return null;
+        }
+    }
+
+    private boolean pushRaw(String key, String payload, Direction direction) {
+        try {
+            if (direction == Direction.LEFT) {
+                template.opsForList().leftPush(key, payload);
+            } else {
+                template.opsForList().rightPush(key, payload);
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("리뷰 이벤트 저장 실패: key = {}", key, e);
+            return false;
+        }
+    }
+
+    private void remove(Stage stage, String payload) {
+        try {
+            template.opsForList().remove(processingKey(stage), 1, payload);
+        } catch (Exception e) {
+            // 처리 중 리스트에 남으면 재기동 시 한 번 더 처리될 수 있다 (at-least-once)
+            log.error("리뷰 이벤트 ack 실패: stage = {}", stage, e);
+        }
+    }
+
+    static String resolveInstanceId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname != null && !hostname.isBlank()) {
+            return hostname;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("호스트 이름을 알 수 없어 review.event.instance-id 를 직접 설정해야 합니다.", e);
+        }
+    }
+
+    private String queueKey(Stage stage) {
+        return QUEUE_KEY + stage.getKey();
+    }
+
+    private String processingKey(Stage stage) {
+        return PROCESSING_KEY + stage.getKey() + ":" + instanceId;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cookie.domain.review.event;
+
+import com.cookie.domain.review.event.ReviewEventQueue.Delivery;
+import com.cookie.domain.review.event.ReviewEventQueue.Stage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class ReviewEventWorker {
+
+    private final ReviewEventQueue reviewEventQueue;
+    private final ReviewCreatedEventHandler reviewCreatedEventHandler;
+    private final ThreadPoolTaskExecutor genreScoreEventExecutor;
+    private final ThreadPoolTaskExecutor pushEventExecutor;
+    private final ThreadPoolTaskExecutor rewardEventExecutor;
+
+    @Value("${review.event.batch-size:100}")
+    private int batchSize;
+
+    @Value("${review.event.max-attempts:3}")
+    private int maxAttempts;
+
+    public ReviewEventWorker(ReviewEventQueue reviewEventQueue,
+                             ReviewCreatedEventHandler reviewCreatedEventHandler,
+                             @Qualifier("genreScoreEventExecutor") ThreadPoolTaskExecutor genreScoreEventExecutor,
+                             @Qualifier("pushEventExecutor") ThreadPoolTaskExecutor pushEventExecutor,
+                             @Qualifier("rewardEventExecutor") ThreadPoolTaskExecutor rewardEventExecutor) {
+        this.reviewEventQueue = reviewEventQueue;
+        this.reviewCreatedEventHandler = reviewCreatedEventHandler;
+        this.genreScoreEventExecutor = genreScoreEventExecutor;
+        this.pushEventExecutor = pushEventExecutor;
+        this.rewardEventExecutor = rewardEventExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${review.event.poll-interval-ms:500}")
+    public void drainGenreScoreEvents() {
+        drain(Stage.GENRE_SCORE, genreScoreEventExecutor, reviewCreatedEventHandler::applyGenreScore);
+    }
+
+    @Scheduled(fixedDelayString = "${review.event.poll-interval-ms:500}")
+    public void drainPushEvents() {
+        drain(Stage.PUSH, pushEventExecutor, reviewCreatedEventHandler::sendPushNotification);
+    }
+
+    @Scheduled(fixedDelayString = "${review.event.poll-interval-ms:500}")
+    public void drainRewardEvents() {
+        drain(Stage.REWARD, rewardEventExecutor, reviewCreatedEventHandler::updateRewardPoint);
+    }
+
+    private void drain(Stage stage, ThreadPoolTaskExecutor executor, Consumer<ReviewCreatedEvent> action) {
+        // 워커 풀의 남은 큐 용량만큼만 꺼내와서 처리량을 제한
+        int capacity = Math.min(batchSize, executor.getThreadPoolExecutor().getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Delivery> deliveries = reviewEventQueue.poll(stage, capacity);
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        log.info("리뷰 이벤트 처리 시작: stage = {}, size = {}", stage, deliveries.size());
+
+        for (Delivery delivery : deliveries) {
+            try {
+                executor.execute(() -> handle(delivery, action));
+            } catch (TaskRejectedException e) {
+                // 풀이 가득 찼으면 이벤트를 Redis 에 되돌려 두고 다음 주기에 다시 꺼낸다
+                log.warn("리뷰 이벤트 워커 풀 포화, 대기열로 반환: stage = {}, reviewId = {}", stage, delivery.getEvent().getReviewId());
+                reviewEventQueue.release(delivery);
+            }
+        }
+    }
+
+    private void handle(Delivery delivery, Consumer<ReviewCreatedEvent> action) {
+        Stage stage = delivery.getStage();
+        ReviewCreatedEvent event = delivery.getEvent();
+        try {
+            action.accept(event);
+            reviewEventQueue.ack(delivery);
+        } catch (Exception e) {
+            // 푸쉬 알림은 실패 전에 보낸 장르가 event 에 기록돼 있어 재시도 시 그 장르는 건너뛴다
+            ReviewCreatedEvent next = event.nextAttempt();
+            if (next.getAttempt() < maxAttempts) {
+                log.warn("리뷰 이벤트 처리 실패, 재시도 등록: stage = {}, reviewId = {}, attempt = {}", stage, event.getReviewId(), next.getAttempt(), e);
+                reviewEventQueue.retry(delivery, next);
+            } else {
+                log.error("리뷰 이벤트 처리 최종 실패: stage = {}, reviewId = {}", stage, event.getReviewId(), e);
+                reviewEventQueue.deadLetter(delivery, next);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.cookie.domain.review.repository;
 
+import com.cookie.domain.review.dto.response.LikedReviewCard;
 import com.cookie.domain.review.entity.ReviewLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import com.cookie.domain.user.entity.User;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +33,30 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     """)
     List<ReviewLike> findAllByReviewId(@Param("reviewId") Long reviewId);
 
-    @Query("SELECT rl FROM ReviewLike rl JOIN FETCH rl.review r WHERE rl.user.id = :userId")
-    Page<ReviewLike> findAllByUserIdWithReviews(@Param("userId") Long userId, Pageable pageable);
+    // 좋아요 누른 리뷰 카드 프로젝션
+    String LIKED_REVIEW_CARD = """
+        new com.cookie.domain.review.dto.response.LikedReviewCard(
+            r.id, r.content, r.movieScore, r.isHide, r.isSpoiler, r.reviewLike, r.commentCount, r.createdAt, r.updatedAt,
+            m.id, m.title, m.poster, m.score, u.id, u.nickname, u.profileImage, rl.id, rl.createdAt)
+    """;
+
+    @Query(value = "SELECT " + LIKED_REVIEW_CARD + """
+        FROM ReviewLike rl JOIN rl.review r JOIN r.movie m JOIN r.user u
+        WHERE rl.user.id = :userId
+        ORDER BY rl.createdAt DESC, rl.id DESC
+    """, countQuery = "SELECT COUNT(rl) FROM ReviewLike rl WHERE rl.user.id = :userId")
+    Page<LikedReviewCard> findLikedReviewCards(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT " + LIKED_REVIEW_CARD + """
+        FROM ReviewLike rl JOIN rl.review r JOIN r.movie m JOIN r.user u
+        WHERE rl.user.id = :userId
+        AND (rl.createdAt < :createdAt OR (rl.createdAt = :createdAt AND rl.id < :id))
+        ORDER BY rl.createdAt DESC, rl.id DESC
+    """)
+    List<LikedReviewCard> findLikedAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("userId") Long userId, @Param("reviewIds") List<Long> reviewIds);
+
+    long countByUserId(Long userId);
 }
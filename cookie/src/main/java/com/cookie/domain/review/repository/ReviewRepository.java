@@ -1,5 +1,6 @@
 package com.cookie.domain.review.repository;
 
+import com.cookie.domain.review.dto.response.ReviewCard;
 import com.cookie.domain.review.entity.Review;
 import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.user.entity.User;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,24 +21,109 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.user = :user AND r.movie = :movie")
     Optional<Review> findByUserAndMovie(@Param("user") User user, @Param("movie") Movie movie);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.movie m JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge WHERE r.isHide = false ORDER BY r.createdAt DESC")
-    Page<Review> findAllWithMovieAndUser(Pageable pageable);
+    // 리뷰 카드 프로젝션 (컬렉션 fetch join 없이 DB 에서 페이징)
+    String REVIEW_CARD = """
+        new com.cookie.domain.review.dto.response.ReviewCard(
+            r.id, r.content, r.movieScore, r.isHide, r.isSpoiler, r.reviewLike, r.commentCount, r.createdAt, r.updatedAt,
+            m.id, m.title, m.poster, m.score, u.id, u.nickname, u.profileImage)
+    """;
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.movie m JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge b WHERE r.isSpoiler = true AND r.isHide = false ORDER BY r.createdAt DESC")
-    Page<Review> findAllWithMovieAndUserWithSpoilers(Pageable pageable);
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE r.isHide = false
+        ORDER BY r.createdAt DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.isHide = false")
+    Page<ReviewCard> findAllWithMovieAndUser(Pageable pageable);
+
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE r.isSpoiler = true AND r.isHide = false
+        ORDER BY r.createdAt DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.isSpoiler = true AND r.isHide = false")
+    Page<ReviewCard> findAllWithMovieAndUserWithSpoilers(Pageable pageable);
+
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isHide = false
+        ORDER BY r.createdAt DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.movie.id = :movieId AND r.isHide = false")
+    Page<ReviewCard> findReviewsByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isSpoiler = true AND r.isHide = false
+        ORDER BY r.createdAt DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.movie.id = :movieId AND r.isSpoiler = true AND r.isHide = false")
+    Page<ReviewCard> findSpoilerReviewsByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isHide = false
+        ORDER BY r.reviewLike DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.movie.id = :movieId AND r.isHide = false")
+    Page<ReviewCard> findMostLikedReviewsByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
+    @Query(value = "SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isSpoiler = true AND r.isHide = false
+        ORDER BY r.reviewLike DESC
+    """, countQuery = "SELECT COUNT(r) FROM Review r WHERE r.movie.id = :movieId AND r.isSpoiler = true AND r.isHide = false")
+    Page<ReviewCard> findMostLikedSpoilerReviewsByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
+    // keyset 페이지네이션 (커서 이후 size 만큼 조회, 전체 개수 쿼리 없음)
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE r.isHide = false
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<ReviewCard> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE r.isSpoiler = true AND r.isHide = false
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<ReviewCard> findSpoilerFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge b WHERE r.movie.id = :movieId AND r.isHide = false ORDER BY r.createdAt DESC")
-    Page<Review> findReviewsByMovieId(Long movieId, Pageable pageable);
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isHide = false
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<ReviewCard> findByMovieIdAfter(@Param("movieId") Long movieId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge b WHERE r.movie.id = :movieId AND r.isSpoiler = true AND r.isHide = false ORDER BY r.createdAt DESC")
-    Page<Review> findSpoilerReviewsByMovieId(Long movieId, Pageable pageable);
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isSpoiler = true AND r.isHide = false
+        AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<ReviewCard> findSpoilerByMovieIdAfter(@Param("movieId") Long movieId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isHide = false
+        AND (r.reviewLike < :reviewLike OR (r.reviewLike = :reviewLike AND r.id < :id))
+        ORDER BY r.reviewLike DESC, r.id DESC
+    """)
+    List<ReviewCard> findMostLikedByMovieIdAfter(@Param("movieId") Long movieId, @Param("reviewLike") long reviewLike, @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge b WHERE r.movie.id = :movieId AND r.isHide = false ORDER BY r.reviewLike DESC")
-    Page<Review> findMostLikedReviewsByMovieId(Long movieId, Pageable pageable);
+    @Query("SELECT " + REVIEW_CARD + """
+        FROM Review r JOIN r.movie m JOIN r.user u
+        WHERE m.id = :movieId AND r.isSpoiler = true AND r.isHide = false
+        AND (r.reviewLike < :reviewLike OR (r.reviewLike = :reviewLike AND r.id < :id))
+        ORDER BY r.reviewLike DESC, r.id DESC
+    """)
+    List<ReviewCard> findMostLikedSpoilerByMovieIdAfter(@Param("movieId") Long movieId, @Param("reviewLike") long reviewLike, @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.user u LEFT JOIN FETCH u.userBadges ub LEFT JOIN FETCH ub.badge b WHERE r.movie.id = :movieId AND r.isSpoiler = true AND r.isHide = false ORDER BY r.reviewLike DESC")
-    Page<Review> findMostLikedSpoilerReviewsByMovieId(Long movieId, Pageable pageable);
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.isHide = false AND (:spoilerOnly = false OR r.isSpoiler = true)")
+    long countVisibleReviews(@Param("spoilerOnly") boolean spoilerOnly);
 
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.movie.id = :movieId AND r.isHide = false AND (:spoilerOnly = false OR r.isSpoiler = true)")
+    long countVisibleReviewsByMovieId(@Param("movieId") Long movieId, @Param("spoilerOnly") boolean spoilerOnly);
 
     @Query("SELECT r FROM Review r JOIN FETCH r.movie WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
     List<Review> findAllByUserIdWithMovie(Long userId);
@@ -50,6 +137,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     """)
     List<Review> findReviewsByMovieId(@Param("movieId") Long movieId);
 
+    @Query("""
+        SELECT r
+        FROM Review r
+        JOIN FETCH r.user u
+        WHERE r.movie.id = :movieId AND r.isHide = false
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<Review> findLatestVisibleByMovieId(@Param("movieId") Long movieId, Pageable pageable);
+
     Long countByMovieId(Long movieId);
 
     List<Review> findByMovieId(Long movieId);
@@ -65,5 +161,31 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r JOIN FETCH r.movie WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
     Page<Review> findAllByUserId(Long userId, Pageable pageable);
 
+    // 댓글 수는 엔티티를 읽고 쓰지 않고 DB 에서 원자적으로 증감 (좋아요 수는 LikeCountBuffer 에서 일괄 반영)
+    @Modifying
+    @Query("UPDATE Review r SET r.commentCount = r.commentCount + 1 WHERE r.id = :reviewId")
+    void increaseCommentCount(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.commentCount = r.commentCount - 1 WHERE r.id = :reviewId AND r.commentCount > 0")
+    void decreaseCommentCount(@Param("reviewId") Long reviewId);
+
+    // 보정 트랜잭션이 끝날 때까지 좋아요 행 추가/삭제를 막아, 센 행 수와 LikeCountBuffer 의 증감이 어긋나지 않게 한다
+    @Query(value = "SELECT COUNT(*) FROM review_like FOR SHARE", nativeQuery = true)
+    long lockReviewLikes();
+
+    // 실제 좋아요/댓글 행 수와 어긋난 카운터만 보정
+    @Modifying
+    @Query(value = """
+        UPDATE review r
+        LEFT JOIN (SELECT review_id, COUNT(*) AS cnt FROM review_like GROUP BY review_id) l ON l.review_id = r.id
+        LEFT JOIN (SELECT review_id, COUNT(*) AS cnt FROM review_comment GROUP BY review_id) c ON c.review_id = r.id
+        SET r.review_like = COALESCE(l.cnt, 0),
+            r.comment_count = COALESCE(c.cnt, 0)
+        WHERE r.review_like <> COALESCE(l.cnt, 0)
+           OR r.comment_count <> COALESCE(c.cnt, 0)
+    """, nativeQuery = true)
+    int reconcileCounters();
+
 }
 
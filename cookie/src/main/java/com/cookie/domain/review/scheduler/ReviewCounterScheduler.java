@@ -0,0 +1,40 @@
+package com.cookie.domain.review.scheduler;
+
+import com.cookie.domain.review.service.ReviewService;
+import com.cookie.global.service.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCounterScheduler {
+
+    private final ReviewService reviewService;
+    private final LikeCountBuffer likeCountBuffer;
+
+    @Scheduled(cron = "${review.counter.reconcile-cron:0 30 4 * * ?}") // 매일 새벽 4시 30분
+    public void reconcileReviewCounters() {
+        try {
+            int updated = likeCountBuffer.reconcile(reviewService::reconcileReviewCounters);
+            log.info("리뷰 좋아요/댓글 카운터 보정 완료: {}건", updated);
+        } catch (Exception e) {
+            log.error("리뷰 카운터 보정 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    // 카운터 컬럼이 추가되기 전 데이터(댓글 수 0)를 기동 시 한 번 채워둔다
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileReviewCountersOnStartup() {
+        try {
+            int updated = likeCountBuffer.reconcile(reviewService::reconcileReviewCounters);
+            log.info("기동 시 리뷰 좋아요/댓글 카운터 보정 완료: {}건", updated);
+        } catch (Exception e) {
+            log.error("기동 시 리뷰 카운터 보정 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
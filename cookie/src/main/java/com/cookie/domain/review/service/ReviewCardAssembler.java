@@ -0,0 +1,128 @@
+package com.cookie.domain.review.service;
+
+import com.cookie.domain.movie.dto.response.ReviewMovieResponse;
+import com.cookie.domain.review.dto.response.MovieReviewResponse;
+import com.cookie.domain.review.dto.response.ReviewCard;
+import com.cookie.domain.review.dto.response.ReviewResponse;
+import com.cookie.domain.review.repository.ReviewLikeRepository;
+import com.cookie.domain.user.dto.response.MovieReviewUserResponse;
+import com.cookie.domain.user.dto.response.ReviewUserResponse;
+import com.cookie.domain.user.repository.UserBadgeRepository;
+import com.cookie.global.service.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 카드 목록 조립
+ * 페이지 조회 1회 + (대표 뱃지, 좋아요 여부) 일괄 조회로 페이지 크기와 무관하게 쿼리 수가 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewCardAssembler {
+
+    private final UserBadgeRepository userBadgeRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
+
+    public List<ReviewResponse> toReviewResponses(List<? extends ReviewCard> cards, Long userId) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> mainBadges = findMainBadges(cards);
+        Set<Long> likedReviewIds = findLikedReviewIds(cards, userId);
+
+        return cards.stream()
+                .map(card -> toReviewResponse(card, mainBadges.get(card.getUserId()),
+                        likedReviewIds.contains(card.getReviewId())))
+                .toList();
+    }
+
+    // 좋아요 누른 리뷰 목록은 모두 likedByUser = true
+    public List<ReviewResponse> toLikedReviewResponses(List<? extends ReviewCard> cards) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> mainBadges = findMainBadges(cards);
+
+        return cards.stream()
+                .map(card -> toReviewResponse(card, mainBadges.get(card.getUserId()), true))
+                .toList();
+    }
+
+    public List<MovieReviewResponse> toMovieReviewResponses(List<? extends ReviewCard> cards, Long userId) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> mainBadges = findMainBadges(cards);
+        Set<Long> likedReviewIds = findLikedReviewIds(cards, userId);
+
+        return cards.stream()
+                .map(card -> {
+                    Object[] mainBadge = mainBadges.get(card.getUserId());
+                    MovieReviewUserResponse userResponse = new MovieReviewUserResponse(
+                            card.getNickname(),
+                            card.getProfileImage(),
+                            mainBadge != null ? (String) mainBadge[1] : null,
+                            mainBadge != null ? (String) mainBadge[2] : null
+                    );
+
+                    return new MovieReviewResponse(
+                            card.getReviewId(),
+                            card.getContent(),
+                            likeCountBuffer.reviewLikes(card.getReviewId(), card.getReviewLike()),
+                            card.getMovieScore(),
+                            card.getCreatedAt(),
+                            card.getUpdatedAt(),
+                            userResponse,
+                            likedReviewIds.contains(card.getReviewId()),
+                            card.isSpoiler()
+                    );
+                }).toList();
+    }
+
+    private ReviewResponse toReviewResponse(ReviewCard card, Object[] mainBadge, boolean likedByUser) {
+        return new ReviewResponse(
+                card.getReviewId(),
+                card.getContent(),
+                card.getMovieScore(),
+                card.isHide(),
+                card.isSpoiler(),
+                likeCountBuffer.reviewLikes(card.getReviewId(), card.getReviewLike()),
+                card.getCreatedAt(),
+                card.getUpdatedAt(),
+                new ReviewMovieResponse(card.getMovieId(), card.getMovieTitle(), card.getMoviePoster(), card.getMovieAverageScore()),
+                new ReviewUserResponse(card.getUserId(), card.getNickname(), card.getProfileImage(),
+                        mainBadge != null ? (String) mainBadge[1] : null),
+                likedByUser,
+                card.getCommentCount()
+        );
+    }
+
+    private Map<Long, Object[]> findMainBadges(List<? extends ReviewCard> cards) {
+        Set<Long> userIds = cards.stream()
+                .map(ReviewCard::getUserId)
+                .collect(Collectors.toSet());
+
+        return userBadgeRepository.findMainBadgesByUserIds(userIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> row, (first, second) -> first));
+    }
+
+    private Set<Long> findLikedReviewIds(List<? extends ReviewCard> cards, Long userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return new HashSet<>(reviewLikeRepository.findLikedReviewIds(userId, reviewIds(cards)));
+    }
+
+    private List<Long> reviewIds(List<? extends ReviewCard> cards) {
+        return cards.stream()
+                .map(ReviewCard::getReviewId)
+                .toList();
+    }
+}
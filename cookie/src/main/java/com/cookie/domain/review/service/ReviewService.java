@@ -3,9 +3,11 @@ package com.cookie.domain.review.service;
 
 import com.cookie.domain.movie.dto.response.ReviewMovieResponse;
 import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.event.MovieDetailChangedEvent;
 import com.cookie.domain.movie.repository.MovieRepository;
-import com.cookie.domain.notification.service.NotificationService;
+import com.cookie.domain.movie.service.MovieRatingService;
 import com.cookie.domain.review.dto.request.ReviewCommentRequest;
+import com.cookie.domain.review.dto.request.ReviewCursor;
 import com.cookie.domain.review.dto.request.CreateReviewRequest;
 import com.cookie.domain.review.dto.response.ReviewCommentResponse;
 import com.cookie.domain.review.dto.response.ReviewDetailResponse;
@@ -15,20 +17,18 @@ import com.cookie.domain.review.dto.response.*;
 import com.cookie.domain.review.dto.request.UpdateReviewRequest;
 import com.cookie.domain.review.entity.Review;
 import com.cookie.domain.review.entity.ReviewComment;
-import com.cookie.domain.review.entity.ReviewLike;
+import com.cookie.domain.review.event.ReviewCreatedEvent;
 import com.cookie.domain.review.repository.ReviewCommentRepository;
 import com.cookie.domain.review.repository.ReviewLikeRepository;
 import com.cookie.domain.review.repository.ReviewRepository;
-import com.cookie.domain.reward.service.RewardPointService;
 import com.cookie.domain.user.dto.response.CommentUserResponse;
 import com.cookie.domain.user.dto.response.ReviewUserResponse;
 import com.cookie.domain.user.entity.User;
-import com.cookie.domain.user.entity.enums.ActionType;
-import com.cookie.domain.user.repository.DailyGenreScoreRepository;
 import com.cookie.domain.user.repository.UserRepository;
-import com.cookie.domain.user.service.DailyGenreScoreService;
+import com.cookie.global.service.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,8 +36,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -45,13 +43,13 @@ import java.util.stream.Collectors;
 public class ReviewService {
     private final UserRepository userRepository;
     private final MovieRepository movieRepository;
+    private final MovieRatingService movieRatingService;
     private final ReviewRepository reviewRepository;
     private final ReviewCommentRepository reviewCommentRepository;
     private final ReviewLikeRepository reviewLikeRepository;
-    private final DailyGenreScoreRepository dailyGenreScoreRepository;
-    private final DailyGenreScoreService dailyGenreScoreService;
-    private final NotificationService notificationService;
-    private final RewardPointService rewardPointService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewCardAssembler reviewCardAssembler;
+    private final LikeCountBuffer likeCountBuffer;
 
     @Transactional
     public CreateReviewResponse createReview(Long userId, CreateReviewRequest createReviewRequest) {
@@ -81,98 +79,45 @@ public class ReviewService {
         }
         log.info("중복 리뷰 없음: userId = {}, movieId = {}", userId, movieId);
 
-        // 4. 영화 평점이 0일 경우 평점 반영
-        if (movie.getScore() == 0.0) {
-            log.info("영화 평점이 0.0입니다. 평점을 업데이트합니다: movieScore = {}", createReviewRequest.getMovieScore());
-            movie.updateScore((double) createReviewRequest.getMovieScore());
-        }
-
-        // 5. 영화 장르 목록 조회
-        List<String> genres = movie.getMovieCategories().stream()
-                .filter(mc -> "장르".equals(mc.getCategory().getMainCategory()))
-                .map(mc -> mc.getCategory().getSubCategory())
-                .toList();
-        log.info("영화 장르 목록 조회 완료: genres = {}", genres);
-
-        // 6. 영화 점수에 따른 dailyGenreScore 계산 및 저장
-        int movieScore = createReviewRequest.getMovieScore();
-        int dailyGenreScore = calculateGenreScore(movieScore);
-        log.info("영화 점수에 따른 dailyGenreScore 계산 완료: movieScore = {}, dailyGenreScore = {}", movieScore, dailyGenreScore);
-
-        genres.forEach(genre -> {
-            log.info("장르별 dailyGenreScore 저장: genre = {}, dailyGenreScore = {}", genre, dailyGenreScore);
-            dailyGenreScoreService.saveScore(user, genre, dailyGenreScore, ActionType.MOVIE_LIKE);
-        });
-
-        // 7. 리뷰 저장
+        // 4. 리뷰 저장
         Review review = createReviewRequest.toEntity(user, movie);
         log.info("리뷰 엔티티 생성 완료: review = {}", review);
         Review savedReview = reviewRepository.save(review);
         log.info("리뷰 저장 완료: savedReviewId = {}", savedReview.getId());
 
-        // 8. 장르에 맞는 유저들에게 푸시 알림 전송
-        for (String genre : genres) {
-//            List<String> recipientTokens = userRepository.findTokensByGenreAndExcludeUser(genre, userId);
-
-            List<Object[]> results = userRepository.findTokensByGenreAndExcludeUser(genre, userId);
-            Map<Long, String> recipientTokenMap = results.stream()
-                    .collect(Collectors.toMap(result -> (Long) result[0], result -> (String) result[1]));
+        // 5. 영화 평점 증분 반영
+        movieRatingService.addReviewScore(movieId, savedReview.getMovieScore());
 
-            log.info("푸시 알림 대상 조회: genre = {}, tokens = {}", genre, recipientTokenMap.keySet());
-
-            String title = "Cookie 🍪";
-            String body = String.format("%s님이 %s 영화에 리뷰를 등록했어요!.", user.getNickname(), movie.getTitle());
-            log.info("푸시 알림 전송: title = {}, body = {}", title, body);
-            notificationService.sendPushNotificationToUsers(userId, recipientTokenMap, title, body, savedReview.getId());
-        }
-
-        // 9. 리워드 포인트 및 배지 업데이트
-        log.info("리워드 포인트 및 배지 업데이트 시작: userId = {}, movieTitle = {}", userId, movie.getTitle());
-        rewardPointService.updateBadgePointAndBadgeObtain(user, "review", movie.getTitle());
-        log.info("리워드 포인트 및 배지 업데이트 완료: userId = {}", userId);
+        // 6. 장르 점수, 푸시 알림, 리워드는 커밋 이후 이벤트 워커에서 처리
+        eventPublisher.publishEvent(new ReviewCreatedEvent(savedReview.getId(), userId, movieId, createReviewRequest.getMovieScore()));
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(movieId));
 
         return new CreateReviewResponse(savedReview.getId());
     }
 
 
-    private int calculateGenreScore(int movieScore) {
-        if (movieScore == 5) {
-            return 8;
-        } else if (movieScore == 4) {
-            return 7;
-        } else if (movieScore == 3) {
-            return 5;
-        } else if (movieScore <= 2) {
-            return 0;
-        } else {
-            return 0; // 기본값
-        }
-    }
-
-
     @Transactional
     public void updateReview(Long reviewId, UpdateReviewRequest updateReviewRequest) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("not found reviewId: " + reviewId));
         log.info("Retrieved review: reviewId = {}", reviewId);
 
+        int oldScore = review.getMovieScore();
         review.update(updateReviewRequest.getContent(), updateReviewRequest.getMovieScore(), updateReviewRequest.getIsSpoiler());
         log.info("Updated review: reviewId = {}", reviewId);
+
+        if (!review.isHide()) {
+            movieRatingService.changeReviewScore(review.getMovie().getId(), oldScore, review.getMovieScore());
+        }
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(review.getMovie().getId()));
     }
 
     @Transactional(readOnly = true)
     public ReviewListResponse getReviewList(Long userId, Pageable pageable) {
-        Page<Review> reviewList = reviewRepository.findAllWithMovieAndUser(pageable);
+        Page<ReviewCard> reviewList = reviewRepository.findAllWithMovieAndUser(pageable);
         log.info("Total reviews: {}", reviewList.getTotalElements());
 
-        List<ReviewResponse> reviewResponses = reviewList.stream()
-                .map(review -> {
-                    boolean likedByUser = userId != null &&
-                            review.getReviewLikes().stream()
-                                    .anyMatch(like -> like.getUser().getId().equals(userId));
-                    return ReviewResponse.fromReview(review, likedByUser,Long.valueOf(review.getReviewComments().size()));
-                })
-                .toList();
+        List<ReviewResponse> reviewResponses = reviewCardAssembler.toReviewResponses(reviewList.getContent(), userId);
 
         return new ReviewListResponse(
                 reviewResponses,
@@ -184,17 +129,10 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public ReviewListResponse getSpoilerReviewList(Long userId, Pageable pageable) {
-        Page<Review> reviewList = reviewRepository.findAllWithMovieAndUserWithSpoilers(pageable);
+        Page<ReviewCard> reviewList = reviewRepository.findAllWithMovieAndUserWithSpoilers(pageable);
         log.info("Total reviews: {}", reviewList.getTotalElements());
 
-        List<ReviewResponse> reviewResponses = reviewList.stream()
-                .map(review -> {
-                    boolean likedByUser = userId != null &&
-                            review.getReviewLikes().stream()
-                                    .anyMatch(like -> like.getUser().getId().equals(userId));
-                    return ReviewResponse.fromReview(review, likedByUser, Long.valueOf(review.getReviewComments().size()));
-                })
-                .toList();
+        List<ReviewResponse> reviewResponses = reviewCardAssembler.toReviewResponses(reviewList.getContent(), userId);
 
         return new ReviewListResponse(
                 reviewResponses,
@@ -203,6 +141,26 @@ public class ReviewService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public ReviewCursorResponse getReviewFeed(Long userId, boolean spoilerOnly, String cursor, int size, boolean withTotal) {
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        int pageSize = ReviewCursor.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewCard> reviews = spoilerOnly
+                ? reviewRepository.findSpoilerFeedAfter(reviewCursor.getCreatedAt(), reviewCursor.getId(), limit)
+                : reviewRepository.findFeedAfter(reviewCursor.getCreatedAt(), reviewCursor.getId(), limit);
+
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewCard> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+        String nextCursor = hasNext
+                ? ReviewCursor.ofCreatedAt(page.get(page.size() - 1).getCreatedAt(), page.get(page.size() - 1).getReviewId()).encode()
+                : null;
+        Long totalReviews = withTotal ? reviewRepository.countVisibleReviews(spoilerOnly) : null;
+
+        return new ReviewCursorResponse(reviewCardAssembler.toReviewResponses(page, userId), nextCursor, hasNext, totalReviews);
+    }
+
     @Transactional
     public void deleteReview(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
@@ -211,6 +169,11 @@ public class ReviewService {
 
         reviewRepository.delete(review);
         log.info("Deleted review: reviewId = {}", reviewId);
+
+        if (!review.isHide()) {
+            movieRatingService.removeReviewScore(review.getMovie().getId(), review.getMovieScore());
+        }
+        eventPublisher.publishEvent(new MovieDetailChangedEvent(review.getMovie().getId()));
     }
 
     @Transactional(readOnly = true)
@@ -238,7 +201,7 @@ public class ReviewService {
         return new ReviewDetailResponse(
                 review.getContent(),
                 review.getMovieScore(),
-                review.getReviewLike(),
+                likeCountBuffer.reviewLikes(review.getId(), review.getReviewLike()),
                 review.getCreatedAt(),
                 review.getUpdatedAt(),
                 new ReviewMovieResponse(review.getMovie().getId(), review.getMovie().getTitle(), review.getMovie().getPoster(), review.getMovie().getScore()),
@@ -271,6 +234,7 @@ public class ReviewService {
                 .build();
 
         reviewCommentRepository.save(comment);
+        reviewRepository.increaseCommentCount(reviewId);
         log.info("Created comment for reviewId: {} by userId: {}", reviewId, userId);
 
     }
@@ -292,24 +256,34 @@ public class ReviewService {
         log.info("Retrieved comment: commentId = {}", commentId);
 
         reviewCommentRepository.delete(comment);
+        reviewRepository.decreaseCommentCount(comment.getReview().getId());
         log.info("Deleted comment: commentId = {}", commentId);
     }
 
+    /**
+     * 리뷰 좋아요 수, 댓글 수 카운터를 실제 행 수 기준으로 보정
+     * LikeCountBuffer.reconcile 안에서 호출해야 flush 와 겹치지 않는다.
+     */
+    @Transactional
+    public int reconcileReviewCounters() {
+        reviewRepository.lockReviewLikes();
+        int updated = reviewRepository.reconcileCounters();
+        // 잠근 뒤 센 행 수에 버퍼의 증감이 이미 포함되어 있으므로 버린다
+        likeCountBuffer.discardPendingReviewLikes();
+        log.info("Reconciled review counters: updated = {}", updated);
+        return updated;
+    }
+
     @Transactional(readOnly = true)
     public ReviewPagenationResponse getLikedReviewsByUserId(Long userId, int page, int size) {
         // 페이징 요청 생성
         Pageable pageable = PageRequest.of(page, size);
 
-        // ReviewLike 엔티티를 페이징 처리하여 조회
-        Page<ReviewLike> likedReviewsPage = reviewLikeRepository.findAllByUserIdWithReviews(userId, pageable);
+        // 좋아요 누른 리뷰 카드를 페이징 처리하여 조회
+        Page<LikedReviewCard> likedReviewsPage = reviewLikeRepository.findLikedReviewCards(userId, pageable);
 
-        // ReviewLike -> ReviewResponse 변환
-        List<ReviewResponse> reviews = likedReviewsPage.getContent().stream()
-                .map(reviewLike -> {
-                    Review review = reviewLike.getReview();
-                    return ReviewResponse.fromReview(review, true,Long.valueOf(review.getReviewComments().size()));
-                })
-                .toList();
+        // ReviewCard -> ReviewResponse 변환
+        List<ReviewResponse> reviews = reviewCardAssembler.toLikedReviewResponses(likedReviewsPage.getContent());
 
         // ReviewPagenationResponse 생성
         return ReviewPagenationResponse.builder()
@@ -319,5 +293,23 @@ public class ReviewService {
                 .build();
     }
 
+
+    @Transactional(readOnly = true)
+    public ReviewCursorResponse getLikedReviewFeed(Long userId, String cursor, int size, boolean withTotal) {
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        int pageSize = ReviewCursor.pageSize(size);
+
+        List<LikedReviewCard> likes = reviewLikeRepository.findLikedAfter(userId, reviewCursor.getCreatedAt(), reviewCursor.getId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = likes.size() > pageSize;
+        List<LikedReviewCard> page = hasNext ? likes.subList(0, pageSize) : likes;
+        String nextCursor = hasNext
+                ? ReviewCursor.ofCreatedAt(page.get(page.size() - 1).getLikedAt(), page.get(page.size() - 1).getLikeId()).encode()
+                : null;
+        Long totalReviews = withTotal ? reviewLikeRepository.countByUserId(userId) : null;
+
+        return new ReviewCursorResponse(reviewCardAssembler.toLikedReviewResponses(page), nextCursor, hasNext, totalReviews);
+    }
+
 }
 
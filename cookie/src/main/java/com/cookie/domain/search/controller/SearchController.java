@@ -2,7 +2,10 @@ package com.cookie.domain.search.controller;
 
 import com.cookie.domain.search.dto.request.SearchRequest;
 import com.cookie.domain.search.dto.response.SearchMovieMonthRankingResponse;
+import com.cookie.domain.search.dto.response.SearchSuggestResponse;
+import com.cookie.domain.search.index.SearchSuggester;
 import com.cookie.domain.search.service.SearchMovieMonthRankingService;
+import com.cookie.domain.search.service.SearchMovieMonthRankingService.RankingSnapshot;
 import com.cookie.domain.search.service.SearchService;
 import com.cookie.global.util.ApiUtil;
 import com.cookie.global.util.ApiUtil.ApiSuccess;
@@ -16,7 +19,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,6 +31,7 @@ import java.util.List;
 public class SearchController {
     private final SearchService searchService;
     private final SearchMovieMonthRankingService searchMovieMonthRankingService;
+    private final SearchSuggester searchSuggester;
 
     @GetMapping("/api/search")
     public ResponseEntity<?> search(SearchRequest searchRequest, Pageable pageable) {
@@ -47,8 +53,24 @@ public class SearchController {
                             schema = @Schema(implementation = SearchMovieMonthRankingResponse.class))))
     })
     @GetMapping("/api/search/default")
-    public ApiSuccess<?> getMoviesMonthRanking() {
-        List<SearchMovieMonthRankingResponse> data = searchMovieMonthRankingService.getMoviesMonthRanking();
+    public ApiSuccess<?> getMoviesMonthRanking(WebRequest webRequest) {
+        RankingSnapshot snapshot = searchMovieMonthRankingService.getSnapshot();
+        // 순위가 바뀌지 않았으면 본문 없이 304 응답
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+        return ApiUtil.success(snapshot.getRankings());
+    }
+
+    @Operation(summary = "검색어 자동완성 (영화 제목 / 배우 / 감독, 초성 검색 지원)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(
+                            schema = @Schema(implementation = SearchSuggestResponse.class))))
+    })
+    @GetMapping("/api/search/suggest")
+    public ApiSuccess<?> suggest(@RequestParam(name = "keyword") String keyword,
+                                 @RequestParam(name = "size", defaultValue = "10") int size) {
+        List<SearchSuggestResponse> data = searchSuggester.suggest(keyword, size);
         return ApiUtil.success(data);
     }
 }
@@ -0,0 +1,15 @@
+package com.cookie.domain.search.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestResponse {
+    private String type;        // movie, actor, director (/api/search 의 type 과 동일)
+    private String keyword;
+    private Long movieId;       // 영화 후보일 때만
+    private String poster;      // 영화 후보일 때만
+}
@@ -0,0 +1,307 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.domain.search.dto.response.SearchMovieResponse;
+import com.cookie.global.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 영화 제목 / 배우 / 감독 이름 n-gram 역색인 (메모리)
+ * 정규화한 문자열과 초성 문자열의 1-gram, 2-gram 을 영화 id 목록에 매핑하고,
+ * 검색어의 2-gram 목록 교집합으로 후보를 좁힌 뒤 실제 포함 여부와 위치로 관련도 순 정렬한다.
+ * 접두어뿐 아니라 부분 문자열("웨이홈"), 초성("ㅅㅍㅇㄷㅁ") 검색을 지원한다.
+ * 영화 등록/삭제 시 해당 영화만 증분 반영하고, 좋아요 수 등은 주기적인 전체 재구성 때 갱신한다.
+ * 자동완성(SearchSuggester)도 같은 문서로 함께 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSearchIndex {
+
+    private static final String MOVIE_QUERY = """
+            SELECT m.id, m.title, m.poster, m.movie_likes, d.name AS director_name
+            FROM movie m
+            LEFT JOIN director d ON d.id = m.director_id
+            """;
+
+    private static final String ACTOR_QUERY = """
+            SELECT ma.movie_id, a.name
+            FROM movie_actor ma
+            JOIN actor a ON a.id = ma.actor_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SearchSuggester searchSuggester;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    private volatile boolean ready;
+
+    // 전체 재구성 도중 들어온 증분 변경은 교체 후 다시 반영
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${search.index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            IndexData rebuilt = new IndexData();
+            load(rebuilt, null);
+            searchSuggester.rebuild(rebuilt.documents.values());
+
+            lock.writeLock().lock();
+            try {
+                data = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("검색 인덱스 구성 완료: movies = {}, grams = {}, {}ms",
+                    rebuilt.documents.size(), rebuilt.gramCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("검색 인덱스 구성 실패", e);
+        } finally {
+            rebuilding = false;
+        }
+
+        if (!changedDuringRebuild.isEmpty()) {
+            reindex(new ArrayList<>(changedDuringRebuild));
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 해당 영화 문서를 DB 에서 다시 읽어 교체 (영화 등록/수정)
+     */
+    public void reindexAfterCommit(Collection<Long> movieIds) {
+        List<Long> ids = List.copyOf(movieIds);
+        afterCommit(() -> reindex(ids));
+    }
+
+    public void removeAfterCommit(Collection<Long> movieIds) {
+        List<Long> ids = List.copyOf(movieIds);
+        afterCommit(() -> remove(ids));
+    }
+
+    public void reindex(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(movieIds);
+        }
+        try {
+            IndexData loaded = new IndexData();
+            load(loaded, movieIds);
+
+            lock.writeLock().lock();
+            try {
+                boolean replaced = movieIds.stream().anyMatch(data.documents::containsKey);
+                movieIds.forEach(data::remove);
+                loaded.documents.values().forEach(data::add);
+                // 기존 영화가 바뀐 경우에만 자동완성 전체 재구성, 신규 영화는 트라이에 바로 추가
+                if (replaced) {
+                    searchSuggester.rebuild(data.documents.values());
+                } else {
+                    searchSuggester.add(loaded.documents.values());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.error("검색 인덱스 증분 반영 실패: movieIds = {}", movieIds, e);
+        }
+    }
+
+    public void remove(Collection<Long> movieIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(movieIds);
+        }
+        lock.writeLock().lock();
+        try {
+            movieIds.forEach(data::remove);
+            searchSuggester.rebuild(data.documents.values());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 순 검색 결과 중 offset 부터 limit 개
+     */
+    public List<SearchMovieResponse> search(SearchField field, String keyword, int offset, int limit) {
+        String query = HangulUtil.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        boolean chosungQuery = HangulUtil.isChosungOnly(query);
+
+        List<SearchDocument.Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Set<Long>> postings = data.postings.getOrDefault(field, Map.of());
+            List<Set<Long>> candidates = new ArrayList<>();
+            for (String gram : queryGrams(query)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                candidates.add(posting);
+            }
+            candidates.sort(Comparator.comparingInt(Set::size));
+
+            for (Long movieId : candidates.get(0)) {
+                if (!containsAll(candidates, movieId)) {
+                    continue;
+                }
+                SearchDocument.Match match = data.documents.get(movieId).match(field, query, chosungQuery);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(SearchDocument.RELEVANCE);
+        return matches.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(match -> new SearchMovieResponse(
+                        match.getDocument().getMovieId(),
+                        match.getDocument().getPoster(),
+                        match.getDocument().getTitle()))
+                .toList();
+    }
+
+    private void load(IndexData target, Collection<Long> movieIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("movieIds", movieIds);
+        Map<Long, SearchDocument> documents = new HashMap<>();
+
+        jdbcTemplate.query(MOVIE_QUERY + (movieIds != null ? "WHERE m.id IN (:movieIds)" : ""), params, rs -> {
+            long movieId = rs.getLong("id");
+            documents.put(movieId, new SearchDocument(movieId, rs.getString("title"), rs.getString("poster"),
+                    rs.getLong("movie_likes"), rs.getString("director_name")));
+        });
+        jdbcTemplate.query(ACTOR_QUERY + (movieIds != null ? "WHERE ma.movie_id IN (:movieIds)" : ""), params, rs -> {
+            SearchDocument document = documents.get(rs.getLong("movie_id"));
+            if (document != null) {
+                document.addTerm(SearchField.ACTOR, rs.getString("name"));
+            }
+        });
+
+        documents.values().forEach(target::add);
+    }
+
+    private static boolean containsAll(List<Set<Long>> postings, Long movieId) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(movieId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 한 글자 검색어는 1-gram, 그 외에는 2-gram 으로 조회
+    private static List<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return List.of(query);
+        }
+        List<String> grams = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class IndexData {
+        private final Map<Long, SearchDocument> documents = new HashMap<>();
+        private final Map<SearchField, Map<String, Set<Long>>> postings = new EnumMap<>(SearchField.class);
+
+        void add(SearchDocument document) {
+            documents.put(document.getMovieId(), document);
+            forEachGram(document, (field, gram) -> postings
+                    .computeIfAbsent(field, key -> new HashMap<>())
+                    .computeIfAbsent(gram, key -> new HashSet<>())
+                    .add(document.getMovieId()));
+        }
+
+        void remove(Long movieId) {
+            SearchDocument document = documents.remove(movieId);
+            if (document == null) {
+                return;
+            }
+            forEachGram(document, (field, gram) -> {
+                Map<String, Set<Long>> fieldPostings = postings.get(field);
+                Set<Long> posting = fieldPostings != null ? fieldPostings.get(gram) : null;
+                if (posting != null && posting.remove(movieId) && posting.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            });
+        }
+
+        int gramCount() {
+            return postings.values().stream().mapToInt(Map::size).sum();
+        }
+
+        private static void forEachGram(SearchDocument document, BiConsumer<SearchField, String> consumer) {
+            for (SearchField field : SearchField.values()) {
+                for (SearchDocument.Term term : document.terms(field)) {
+                    indexGrams(term.getText()).forEach(gram -> consumer.accept(field, gram));
+                    if (term.getChosung() != null) {
+                        indexGrams(term.getChosung()).forEach(gram -> consumer.accept(field, gram));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.global.util.HangulUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 인덱스에 올라가는 영화 한 편
+ * 필드별로 정규화된 문자열과 (한글이 있으면) 초성 문자열을 함께 가진다.
+ */
+@Getter
+class SearchDocument {
+
+    // 완전 일치 > 앞부분 일치 > 부분 일치, 같으면 앞쪽 위치 / 짧은 문자열 / 좋아요 순
+    static final Comparator<Match> RELEVANCE = Comparator.comparingInt(Match::getRank)
+            .thenComparingInt(Match::getPosition)
+            .thenComparingInt(Match::getLength)
+            .thenComparing(Comparator.comparingLong(Match::getLikes).reversed())
+            .thenComparing(Comparator.comparingLong(Match::getMovieId).reversed());
+
+    private final Long movieId;
+    private final String title;
+    private final String poster;
+    private final long likes;
+    private final Map<SearchField, List<Term>> terms = new EnumMap<>(SearchField.class);
+
+    SearchDocument(Long movieId, String title, String poster, long likes, String directorName) {
+        this.movieId = movieId;
+        this.title = title;
+        this.poster = poster;
+        this.likes = likes;
+        addTerm(SearchField.MOVIE, title);
+        addTerm(SearchField.DIRECTOR, directorName);
+    }
+
+    void addTerm(SearchField field, String value) {
+        String text = HangulUtil.normalize(value);
+        if (text.isEmpty()) {
+            return;
+        }
+        String chosung = HangulUtil.containsHangul(text) ? HangulUtil.toChosung(text) : null;
+        terms.computeIfAbsent(field, key -> new ArrayList<>()).add(new Term(value, text, chosung));
+    }
+
+    List<Term> terms(SearchField field) {
+        return terms.getOrDefault(field, List.of());
+    }
+
+    /**
+     * 필드 문자열 중 검색어를 포함하는 가장 좋은 일치 (없으면 null)
+     * n-gram 교집합은 후보일 뿐이므로 실제 포함 여부를 여기서 확인한다.
+     */
+    Match match(SearchField field, String query, boolean chosungQuery) {
+        Match best = null;
+        for (Term term : terms(field)) {
+            String text = chosungQuery ? term.getChosung() : term.getText();
+            if (text == null) {
+                continue;
+            }
+            int position = text.indexOf(query);
+            if (position < 0) {
+                continue;
+            }
+            int rank = text.length() == query.length() ? 0 : position == 0 ? 1 : 2;
+            Match match = new Match(rank, position, text.length(), likes, movieId, this);
+            if (best == null || RELEVANCE.compare(match, best) < 0) {
+                best = match;
+            }
+        }
+        return best;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Term {
+        private final String value;
+        private final String text;
+        private final String chosung;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Match {
+        private final int rank;
+        private final int position;
+        private final int length;
+        private final long likes;
+        private final long movieId;
+        private final SearchDocument document;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cookie.domain.search.index;
+
+public enum SearchField {
+    MOVIE,      // 영화 제목
+    ACTOR,      // 출연 배우 이름
+    DIRECTOR    // 감독 이름
+}
@@ -0,0 +1,133 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.domain.search.dto.response.SearchSuggestResponse;
+import com.cookie.global.util.HangulUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성 (영화 제목 / 배우 / 감독)
+ * MovieSearchIndex 가 들고 있는 문서로 SuggestTrie 를 만들고, 요청 시에는 메모리만 조회한다.
+ * 가중치: 영화는 좋아요 수, 배우/감독은 참여 영화들의 (좋아요 수 + 1) 합
+ * 단어 시작 위치마다 키를 넣어 "노웨이" 로도 "스파이더맨: 노 웨이 홈" 을 찾고, 한글은 초성 키도 함께 넣는다.
+ */
+@Slf4j
+@Component
+public class SearchSuggester {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SuggestData data;
+
+    @Value("${search.suggest.top-size:10}")
+    private int topSize;
+
+    public List<SearchSuggestResponse> suggest(String keyword, int size) {
+        String prefix = HangulUtil.normalize(keyword);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (data == null) {
+                return List.of();
+            }
+            return data.trie.find(prefix, Math.max(size, 0)).stream()
+                    .map(suggestion -> new SearchSuggestResponse(
+                            suggestion.getType().name().toLowerCase(Locale.ROOT),
+                            suggestion.getKeyword(),
+                            suggestion.getMovieId(),
+                            suggestion.getPoster()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성 (좋아요 수 갱신, 영화 삭제/수정 반영)
+     */
+    void rebuild(Collection<SearchDocument> documents) {
+        long start = System.currentTimeMillis();
+        SuggestData rebuilt = new SuggestData(new SuggestTrie(topSize));
+        documents.forEach(rebuilt::add);
+
+        lock.writeLock().lock();
+        try {
+            data = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("자동완성 트라이 구성 완료: nodes = {}, {}ms", rebuilt.trie.nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 새로 등록된 영화만 기존 트라이에 추가
+     */
+    void add(Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            if (data == null) {
+                return;
+            }
+            documents.forEach(data::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static class SuggestData {
+        private final SuggestTrie trie;
+        // 배우/감독은 이름 단위로 하나의 후보를 공유하고 가중치를 누적
+        private final Map<String, SuggestTrie.Suggestion> people = new HashMap<>();
+
+        SuggestData(SuggestTrie trie) {
+            this.trie = trie;
+        }
+
+        void add(SearchDocument document) {
+            for (SearchDocument.Term term : document.terms(SearchField.MOVIE)) {
+                SuggestTrie.Suggestion suggestion = new SuggestTrie.Suggestion(
+                        SearchField.MOVIE, term.getValue(), document.getMovieId(), document.getPoster(), document.getLikes());
+                insertKeys(term.getValue(), suggestion);
+            }
+            addPeople(SearchField.ACTOR, document);
+            addPeople(SearchField.DIRECTOR, document);
+        }
+
+        private void addPeople(SearchField type, SearchDocument document) {
+            for (SearchDocument.Term term : document.terms(type)) {
+                SuggestTrie.Suggestion suggestion = people.computeIfAbsent(type.name() + ":" + term.getText(),
+                        key -> new SuggestTrie.Suggestion(type, term.getValue(), null, null, 0));
+                suggestion.addWeight(document.getLikes() + 1);
+                insertKeys(term.getValue(), suggestion);
+            }
+        }
+
+        private void insertKeys(String value, SuggestTrie.Suggestion suggestion) {
+            for (int i = 0; i < value.length(); i++) {
+                boolean wordStart = !Character.isWhitespace(value.charAt(i))
+                        && (i == 0 || Character.isWhitespace(value.charAt(i - 1)));
+                if (!wordStart) {
+                    continue;
+                }
+                String key = HangulUtil.normalize(value.substring(i));
+                if (key.isEmpty()) {
+                    continue;
+                }
+                trie.insert(key, suggestion);
+                if (HangulUtil.containsHangul(key)) {
+                    trie.insert(HangulUtil.toChosung(key), suggestion);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cookie.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자동완성용 접두어 트라이
+ * 자식은 정렬된 char 배열 + 노드 배열로 두어 노드마다 HashMap 을 만들지 않고,
+ * 각 노드에 그 접두어로 시작하는 후보 중 가중치 상위 topSize 개를 미리 담아 두어 조회는 접두어 길이만큼만 내려간다.
+ * 동기화는 SearchSuggester 에서 처리한다.
+ */
+class SuggestTrie {
+
+    private static final char[] EMPTY_LABELS = new char[0];
+    private static final Node[] EMPTY_CHILDREN = new Node[0];
+    private static final Suggestion[] EMPTY_TOP = new Suggestion[0];
+
+    // 가중치 높은 순, 같으면 짧은 키워드 순
+    private static final Comparator<Suggestion> ORDER = Comparator.comparingLong(Suggestion::getWeight).reversed()
+            .thenComparingInt(suggestion -> suggestion.getKeyword().length())
+            .thenComparing(Suggestion::getKeyword);
+
+    private final int topSize;
+    private final Node root = new Node();
+    private int nodeCount = 1;
+
+    SuggestTrie(int topSize) {
+        this.topSize = topSize;
+    }
+
+    /**
+     * key 경로의 모든 노드에 후보 반영 (이미 있는 후보면 바뀐 가중치로 다시 정렬)
+     */
+    void insert(String key, Suggestion suggestion) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i), true);
+            node.offer(suggestion);
+        }
+    }
+
+    List<Suggestion> find(String prefix, int size) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i), false);
+        }
+        if (node == null) {
+            return List.of();
+        }
+        Suggestion[] top = node.top;
+        return Arrays.asList(top).subList(0, Math.min(size, top.length));
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    private class Node {
+        private char[] labels = EMPTY_LABELS;
+        private Node[] children = EMPTY_CHILDREN;
+        private Suggestion[] top = EMPTY_TOP;
+
+        Node child(char label, boolean create) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            if (!create) {
+                return null;
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node node = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = node;
+            labels = newLabels;
+            children = newChildren;
+            nodeCount++;
+            return node;
+        }
+
+        // 조회 중인 배열은 건드리지 않고 새 배열로 교체
+        void offer(Suggestion suggestion) {
+            Suggestion[] next;
+            if (Arrays.asList(top).contains(suggestion)) {
+                next = top.clone();
+            } else if (top.length < topSize) {
+                next = Arrays.copyOf(top, top.length + 1);
+                next[top.length] = suggestion;
+            } else if (ORDER.compare(suggestion, top[top.length - 1]) < 0) {
+                next = top.clone();
+                next[next.length - 1] = suggestion;
+            } else {
+                return;
+            }
+            Arrays.sort(next, ORDER);
+            top = next;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Suggestion {
+        private final SearchField type;
+        private final String keyword;
+        private final Long movieId;
+        private final String poster;
+        private long weight;
+
+        void addWeight(long delta) {
+            weight += delta;
+        }
+    }
+}
@@ -3,39 +3,143 @@ package com.cookie.domain.search.service;
 import com.cookie.domain.movie.entity.MovieMonthRanking;
 import com.cookie.domain.movie.repository.MovieMonthRankingRepository;
 import com.cookie.domain.search.dto.response.SearchMovieMonthRankingResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
 
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * 검색 기본 화면(주간 인기 순위) 응답 스냅샷
+ * 순위는 주 1회 MovieLatestService.createMoviesMonthRanking 에서만 바뀌므로 완성된 응답을 메모리에 두고,
+ * 순위가 바뀐 트랜잭션이 커밋되면 다시 만들고 Redis 채널로 다른 인스턴스에도 알린다.
+ * ETag 는 응답 내용으로 만들어 인스턴스가 달라도 같은 값을 가진다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchMovieMonthRankingService {
 
+    private static final String INVALIDATE_CHANNEL = "search:month-ranking:invalidate";
+    // 자기 자신이 보낸 무효화 메시지는 건너뛰기 위한 인스턴스 식별자
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
     private final MovieMonthRankingRepository movieMonthRankingRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile RankingSnapshot snapshot;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (!INSTANCE_ID.equals(sender)) {
+                log.info("주간 인기 순위 스냅샷 무효화 수신");
+                rebuild();
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
 
     @Transactional(readOnly = true)
     public List<SearchMovieMonthRankingResponse> getMoviesMonthRanking() {
+        return getSnapshot().getRankings();
+    }
+
+    @Transactional(readOnly = true)
+    public RankingSnapshot getSnapshot() {
+        RankingSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 순위를 바꾸는 트랜잭션 안에서 호출 (커밋 이후 스냅샷 재생성 + 다른 인스턴스에 무효화 전파)
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
 
-        List<MovieMonthRanking> movieMonthRankings = movieMonthRankingRepository.findAll();
+    private void refresh() {
+        rebuild();
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, INSTANCE_ID);
+        } catch (Exception e) {
+            log.error("주간 인기 순위 무효화 전파 실패", e);
+        }
+    }
 
-        if (movieMonthRankings.isEmpty()) {
-            return Collections.emptyList();
+    // 다음 요청이 DB 를 기다리지 않도록 바로 다시 만들고, 실패하면 비워서 요청 시점에 다시 시도
+    private synchronized void rebuild() {
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            snapshot = null;
+            log.error("주간 인기 순위 스냅샷 생성 실패", e);
         }
+    }
 
-        return movieMonthRankings.stream().map(movie -> {
-            return SearchMovieMonthRankingResponse.builder()
-                    .movieId(movie.getMovie().getId())
-                    .movieTitle(movie.getMovie().getTitle())
-                    .releaseAt(movie.getMovie().getReleasedAt())
-                    .ranking(movie.getRanking())
-                    .poster(movie.getMovie().getPoster())
-                    .director(movie.getMovie().getDirector().getName())
-                    .build();
-        }).toList();
+    private RankingSnapshot load() {
+        List<SearchMovieMonthRankingResponse> rankings = movieMonthRankingRepository.findAllWithMovieAndDirector().stream()
+                .map(this::toResponse)
+                .toList();
+        return new RankingSnapshot(rankings);
     }
-}
 
+    private SearchMovieMonthRankingResponse toResponse(MovieMonthRanking movieMonthRanking) {
+        return SearchMovieMonthRankingResponse.builder()
+                .movieId(movieMonthRanking.getMovie().getId())
+                .movieTitle(movieMonthRanking.getMovie().getTitle())
+                .releaseAt(movieMonthRanking.getMovie().getReleasedAt())
+                .ranking(movieMonthRanking.getRanking())
+                .poster(movieMonthRanking.getMovie().getPoster())
+                .director(movieMonthRanking.getMovie().getDirector() != null
+                        ? movieMonthRanking.getMovie().getDirector().getName() : null)
+                .build();
+    }
+
+    @Getter
+    public static class RankingSnapshot {
+        private final List<SearchMovieMonthRankingResponse> rankings;
+        private final String eTag;
 
+        RankingSnapshot(List<SearchMovieMonthRankingResponse> rankings) {
+            this.rankings = rankings;
+            StringBuilder content = new StringBuilder();
+            rankings.forEach(ranking -> content.append(ranking.getRanking()).append(':')
+                    .append(ranking.getMovieId()).append(':')
+                    .append(ranking.getMovieTitle()).append(':')
+                    .append(ranking.getPoster()).append(':')
+                    .append(ranking.getReleaseAt()).append(':')
+                    .append(ranking.getDirector()).append('\n'));
+            this.eTag = "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.cookie.domain.search.service;
 import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.repository.MovieRepository;
 import com.cookie.domain.search.dto.response.SearchMovieResponse;
+import com.cookie.domain.search.index.MovieSearchIndex;
+import com.cookie.domain.search.index.SearchField;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,8 +16,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchService {
     private final MovieRepository movieRepository;
+    private final MovieSearchIndex movieSearchIndex;
 
+    // 검색 인덱스가 준비되기 전(기동 직후)에만 DB 접두어 검색 사용
     public List<SearchMovieResponse> searchMovies(String keyword, Pageable pageable) {
+        if (movieSearchIndex.isReady()) {
+            return searchIndex(SearchField.MOVIE, keyword, pageable);
+        }
         Page<Movie> movies = movieRepository.findByTitle(keyword, pageable);
         return movies.stream()
                 .map(SearchMovieResponse::fromMovie)
@@ -23,6 +30,9 @@ public class SearchService {
     }
 
     public List<SearchMovieResponse> searchActors(String keyword, Pageable pageable) {
+        if (movieSearchIndex.isReady()) {
+            return searchIndex(SearchField.ACTOR, keyword, pageable);
+        }
         Page<Movie> movies = movieRepository.findMoviesByActorName(keyword, pageable);
         return movies.stream()
                 .map(SearchMovieResponse::fromMovie)
@@ -30,9 +40,16 @@ public class SearchService {
     }
 
     public List<SearchMovieResponse> searchDirectors(String keyword, Pageable pageable) {
+        if (movieSearchIndex.isReady()) {
+            return searchIndex(SearchField.DIRECTOR, keyword, pageable);
+        }
         Page<Movie> movies = movieRepository.findMoviesByDirectorName(keyword, pageable);
         return movies.stream()
                 .map(SearchMovieResponse::fromMovie)
                 .toList();
     }
+
+    private List<SearchMovieResponse> searchIndex(SearchField field, String keyword, Pageable pageable) {
+        return movieSearchIndex.search(field, keyword, (int) pageable.getOffset(), pageable.getPageSize());
+    }
 }
@@ -1,21 +1,27 @@
 package com.cookie.domain.user.batch;
 
-import com.cookie.domain.user.entity.DailyGenreScore;
-import com.cookie.domain.user.entity.GenreScore;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Configuration
 @EnableBatchProcessing
 public class BatchConfig {
@@ -23,6 +29,16 @@ public class BatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
+    @Value("${batch.genre-score.chunk-size:100}")
+    private int chunkSize;
+
+    // 파티션 수만큼 user_id 구간을 나눠 병렬 처리 (DB 커넥션 풀 크기보다 작게 유지)
+    @Value("${batch.genre-score.partition-count:4}")
+    private int partitionCount;
+
+    @Value("${batch.genre-score.thread-pool-size:4}")
+    private int threadPoolSize;
+
     public BatchConfig(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
@@ -30,22 +46,100 @@ public class BatchConfig {
 
 
 
+    /**
+     * 대상 범위 확정 -> 유저별 장르 점수 반영 -> 반영된 일일 점수 정리
+     * 추천은 GenrePreferenceService 의 실시간 벡터를 사용하므로, 이 Job 은 누적 점수를 genre_score 로 압축/정규화하는 역할만 한다.
+     */
     @Bean
-    public Job genreScoreUpdateJob(Step genreScoreUpdateStep) {
+    public Job genreScoreUpdateJob(Step dailyGenreScoreRangeStep,
+                                   Step genreScoreUpdateStep,
+                                   Step dailyGenreScoreCleanupStep,
+                                   GenreScoreJobListener genreScoreJobListener) {
         return new JobBuilder("genreScoreUpdateJob", jobRepository)
-                .start(genreScoreUpdateStep)
+                .listener(genreScoreJobListener)
+                .start(dailyGenreScoreRangeStep)
+                .next(genreScoreUpdateStep)
+                .next(dailyGenreScoreCleanupStep)
                 .build();
     }
 
     @Bean
-    public Step genreScoreUpdateStep(ItemReader<DailyGenreScore> reader,
-                                     ItemProcessor<DailyGenreScore, GenreScoreUpdate> processor,
-                                     ItemWriter<GenreScoreUpdate> writer) {
+    public Step dailyGenreScoreRangeStep(DailyGenreScoreRangeTasklet tasklet) {
+        return new StepBuilder("dailyGenreScoreRangeStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * user_id 구간별 파티션을 워커 스텝으로 병렬 실행
+     */
+    @Bean
+    public Step genreScoreUpdateStep(UserIdRangePartitioner partitioner,
+                                     @Qualifier("genreScoreUpdateWorkerStep") Step genreScoreUpdateWorkerStep,
+                                     @Qualifier("genreScoreBatchTaskExecutor") TaskExecutor taskExecutor) {
         return new StepBuilder("genreScoreUpdateStep", jobRepository)
-                .<DailyGenreScore, GenreScoreUpdate>chunk(100, transactionManager)
-                .reader(reader)
-                .processor(processor)
-                .writer(writer)
+                .partitioner("genreScoreUpdateWorkerStep", partitioner)
+                .step(genreScoreUpdateWorkerStep)
+                .gridSize(partitionCount)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    // 파티션마다 step scope 의 reader / writer 인스턴스를 따로 가진다
+    @Bean
+    public Step genreScoreUpdateWorkerStep(JdbcPagingItemReader<Long> dailyGenreScoreUserReader,
+                                           GenreScoreWriter genreScoreWriter) {
+        return new StepBuilder("genreScoreUpdateWorkerStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(dailyGenreScoreUserReader)
+                .writer(genreScoreWriter)
+                .build();
+    }
+
+    @Bean(name = "genreScoreBatchTaskExecutor")
+    public TaskExecutor genreScoreBatchTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("genre-score-batch-");
+        executor.setCorePoolSize(threadPoolSize);
+        executor.setMaxPoolSize(threadPoolSize);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public Step dailyGenreScoreCleanupStep(DailyGenreScoreCleanupTasklet tasklet) {
+        return new StepBuilder("dailyGenreScoreCleanupStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 파티션 구간(user_id) 안에서 일일 점수가 있는 유저 id 를 keyset 페이징으로 읽는 리더
+     * 한 페이지(청크 크기)만 메모리에 두고, 읽은 위치는 파티션 StepExecution 에 저장되어 실패한 지점부터 재시작할 수 있다.
+     * 장르별 합산은 writer 에서 청크 단위 GROUP BY 로 처리한다.
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> dailyGenreScoreUserReader(
+            DataSource dataSource,
+            @Value("#{jobExecutionContext['" + DailyGenreScoreRangeTasklet.MAX_DAILY_SCORE_ID + "']}") Long maxDailyScoreId,
+            @Value("#{stepExecutionContext['" + UserIdRangePartitioner.MIN_USER_ID + "']}") Long minUserId,
+            @Value("#{stepExecutionContext['" + UserIdRangePartitioner.MAX_USER_ID + "']}") Long maxUserId) {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("dailyGenreScoreUserReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT DISTINCT user_id")
+                .fromClause("FROM daily_genre_score")
+                .whereClause("id <= :maxId AND user_id BETWEEN :minUserId AND :maxUserId")
+                .parameterValues(Map.of(
+                        "maxId", maxDailyScoreId != null ? maxDailyScoreId : 0L,
+                        "minUserId", minUserId,
+                        "maxUserId", maxUserId))
+                .sortKeys(Map.of("user_id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> rs.getLong("user_id"))
                 .build();
     }
 }
@@ -0,0 +1,46 @@
+package com.cookie.domain.user.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반영이 끝난 daily_genre_score 삭제 (Job 마지막에 한 번)
+ * 긴 잠금을 피하기 위해 일정 건수씩 나눠 삭제한다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class DailyGenreScoreCleanupTasklet implements Tasklet {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxDailyScoreId;
+
+    @Value("${batch.genre-score.delete-batch-size:10000}")
+    private int deleteBatchSize;
+
+    public DailyGenreScoreCleanupTasklet(JdbcTemplate jdbcTemplate,
+                                         @Value("#{jobExecutionContext['" + DailyGenreScoreRangeTasklet.MAX_DAILY_SCORE_ID + "']}") Long maxDailyScoreId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxDailyScoreId = maxDailyScoreId != null ? maxDailyScoreId : 0L;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        int deleted = jdbcTemplate.update("DELETE FROM daily_genre_score WHERE id <= ? LIMIT ?", maxDailyScoreId, deleteBatchSize);
+        contribution.incrementWriteCount(deleted);
+
+        // 삭제할 행이 남아 있으면 같은 스텝을 반복 (반복마다 별도 트랜잭션)
+        if (deleted == deleteBatchSize) {
+            return RepeatStatus.CONTINUABLE;
+        }
+        log.info("일일 장르 점수 정리 완료: daily_genre_score.id <= {}", maxDailyScoreId);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.cookie.domain.user.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 실행에서 처리할 daily_genre_score 범위(id 상한)를 잡아 Job 컨텍스트에 저장
+ * 실행 중 새로 쌓이는 점수는 다음 실행에서 처리되고, 정리 스텝도 이 상한까지만 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyGenreScoreRangeTasklet implements Tasklet {
+
+    public static final String MAX_DAILY_SCORE_ID = "maxDailyScoreId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM daily_genre_score", Long.class);
+        long maxDailyScoreId = maxId != null ? maxId : 0L;
+
+        chunkContext.getStepContext().getStepExecution().getJobExecution()
+                .getExecutionContext()
+                .putLong(MAX_DAILY_SCORE_ID, maxDailyScoreId);
+        log.info("장르 점수 배치 대상 범위: daily_genre_score.id <= {}", maxDailyScoreId);
+        return RepeatStatus.FINISHED;
+    }
+}
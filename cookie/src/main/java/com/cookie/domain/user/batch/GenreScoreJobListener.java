@@ -0,0 +1,31 @@
+package com.cookie.domain.user.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 장르 점수 배치 소요 시간 및 처리 건수 기록
+ */
+@Slf4j
+@Component
+public class GenreScoreJobListener implements JobExecutionListener {
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long users = jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().equals("genreScoreUpdateStep"))
+                .mapToLong(StepExecution::getWriteCount)
+                .sum();
+        Duration elapsed = jobExecution.getStartTime() != null && jobExecution.getEndTime() != null
+                ? Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime())
+                : Duration.ZERO;
+
+        log.info("장르 점수 배치 종료: status = {}, users = {}, elapsed = {}ms",
+                jobExecution.getStatus(), users, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,71 @@
+package com.cookie.domain.user.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * genre_score.user_id 유니크 키 보장
+ * GenreScoreWriter 의 upsert(ON DUPLICATE KEY UPDATE)는 이 키가 없으면 매 실행마다 행을 새로 추가한다.
+ * 기존 테이블에 유저별 중복 행이 있으면 ddl-auto 가 키를 만들지 못하므로, 가장 최근 행만 남기고 키를 추가한다.
+ * 키를 만들 수 없으면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenreScoreUniqueKeyMigration {
+
+    private static final String UNIQUE_KEY_NAME = "uk_genre_score_user";
+
+    private static final String TABLE_EXISTS_QUERY = """
+            SELECT COUNT(*) FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_name = 'genre_score'
+            """;
+
+    // user_id 단일 컬럼 유니크 인덱스 (이름과 무관)
+    private static final String UNIQUE_KEY_EXISTS_QUERY = """
+            SELECT COUNT(*) FROM information_schema.statistics s
+            WHERE s.table_schema = DATABASE() AND s.table_name = 'genre_score'
+              AND s.non_unique = 0 AND s.column_name = 'user_id'
+              AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics o
+                  WHERE o.table_schema = s.table_schema AND o.table_name = s.table_name
+                    AND o.index_name = s.index_name AND o.column_name <> 'user_id')
+            """;
+
+    private static final String DELETE_DUPLICATES = """
+            DELETE g FROM genre_score g
+            JOIN genre_score newer ON newer.user_id = g.user_id AND newer.id > g.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueKey() {
+        if (count(TABLE_EXISTS_QUERY) == 0 || count(UNIQUE_KEY_EXISTS_QUERY) > 0) {
+            return;
+        }
+
+        log.warn("genre_score.user_id 유니크 키 없음, 중복 정리 후 추가");
+        try {
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES);
+            log.info("genre_score 중복 행 삭제: {}건", deleted);
+            jdbcTemplate.execute("ALTER TABLE genre_score ADD CONSTRAINT " + UNIQUE_KEY_NAME + " UNIQUE (user_id)");
+        } catch (Exception e) {
+            throw new IllegalStateException("genre_score.user_id 유니크 키를 추가하지 못했습니다.", e);
+        }
+
+        if (count(UNIQUE_KEY_EXISTS_QUERY) == 0) {
+            throw new IllegalStateException("genre_score.user_id 유니크 키가 없습니다.");
+        }
+        log.info("genre_score.user_id 유니크 키 추가 완료");
+    }
+
+    private long count(String query) {
+        Long count = jdbcTemplate.queryForObject(query, Long.class);
+        return count != null ? count : 0L;
+    }
+}
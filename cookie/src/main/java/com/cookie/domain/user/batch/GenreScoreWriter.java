@@ -1,137 +1,132 @@
 package com.cookie.domain.user.batch;
 
-import com.cookie.domain.user.entity.GenreScore;
-import com.cookie.domain.user.entity.User;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.cookie.domain.user.entity.enums.Genre;
+import com.cookie.domain.user.service.GenrePreferenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.stream.Collectors;
+
+/**
+ * 유저 id 청크 단위로 장르 점수 반영
+ * 1. daily_genre_score 를 (user_id, category) 로 SQL 에서 미리 합산
+ * 2. 기존 genre_score 와 더해 long[Genre.SIZE] 벡터로 계산 후 백분율로 정규화
+ * 3. genre_score 에 배치 upsert
+ * 4. 커밋 이후 실시간 장르 벡터(Redis)에서 이번에 반영한 만큼을 정리
+ */
+@Slf4j
 @Component
-public class GenreScoreWriter implements ItemWriter<GenreScoreUpdate> {
-
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    private static final Map<String, String> CATEGORY_FIELD_MAP = Map.ofEntries(
-            Map.entry("로맨스", "romance"),
-            Map.entry("코미디", "comedy"),
-            Map.entry("공포", "horror"),
-            Map.entry("판타지", "fantasy"),
-            Map.entry("액션", "action"),
-            Map.entry("SF", "sf"),
-            Map.entry("스릴러", "thriller"),
-            Map.entry("음악", "music"),
-            Map.entry("다큐멘터리", "documentary"),
-            Map.entry("전쟁", "war"),
-            Map.entry("애니메이션", "animation"),
-            Map.entry("모험", "adventure"),
-            Map.entry("드라마", "drama"),
-            Map.entry("가족", "family"),
-            Map.entry("미스터리", "mistery"),
-            Map.entry("TV 영화", "tvMovie"),
-            Map.entry("서부극", "western"),
-            Map.entry("범죄", "crime"),
-            Map.entry("역사", "history")
-
-    );
+@StepScope
+public class GenreScoreWriter implements ItemWriter<Long> {
+
+    private static final String GENRE_COLUMNS = Arrays.stream(Genre.values())
+            .map(Genre::getColumn)
+            .collect(Collectors.joining(", "));
+
+    private static final String DAILY_SCORE_SUM_QUERY = """
+            SELECT user_id, category, SUM(score) AS score
+            FROM daily_genre_score
+            WHERE user_id IN (:userIds) AND id <= :maxId
+            GROUP BY user_id, category
+            """;
+
+    private static final String GENRE_SCORE_QUERY =
+            "SELECT user_id, " + GENRE_COLUMNS + " FROM genre_score WHERE user_id IN (:userIds)";
+
+    private static final String GENRE_SCORE_UPSERT =
+            "INSERT INTO genre_score (user_id, " + GENRE_COLUMNS + ") VALUES (:userId, "
+                    + Arrays.stream(Genre.values()).map(genre -> ":" + genre.getColumn()).collect(Collectors.joining(", "))
+                    + ") ON DUPLICATE KEY UPDATE "
+                    + Arrays.stream(Genre.values()).map(genre -> genre.getColumn() + " = VALUES(" + genre.getColumn() + ")").collect(Collectors.joining(", "));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final GenrePreferenceService genrePreferenceService;
+    private final long maxDailyScoreId;
+
+    public GenreScoreWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                            GenrePreferenceService genrePreferenceService,
+                            @Value("#{jobExecutionContext['" + DailyGenreScoreRangeTasklet.MAX_DAILY_SCORE_ID + "']}") Long maxDailyScoreId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.genrePreferenceService = genrePreferenceService;
+        this.maxDailyScoreId = maxDailyScoreId != null ? maxDailyScoreId : 0L;
+    }
 
     @Override
-    public void write(Chunk<? extends GenreScoreUpdate> items) {
-        Map<User, GenreScore> userGenreScores = new HashMap<>();
-
-        // 1. 각 유저별 점수 합산
-        for (GenreScoreUpdate update : items) {
-            User user = update.getUser();
-            String genre = update.getGenre();
-            long score = update.getScore();
-
-            // GenreScore 엔티티 가져오기 또는 새로 생성
-            GenreScore genreScore = userGenreScores.computeIfAbsent(user, u -> {
-                GenreScore newGenreScore = entityManager.createQuery(
-                                "SELECT gs FROM GenreScore gs WHERE gs.user = :user", GenreScore.class)
-                        .setParameter("user", user)
-                        .getResultStream()
-                        .findFirst()
-                        .orElseGet(() -> GenreScore.builder().user(user).build());
-                return newGenreScore;
-            });
-
-            // 점수 합산
-            updateGenreScore(genreScore, genre, score);
-        }
-
-        // 2. 각 유저별로 총합 계산 및 백분율 반영
-        for (Map.Entry<User, GenreScore> entry : userGenreScores.entrySet()) {
-            User user = entry.getKey();
-            GenreScore genreScore = entry.getValue();
-
-            long totalScore = calculateTotalScore(genreScore);
-
-            if (totalScore > 0) {
-                updateGenreScorePercentages(genreScore, totalScore);
+    public void write(Chunk<? extends Long> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds.getItems())
+                .addValue("maxId", maxDailyScoreId);
+
+        // 1. 기존 장르 점수
+        Map<Long, long[]> genreScores = new HashMap<>();
+        jdbcTemplate.query(GENRE_SCORE_QUERY, params, rs -> {
+            long[] scores = new long[Genre.SIZE];
+            for (Genre genre : Genre.values()) {
+                scores[genre.ordinal()] = rs.getLong(genre.getColumn());
             }
-
-            // 저장
-            entityManager.merge(genreScore);
-        }
-
-        // 3. DailyGenreScore 데이터 삭제
-        entityManager.createQuery(
-                        "DELETE FROM DailyGenreScore d WHERE d.createdAt < :yesterday")
-                .setParameter("yesterday", java.time.LocalDate.now().minusDays(1).atStartOfDay())
-                .executeUpdate();
-    }
-
-    private void updateGenreScore(GenreScore genreScore, String genre, long score) {
-        try {
-            String fieldName = CATEGORY_FIELD_MAP.get(genre);
-            if (fieldName == null) {
-                throw new IllegalArgumentException("Unknown genre: " + genre);
+            genreScores.put(rs.getLong("user_id"), scores);
+        });
+
+        // 2. 일일 장르 점수 합산분 반영
+        jdbcTemplate.query(DAILY_SCORE_SUM_QUERY, params, rs -> {
+            Genre genre = Genre.fromCategory(rs.getString("category"));
+            if (genre == null) {
+                log.warn("알 수 없는 장르 점수 무시: userId = {}, category = {}", rs.getLong("user_id"), rs.getString("category"));
+                return;
             }
-
-            Field field = GenreScore.class.getDeclaredField(fieldName);
-            field.setAccessible(true);
-            long currentScore = (long) field.get(genreScore);
-            field.set(genreScore, currentScore + score);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Failed to update genre score for genre: " + genre, e);
-        }
+            long[] scores = genreScores.computeIfAbsent(rs.getLong("user_id"), id -> new long[Genre.SIZE]);
+            scores[genre.ordinal()] += rs.getLong("score");
+        });
+
+        // 3. 백분율 정규화 후 일괄 upsert
+        List<MapSqlParameterSource> batch = new ArrayList<>(genreScores.size());
+        genreScores.forEach((userId, scores) -> {
+            normalize(scores);
+            MapSqlParameterSource row = new MapSqlParameterSource("userId", userId);
+            for (Genre genre : Genre.values()) {
+                row.addValue(genre.getColumn(), scores[genre.ordinal()]);
+            }
+            batch.add(row);
+        });
+
+        jdbcTemplate.batchUpdate(GENRE_SCORE_UPSERT, batch.toArray(new MapSqlParameterSource[0]));
+
+        List<Long> writtenUserIds = new ArrayList<>(userIds.getItems());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    genrePreferenceService.refreshPendingScores(writtenUserIds, maxDailyScoreId);
+                } catch (Exception e) {
+                    log.error("실시간 장르 점수 정리 실패: users = {}", writtenUserIds.size(), e);
+                }
+            }
+        });
     }
 
-    private long calculateTotalScore(GenreScore genreScore) {
+    private void normalize(long[] scores) {
         long totalScore = 0;
-        for (String fieldName : CATEGORY_FIELD_MAP.values()) {
-            try {
-                Field field = GenreScore.class.getDeclaredField(fieldName);
-                field.setAccessible(true);
-                totalScore += (long) field.get(genreScore);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                throw new RuntimeException("Failed to calculate total score", e);
-            }
+        for (long score : scores) {
+            totalScore += score;
         }
-        return totalScore;
-    }
-
-    private void updateGenreScorePercentages(GenreScore genreScore, long totalScore) {
-        for (String fieldName : CATEGORY_FIELD_MAP.values()) {
-            try {
-                Field field = GenreScore.class.getDeclaredField(fieldName);
-                field.setAccessible(true);
-                long currentScore = (long) field.get(genreScore);
-                double percentage = (double) currentScore / totalScore * 100;
-
-                // 필드 값을 백분율로 업데이트
-                field.set(genreScore, Math.round(percentage));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                throw new RuntimeException("Failed to update percentages", e);
-            }
+        if (totalScore <= 0) {
+            return;
+        }
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = Math.round((double) scores[i] / totalScore * 100);
         }
     }
 }
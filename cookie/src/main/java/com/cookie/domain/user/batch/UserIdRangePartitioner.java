@@ -0,0 +1,77 @@
+package com.cookie.domain.user.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 일일 점수가 있는 유저의 user_id 최소~최대 구간을 gridSize 개의 연속 구간으로 분할
+ * 구간끼리 유저가 겹치지 않으므로 파티션별 writer 가 같은 genre_score 행을 동시에 갱신하지 않는다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class UserIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_USER_ID = "minUserId";
+    public static final String MAX_USER_ID = "maxUserId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxDailyScoreId;
+
+    public UserIdRangePartitioner(JdbcTemplate jdbcTemplate,
+                                  @Value("#{jobExecutionContext['" + DailyGenreScoreRangeTasklet.MAX_DAILY_SCORE_ID + "']}") Long maxDailyScoreId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxDailyScoreId = maxDailyScoreId != null ? maxDailyScoreId : 0L;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Long> range = jdbcTemplate.queryForObject(
+                "SELECT MIN(user_id) AS min_id, MAX(user_id) AS max_id FROM daily_genre_score WHERE id <= ?",
+                (rs, rowNum) -> {
+                    Map<String, Long> result = new HashMap<>();
+                    result.put(MIN_USER_ID, rs.getObject("min_id") != null ? rs.getLong("min_id") : null);
+                    result.put(MAX_USER_ID, rs.getObject("max_id") != null ? rs.getLong("max_id") : null);
+                    return result;
+                },
+                maxDailyScoreId);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Long min = range.get(MIN_USER_ID);
+        Long max = range.get(MAX_USER_ID);
+
+        // 처리할 점수가 없으면 빈 구간 하나만 실행
+        if (min == null || max == null) {
+            partitions.put("partition0", rangeContext(1L, 0L));
+            return partitions;
+        }
+
+        int partitionCount = Math.max(1, gridSize);
+        long targetSize = (max - min) / partitionCount + 1;
+
+        long start = min;
+        for (int i = 0; start <= max; i++) {
+            long end = Math.min(start + targetSize - 1, max);
+            partitions.put("partition" + i, rangeContext(start, end));
+            start = end + 1;
+        }
+
+        log.info("장르 점수 배치 파티션 분할: userId {} ~ {}, partitions = {}", min, max, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minUserId, long maxUserId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_USER_ID, minUserId);
+        context.putLong(MAX_USER_ID, maxUserId);
+        return context;
+    }
+}
@@ -3,6 +3,7 @@ package com.cookie.domain.user.controller;
 import com.cookie.domain.badge.dto.MyBadgeResponse;
 import com.cookie.domain.movie.dto.response.MoviePagenationResponse;
 import com.cookie.domain.movie.service.MovieService;
+import com.cookie.domain.review.dto.response.ReviewCursorResponse;
 import com.cookie.domain.review.dto.response.ReviewPagenationResponse;
 import com.cookie.domain.review.dto.response.ReviewResponse;
 import com.cookie.domain.review.service.ReviewService;
@@ -81,6 +82,22 @@ public class UserController {
         return ApiUtil.success(response);
     }
 
+    @Operation(summary = "좋아요 누른 리뷰 리스트 (커서 기반)", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReviewCursorResponse.class)))
+    })
+    @GetMapping("/likedReviewList/cursor")
+    public ApiSuccess<?> getLikedReviewFeed(
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+            @RequestParam(name="cursor", required = false) String cursor, // 이전 응답의 nextCursor (첫 페이지는 생략)
+            @RequestParam(name="size", defaultValue = "10") int size,
+            @RequestParam(name="withTotal", defaultValue = "false") boolean withTotal // 전체 개수 포함 여부
+    ) {
+        Long userId = customOAuth2User.getId();
+        ReviewCursorResponse response = reviewService.getLikedReviewFeed(userId, cursor, size, withTotal);
+        return ApiUtil.success(response);
+    }
+
     @Operation(summary = "내 뱃지 포인트 히스토리 조회", responses = {
             @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
                     array = @ArraySchema(
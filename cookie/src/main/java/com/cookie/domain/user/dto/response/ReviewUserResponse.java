@@ -4,10 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ReviewUserResponse {
+public class ReviewUserResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Long userId;
     private String nickname;
     private String profileImage;
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_match_up_participation_user_match_up", columnNames = {"user_id", "match_up_id"}))
 public class MatchUpParticipation {
 
     @Id
@@ -21,13 +22,19 @@ public class MatchUpParticipation {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 매치업당 1인 1표를 유니크 제약으로 보장하기 위한 컬럼
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_up_id", nullable = false)
+    private MatchUp matchUp;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "matchup_movie_id")
     private MatchUpMovie matchUpMovie;
 
     @Builder
-    public MatchUpParticipation(User user, MatchUpMovie matchUpMovie) {
+    public MatchUpParticipation(User user, MatchUp matchUp, MatchUpMovie matchUpMovie) {
         this.user = user;
+        this.matchUp = matchUp;
         this.matchUpMovie = matchUpMovie;
     }
 }
@@ -0,0 +1,49 @@
+package com.cookie.domain.user.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장르 점수 대상 장르 (category: 장르 카테고리명, column: genre_score 컬럼명)
+ * ordinal 을 long[] 장르 벡터의 인덱스로 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Genre {
+    ROMANCE("로맨스", "romance"),
+    HORROR("공포", "horror"),
+    COMEDY("코미디", "comedy"),
+    ACTION("액션", "action"),
+    FANTASY("판타지", "fantasy"),
+    ANIMATION("애니메이션", "animation"),
+    CRIME("범죄", "crime"),
+    SF("SF", "sf"),
+    MUSIC("음악", "music"),
+    THRILLER("스릴러", "thriller"),
+    WAR("전쟁", "war"),
+    DOCUMENTARY("다큐멘터리", "documentary"),
+    DRAMA("드라마", "drama"),
+    FAMILY("가족", "family"),
+    HISTORY("역사", "history"),
+    MISTERY("미스터리", "mistery"),
+    TV_MOVIE("TV 영화", "tv_movie"),
+    WESTERN("서부극", "western"),
+    ADVENTURE("모험", "adventure");
+
+    public static final int SIZE = values().length;
+
+    private static final Map<String, Genre> BY_CATEGORY = Arrays.stream(values())
+            .collect(Collectors.toMap(Genre::getCategory, Function.identity()));
+
+    private final String category;
+    private final String column;
+
+    public static Genre fromCategory(String category) {
+        return BY_CATEGORY.get(category);
+    }
+}
@@ -2,6 +2,19 @@ package com.cookie.domain.user.repository;
 
 import com.cookie.domain.user.entity.DailyGenreScore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface DailyGenreScoreRepository extends JpaRepository<DailyGenreScore, Long> {
+
+    // 아직 배치에 반영되지 않은(id > afterId) 일일 장르 점수 합계 (userId, category, score)
+    @Query("""
+        SELECT d.user.id, d.category, SUM(d.score)
+        FROM DailyGenreScore d
+        WHERE d.user.id IN :userIds AND d.id > :afterId
+        GROUP BY d.user.id, d.category
+    """)
+    List<Object[]> sumPendingScoresByUserIds(@Param("userIds") List<Long> userIds, @Param("afterId") Long afterId);
 }
@@ -7,12 +7,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MatchUpParticipationRepository extends JpaRepository<MatchUpParticipation, Long> {
     boolean existsByUserIdAndMatchUpMovie_Id(Long userId, Long matchUpMovieId);
 
+    boolean existsByUserIdAndMatchUpMovie_IdIn(Long userId, Collection<Long> matchUpMovieIds);
+
     @Query("""
     SELECT mup.user
     FROM MatchUpParticipation mup
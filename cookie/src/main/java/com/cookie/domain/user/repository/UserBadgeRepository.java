@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,10 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
 
     Optional<UserBadge> findByUserIdAndIsMainTrue(Long userId);
 
+    // 여러 유저의 대표 뱃지 일괄 조회 (userId, badgeImage, badgeName)
+    @Query("SELECT ub.user.id, b.badgeImage, b.name FROM UserBadge ub JOIN ub.badge b WHERE ub.user.id IN :userIds AND ub.isMain = true")
+    List<Object[]> findMainBadgesByUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Query("""
         SELECT ub
         FROM UserBadge ub
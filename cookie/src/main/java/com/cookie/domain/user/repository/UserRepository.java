@@ -1,5 +1,6 @@
 package com.cookie.domain.user.repository;
 
+import com.cookie.domain.user.dto.response.UserSummaryResponse;
 import com.cookie.domain.user.entity.User;
 import com.cookie.domain.user.entity.enums.SocialProvider;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,6 +26,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     Optional<User> findByNickname(String nickname);
 
+    // 채팅 발신자 정보 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT new com.cookie.domain.user.dto.response.UserSummaryResponse(u.id, u.nickname, u.profileImage) FROM User u WHERE u.id = :userId")
+    Optional<UserSummaryResponse> findSummaryById(@Param("userId") Long userId);
+
 //    @Query("SELECT ft.token FROM User u " +
 //            "JOIN u.fcmTokens ft " +
 //            "JOIN u.category c " +
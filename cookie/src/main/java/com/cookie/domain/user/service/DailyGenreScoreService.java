@@ -14,10 +14,13 @@ public class DailyGenreScoreService {
 
     private final DailyGenreScoreRepository dailyGenreScoreRepository;
     private final UserRepository userRepository;
+    private final GenrePreferenceService genrePreferenceService;
 
-    public DailyGenreScoreService(DailyGenreScoreRepository dailyGenreScoreRepository, UserRepository userRepository) {
+    public DailyGenreScoreService(DailyGenreScoreRepository dailyGenreScoreRepository, UserRepository userRepository,
+                                  GenrePreferenceService genrePreferenceService) {
         this.dailyGenreScoreRepository = dailyGenreScoreRepository;
         this.userRepository = userRepository;
+        this.genrePreferenceService = genrePreferenceService;
     }
 
     public void saveScore(User user, String genre, long score, ActionType actionType) {
@@ -28,6 +31,9 @@ public class DailyGenreScoreService {
                 .actionType(actionType)
                 .build();
         dailyGenreScoreRepository.save(dailyScore);
+
+        // 추천에 바로 반영되도록 실시간 장르 벡터에도 누적 (genre_score 반영은 야간 배치에서)
+        genrePreferenceService.addScore(user.getId(), genre, score);
     }
 
 }
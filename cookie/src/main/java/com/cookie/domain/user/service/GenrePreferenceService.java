@@ -0,0 +1,171 @@
+package com.cookie.domain.user.service;
+
+import com.cookie.domain.user.dto.response.GenreScoreResponse;
+import com.cookie.domain.user.entity.enums.Genre;
+import com.cookie.domain.user.repository.DailyGenreScoreRepository;
+import com.cookie.domain.user.repository.GenreScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 장르 선호도
+ * genre_score(배치로 정규화된 값)에 아직 배치에 반영되지 않은 일일 점수 합계(Redis 해시)를 더해 바로 추천에 사용한다.
+ * Redis 해시는 genreScoreUpdateJob 이 반영한 만큼 다시 계산되어 줄어든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenrePreferenceService {
+
+    private static final String PENDING_KEY = "genre-score:pending:user:";
+
+    // KEYS[1] 해시를 ARGV(field, value, ...)로 교체
+    private static final byte[] REPLACE_HASH_SCRIPT = """
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 0 then
+                redis.call('HSET', KEYS[1], unpack(ARGV))
+            end
+            return #ARGV / 2
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> template;
+    private final GenreScoreRepository genreScoreRepository;
+    private final DailyGenreScoreRepository dailyGenreScoreRepository;
+
+    /**
+     * 일일 장르 점수가 커밋된 이후 사용자 장르 벡터에 누적
+     */
+    public void addScore(Long userId, String genre, long score) {
+        Genre target = Genre.fromCategory(genre);
+        if (target == null) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                template.opsForHash().increment(PENDING_KEY + userId, target.name(), score);
+            } catch (Exception e) {
+                // 실패해도 일일 점수는 DB 에 남아 있으므로 배치 이후 반영된다
+                log.error("실시간 장르 점수 반영 실패: userId = {}, genre = {}", userId, genre, e);
+            }
+        });
+    }
+
+    /**
+     * 배치 반영분 + 미반영 일일 점수를 합친 장르별 점수 (장르 카테고리명 -> 점수)
+     * @return 장르 점수 데이터가 전혀 없으면 null
+     */
+    public Map<String, Long> getGenreScores(Long userId) {
+        GenreScoreResponse genreScore = genreScoreRepository.findGenreScoresByUserId(userId);
+        Map<Object, Object> pending = findPending(userId);
+        if (genreScore == null && pending.isEmpty()) {
+            return null;
+        }
+
+        long[] scores = genreScore != null ? toVector(genreScore) : new long[Genre.SIZE];
+        pending.forEach((field, value) -> {
+            try {
+                scores[Genre.valueOf(field.toString()).ordinal()] += Long.parseLong(value.toString());
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 실시간 장르 점수 무시: userId = {}, field = {}, value = {}", userId, field, value);
+            }
+        });
+
+        Map<String, Long> genreMap = new LinkedHashMap<>();
+        for (Genre genre : Genre.values()) {
+            genreMap.put(genre.getCategory(), scores[genre.ordinal()]);
+        }
+        return genreMap;
+    }
+
+    /**
+     * 배치가 afterId 까지의 일일 점수를 genre_score 에 반영한 뒤, 남은 미반영분으로 Redis 해시를 다시 계산
+     */
+    public void refreshPendingScores(List<Long> userIds, long afterId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<String, String>> pendingByUser = new HashMap<>();
+        for (Object[] row : dailyGenreScoreRepository.sumPendingScoresByUserIds(userIds, afterId)) {
+            Genre genre = Genre.fromCategory((String) row[1]);
+            if (genre != null) {
+                pendingByUser.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                        .put(genre.name(), String.valueOf(((Number) row[2]).longValue()));
+            }
+        }
+
+        // 유저별로 삭제 + 재작성을 Lua 스크립트 하나로 실행해 조회 시 빈 해시가 보이지 않도록 하고, 청크 전체를 한 번에 파이프라인으로 전송
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                Map<String, String> pending = pendingByUser.getOrDefault(userId, Map.of());
+                byte[][] keyAndArgs = new byte[1 + pending.size() * 2][];
+                keyAndArgs[0] = (PENDING_KEY + userId).getBytes(StandardCharsets.UTF_8);
+                int i = 1;
+                for (Map.Entry<String, String> entry : pending.entrySet()) {
+                    keyAndArgs[i++] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    keyAndArgs[i++] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                }
+                connection.scriptingCommands().eval(REPLACE_HASH_SCRIPT, ReturnType.INTEGER, 1, keyAndArgs);
+            }
+            return null;
+        });
+    }
+
+    private Map<Object, Object> findPending(Long userId) {
+        try {
+            return template.opsForHash().entries(PENDING_KEY + userId);
+        } catch (Exception e) {
+            log.error("실시간 장르 점수 조회 실패, 배치 반영분만 사용: userId = {}", userId, e);
+            return Map.of();
+        }
+    }
+
+    private long[] toVector(GenreScoreResponse genreScore) {
+        long[] scores = new long[Genre.SIZE];
+        scores[Genre.ROMANCE.ordinal()] = genreScore.getRomance();
+        scores[Genre.HORROR.ordinal()] = genreScore.getHorror();
+        scores[Genre.COMEDY.ordinal()] = genreScore.getComedy();
+        scores[Genre.ACTION.ordinal()] = genreScore.getAction();
+        scores[Genre.FANTASY.ordinal()] = genreScore.getFantasy();
+        scores[Genre.ANIMATION.ordinal()] = genreScore.getAnimation();
+        scores[Genre.CRIME.ordinal()] = genreScore.getCrime();
+        scores[Genre.SF.ordinal()] = genreScore.getSf();
+        scores[Genre.MUSIC.ordinal()] = genreScore.getMusic();
+        scores[Genre.THRILLER.ordinal()] = genreScore.getThriller();
+        scores[Genre.WAR.ordinal()] = genreScore.getWar();
+        scores[Genre.DOCUMENTARY.ordinal()] = genreScore.getDocumentary();
+        scores[Genre.DRAMA.ordinal()] = genreScore.getDrama();
+        scores[Genre.FAMILY.ordinal()] = genreScore.getFamily();
+        scores[Genre.HISTORY.ordinal()] = genreScore.getHistory();
+        scores[Genre.MISTERY.ordinal()] = genreScore.getMistery();
+        scores[Genre.TV_MOVIE.ordinal()] = genreScore.getTvMovie();
+        scores[Genre.WESTERN.ordinal()] = genreScore.getWestern();
+        scores[Genre.ADVENTURE.ordinal()] = genreScore.getAdventure();
+        return scores;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
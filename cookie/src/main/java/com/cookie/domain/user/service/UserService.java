@@ -11,6 +11,7 @@ import com.cookie.domain.movie.entity.Movie;
 import com.cookie.domain.movie.entity.MovieLike;
 import com.cookie.domain.movie.repository.MovieLikeRepository;
 import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.movie.service.GenreTopMovieIndex;
 import com.cookie.domain.notification.dto.request.FcmTokenRequest;
 import com.cookie.domain.notification.repository.FcmTokenRepository;
 import com.cookie.domain.notification.service.FcmTokenService;
@@ -29,10 +30,12 @@ import com.cookie.domain.user.entity.enums.SocialProvider;
 import com.cookie.domain.user.repository.*;
 import com.cookie.domain.review.repository.ReviewRepository;
 import com.cookie.global.service.AWSS3Service;
+import com.cookie.global.service.LikeCountBuffer;
 import com.cookie.domain.notification.entity.FcmToken;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -68,6 +71,8 @@ public class UserService {
     private final FcmTokenService fcmTokenService;
     private final RewardHistoryRepository rewardHistoryRepository;
     private final MatchUpRepository matchUpRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final GenreTopMovieIndex genreTopMovieIndex;
 
 
     @Transactional(readOnly = true)
@@ -107,7 +112,7 @@ public class UserService {
         List<Review> reviews = reviewRepository.findAllByUserIdWithMovie(userId);
 
         return reviews.stream()
-                .map(review -> ReviewResponse.fromReview(review, false, Long.valueOf(review.getReviewComments().size())))
+                .map(review -> ReviewResponse.fromReview(review, likeCountBuffer.reviewLikes(review.getId(), review.getReviewLike()), false, review.getCommentCount()))
                 .toList();
     }
     /**
@@ -174,7 +179,7 @@ public class UserService {
         // ReviewLike -> ReviewResponse 변환
         List<ReviewResponse> reviews = reviewsPage.getContent().stream()
                 .map(review -> {
-                    return ReviewResponse.fromReview(review, true, Long.valueOf(review.getReviewComments().size()));
+                    return ReviewResponse.fromReview(review, likeCountBuffer.reviewLikes(review.getId(), review.getReviewLike()), true, review.getCommentCount());
                 })
                 .toList();
 
@@ -237,6 +242,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(value = "userSummaryCache", key = "#userId", cacheManager = "userSummaryCacheManager")
     public void updateMyProfile(Long userId, MultipartFile profileImage, String nickname, String mainBadgeIdStr, String genreIdStr, String profileImageUrl) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("not found user: " + userId));
@@ -373,7 +379,7 @@ public class UserService {
         if (existingLike.isPresent()) {
             // 이미 좋아요를 눌렀다면 삭제
             movieLikeRepository.delete(existingLike.get());
-            movie.decreaseLikeCount();
+            likeCountBuffer.addMovieLike(movieId, -1);
 
             // DailyGenreScore에서 -6점 추가
             genres.forEach(genre -> dailyGenreScoreService.saveScore(user, genre, -6, ActionType.MOVIE_LIKE));
@@ -386,12 +392,15 @@ public class UserService {
                     .movie(movie)
                     .build();
             movieLikeRepository.save(movieLike);
-            movieRepository.increaseLikeCount(movieId);
+            likeCountBuffer.addMovieLike(movieId, 1);
 
             // DailyGenreScore에 6점 추가
             genres.forEach(genre -> dailyGenreScoreService.saveScore(user, genre, 6, ActionType.MOVIE_LIKE));
 
         }
+
+        // 장르별 상위 영화 인덱스 갱신 대상 표시
+        genreTopMovieIndex.markDirty(genres);
     }
 
     @Transactional
@@ -411,7 +420,7 @@ public class UserService {
         ReviewLike existingLike = reviewLikeRepository.findByUserAndReview(user, review);
         if (existingLike != null) {
             reviewLikeRepository.delete(existingLike);
-            review.decreaseLikeCount();
+            likeCountBuffer.addReviewLike(reviewId, -1);
             log.info("Removed like from reviewId: {}", reviewId);
         } else {
             ReviewLike like = ReviewLike.builder()
@@ -419,7 +428,7 @@ public class UserService {
                     .review(review)
                     .build();
             reviewLikeRepository.save(like);
-            review.increaseLikeCount();
+            likeCountBuffer.addReviewLike(reviewId, 1);
             log.info("Added like to reviewId: {}", reviewId);
         }
     }
@@ -0,0 +1,29 @@
+package com.cookie.domain.user.service;
+
+import com.cookie.domain.user.dto.response.UserSummaryResponse;
+import com.cookie.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅처럼 메시지마다 발신자 닉네임/프로필이 필요한 곳에서 쓰는 유저 요약 캐시
+ * 프로필 수정 시 UserService.updateMyProfile 에서 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSummaryCacheService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(value = "userSummaryCache", key = "#userId", cacheManager = "userSummaryCacheManager", sync = true)
+    @Transactional(readOnly = true)
+    public UserSummaryResponse getUserSummary(Long userId) {
+        log.debug("유저 요약 정보 DB 조회: userId = {}", userId);
+        return userRepository.findSummaryById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("not found user: " + userId));
+    }
+}
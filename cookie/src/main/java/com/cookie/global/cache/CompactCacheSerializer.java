@@ -0,0 +1,126 @@
+package com.cookie.global.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * L2(Redis) 캐시 값 직렬화
+ * JDK 직렬화 결과가 threshold 를 넘으면 Deflate 로 압축한다 (클래스 설명자 등 반복 문자열이 많아 압축률이 높음).
+ * 첫 바이트는 형식 표시 (0: 그대로, 1: 압축) 로, 압축 여부와 상관없이 읽을 수 있다.
+ * 캐시 값(응답 DTO)은 Serializable 이어야 하고, 클래스가 바뀌어도 기존 L2 값을 읽을 수 있도록 serialVersionUID 를 고정한다.
+ * 역직렬화는 캐시 값에 쓰이는 타입(응답 DTO, 그 안의 enum, java.util / java.time, NullValue)만 허용한다.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+    private static final int MAX_DEPTH = 20;
+    private static final Set<String> ALLOWED_JAVA_LANG = Set.of(
+            "java.lang.String", "java.lang.Number", "java.lang.Long", "java.lang.Integer", "java.lang.Short",
+            "java.lang.Byte", "java.lang.Double", "java.lang.Float", "java.lang.Boolean", "java.lang.Character",
+            "java.lang.Enum");
+    // Redis 값이 오염되더라도 허용 목록 밖의 클래스는 만들지 않는다
+    private static final ObjectInputFilter ALLOWED_CLASSES = CompactCacheSerializer::checkClass;
+
+    private final int compressThreshold;
+
+    public CompactCacheSerializer(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(256);
+            raw.write(RAW);
+            writeObject(raw, value);
+            if (raw.size() <= compressThreshold) {
+                return raw.toByteArray();
+            }
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.size() / 2);
+            compressed.write(DEFLATED);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+                writeObject(out, value);
+            } finally {
+                deflater.end();
+            }
+            return compressed.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        InputStream in = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+        try {
+            if (bytes[0] == DEFLATED) {
+                in = new InflaterInputStream(in);
+            } else if (bytes[0] != RAW) {
+                throw new SerializationException("알 수 없는 캐시 값 형식: " + bytes[0]);
+            }
+            try (ObjectInputStream objectIn = new ObjectInputStream(in)) {
+                objectIn.setObjectInputFilter(ALLOWED_CLASSES);
+                return objectIn.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    static ObjectInputFilter.Status checkClass(ObjectInputFilter.FilterInfo info) {
+        if (info.depth() > MAX_DEPTH) {
+            return ObjectInputFilter.Status.REJECTED;
+        }
+        Class<?> type = info.serialClass();
+        if (type == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || isAllowed(type.getName())
+                ? ObjectInputFilter.Status.ALLOWED
+                : ObjectInputFilter.Status.REJECTED;
+    }
+
+    private static boolean isAllowed(String className) {
+        if (className.startsWith("com.cookie.")) {
+            // 응답 DTO (com.cookie.**.dto.**) 와 DTO 가 들고 있는 enum (com.cookie.**.entity.enums.*)
+            return className.contains(".dto.") || className.contains(".entity.enums.");
+        }
+        String packageName = className.substring(0, Math.max(className.lastIndexOf('.'), 0));
+        return packageName.equals("java.util")
+                || packageName.equals("java.time")
+                || ALLOWED_JAVA_LANG.contains(className)
+                || className.equals(NullValue.class.getName());
+    }
+
+    private static void writeObject(OutputStream out, Object value) throws IOException {
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(value);
+        objectOut.flush();
+    }
+}
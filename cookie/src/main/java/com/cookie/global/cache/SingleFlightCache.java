@@ -0,0 +1,306 @@
+package com.cookie.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 같은 키의 동시 미스를 로더 한 번으로 합치는(single-flight) Caffeine 캐시
+ * - @Cacheable(sync = true) 로 호출되면 get(key, valueLoader) 로 들어오고, 먼저 온 요청만 로더를 실행하며 나머지는 그 결과를 기다린다.
+ * - 기다리는 요청은 waitTimeout 까지만 기다리고, 로더가 Error 로 끝나도 기다리던 요청에 같은 예외를 전달한다.
+ * - refreshAfter 가 지난 항목은 기존 값을 바로 돌려주고, 백그라운드에서 키당 한 번만 다시 읽어 교체한다 (읽는 쪽은 막히지 않음).
+ *   sync 경로의 로더는 요청 스레드의 MethodInvocation 이라 다른 스레드에서 다시 실행할 수 없으므로,
+ *   registerReloader 로 등록한 함수가 프록시를 거쳐 빈 메서드를 다시 호출하고, 그 호출의 get() 은 캐시를 건너뛰고 로더를 실행해 교체한다.
+ *   등록된 함수가 없으면 선갱신하지 않고 만료 후 다음 요청이 다시 읽는다.
+ * - 로드 중에 evict/clear 가 일어나면 그 결과는 캐시에 넣지 않아, 무효화 직전 데이터가 다시 채워지지 않는다.
+ */
+@Slf4j
+public class SingleFlightCache extends AbstractValueAdaptingCache {
+
+    // 선갱신 스레드가 다시 읽고 있는 키 (이 스레드의 같은 키 get() 은 캐시를 건너뛰고 로더를 실행)
+    private static final ThreadLocal<Object> RELOADING_KEY = new ThreadLocal<>();
+
+    private final String name;
+    private final Cache<Object, Object> cache;
+    private final Policy.FixedExpiration<Object, Object> expiration;
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+    private final long waitTimeoutMillis;
+    private final Duration refreshAfter;
+    private final Executor refreshExecutor;
+    private volatile Consumer<Object> reloader;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter waitTimeouts;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+
+    /**
+     * 선갱신 없이 만료 후 다음 요청이 다시 읽는 캐시
+     *
+     * @param waitTimeout 같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public SingleFlightCache(String name, long maximumSize, Duration ttl, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this(name, maximumSize, ttl, null, null, waitTimeout, meterRegistry);
+    }
+
+    /**
+     * @param refreshAfter    적재 후 이 시간이 지나면 다음 조회 때 백그라운드 갱신 (null 이면 선갱신 없음)
+     * @param refreshExecutor 선갱신을 실행할 풀
+     * @param waitTimeout     같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public SingleFlightCache(String name, long maximumSize, Duration ttl, Duration refreshAfter, Executor refreshExecutor,
+                             Duration waitTimeout, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.expiration = cache.policy().expireAfterWrite().orElseThrow();
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.refreshAfter = refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.waitTimeouts = counter(meterRegistry, "wait-timeout");
+        this.refreshes = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+    }
+
+    /**
+     * 선갱신 함수 등록: 키를 받아 캐시된 빈 메서드를 프록시를 거쳐 다시 호출한다 (반환값은 쓰지 않음)
+     */
+    public void registerReloader(Consumer<Object> reloader) {
+        this.reloader = reloader;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object storeValue = cache.getIfPresent(key);
+        if (storeValue == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (Objects.equals(RELOADING_KEY.get(), key)) {
+            return (T) fromStoreValue(reload(key, valueLoader));
+        }
+
+        Object storeValue = cache.getIfPresent(key);
+        if (storeValue != null) {
+            hits.increment();
+            refreshIfStale(key);
+            return (T) fromStoreValue(storeValue);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) fromStoreValue(await(key, valueLoader, existing));
+        }
+
+        misses.increment();
+        try {
+            // 앞선 로드가 putIfAbsent 직전에 끝났을 수 있으므로 한 번 더 확인
+            Object current = cache.getIfPresent(key);
+            if (current == null) {
+                current = load(key, valueLoader);
+            }
+            flight.complete(current);
+            return (T) fromStoreValue(current);
+        } catch (Throwable e) {
+            // Error 로 끝나도 기다리던 요청이 풀리도록 항상 flight 를 완료한다
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putLocal(key, toStoreValue(value));
+    }
+
+    protected void putLocal(Object key, Object storeValue) {
+        cache.put(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(key);
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+    }
+
+    public void evictLocal(Object key) {
+        generation.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    public void clearLocal() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    protected void evictLocalIf(Predicate<Object> keyFilter) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(keyFilter);
+    }
+
+    // 로드 시작 시점의 세대 값 (이후 무효화가 있었는지 확인용)
+    protected long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 로컬 미스 시 값을 읽는다. 하위 계층(L2)이 있으면 재정의해서 먼저 확인한다.
+     * 반환값은 저장 형태(null 은 NullValue)
+     */
+    protected Object loadStoreValue(Object key, Callable<?> valueLoader) throws Exception {
+        return toStoreValue(valueLoader.call());
+    }
+
+    /**
+     * 선갱신 시 원본에서 다시 읽는다 (하위 계층의 값은 보지 않음). 반환값은 저장 형태
+     */
+    protected Object reloadStoreValue(Object key, Callable<?> valueLoader) throws Exception {
+        return toStoreValue(valueLoader.call());
+    }
+
+    private void refreshIfStale(Object key) {
+        Consumer<Object> currentReloader = reloader;
+        if (currentReloader == null || refreshAfter == null || refreshExecutor == null
+                || expiration.ageOf(key).map(age -> age.compareTo(refreshAfter) < 0).orElse(true)
+                || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                RELOADING_KEY.set(key);
+                try {
+                    currentReloader.accept(key);
+                    refreshes.increment();
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    log.warn("캐시 선갱신 실패: cache = {}, key = {}", name, key, e);
+                } finally {
+                    RELOADING_KEY.remove();
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 풀이 가득 차면 이번에는 건너뛰고 다음 조회 또는 만료 후 요청 시점에 다시 읽는다
+            refreshing.remove(key);
+        }
+    }
+
+    // 선갱신 스레드에서 프록시를 거쳐 들어온 호출: 캐시를 건너뛰고 다시 읽어 교체한다
+    private Object reload(Object key, Callable<?> valueLoader) {
+        long startGeneration = generation.get();
+        Object storeValue;
+        try {
+            storeValue = reloadStoreValue(key, valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        // 그 사이 무효화됐다면 덮어쓰지 않는다
+        if (generation.get() == startGeneration) {
+            cache.put(key, storeValue);
+        }
+        return storeValue;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long startGeneration = generation.get();
+        Object storeValue;
+        try {
+            storeValue = loadStoreValue(key, valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (generation.get() == startGeneration) {
+            cache.put(key, storeValue);
+        }
+        return storeValue;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            // 다른 대기 요청에 영향이 없도록 복사본에만 시간 제한을 건다
+            return flight.copy().orTimeout(waitTimeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                waitTimeouts.increment();
+                throw new ValueRetrievalException(key, valueLoader, cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.single-flight.refresh")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.single-flight.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
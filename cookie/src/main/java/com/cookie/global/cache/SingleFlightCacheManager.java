@@ -0,0 +1,63 @@
+package com.cookie.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * SingleFlightCache 를 이름별로 등록해 두는 CacheManager (CaffeineCacheManager 의 고정 캐시 모드와 동일하게 미등록 이름은 null)
+ * 동시 미스 합치기는 get(key, valueLoader) 경로에서만 동작하므로 @Cacheable(sync = true) 와 함께 사용한다.
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final Map<String, SingleFlightCache> caches = new LinkedHashMap<>();
+    private final Executor refreshExecutor;
+    private final Duration waitTimeout;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param waitTimeout 같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public SingleFlightCacheManager(Duration waitTimeout, MeterRegistry meterRegistry) {
+        this(null, waitTimeout, meterRegistry);
+    }
+
+    /**
+     * @param refreshExecutor 선갱신을 실행할 풀
+     * @param waitTimeout     같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public SingleFlightCacheManager(Executor refreshExecutor, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.refreshExecutor = refreshExecutor;
+        this.waitTimeout = waitTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public SingleFlightCacheManager cache(String name, long maximumSize, Duration ttl) {
+        return cache(name, maximumSize, ttl, null);
+    }
+
+    /**
+     * @param refreshAfter 적재 후 이 시간이 지나면 다음 조회 때 백그라운드 갱신 (null 이면 선갱신 없음)
+     */
+    public SingleFlightCacheManager cache(String name, long maximumSize, Duration ttl, Duration refreshAfter) {
+        caches.put(name, new SingleFlightCache(name, maximumSize, ttl, refreshAfter, refreshExecutor, waitTimeout, meterRegistry));
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
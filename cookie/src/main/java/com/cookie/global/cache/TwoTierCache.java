@@ -0,0 +1,255 @@
+package com.cookie.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2계층 캐시
+ * - L1 미스는 single-flight 로 합친 뒤 L2 를 먼저 보고, L2 에도 없으면 원본을 읽어 두 계층에 모두 넣는다.
+ * - evict/clear 는 L1, L2 를 지우고 TwoTierCacheManager 를 통해 다른 인스턴스의 L1 도 지운다.
+ * - L2 에는 버전 키(키별: evict 마다, 캐시별: clear 마다 증가)를 두고, 원본을 읽기 전의 버전이 저장 시점에도 같을 때만 넣는다.
+ *   다른 인스턴스가 커밋 후 evict 한 뒤에 커밋 전 값을 읽던 로드가 끝나도 그 값이 L2 에 다시 들어가지 않는다.
+ * - Redis 장애 시에는 L2 를 건너뛰고 L1 + 원본으로만 동작한다.
+ */
+@Slf4j
+public class TwoTierCache extends SingleFlightCache {
+
+    // 버전 키 유지 시간 (이보다 오래 걸리는 로드는 없다고 본다)
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    // 로드 시작 때 읽은 키 버전 / 캐시 버전이 그대로일 때만 저장 (1: 저장)
+    private static final RedisScript<Long> PUT_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] or (redis.call('get', KEYS[3]) or '0') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('set', KEYS[1], ARGV[3], 'PX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('incr', KEYS[2])
+            redis.call('pexpire', KEYS[2], ARGV[1])
+            return redis.call('del', KEYS[1])
+            """, Long.class);
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final String keyPrefix;
+    private final String versionKeyPrefix;
+    private final String clearVersionKey;
+    private final Duration remoteTtl;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final TwoTierCacheManager manager;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+
+    TwoTierCache(String name, long maximumSize, Duration localTtl, Duration remoteTtl, Duration refreshAfter,
+                 Executor refreshExecutor, Duration waitTimeout, MeterRegistry meterRegistry,
+                 RedisTemplate<String, Object> redisTemplate, RedisSerializer<Object> valueSerializer, TwoTierCacheManager manager) {
+        super(name, maximumSize, localTtl, refreshAfter, refreshExecutor, waitTimeout, meterRegistry);
+        this.keyPrefix = "cache:" + name + ":";
+        this.versionKeyPrefix = "cache-version:" + name + ":";
+        this.clearVersionKey = "cache-version:" + name;
+        this.remoteTtl = remoteTtl;
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.manager = manager;
+
+        this.remoteHits = remoteCounter(meterRegistry, name, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, name, "miss");
+        this.remoteErrors = remoteCounter(meterRegistry, name, "error");
+    }
+
+    // @Cacheable(sync = false) 경로
+    @Override
+    protected Object lookup(Object key) {
+        Object storeValue = super.lookup(key);
+        if (storeValue != null) {
+            return storeValue;
+        }
+        storeValue = getRemote(key);
+        if (storeValue != null) {
+            putLocal(key, storeValue);
+        }
+        return storeValue;
+    }
+
+    @Override
+    protected Object loadStoreValue(Object key, Callable<?> valueLoader) throws Exception {
+        Object storeValue = getRemote(key);
+        if (storeValue != null) {
+            return storeValue;
+        }
+        return loadAndPutRemote(key, valueLoader);
+    }
+
+    // 선갱신: L2 에는 L1 과 같은 시점에 넣은 값이 남아 있을 수 있으므로 원본에서 바로 읽는다
+    @Override
+    protected Object reloadStoreValue(Object key, Callable<?> valueLoader) throws Exception {
+        return loadAndPutRemote(key, valueLoader);
+    }
+
+    private Object loadAndPutRemote(Object key, Callable<?> valueLoader) throws Exception {
+        long startGeneration = currentGeneration();
+        String[] versions = getRemoteVersions(key);
+        Object storeValue = toStoreValue(valueLoader.call());
+        // 읽는 사이 무효화됐다면 L2 에도 넣지 않는다 (다른 인스턴스의 무효화는 버전으로 확인)
+        if (versions != null && currentGeneration() == startGeneration) {
+            putRemoteIfUnchanged(key, storeValue, versions);
+        }
+        return storeValue;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        putLocal(key, storeValue);
+        putRemote(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(key);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                    List.of(remoteKey(key), versionKey(key)), bytes(String.valueOf(VERSION_TTL.toMillis())));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 삭제 실패: cache = {}, key = {}", getName(), key, e);
+        }
+        manager.publishEvict(getName(), String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                byte[] key = bytes(clearVersionKey);
+                connection.stringCommands().incr(key);
+                connection.keyCommands().pExpire(key, VERSION_TTL.toMillis());
+                return null;
+            });
+            deleteRemoteAll();
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 전체 삭제 실패: cache = {}", getName(), e);
+        }
+        manager.publishClear(getName());
+    }
+
+    // 다른 인스턴스에서 온 무효화 (키는 문자열로 전달되므로 문자열 형태가 같은 로컬 키를 지운다)
+    void evictLocalByKeyString(String keyString) {
+        evictLocalIf(key -> String.valueOf(key).equals(keyString));
+    }
+
+    private Object getRemote(Object key) {
+        try {
+            Object storeValue = redisTemplate.opsForValue().get(remoteKey(key));
+            if (storeValue == null) {
+                remoteMisses.increment();
+            } else {
+                remoteHits.increment();
+            }
+            return storeValue;
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 조회 실패: cache = {}, key = {}", getName(), key, e);
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object storeValue) {
+        try {
+            redisTemplate.opsForValue().set(remoteKey(key), storeValue, remoteTtl);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 저장 실패: cache = {}, key = {}", getName(), key, e);
+        }
+    }
+
+    /**
+     * @return {키 버전, 캐시 버전} (없으면 "0"), 조회에 실패하면 null (L2 에 넣지 않음)
+     */
+    private String[] getRemoteVersions(Object key) {
+        try {
+            List<byte[]> versions = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(
+                    bytes(versionKey(key)), bytes(clearVersionKey)));
+            if (versions == null) {
+                return null;
+            }
+            return new String[]{versionString(versions.get(0)), versionString(versions.get(1))};
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 버전 조회 실패: cache = {}, key = {}", getName(), key, e);
+            return null;
+        }
+    }
+
+    private void putRemoteIfUnchanged(Object key, Object storeValue, String[] versions) {
+        try {
+            redisTemplate.execute(PUT_IF_UNCHANGED_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                    List.of(remoteKey(key), versionKey(key), clearVersionKey),
+                    bytes(versions[0]), bytes(versions[1]), valueSerializer.serialize(storeValue), bytes(String.valueOf(remoteTtl.toMillis())));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("L2 캐시 저장 실패: cache = {}, key = {}", getName(), key, e);
+        }
+    }
+
+    private void deleteRemoteAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(500).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                connection.keyCommands().del(keys.toArray(new byte[0][]));
+            }
+            return null;
+        });
+    }
+
+    private String remoteKey(Object key) {
+        return keyPrefix + key;
+    }
+
+    private String versionKey(Object key) {
+        return versionKeyPrefix + key;
+    }
+
+    private static String versionString(byte[] version) {
+        return version != null ? new String(version, StandardCharsets.UTF_8) : "0";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Counter remoteCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.two-tier.l2.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
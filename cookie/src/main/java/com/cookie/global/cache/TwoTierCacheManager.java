@@ -0,0 +1,128 @@
+package com.cookie.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * TwoTierCache 를 이름별로 등록해 두는 CacheManager
+ * 무효화는 INVALIDATE_CHANNEL 로 전파하고, 이 매니저를 같은 채널의 리스너로 등록하면 다른 인스턴스의 L1 을 지운다.
+ * 메시지 형식: {인스턴스 id}\n{E|C}\n{캐시 이름}\n{키} (C 는 전체 삭제로 키 없음)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "cache:invalidate";
+
+    // 자기 자신이 보낸 무효화 메시지는 건너뛰기 위한 인스턴스 식별자
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final Map<String, TwoTierCache> caches = new LinkedHashMap<>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CompactCacheSerializer valueSerializer = new CompactCacheSerializer(512);
+    private final Executor refreshExecutor;
+    private final Duration waitTimeout;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param waitTimeout 같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public TwoTierCacheManager(RedisConnectionFactory connectionFactory, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this(connectionFactory, null, waitTimeout, meterRegistry);
+    }
+
+    /**
+     * @param refreshExecutor 선갱신을 실행할 풀
+     * @param waitTimeout     같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간
+     */
+    public TwoTierCacheManager(RedisConnectionFactory connectionFactory, Executor refreshExecutor, Duration waitTimeout,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(new StringRedisSerializer());
+        this.redisTemplate.setValueSerializer(valueSerializer);
+        this.redisTemplate.afterPropertiesSet();
+        this.refreshExecutor = refreshExecutor;
+        this.waitTimeout = waitTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public TwoTierCacheManager cache(String name, long maximumSize, Duration localTtl, Duration remoteTtl) {
+        return cache(name, maximumSize, localTtl, remoteTtl, null);
+    }
+
+    /**
+     * @param localTtl     L1 유지 시간 (무효화가 전파되므로 인스턴스 간 불일치는 이 시간보다 훨씬 짧다)
+     * @param remoteTtl    L2 유지 시간
+     * @param refreshAfter L1 적재 후 이 시간이 지나면 다음 조회 때 백그라운드 갱신 (null 이면 선갱신 없음)
+     */
+    public TwoTierCacheManager cache(String name, long maximumSize, Duration localTtl, Duration remoteTtl, Duration refreshAfter) {
+        caches.put(name, new TwoTierCache(name, maximumSize, localTtl, remoteTtl, refreshAfter, refreshExecutor,
+                waitTimeout, meterRegistry, redisTemplate, valueSerializer, this));
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length < 3 || INSTANCE_ID.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocalByKeyString(parts[3]);
+        }
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(String.join("\n", INSTANCE_ID, EVICT, cacheName, key));
+    }
+
+    void publishClear(String cacheName) {
+        publish(String.join("\n", INSTANCE_ID, CLEAR, cacheName));
+    }
+
+    private void publish(String message) {
+        try {
+            // 값 직렬화기를 거치지 않도록 UTF-8 바이트 그대로 발행
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(
+                    INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8), message.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            // 다른 인스턴스는 L1 TTL 이 지나면 L2/원본에서 다시 읽는다
+            log.error("캐시 무효화 전파 실패: {}", message.replace('\n', ' '), e);
+        }
+    }
+}
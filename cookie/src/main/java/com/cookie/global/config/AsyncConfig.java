@@ -0,0 +1,77 @@
+package com.cookie.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${review.event.queue-capacity:1000}")
+    private int reviewEventQueueCapacity;
+
+    @Value("${matchup.chat.flush-queue-capacity:1}")
+    private int chatFlushQueueCapacity;
+
+    @Value("${scheduler.pool-size:8}")
+    private int schedulerPoolSize;
+
+    // @Scheduled 작업용 스케줄러 (기본 1 스레드면 이벤트 워커/버퍼 flush/배치 스케줄이 서로 밀리므로 풀로 실행)
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulerPoolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    // 리뷰 작성 이벤트 소비자별 워커 풀 (장르 점수 / 푸쉬 알림 / 리워드)
+    @Bean(name = "genreScoreEventExecutor")
+    public ThreadPoolTaskExecutor genreScoreEventExecutor() {
+        return createReviewEventExecutor("genre-score-event-", 2, 4);
+    }
+
+    @Bean(name = "pushEventExecutor")
+    public ThreadPoolTaskExecutor pushEventExecutor() {
+        return createReviewEventExecutor("push-event-", 4, 8);
+    }
+
+    @Bean(name = "rewardEventExecutor")
+    public ThreadPoolTaskExecutor rewardEventExecutor() {
+        return createReviewEventExecutor("reward-event-", 2, 4);
+    }
+
+    // 채팅 메시지 버퍼가 일정 개수 이상 쌓였을 때 주기를 기다리지 않고 비우는 풀
+    // flush 요청은 하나만 대기하면 충분하므로 넘치는 요청은 버린다 (CallerRuns 면 메시지를 받은 스레드가 저장까지 떠안는다)
+    @Bean(name = "chatFlushExecutor")
+    public ThreadPoolTaskExecutor chatFlushExecutor() {
+        return createExecutor("chat-flush-", 1, 1, chatFlushQueueCapacity, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // 큐가 가득 차면 AbortPolicy 로 거절하고, 워커가 꺼내 온 이벤트를 Redis 대기 리스트로 되돌린다.
+    // (CallerRuns 면 스케줄러 스레드가 핸들러를 직접 실행해 다른 @Scheduled 작업까지 멈춘다)
+    private ThreadPoolTaskExecutor createReviewEventExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize) {
+        return createExecutor(threadNamePrefix, corePoolSize, maxPoolSize, reviewEventQueueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                                  int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
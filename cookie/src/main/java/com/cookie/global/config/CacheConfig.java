@@ -1,37 +1,78 @@
 package com.cookie.global.config;
 
+import com.cookie.global.cache.SingleFlightCacheManager;
+import com.cookie.global.cache.TwoTierCacheManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfig {
 
 
+    // 여러 인스턴스가 함께 보는 조회용 캐시 (L1 Caffeine + L2 Redis, 무효화는 Redis 채널로 전파)
+    // false 면 L2 없이 인스턴스별 single-flight 캐시로만 동작
+    @Value("${cache.two-tier.enabled:true}")
+    private boolean twoTierEnabled;
+
+    // L2 유지 시간은 기존 Caffeine TTL(1분) 이하로 둔다
+    // (좋아요 수처럼 무효화 이벤트 없이 바뀌는 값이 섞여 있어, 길게 두면 모든 인스턴스가 오래된 값을 본다)
+    @Value("${cache.main-admin-recommend.local-ttl-seconds:60}")
+    private long mainAdminRecommendLocalTtl;
+
+    @Value("${cache.main-admin-recommend.remote-ttl-seconds:60}")
+    private long mainAdminRecommendRemoteTtl;
+
+    @Value("${cache.main-match-up.local-ttl-seconds:60}")
+    private long mainMatchUpLocalTtl;
+
+    @Value("${cache.main-match-up.remote-ttl-seconds:60}")
+    private long mainMatchUpRemoteTtl;
+
+    @Value("${cache.movie-detail.local-ttl-seconds:60}")
+    private long movieDetailLocalTtl;
+
+    @Value("${cache.movie-detail.remote-ttl-seconds:60}")
+    private long movieDetailRemoteTtl;
+
+    // 같은 키를 먼저 읽고 있는 요청을 기다리는 최대 시간 (넘으면 대기 요청은 실패)
+    @Value("${cache.single-flight.wait-timeout-ms:3000}")
+    private long singleFlightWaitTimeoutMs;
+
+    // 메인 화면 / 영화 상세처럼 동시에 몰리는 조회용 캐시 (@Cacheable(sync = true) 로 동시 미스를 한 번의 로드로 합침)
     @Bean(name = "mainAdminRecommendCacheManager")
     @Primary
-    public CacheManager mainAdminCachManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("mainAdminRecommendCache");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(1, TimeUnit.MINUTES));
-        return cacheManager;
+    public CacheManager mainAdminCachManager(@Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor, MeterRegistry meterRegistry,
+                                             RedisConnectionFactory redisConnectionFactory,
+                                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        return hotCacheManager("mainAdminRecommendCache", 500, mainAdminRecommendLocalTtl, mainAdminRecommendRemoteTtl,
+                cacheRefreshExecutor, meterRegistry, redisConnectionFactory, redisMessageListenerContainer);
     }
 
 
     @Bean(name = "mainMatchUpCacheManager")
-    public CacheManager mainMatchUpCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("mainMatchUpCache");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(1, TimeUnit.MINUTES));
-        return cacheManager;
+    public CacheManager mainMatchUpCacheManager(@Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor, MeterRegistry meterRegistry,
+                                                RedisConnectionFactory redisConnectionFactory,
+                                                RedisMessageListenerContainer redisMessageListenerContainer) {
+        return hotCacheManager("mainMatchUpCache", 500, mainMatchUpLocalTtl, mainMatchUpRemoteTtl,
+                cacheRefreshExecutor, meterRegistry, redisConnectionFactory, redisMessageListenerContainer);
     }
 
     //@Primary
@@ -44,6 +85,64 @@ public class CacheConfig {
         return cacheManager;
     }
 
+    // 유저 요약 (채팅 발신자 정보, 다른 인스턴스의 프로필 수정은 TTL 이 지나면 반영)
+    @Bean(name = "userSummaryCacheManager")
+    public CacheManager userSummaryCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("userSummaryCache");
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(5, TimeUnit.MINUTES));
+        return cacheManager;
+    }
+
+    // 영화 상세 (사용자와 무관한 부분, 변경 시 MovieDetailChangedEvent 로 무효화)
+    @Bean(name = "movieDetailCacheManager")
+    public CacheManager movieDetailCacheManager(@Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor, MeterRegistry meterRegistry,
+                                                RedisConnectionFactory redisConnectionFactory,
+                                                RedisMessageListenerContainer redisMessageListenerContainer) {
+        return hotCacheManager("movieDetailCache", 1000, movieDetailLocalTtl, movieDetailRemoteTtl,
+                cacheRefreshExecutor, meterRegistry, redisConnectionFactory, redisMessageListenerContainer);
+    }
+
+    /**
+     * 캐시 선갱신(refresh-ahead) 전용 풀
+     * 요청 스레드 밖에서 빈 메서드를 다시 호출하므로 지연 로딩이 가능하도록 읽기 전용 트랜잭션 안에서 실행하고,
+     * 풀이 가득 차면 갱신을 건너뛴다 (다음 조회 또는 만료 후 요청 시점에 다시 읽음).
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor(PlatformTransactionManager transactionManager) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setDaemon(true);
+        executor.initialize();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return task -> executor.execute(() -> transactionTemplate.executeWithoutResult(status -> task.run()));
+    }
+
+    // L1 TTL 의 3/4 이 지나면 다음 조회 때 백그라운드에서 미리 갱신 (갱신 함수는 CacheReloaderRegistrar 가 등록)
+    private CacheManager hotCacheManager(String name, long maximumSize, long localTtlSeconds, long remoteTtlSeconds,
+                                         Executor refreshExecutor, MeterRegistry meterRegistry,
+                                         RedisConnectionFactory redisConnectionFactory,
+                                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        Duration refreshAfter = localTtl.multipliedBy(3).dividedBy(4);
+        Duration waitTimeout = Duration.ofMillis(singleFlightWaitTimeoutMs);
+        if (!twoTierEnabled) {
+            return new SingleFlightCacheManager(refreshExecutor, waitTimeout, meterRegistry)
+                    .cache(name, maximumSize, localTtl, refreshAfter);
+        }
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisConnectionFactory, refreshExecutor, waitTimeout, meterRegistry)
+                .cache(name, maximumSize, localTtl, Duration.ofSeconds(remoteTtlSeconds), refreshAfter);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATE_CHANNEL));
+        return cacheManager;
+    }
+
     // Reward ...
     @Bean(name = "pointLivedCache")
     public Caffeine<Object, Object> pointCaffeineConfig() {
@@ -0,0 +1,61 @@
+package com.cookie.global.config;
+
+import com.cookie.domain.matchup.service.MatchUpService;
+import com.cookie.domain.movie.service.MainAdminRecommendCacheService;
+import com.cookie.domain.movie.service.MovieDetailService;
+import com.cookie.global.cache.SingleFlightCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 선갱신 대상 캐시에 키별 갱신 함수 등록
+ * 갱신 함수는 주입된 프록시로 @Cacheable 메서드를 다시 호출하므로 트랜잭션 / 캐시 키 생성이 요청 때와 같다.
+ * 키는 @Cacheable 의 키와 같아야 한다 (인자 없는 메서드는 SimpleKey.EMPTY).
+ */
+@Slf4j
+@Component
+public class CacheReloaderRegistrar {
+
+    private final CacheManager mainAdminRecommendCacheManager;
+    private final CacheManager mainMatchUpCacheManager;
+    private final CacheManager movieDetailCacheManager;
+    private final MainAdminRecommendCacheService mainAdminRecommendCacheService;
+    private final MatchUpService matchUpService;
+    private final MovieDetailService movieDetailService;
+
+    public CacheReloaderRegistrar(@Qualifier("mainAdminRecommendCacheManager") CacheManager mainAdminRecommendCacheManager,
+                                  @Qualifier("mainMatchUpCacheManager") CacheManager mainMatchUpCacheManager,
+                                  @Qualifier("movieDetailCacheManager") CacheManager movieDetailCacheManager,
+                                  MainAdminRecommendCacheService mainAdminRecommendCacheService,
+                                  MatchUpService matchUpService,
+                                  MovieDetailService movieDetailService) {
+        this.mainAdminRecommendCacheManager = mainAdminRecommendCacheManager;
+        this.mainMatchUpCacheManager = mainMatchUpCacheManager;
+        this.movieDetailCacheManager = movieDetailCacheManager;
+        this.mainAdminRecommendCacheService = mainAdminRecommendCacheService;
+        this.matchUpService = matchUpService;
+        this.movieDetailService = movieDetailService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerReloaders() {
+        register(mainAdminRecommendCacheManager, "mainAdminRecommendCache", key -> mainAdminRecommendCacheService.getMainAdminRecommend());
+        register(mainMatchUpCacheManager, "mainMatchUpCache", key -> matchUpService.getMainMatchUps());
+        register(movieDetailCacheManager, "movieDetailCache", key -> movieDetailService.getMovieDetail((Long) key));
+    }
+
+    private void register(CacheManager cacheManager, String cacheName, Consumer<Object> reloader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof SingleFlightCache singleFlightCache) {
+            singleFlightCache.registerReloader(reloader);
+            log.info("캐시 선갱신 등록: cache = {}", cacheName);
+        }
+    }
+}
@@ -100,6 +100,11 @@ public class SecurityConfig {
                                 "/api/movies/{movieId}/reviews/spoiler",
                                 "/api/movies/{movieId}/reviews/spoiler/most-liked",
                                 "/api/movies/{movieId}/reviews/most-liked",
+                                "/api/reviews/spoiler/cursor",
+                                "/api/movies/{movieId}/reviews/cursor",
+                                "/api/movies/{movieId}/reviews/spoiler/cursor",
+                                "/api/movies/{movieId}/reviews/most-liked/cursor",
+                                "/api/movies/{movieId}/reviews/spoiler/most-liked/cursor",
                                 "/api/admin/movie/base",
                                 "/api/search/**",
                                 "/api/movies/categoryMovies",
@@ -108,6 +113,7 @@ public class SecurityConfig {
                                 "api/actor/{actorId}",
                                 "api/director/{directorId}",
                                 "/api/matchups/{matchUpId}",
+                                "/api/matchups/{matchUpId}/score",
                                 "/api/matchup-chat/{matchUpId}/messages",
                                 "/api/movies/{movieId}",
                                 "/api/reviews/{reviewId}",
@@ -0,0 +1,161 @@
+package com.cookie.global.service;
+
+import com.cookie.domain.movie.event.MovieLikesFlushedEvent;
+import com.cookie.global.util.StripedDeltaCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 영화/리뷰 좋아요 수 쓰기 지연 버퍼
+ * 좋아요 행(MovieLike, ReviewLike)은 요청 트랜잭션에서 바로 저장하고,
+ * movie.movie_likes / review.review_like 카운터 증감만 메모리에 모아 주기적으로 일괄 UPDATE 한다.
+ * 조회 시에는 아직 반영되지 않은 증감량을 더해서 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    private static final String MOVIE_LIKE_UPDATE =
+            "UPDATE movie SET movie_likes = GREATEST(movie_likes + ?, 0) WHERE id = ?";
+    private static final String REVIEW_LIKE_UPDATE =
+            "UPDATE review SET review_like = GREATEST(review_like + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final StripedDeltaCounter movieLikes = new StripedDeltaCounter();
+    private final StripedDeltaCounter reviewLikes = new StripedDeltaCounter();
+    // 꺼낸 증감을 UPDATE 하는 도중에 카운터 보정이 끼어들지 않도록 flush 와 보정 작업을 직렬화
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void addMovieLike(Long movieId, long delta) {
+        afterCommit(() -> movieLikes.add(movieId, delta));
+    }
+
+    public void addReviewLike(Long reviewId, long delta) {
+        afterCommit(() -> reviewLikes.add(reviewId, delta));
+    }
+
+    public long movieLikes(Long movieId, Long persisted) {
+        return Math.max((persisted != null ? persisted : 0L) + movieLikes.pending(movieId), 0L);
+    }
+
+    public long reviewLikes(Long reviewId, long persisted) {
+        return Math.max(persisted + reviewLikes.pending(reviewId), 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-ms:1000}")
+    public void flush() {
+        Set<Long> flushedMovieIds;
+        flushLock.lock();
+        try {
+            flushedMovieIds = flush("movie", movieLikes, MOVIE_LIKE_UPDATE);
+            flush("review", reviewLikes, REVIEW_LIKE_UPDATE);
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (flushedMovieIds.isEmpty()) {
+            return;
+        }
+        try {
+            // 반영 전 좋아요 수를 담고 있는 캐시가 무효화되도록 알림
+            eventPublisher.publishEvent(new MovieLikesFlushedEvent(flushedMovieIds));
+        } catch (Exception e) {
+            log.error("좋아요 반영 이벤트 처리 실패: size = {}", flushedMovieIds.size(), e);
+        }
+    }
+
+    /**
+     * 좋아요 행 수 기준 카운터 보정을 flush 와 겹치지 않게 실행
+     * 보정 트랜잭션은 좋아요 행을 잠그고 카운터를 행 수로 맞춘 뒤, 커밋 전에 discardPendingReviewLikes 로
+     * 이미 센 행의 증감을 버려야 한다. (flush 가 먼저 꺼내 간 증감이 보정 이후에 더해지면 이중 반영)
+     */
+    public <T> T reconcile(Supplier<T> reconciler) {
+        flushLock.lock();
+        try {
+            return reconciler.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 보정 트랜잭션이 행 수로 덮어쓴 리뷰 좋아요 증감을 버림 (보정이 롤백되면 되돌린다)
+     * 보정 중에는 좋아요 행이 잠겨 새 좋아요가 커밋되지 못하므로, 지금 버퍼에 있는 증감은 모두 보정이 센 행의 것이다.
+     */
+    public void discardPendingReviewLikes() {
+        Map<Long, Long> discarded = reviewLikes.drain();
+        if (discarded.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reviewLikes.restore(discarded);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 좋아요 카운터 반영");
+        flush();
+    }
+
+    // 반영된 id (실패하면 빈 집합)
+    private Set<Long> flush(String target, StripedDeltaCounter counter, String sql) {
+        Map<Long, Long> drained = counter.drain();
+        if (drained.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+
+        try {
+            // 일부 행만 반영된 채 실패하면 restore 로 전체를 다시 더해 이중 반영되므로 한 트랜잭션으로 묶는다
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, args));
+            log.debug("좋아요 카운터 반영 완료: target = {}, size = {}", target, drained.size());
+            return drained.keySet();
+        } catch (Exception e) {
+            // 반영 실패한 증감량은 버퍼에 되돌려 다음 주기에 재시도
+            counter.restore(drained);
+            log.error("좋아요 카운터 반영 실패: target = {}, size = {}", target, drained.size(), e);
+            return Set.of();
+        }
+    }
+
+    // 좋아요 행이 롤백되면 카운터도 반영하지 않도록 커밋 이후에 누적
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
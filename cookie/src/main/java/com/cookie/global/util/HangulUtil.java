@@ -0,0 +1,76 @@
+package com.cookie.global.util;
+
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화 / 한글 초성 변환
+ */
+public final class HangulUtil {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    // 초성 하나당 중성(21) x 종성(28) 조합
+    private static final int CHOSUNG_UNIT = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 소문자로 바꾸고 공백/문장부호를 제거 ("스파이더맨: 노 웨이 홈" -> "스파이더맨노웨이홈")
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 한글 음절을 초성으로 변환하고 나머지 문자는 그대로 둔다 ("기생충" -> "ㄱㅅㅊ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isHangulSyllable(c) ? CHOSUNG[(c - HANGUL_BEGIN) / CHOSUNG_UNIT] : c);
+        }
+        return sb.toString();
+    }
+
+    public static boolean containsHangul(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isHangulSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성(자음)만으로 이루어진 검색어인지 ("ㄱㅅㅊ")
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+}
@@ -0,0 +1,71 @@
+package com.cookie.global.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * id 별 증감량을 LongAdder 샤드에 누적하는 카운터
+ * 같은 id 에 동시에 몰리는 증감도 CAS 경합 없이 흡수하고, drain 시점에 누적분만 꺼내간다.
+ */
+public class StripedDeltaCounter {
+
+    private final ConcurrentHashMap<Long, Shard> deltas = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        Shard shard = deltas.computeIfAbsent(id, key -> new Shard());
+        shard.adder.add(delta);
+        if (shard.retired) {
+            // drain 이 맵에서 제거한 샤드에 더했으면 남은 증감을 꺼내 새 샤드로 옮긴다
+            long late = shard.adder.sumThenReset();
+            if (late != 0) {
+                add(id, late);
+            }
+        }
+    }
+
+    public long pending(Long id) {
+        Shard shard = deltas.get(id);
+        return shard != null ? shard.adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 증감량을 꺼내고 그만큼 차감
+     * sum 이후 들어온 증감은 차감되지 않고 남아 다음 drain 에 포함된다.
+     * 직전 drain 이후 증감이 없던 id 는 맵에서 제거한다. 제거 직전 샤드를 잡은 스레드의 증감은
+     * retired 표시 이후 sumThenReset 으로 drain 과 add 중 정확히 한 쪽이 가져가므로 유실되지 않는다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        deltas.forEach((id, shard) -> {
+            long sum = shard.adder.sum();
+            if (sum != 0) {
+                shard.adder.add(-sum);
+                drained.put(id, sum);
+                return;
+            }
+            if (deltas.remove(id, shard)) {
+                shard.retired = true;
+                long late = shard.adder.sumThenReset();
+                if (late != 0) {
+                    drained.put(id, late);
+                }
+            }
+        });
+        return drained;
+    }
+
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    int size() {
+        return deltas.size();
+    }
+
+    private static final class Shard {
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+    }
+}
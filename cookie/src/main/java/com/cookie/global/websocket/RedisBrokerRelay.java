@@ -0,0 +1,149 @@
+package com.cookie.global.websocket;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 브로커 중계 (websocket.broker.type=redis)
+ * 각 인스턴스는 simple broker 로 자기 세션에만 전달하고, 애플리케이션이 /topic 으로 보낸 메시지는 이 클래스가
+ * Redis 채널로 발행한다. 다른 인스턴스는 받은 메시지를 자기 brokerChannel 로 다시 보내 로컬 구독자에게 전달한다.
+ * 메시지 형식: {인스턴스 id}\n{destination}\n{content-type}\n{payload 바이트}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.type", havingValue = "redis")
+public class RedisBrokerRelay implements ChannelInterceptor {
+
+    public static final String RELAY_CHANNEL = "websocket:broker:relay";
+
+    // 다른 인스턴스에서 받아 로컬로 전달하는 메시지 표시 (다시 발행하지 않음)
+    private static final String RELAYED_HEADER = "redisRelayed";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final byte[] RELAY_CHANNEL_BYTES = RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MessageChannel brokerChannel;
+    // 자기 자신이 발행한 메시지는 이미 로컬에 전달했으므로 건너뛰기 위한 식별자 (중계 객체마다 하나)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // brokerChannel 은 이 인터셉터를 등록하는 과정에서 만들어지므로 지연 주입
+    public RedisBrokerRelay(RedisTemplate<String, Object> redisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.brokerChannel = brokerChannel;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> receive(message.getBody()),
+                new ChannelTopic(RELAY_CHANNEL));
+    }
+
+    // brokerChannel 인터셉터: 로컬 전달은 그대로 두고, 같은 메시지를 다른 인스턴스로 발행
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(TOPIC_PREFIX)
+                || accessor.getHeader(RELAYED_HEADER) != null) {
+            return message;
+        }
+
+        byte[] payload = toBytes(message.getPayload());
+        if (payload == null) {
+            log.warn("브로커 중계 불가 payload 타입: destination = {}, type = {}", destination, message.getPayload().getClass());
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        publish(encode(destination, contentType == null ? "" : contentType.toString(), payload), destination);
+        return message;
+    }
+
+    private void publish(byte[] body, String destination) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(RELAY_CHANNEL_BYTES, body));
+        } catch (Exception e) {
+            // 다른 인스턴스에 붙은 구독자만 이 메시지를 놓친다 (로컬 전달은 계속 진행)
+            log.error("브로커 메시지 중계 발행 실패: destination = {}", destination, e);
+        }
+    }
+
+    private void receive(byte[] body) {
+        int first = indexOf(body, 0);
+        int second = first < 0 ? -1 : indexOf(body, first + 1);
+        int third = second < 0 ? -1 : indexOf(body, second + 1);
+        if (third < 0) {
+            log.warn("잘못된 브로커 중계 메시지: length = {}", body.length);
+            return;
+        }
+        String sender = new String(body, 0, first, StandardCharsets.UTF_8);
+        if (instanceId.equals(sender)) {
+            return;
+        }
+        String destination = new String(body, first + 1, second - first - 1, StandardCharsets.UTF_8);
+        String contentType = new String(body, second + 1, third - second - 1, StandardCharsets.UTF_8);
+        byte[] payload = new byte[body.length - third - 1];
+        System.arraycopy(body, third + 1, payload, 0, payload.length);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (!contentType.isEmpty()) {
+            accessor.setContentType(MimeType.valueOf(contentType));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        try {
+            brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("중계 메시지 로컬 전달 실패: destination = {}", destination, e);
+        }
+    }
+
+    private byte[] encode(String destination, String contentType, byte[] payload) {
+        byte[] header = String.join("\n", instanceId, destination, contentType, "").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[header.length + payload.length];
+        System.arraycopy(header, 0, body, 0, header.length);
+        System.arraycopy(payload, 0, body, header.length, payload.length);
+        return body;
+    }
+
+    private static byte[] toBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    private static int indexOf(byte[] body, int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
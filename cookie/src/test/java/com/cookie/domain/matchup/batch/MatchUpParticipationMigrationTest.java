@@ -0,0 +1,101 @@
+package com.cookie.domain.matchup.batch;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class MatchUpParticipationMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    // 매치업 1: 영화 11, 12 / 매치업 2: 영화 21, 22 (match_up_id 컬럼은 ddl-auto 가 NULL 허용으로 추가한 상태)
+    @BeforeEach
+    void createSchema() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS match_up_participation");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS match_up");
+        jdbcTemplate.execute("CREATE TABLE match_up (id BIGINT PRIMARY KEY, movie1_id BIGINT, movie2_id BIGINT)");
+        jdbcTemplate.execute("""
+                CREATE TABLE match_up_participation (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT,
+                    match_up_id BIGINT,
+                    matchup_movie_id BIGINT,
+                    CONSTRAINT uk_match_up_participation_user_match_up UNIQUE (user_id, match_up_id),
+                    CONSTRAINT fk_participation_match_up FOREIGN KEY (match_up_id) REFERENCES match_up (id)
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO match_up (id, movie1_id, movie2_id) VALUES (1, 11, 12), (2, 21, 22)");
+    }
+
+    @Test
+    void backfillsMatchUpIdAndMakesColumnNotNull() {
+        jdbcTemplate.update("INSERT INTO match_up_participation (user_id, match_up_id, matchup_movie_id) "
+                + "VALUES (1, NULL, 11), (2, NULL, 12), (1, NULL, 22), (3, 2, 21)");
+
+        MatchUpParticipationMigration migration = new MatchUpParticipationMigration(jdbcTemplate);
+        migration.ensureMatchUpId();
+        // 이미 NOT NULL 이면 아무것도 하지 않는다
+        migration.ensureMatchUpId();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT CONCAT(user_id, ':', match_up_id) FROM match_up_participation ORDER BY id", String.class))
+                .containsExactly("1:1", "2:1", "1:2", "3:2");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT is_nullable FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'match_up_participation' AND column_name = 'match_up_id'
+                """, String.class)).isEqualTo("NO");
+        // 채운 뒤에는 같은 매치업 중복 투표가 유니크 키에 걸린다
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO match_up_participation (user_id, match_up_id, matchup_movie_id) VALUES (1, 1, 12)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void failsWhenRowCannotBeMatchedToMatchUp() {
+        jdbcTemplate.update("INSERT INTO match_up_participation (user_id, match_up_id, matchup_movie_id) VALUES (1, NULL, 99)");
+
+        assertThatThrownBy(() -> new MatchUpParticipationMigration(jdbcTemplate).ensureMatchUpId())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT is_nullable FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'match_up_participation' AND column_name = 'match_up_id'
+                """, String.class)).isEqualTo("YES");
+    }
+
+    @Test
+    void skipsWhenTableDoesNotExist() {
+        jdbcTemplate.execute("DROP TABLE match_up_participation");
+
+        new MatchUpParticipationMigration(jdbcTemplate).ensureMatchUpId();
+    }
+}
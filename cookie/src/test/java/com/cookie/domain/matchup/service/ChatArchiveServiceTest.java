@@ -0,0 +1,195 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.ChatHistoryResponse;
+import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import com.cookie.domain.matchup.entity.ChatMessageArchive;
+import com.cookie.domain.matchup.entity.enums.MatchUpStatus;
+import com.cookie.domain.matchup.repository.ChatMessageRepository;
+import com.cookie.domain.matchup.repository.MatchUpRepository;
+import com.cookie.domain.user.service.UserSummaryCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cookie.domain.matchup.service.ChatServiceTest.message;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 실제 MongoDB 로 종료된 매치업 채팅 기록 보관 확인
+ * - 일자별로 압축 청크 하나씩 쓰고 원본은 지운다 (다른 매치업은 그대로)
+ * - 같은 날을 다시 보관하면 기존 청크와 합쳐지고 중복되지 않는다
+ * - 보관 뒤에도 ChatService 커서 조회로 남은 원본 -> 보관된 날짜들을 거슬러 모두 읽을 수 있다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ChatArchiveServiceTest {
+
+    private static final Long MATCH_UP_ID = 1L;
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2026, 10, 1, 10, 0);
+    private static final int PER_DAY = 7;
+
+    @Container
+    private static final GenericContainer<?> MONGO = new GenericContainer<>("mongo:7").withExposedPorts(27017);
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private MatchUpRepository matchUpRepository;
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private ChatArchiveService chatArchiveService;
+    private ChatService chatService;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create("mongodb://" + MONGO.getHost() + ":" + MONGO.getMappedPort(27017));
+        mongoTemplate = new MongoTemplate(mongoClient, "cookie");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), ChatMessage.class);
+        mongoTemplate.remove(new Query(), ChatMessageArchive.class);
+
+        matchUpRepository = mock(MatchUpRepository.class);
+        chatMessageWriteBuffer = mock(ChatMessageWriteBuffer.class);
+        ChatTailCache chatTailCache = new ChatTailCache(mongoTemplate, 10, 60);
+        chatArchiveService = new ChatArchiveService(mongoTemplate, matchUpRepository, chatMessageWriteBuffer, chatTailCache,
+                new ObjectMapper().findAndRegisterModules());
+        chatService = new ChatService(new MongoRepositoryFactory(mongoTemplate).getRepository(ChatMessageRepository.class),
+                mongoTemplate, mock(UserSummaryCacheService.class), chatMessageWriteBuffer, chatTailCache, chatArchiveService);
+        chatService.ensureIndexes();
+    }
+
+    @Test
+    void archiveWritesOneChunkPerDayAndRemovesOriginals() {
+        List<ChatMessage> stored = threeDays();
+        mongoTemplate.insert(stored, ChatMessage.class);
+        mongoTemplate.insert(List.of(message(2L, DAY1, "other")), ChatMessage.class);
+
+        chatArchiveService.archive(MATCH_UP_ID);
+
+        List<ChatMessageArchive> archives = mongoTemplate.find(
+                Query.query(Criteria.where("matchUpId").is(MATCH_UP_ID)).with(Sort.by("day")), ChatMessageArchive.class);
+        assertThat(archives).extracting(ChatMessageArchive::getDay)
+                .containsExactly(LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 2), LocalDate.of(2026, 10, 3));
+        assertThat(archives).extracting(ChatMessageArchive::getMessageCount).containsOnly(PER_DAY);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("matchUpId").is(MATCH_UP_ID)), ChatMessage.class)).isZero();
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("matchUpId").is(2L)), ChatMessage.class)).isEqualTo(1);
+
+        // 보관된 메시지는 id 로 다시 찾을 수 있다
+        ChatMessage last = stored.get(stored.size() - 1);
+        assertThat(chatArchiveService.findMessage(MATCH_UP_ID, last.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getContent()).isEqualTo(last.getContent()));
+    }
+
+    @Test
+    void archivingSameDayAgainMergesWithoutDuplicates() {
+        List<ChatMessage> stored = threeDays();
+        mongoTemplate.insert(stored, ChatMessage.class);
+        chatArchiveService.archive(MATCH_UP_ID);
+
+        // 원본 삭제 전에 실패한 것처럼 이미 보관된 메시지가 남아 있고, 같은 날 메시지가 더 있는 경우
+        ChatMessage late = message(MATCH_UP_ID, DAY1.plusDays(2).plusHours(1), "late");
+        mongoTemplate.insert(List.of(stored.get(stored.size() - 1), late), ChatMessage.class);
+        chatArchiveService.archive(MATCH_UP_ID);
+
+        ChatMessageArchive lastDay = mongoTemplate.findById(ChatMessageArchive.idOf(MATCH_UP_ID, LocalDate.of(2026, 10, 3)),
+                ChatMessageArchive.class);
+        assertThat(lastDay.getMessageCount()).isEqualTo(PER_DAY + 1);
+        assertThat(mongoTemplate.count(new Query(), ChatMessageArchive.class)).isEqualTo(3);
+        assertThat(chatService.getMessages(MATCH_UP_ID, null, 100).getMessages())
+                .extracting(ChatMessageResponse::getMessageId)
+                .doesNotHaveDuplicates()
+                .hasSize(PER_DAY * 3 + 1);
+    }
+
+    @Test
+    void pagingReadsBackFromRemainingMessagesThroughArchivedDays() {
+        List<ChatMessage> archived = threeDays();
+        mongoTemplate.insert(archived, ChatMessage.class);
+        chatArchiveService.archive(MATCH_UP_ID);
+        List<ChatMessage> live = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            live.add(message(MATCH_UP_ID, DAY1.plusDays(3).plusMinutes(i), "live-" + i));
+        }
+        mongoTemplate.insert(live, ChatMessage.class);
+
+        List<String> read = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ChatHistoryResponse response = chatService.getMessages(MATCH_UP_ID, cursor, 4);
+            read.addAll(0, response.getMessages().stream().map(ChatMessageResponse::getMessageId).toList());
+            cursor = response.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<String> expected = new ArrayList<>();
+        archived.forEach(message -> expected.add(message.getId()));
+        live.forEach(message -> expected.add(message.getId()));
+        assertThat(read).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo((expected.size() + 3) / 4);
+    }
+
+    @Test
+    void fullyArchivedMatchUpIsReadFromArchive() {
+        List<ChatMessage> archived = threeDays();
+        mongoTemplate.insert(archived, ChatMessage.class);
+        chatArchiveService.archive(MATCH_UP_ID);
+
+        ChatHistoryResponse latest = chatService.getMessages(MATCH_UP_ID, null, 5);
+
+        assertThat(latest.getMessages()).extracting(ChatMessageResponse::getMessageId)
+                .containsExactlyElementsOf(archived.subList(archived.size() - 5, archived.size()).stream().map(ChatMessage::getId).toList());
+        assertThat(latest.isHasNext()).isTrue();
+    }
+
+    @Test
+    void archiveExpiredMatchUpsFlushesBufferFirstAndSkipsMatchUpsWithoutMessages() {
+        mongoTemplate.insert(threeDays(), ChatMessage.class);
+        given(matchUpRepository.findIdsByStatus(MatchUpStatus.EXPIRATION)).willReturn(List.of(MATCH_UP_ID, 2L));
+
+        chatArchiveService.archiveExpiredMatchUps();
+
+        verify(chatMessageWriteBuffer).flush();
+        assertThat(mongoTemplate.count(new Query(), ChatMessage.class)).isZero();
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("matchUpId").is(2L)), ChatMessageArchive.class)).isZero();
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("matchUpId").is(MATCH_UP_ID)), ChatMessageArchive.class)).isEqualTo(3);
+    }
+
+    // 3일 동안 하루 PER_DAY 개 (오래된 순)
+    private static List<ChatMessage> threeDays() {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            for (int i = 0; i < PER_DAY; i++) {
+                messages.add(message(MATCH_UP_ID, DAY1.plusDays(day).plusMinutes(i), "day" + day + "-" + i));
+            }
+        }
+        return messages;
+    }
+}
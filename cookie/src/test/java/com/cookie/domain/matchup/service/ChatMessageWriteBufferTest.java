@@ -0,0 +1,108 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.entity.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class ChatMessageWriteBufferTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final List<Integer> insertedBatches = new ArrayList<>();
+    // chatFlushExecutor 대신 제출된 작업을 모아 두고 테스트에서 직접 실행
+    private final Queue<Runnable> flushTasks = new ArrayDeque<>();
+    private BulkOperations bulkOperations;
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        given(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).willReturn(bulkOperations);
+        willAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.size());
+            return bulkOperations;
+        }).given(bulkOperations).insert(anyList());
+
+        chatMessageWriteBuffer = new ChatMessageWriteBuffer(mongoTemplate, flushTasks::add, new SimpleMeterRegistry(), 100, BATCH_SIZE);
+    }
+
+    @Test
+    void scheduledFlushSavesAtMostOneBatch() {
+        append(25);
+
+        chatMessageWriteBuffer.flush();
+
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE);
+        chatMessageWriteBuffer.flush();
+        chatMessageWriteBuffer.flush();
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE, BATCH_SIZE, 5);
+    }
+
+    @Test
+    void earlyFlushContinuesOnExecutorWhileBatchSizeRemains() {
+        append(35);
+        // batchSize 를 넘겨도 대기 중인 flush 요청은 하나
+        assertThat(flushTasks).hasSize(1);
+
+        while (!flushTasks.isEmpty()) {
+            flushTasks.poll().run();
+        }
+
+        // batchSize 미만으로 남은 5개는 다음 주기에 저장
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE, BATCH_SIZE, BATCH_SIZE);
+        chatMessageWriteBuffer.flush();
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE, BATCH_SIZE, BATCH_SIZE, 5);
+    }
+
+    @Test
+    void shutdownDrainsEveryBatch() {
+        append(25);
+
+        chatMessageWriteBuffer.flushOnShutdown();
+
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE, BATCH_SIZE, 5);
+    }
+
+    @Test
+    void failedBatchIsRequeuedAndStopsDraining() {
+        willThrow(new IllegalStateException("mongo down")).given(bulkOperations).execute();
+        append(25);
+
+        chatMessageWriteBuffer.flushOnShutdown();
+
+        // 실패하면 같은 배치를 반복하지 않고 멈춘다
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE);
+        chatMessageWriteBuffer.flush();
+        assertThat(insertedBatches).containsExactly(BATCH_SIZE, BATCH_SIZE);
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            chatMessageWriteBuffer.append(ChatMessage.builder()
+                    .matchUpId(1L)
+                    .senderUserId(1L)
+                    .content("message-" + i)
+                    .sentAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.ChatHistoryResponse;
+import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import com.cookie.domain.matchup.entity.ChatMessageArchive;
+import com.cookie.domain.matchup.repository.ChatMessageRepository;
+import com.cookie.domain.matchup.repository.MatchUpRepository;
+import com.cookie.domain.user.service.UserSummaryCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 MongoDB 로 채팅 기록 커서 조회 확인
+ * - 페이지 경계마다 빠지거나 겹치는 메시지 없이 처음까지 거슬러 올라간다
+ * - nextCursor 를 그대로 before 로 넘기면 바로 이전 메시지부터 이어진다
+ * - 같은 시각에 보낸 메시지는 id 순으로 나뉘어 경계에 걸려도 한 번씩만 나온다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ChatServiceTest {
+
+    private static final Long MATCH_UP_ID = 1L;
+    private static final int TAIL_SIZE = 10;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Container
+    private static final GenericContainer<?> MONGO = new GenericContainer<>("mongo:7").withExposedPorts(27017);
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private ChatService chatService;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create("mongodb://" + MONGO.getHost() + ":" + MONGO.getMappedPort(27017));
+        mongoTemplate = new MongoTemplate(mongoClient, "cookie");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), ChatMessage.class);
+        mongoTemplate.remove(new Query(), ChatMessageArchive.class);
+
+        ChatTailCache chatTailCache = new ChatTailCache(mongoTemplate, TAIL_SIZE, 60);
+        ChatMessageWriteBuffer chatMessageWriteBuffer = mock(ChatMessageWriteBuffer.class);
+        ChatArchiveService chatArchiveService = new ChatArchiveService(mongoTemplate, mock(MatchUpRepository.class),
+                chatMessageWriteBuffer, chatTailCache, new ObjectMapper().findAndRegisterModules());
+        chatService = new ChatService(new MongoRepositoryFactory(mongoTemplate).getRepository(ChatMessageRepository.class),
+                mongoTemplate, mock(UserSummaryCacheService.class), chatMessageWriteBuffer, chatTailCache, chatArchiveService);
+        chatService.ensureIndexes();
+    }
+
+    @Test
+    void pagingWalksEveryMessageOnceAcrossPageBoundaries() {
+        // 3개씩 같은 시각 + 다른 매치업 메시지는 섞이지 않아야 한다
+        List<ChatMessage> stored = new ArrayList<>();
+        for (int i = 0; i < 57; i++) {
+            stored.add(message(MATCH_UP_ID, BASE.plusSeconds(i / 3), "message-" + i));
+        }
+        mongoTemplate.insert(stored, ChatMessage.class);
+        mongoTemplate.insert(List.of(message(2L, BASE.plusSeconds(5), "other")), ChatMessage.class);
+
+        List<List<ChatMessageResponse>> pages = readAll(10);
+
+        assertThat(pages).extracting(List::size).containsExactly(7, 10, 10, 10, 10, 10);
+        assertThat(flatten(pages)).extracting(ChatMessageResponse::getMessageId)
+                .containsExactlyElementsOf(stored.stream().map(ChatMessage::getId).toList());
+    }
+
+    @Test
+    void nextCursorRoundTripsToTheMessageJustBeforeIt() {
+        List<ChatMessage> stored = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            stored.add(message(MATCH_UP_ID, BASE.plusSeconds(i), "message-" + i));
+        }
+        mongoTemplate.insert(stored, ChatMessage.class);
+
+        ChatHistoryResponse latest = chatService.getMessages(MATCH_UP_ID, null, 10);
+        ChatHistoryResponse previous = chatService.getMessages(MATCH_UP_ID, latest.getNextCursor(), 10);
+
+        // 페이지는 오래된 순이고, 커서는 이번 페이지에서 가장 오래된 메시지
+        assertThat(latest.getMessages()).extracting(ChatMessageResponse::getContent)
+                .containsExactlyElementsOf(contents(20, 30));
+        assertThat(latest.getNextCursor()).isEqualTo(stored.get(20).getId());
+        assertThat(latest.isHasNext()).isTrue();
+        assertThat(previous.getMessages()).extracting(ChatMessageResponse::getContent)
+                .containsExactlyElementsOf(contents(10, 20));
+        assertThat(previous.getNextCursor()).isEqualTo(stored.get(10).getId());
+
+        ChatHistoryResponse oldest = chatService.getMessages(MATCH_UP_ID, previous.getNextCursor(), 10);
+        assertThat(oldest.getMessages()).extracting(ChatMessageResponse::getContent)
+                .containsExactlyElementsOf(contents(0, 10));
+        assertThat(oldest.isHasNext()).isFalse();
+        assertThat(oldest.getNextCursor()).isNull();
+    }
+
+    @Test
+    void messagesWithEqualTimestampsAreSplitByIdAtPageBoundary() {
+        List<ChatMessage> stored = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            stored.add(message(MATCH_UP_ID, BASE, "message-" + i));
+        }
+        mongoTemplate.insert(stored, ChatMessage.class);
+
+        List<List<ChatMessageResponse>> pages = readAll(10);
+
+        assertThat(pages).extracting(List::size).containsExactly(5, 10, 10);
+        assertThat(flatten(pages)).extracting(ChatMessageResponse::getMessageId)
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(stored.stream().map(ChatMessage::getId).toList());
+    }
+
+    @Test
+    void pageSizeIsClampedBetweenOneAndHundred() {
+        List<ChatMessage> stored = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            stored.add(message(MATCH_UP_ID, BASE.plusSeconds(i), "message-" + i));
+        }
+        mongoTemplate.insert(stored, ChatMessage.class);
+
+        assertThat(chatService.getMessages(MATCH_UP_ID, null, 0).getMessages()).hasSize(1);
+        assertThat(chatService.getMessages(MATCH_UP_ID, null, 1_000).getMessages()).hasSize(100);
+    }
+
+    @Test
+    void unknownCursorIsRejected() {
+        mongoTemplate.insert(List.of(message(MATCH_UP_ID, BASE, "message-0")), ChatMessage.class);
+        String unknown = new ObjectId().toHexString();
+
+        assertThatThrownBy(() -> chatService.getMessages(MATCH_UP_ID, unknown, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 가장 최근 페이지부터 nextCursor 를 따라 끝까지 읽고, 오래된 페이지가 앞에 오도록 반환
+    private List<List<ChatMessageResponse>> readAll(int size) {
+        List<List<ChatMessageResponse>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            ChatHistoryResponse response = chatService.getMessages(MATCH_UP_ID, cursor, size);
+            pages.add(0, response.getMessages());
+            assertThat(response.getNextCursor()).isEqualTo(response.isHasNext() ? response.getMessages().get(0).getMessageId() : null);
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<ChatMessageResponse> flatten(List<List<ChatMessageResponse>> pages) {
+        return pages.stream().flatMap(List::stream).toList();
+    }
+
+    private static List<String> contents(int from, int to) {
+        List<String> contents = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            contents.add("message-" + i);
+        }
+        return contents;
+    }
+
+    // 운영과 같이 id 의 생성 시각이 보낸 시각과 같도록 발급
+    static ChatMessage message(Long matchUpId, LocalDateTime sentAt, String content) {
+        ChatMessage chatMessage = ChatMessage.builder()
+                .matchUpId(matchUpId)
+                .senderUserId(1L)
+                .senderNickname("user-1")
+                .content(content)
+                .sentAt(sentAt)
+                .build();
+        ReflectionTestUtils.setField(chatMessage, "id",
+                new ObjectId(Date.from(sentAt.atZone(ZoneId.systemDefault()).toInstant())).toHexString());
+        return chatMessage;
+    }
+}
@@ -0,0 +1,164 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.ChatMessageResponse;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatTailCacheTest {
+
+    private static final Long MATCH_UP_ID = 1L;
+    private static final int TAIL_SIZE = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private MongoTemplate mongoTemplate;
+    private ChatTailCache chatTailCache;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        chatTailCache = new ChatTailCache(mongoTemplate, TAIL_SIZE, 60);
+    }
+
+    @Test
+    void firstReadLoadsFromMongoAndLaterReadsHitCache() {
+        givenStoredLatestFirst(messages(TAIL_SIZE));
+
+        List<ChatMessageResponse> first = chatTailCache.findBefore(MATCH_UP_ID, null, 3);
+        List<ChatMessageResponse> second = chatTailCache.findBefore(MATCH_UP_ID, null, 3);
+
+        // 최신순
+        assertThat(first).extracting(ChatMessageResponse::getContent).containsExactly("message-4", "message-3", "message-2");
+        assertThat(second).extracting(ChatMessageResponse::getContent).containsExactly("message-4", "message-3", "message-2");
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(ChatMessage.class));
+    }
+
+    @Test
+    void appendedMessageIsServedBeforeItIsPersisted() {
+        givenStoredLatestFirst(messages(2));
+        chatTailCache.findBefore(MATCH_UP_ID, null, 10);
+
+        chatTailCache.append(response("local", BASE.plusSeconds(10)));
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 1))
+                .extracting(ChatMessageResponse::getMessageId)
+                .containsExactly("local");
+    }
+
+    @Test
+    void cursorInsideTailPagesFromCache() {
+        List<ChatMessage> stored = messages(4);
+        givenStoredLatestFirst(stored);
+
+        List<ChatMessageResponse> page = chatTailCache.findBefore(MATCH_UP_ID, stored.get(2).getId(), 2);
+
+        assertThat(page).extracting(ChatMessageResponse::getContent).containsExactly("message-1", "message-0");
+    }
+
+    @Test
+    void cursorOutsideTailIsMiss() {
+        givenStoredLatestFirst(messages(3));
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, "not-in-tail", 10)).isNull();
+    }
+
+    @Test
+    void pageLongerThanCachedMessagesIsMiss() {
+        // match_up_messages 에 3개뿐이어도 보관된 기록이 더 있을 수 있으므로 짧은 페이지는 저장소에서 읽는다
+        givenStoredLatestFirst(messages(3));
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 3)).hasSize(3);
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 4)).isNull();
+    }
+
+    @Test
+    void emptyTailIsMiss() {
+        // 보관 직후처럼 match_up_messages 가 비어 있으면 캐시로 답하지 않는다
+        givenStoredLatestFirst(List.of());
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 1)).isNull();
+    }
+
+    @Test
+    void appendBeyondTailSizeDropsOldest() {
+        givenStoredLatestFirst(messages(2));
+        chatTailCache.findBefore(MATCH_UP_ID, null, 10);
+
+        for (int i = 0; i < TAIL_SIZE; i++) {
+            chatTailCache.append(response("local-" + i, BASE.plusMinutes(1).plusSeconds(i)));
+        }
+
+        // 가장 오래된 두 메시지는 잘려 나가고, 그보다 이전은 캐시로 답하지 않는다
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, TAIL_SIZE))
+                .extracting(ChatMessageResponse::getMessageId)
+                .containsExactly("local-4", "local-3", "local-2", "local-1", "local-0");
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, "local-0", 1)).isNull();
+    }
+
+    @Test
+    void messagesWithSameSentAtAreOrderedById() {
+        givenStoredLatestFirst(List.of());
+        chatTailCache.findBefore(MATCH_UP_ID, null, 10);
+
+        chatTailCache.append(response("b", BASE));
+        chatTailCache.append(response("c", BASE));
+        chatTailCache.append(response("a", BASE));
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 3))
+                .extracting(ChatMessageResponse::getMessageId)
+                .containsExactly("c", "b", "a");
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, "b", 1))
+                .extracting(ChatMessageResponse::getMessageId)
+                .containsExactly("a");
+    }
+
+    @Test
+    void failedFirstLoadIsMissAndEvictForcesReload() {
+        willThrow(new IllegalStateException("mongo down")).given(mongoTemplate).find(any(Query.class), eq(ChatMessage.class));
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 1)).isNull();
+
+        givenStoredLatestFirst(messages(1));
+        chatTailCache.evict(MATCH_UP_ID);
+
+        assertThat(chatTailCache.findBefore(MATCH_UP_ID, null, 1)).hasSize(1);
+    }
+
+    private void givenStoredLatestFirst(List<ChatMessage> oldestFirst) {
+        List<ChatMessage> latestFirst = new ArrayList<>(oldestFirst);
+        Collections.reverse(latestFirst);
+        willReturn(latestFirst).given(mongoTemplate).find(any(Query.class), eq(ChatMessage.class));
+    }
+
+    private static List<ChatMessage> messages(int count) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(ChatMessage.builder()
+                    .matchUpId(MATCH_UP_ID)
+                    .senderUserId(1L)
+                    .content("message-" + i)
+                    .sentAt(BASE.plusSeconds(i))
+                    .build());
+        }
+        return messages;
+    }
+
+    private static ChatMessageResponse response(String messageId, LocalDateTime sentAt) {
+        return new ChatMessageResponse(messageId, MATCH_UP_ID, 1L, null, null, messageId, sentAt);
+    }
+}
@@ -0,0 +1,188 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.request.ChatMessageRequest;
+import com.cookie.domain.matchup.entity.ChatMessage;
+import com.cookie.domain.matchup.repository.ChatMessageRepository;
+import com.cookie.domain.user.dto.response.UserSummaryResponse;
+import com.cookie.domain.user.service.UserSummaryCacheService;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 초당 1,000 개 채팅 메시지를 ChatService.saveMessage 로 10초 동안 보내고 실제 MongoDB 에 저장되는 속도 측정
+ * - 저장 처리량: 저장된 메시지 수 / 첫 전송부터 마지막 저장까지 걸린 시간
+ * - 저장 지연(lag): k 번째로 버퍼에 들어간 메시지가 저장되기까지 걸린 시간
+ *   버퍼는 FIFO 이므로 저장 건수가 k 를 넘은 첫 시점 - k 번째 append 완료 시점으로 계산한다 (5ms 간격 표본)
+ * 주기 flush(200ms) 는 스케줄러로, 조기 flush 는 운영과 같은 단일 스레드 / 큐 1 / DiscardPolicy 풀로 돌린다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ChatWriteThroughputBenchmarkTest {
+
+    private static final int RATE_PER_SECOND = 1_000;
+    private static final int SECONDS = 10;
+    private static final int MESSAGES = RATE_PER_SECOND * SECONDS;
+    private static final int SENDERS = 20;
+    private static final long FLUSH_INTERVAL_MS = 200;
+    private static final long SAMPLE_INTERVAL_MICROS = 5_000;
+
+    @Container
+    private static final GenericContainer<?> MONGO = new GenericContainer<>("mongo:7").withExposedPorts(27017);
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create("mongodb://" + MONGO.getHost() + ":" + MONGO.getMappedPort(27017));
+        mongoTemplate = new MongoTemplate(mongoClient, "cookie");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    void sustainedThousandMessagesPerSecond() throws Exception {
+        ThreadPoolTaskExecutor chatFlushExecutor = new ThreadPoolTaskExecutor();
+        chatFlushExecutor.setCorePoolSize(1);
+        chatFlushExecutor.setMaxPoolSize(1);
+        chatFlushExecutor.setQueueCapacity(1);
+        chatFlushExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        chatFlushExecutor.initialize();
+        ChatMessageWriteBuffer chatMessageWriteBuffer = new ChatMessageWriteBuffer(mongoTemplate, chatFlushExecutor,
+                new SimpleMeterRegistry(), 10_000, 500);
+
+        UserSummaryCacheService userSummaryCacheService = mock(UserSummaryCacheService.class);
+        willAnswer(invocation -> new UserSummaryResponse(invocation.getArgument(0), "user-" + invocation.getArgument(0), null))
+                .given(userSummaryCacheService).getUserSummary(anyLong());
+        ChatService chatService = new ChatService(mock(ChatMessageRepository.class), mongoTemplate, userSummaryCacheService,
+                chatMessageWriteBuffer, new ChatTailCache(mongoTemplate, 300, 10), mock(ChatArchiveService.class));
+        chatService.ensureIndexes();
+        mongoTemplate.remove(new Query(), ChatMessage.class);
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        scheduler.scheduleWithFixedDelay(chatMessageWriteBuffer::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        // 저장 건수 표본: (시각, 누적 저장 건수)
+        List<long[]> samples = new ArrayList<>();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                long count = mongoTemplate.count(new Query(), ChatMessage.class);
+                samples.add(new long[]{System.nanoTime(), count});
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(SAMPLE_INTERVAL_MICROS));
+            }
+        });
+
+        long[] appendedAt = new long[MESSAGES];
+        long[] saveLatency = new long[MESSAGES];
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE_PER_SECOND;
+        ExecutorService senders = Executors.newFixedThreadPool(SENDERS);
+        CountDownLatch done = new CountDownLatch(SENDERS);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        sampler.start();
+        for (int t = 0; t < SENDERS; t++) {
+            int sender = t;
+            senders.execute(() -> {
+                // 보낸 순번 i 는 start + i * 1ms 에 전송 (발신자마다 SENDERS 칸씩 건너뛰며 담당)
+                for (int i = sender; i < MESSAGES; i += SENDERS) {
+                    long wait = start + i * intervalNanos - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long before = System.nanoTime();
+                    chatService.saveMessage(1L, new ChatMessageRequest("message-" + i), (long) (i % 500));
+                    appendedAt[i] = System.nanoTime();
+                    saveLatency[i] = appendedAt[i] - before;
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(SECONDS * 3L, TimeUnit.SECONDS)).isTrue();
+        long lastSent = Arrays.stream(appendedAt).max().orElseThrow();
+
+        // 남은 메시지가 주기 flush 로 모두 저장될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (mongoTemplate.count(new Query(), ChatMessage.class) < MESSAGES && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        sampling.set(false);
+        sampler.join();
+        senders.shutdown();
+        scheduler.shutdown();
+        chatFlushExecutor.shutdown();
+
+        long persisted = mongoTemplate.count(new Query(), ChatMessage.class);
+        long[] sortedAppends = appendedAt.clone();
+        Arrays.sort(sortedAppends);
+        long[] lag = lag(sortedAppends, samples);
+        long lastPersistedAt = samples.stream()
+                .filter(sample -> sample[1] >= persisted)
+                .findFirst()
+                .orElse(samples.get(samples.size() - 1))[0];
+        double sentPerSecond = MESSAGES / ((lastSent - start) / 1e9);
+        double persistedPerSecond = persisted / ((lastPersistedAt - start) / 1e9);
+        Arrays.sort(saveLatency);
+
+        System.out.printf("offered = %,.0f msg/s, persisted = %,.0f msg/s (%,d / %,d), saveMessage p50 = %.3fms, p99 = %.3fms%n",
+                sentPerSecond, persistedPerSecond, persisted, MESSAGES, percentile(saveLatency, 0.50), percentile(saveLatency, 0.99));
+        System.out.printf("persist lag: p50 = %.1fms, p99 = %.1fms, max = %.1fms (flush interval %dms, batch 500)%n",
+                percentile(lag, 0.50), percentile(lag, 0.99), lag[lag.length - 1] / 1_000_000.0, FLUSH_INTERVAL_MS);
+
+        assertThat(persisted).isEqualTo(MESSAGES);
+        assertThat(sentPerSecond).isGreaterThan(RATE_PER_SECOND * 0.9);
+        assertThat(persistedPerSecond).isGreaterThan(RATE_PER_SECOND * 0.9);
+        // 주기 flush 한 번 + 배치 저장 시간 안에 저장되어야 한다
+        assertThat(percentile(lag, 0.99)).isLessThan(FLUSH_INTERVAL_MS * 3);
+        assertThat(percentile(saveLatency, 0.99)).isLessThan(10);
+    }
+
+    // k 번째 append 완료 시점부터 누적 저장 건수가 k 이상이 된 첫 표본까지
+    private static long[] lag(long[] sortedAppends, List<long[]> samples) {
+        long[] lag = new long[sortedAppends.length];
+        int sample = 0;
+        for (int k = 0; k < sortedAppends.length; k++) {
+            while (sample < samples.size() - 1 && samples.get(sample)[1] < k + 1) {
+                sample++;
+            }
+            lag[k] = Math.max(0, samples.get(sample)[0] - sortedAppends[k]);
+        }
+        Arrays.sort(lag);
+        return lag;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
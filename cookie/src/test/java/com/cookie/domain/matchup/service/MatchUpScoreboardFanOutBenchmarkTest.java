@@ -0,0 +1,161 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse;
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse.MatchUpScoreMovieResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매치업 하나에 구독자 5,000 명일 때 점수판 발행 한 번의 팬아웃
+ * WebSocketConfig 기본값과 같은 simple broker + 전송 풀(8/16)로 /topic/matchup/1/score 발행을 반복하고,
+ * 구독자별 전송은 웹소켓 프레임 쓰기 대신 약 10µs 를 쓰는 것으로 흉내 낸다.
+ * - publish: 발행 스레드(점수판 스케줄러)가 convertAndSend 에 묶이는 시간
+ * - fan-out: 발행부터 마지막 구독자 전송까지
+ * 전송 큐가 작으면 한 번의 팬아웃이 거절되어 유실되므로 모든 구독자가 모든 발행을 받았는지 먼저 확인한다.
+ */
+@Tag("benchmark")
+class MatchUpScoreboardFanOutBenchmarkTest {
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int PUBLISHES = 200;
+    private static final int WARMUP = 20;
+    private static final long SEND_COST_NANOS = 10_000;
+    private static final String DESTINATION = "/topic/matchup/1/score";
+
+    // WebSocketConfig 의 websocket.outbound.* 기본값
+    private static final int OUTBOUND_CORE_POOL_SIZE = 8;
+    private static final int OUTBOUND_MAX_POOL_SIZE = 16;
+    private static final int OUTBOUND_QUEUE_CAPACITY = 2_000;
+
+    private ThreadPoolTaskExecutor outboundExecutor;
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate messagingTemplate;
+    private final AtomicLong delivered = new AtomicLong();
+    private volatile CountDownLatch pending;
+
+    @BeforeEach
+    void setUp() {
+        outboundExecutor = new ThreadPoolTaskExecutor();
+        outboundExecutor.setCorePoolSize(OUTBOUND_CORE_POOL_SIZE);
+        outboundExecutor.setMaxPoolSize(OUTBOUND_MAX_POOL_SIZE);
+        outboundExecutor.setQueueCapacity(OUTBOUND_QUEUE_CAPACITY);
+        outboundExecutor.setThreadNamePrefix("outbound-");
+        outboundExecutor.initialize();
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(outboundExecutor);
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(this::write);
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            String sessionId = "session-" + i;
+            broker.handleMessage(frame(SimpMessageType.CONNECT, sessionId, null));
+            broker.handleMessage(frame(SimpMessageType.SUBSCRIBE, sessionId, DESTINATION));
+        }
+
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+        outboundExecutor.shutdown();
+    }
+
+    @Test
+    void fanOutToFiveThousandSubscribers() throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            publishAndWait(i);
+        }
+        delivered.set(0);
+
+        long[] publish = new long[PUBLISHES];
+        long[] fanOut = new long[PUBLISHES];
+        long begin = System.nanoTime();
+        for (int i = 0; i < PUBLISHES; i++) {
+            long[] elapsed = publishAndWait(WARMUP + i);
+            publish[i] = elapsed[0];
+            fanOut[i] = elapsed[1];
+        }
+        long total = System.nanoTime() - begin;
+
+        assertThat(delivered).hasValue((long) PUBLISHES * SUBSCRIBERS);
+
+        Arrays.sort(publish);
+        Arrays.sort(fanOut);
+        print("publish", publish);
+        print("fan-out", fanOut);
+        System.out.printf("deliveries: %,.0f/s (%,d subscribers x %d publishes, outbound %d/%d threads)%n",
+                (double) PUBLISHES * SUBSCRIBERS / (total / 1_000_000_000.0), SUBSCRIBERS, PUBLISHES,
+                OUTBOUND_CORE_POOL_SIZE, OUTBOUND_MAX_POOL_SIZE);
+    }
+
+    // 발행 한 번: {convertAndSend 반환까지, 마지막 구독자 전송까지}
+    private long[] publishAndWait(long version) throws InterruptedException {
+        pending = new CountDownLatch(SUBSCRIBERS);
+        long start = System.nanoTime();
+        messagingTemplate.convertAndSend(DESTINATION, score(version));
+        long published = System.nanoTime() - start;
+        assertThat(pending.await(30, TimeUnit.SECONDS)).as("version %d 의 일부 전송이 유실됨", version).isTrue();
+        return new long[]{published, System.nanoTime() - start};
+    }
+
+    // 웹소켓 세션 전송 대신 SEND_COST_NANOS 만큼 바쁘게 대기
+    private void write(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        long until = System.nanoTime() + SEND_COST_NANOS;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+        delivered.incrementAndGet();
+        pending.countDown();
+    }
+
+    private static MatchUpScoreResponse score(long version) {
+        return new MatchUpScoreResponse(1L, version, List.of(new MatchUpScoreMovieResponse(11L, version, null, null)));
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+            accessor.setSubscriptionId("sub-0");
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static void print(String label, long[] sorted) {
+        System.out.printf("%s: p50 = %.2fms, p99 = %.2fms (%,d subscribers)%n",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), SUBSCRIBERS);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int position = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, position)] / 1_000_000.0;
+    }
+}
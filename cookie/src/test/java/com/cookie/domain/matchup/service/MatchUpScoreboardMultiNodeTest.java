@@ -0,0 +1,211 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.response.MatchUpScoreResponse;
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * redis 브로커 모드에서 두 인스턴스가 같은 DB / Redis 를 볼 때의 점수판 발행
+ * - 한 인스턴스만 발행하고, 발행하지 않는 인스턴스의 조회 버전도 같다.
+ * - 인스턴스마다 다른 미반영 증감은 발행 값에 섞이지 않는다.
+ * - 발행 담당이 바뀌어도 버전이 이어진다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MatchUpScoreboardMultiNodeTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    // 반영된 집계: 매치업 id -> (매치업 영화 id -> 집계 벡터)
+    private final Map<Long, Map<Long, long[]>> persisted = new TreeMap<>();
+    private Node node1;
+    private Node node2;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void createNodes() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        persisted.clear();
+        persisted.put(1L, new TreeMap<>(Map.of(11L, totals(10), 12L, totals(5))));
+        persisted.put(2L, new TreeMap<>(Map.of(21L, totals(0), 22L, totals(0))));
+
+        node1 = new Node(100);
+        node2 = new Node(200);
+    }
+
+    @Test
+    void onlyOneNodePublishesAndBothServeSameVersion() {
+        node1.scoreboard.publish();
+        node2.scoreboard.publish();
+
+        assertThat(node1.sent).hasSize(2);
+        assertThat(node2.sent).isEmpty();
+        assertThat(node2.scoreboard.getScore(1L).getVersion()).isEqualTo(node1.scoreboard.getScore(1L).getVersion()).isEqualTo(1L);
+
+        vote(11L, 3);
+        node2.scoreboard.publish();
+        node1.scoreboard.publish();
+        node2.scoreboard.publish();
+
+        assertThat(node2.sent).isEmpty();
+        assertThat(node1.sent).hasSize(3);
+        MatchUpScoreResponse diff = node1.sent.get(2);
+        assertThat(diff.getMatchUpId()).isEqualTo(1L);
+        assertThat(diff.getVersion()).isEqualTo(2L);
+        // 바뀐 영화만, 노드별 미반영 증감(100 / 200) 없이 반영된 값으로
+        assertThat(diff.getMovies()).singleElement().satisfies(movie -> {
+            assertThat(movie.getMatchUpMovieId()).isEqualTo(11L);
+            assertThat(movie.getVoteCount()).isEqualTo(13L);
+        });
+        assertThat(node2.scoreboard.getScore(1L).getVersion()).isEqualTo(2L);
+        assertThat(node2.scoreboard.getScore(1L).getMovies().get(0).getVoteCount()).isEqualTo(13L);
+    }
+
+    @Test
+    void versionContinuesAfterPublisherChanges() {
+        node1.scoreboard.publish();
+        vote(11L, 1);
+        node1.scoreboard.publish();
+        node2.scoreboard.publish();
+        assertThat(node1.scoreboard.getScore(1L).getVersion()).isEqualTo(2L);
+
+        // node1 종료: 락을 내려놓으면 node2 가 이어받는다
+        node1.scoreboard.releasePublisher();
+        node2.scoreboard.publish();
+        assertThat(node2.sent).isEmpty();
+
+        vote(12L, 1);
+        node2.scoreboard.publish();
+
+        assertThat(node2.sent).singleElement().satisfies(diff -> {
+            assertThat(diff.getVersion()).isEqualTo(3L);
+            assertThat(diff.getMovies()).extracting(MatchUpScoreResponse.MatchUpScoreMovieResponse::getMatchUpMovieId).containsExactly(12L);
+        });
+    }
+
+    @Test
+    void endedMatchUpVersionIsRemoved() {
+        node1.scoreboard.publish();
+        assertThat(redisTemplate.opsForHash().hasKey(MatchUpScoreboard.VERSION_KEY, "2")).isTrue();
+
+        persisted.remove(2L);
+        node1.scoreboard.publish();
+
+        assertThat(redisTemplate.opsForHash().hasKey(MatchUpScoreboard.VERSION_KEY, "2")).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey(MatchUpScoreboard.VERSION_KEY, "1")).isTrue();
+    }
+
+    private void vote(Long matchUpMovieId, int votes) {
+        persisted.values().stream()
+                .filter(movies -> movies.containsKey(matchUpMovieId))
+                .forEach(movies -> movies.get(matchUpMovieId)[MatchUpVoteField.VOTE.ordinal()] += votes);
+    }
+
+    private static long[] totals(long votes) {
+        long[] totals = new long[MatchUpVoteField.SIZE];
+        totals[MatchUpVoteField.VOTE.ordinal()] = votes;
+        return totals;
+    }
+
+    /**
+     * 인스턴스 하나: 같은 DB 를 읽고, 자기만의 미반영 증감과 자기 구독자에게 보내는 템플릿을 가진다
+     */
+    private class Node {
+        private final MatchUpScoreboard scoreboard;
+        private final List<MatchUpScoreResponse> sent = new CopyOnWriteArrayList<>();
+
+        Node(long pendingVotes) {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            willAnswer(invocation -> {
+                RowCallbackHandler handler = invocation.getArgument(1);
+                for (Map.Entry<Long, Map<Long, long[]>> matchUp : persisted.entrySet()) {
+                    for (Map.Entry<Long, long[]> movie : matchUp.getValue().entrySet()) {
+                        handler.processRow(row(matchUp.getKey(), movie.getKey(), movie.getValue()));
+                    }
+                }
+                return null;
+            }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+            MatchUpVoteBuffer matchUpVoteBuffer = mock(MatchUpVoteBuffer.class);
+            willAnswer(invocation -> {
+                long[] totals = invocation.getArgument(1);
+                totals[MatchUpVoteField.VOTE.ordinal()] += pendingVotes;
+                return null;
+            }).given(matchUpVoteBuffer).addPending(anyLong(), any(long[].class));
+
+            SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+            willAnswer(invocation -> {
+                sent.add(invocation.getArgument(1));
+                return null;
+            }).given(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+            scoreboard = new MatchUpScoreboard(jdbcTemplate, matchUpVoteBuffer, messagingTemplate, redisTemplate);
+            ReflectionTestUtils.setField(scoreboard, "brokerType", "redis");
+            ReflectionTestUtils.setField(scoreboard, "publishIntervalMs", 500L);
+        }
+
+        private ResultSet row(long matchUpId, long matchUpMovieId, long[] totals) throws Exception {
+            ResultSet rs = mock(ResultSet.class);
+            given(rs.getLong(1)).willReturn(matchUpId);
+            given(rs.getLong(2)).willReturn(matchUpMovieId);
+            for (int i = 0; i < MatchUpVoteField.SIZE; i++) {
+                given(rs.getLong(i + 3)).willReturn(totals[i]);
+            }
+            return rs;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MatchUpVoteBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private MatchUpVoteBuffer matchUpVoteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        matchUpVoteBuffer = new MatchUpVoteBuffer(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void everyFieldFitsInFieldBits() {
+        assertThat(MatchUpVoteField.SIZE).isLessThanOrEqualTo(1 << MatchUpVoteBuffer.FIELD_BITS);
+    }
+
+    @Test
+    void keyRoundTripsMovieIdAndField() {
+        long[] movieIds = {1L, 2L, 15L, 16L, 123_456_789L, Long.MAX_VALUE >>> MatchUpVoteBuffer.FIELD_BITS};
+        Map<Long, String> seen = new HashMap<>();
+        for (long movieId : movieIds) {
+            for (MatchUpVoteField field : MatchUpVoteField.values()) {
+                long key = MatchUpVoteBuffer.key(movieId, field);
+
+                assertThat(MatchUpVoteBuffer.matchUpMovieId(key)).isEqualTo(movieId);
+                assertThat(MatchUpVoteBuffer.field(key)).isEqualTo(field);
+                // 서로 다른 (영화, 항목) 은 키가 겹치지 않는다
+                assertThat(seen.put(key, movieId + ":" + field)).isNull();
+            }
+        }
+    }
+
+    @Test
+    void flushGroupsDeltasPerMovieInOneTransaction() {
+        Map<Long, Object[]> rows = new HashMap<>();
+        willAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            // 마지막 값이 match_up_movie id
+            args.forEach(row -> rows.put((Long) row[row.length - 1], row));
+            return new int[args.size()];
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        matchUpVoteBuffer.add(1L, vote(MatchUpVoteField.OST, MatchUpVoteField.JOY));
+        matchUpVoteBuffer.add(1L, vote(MatchUpVoteField.OST, MatchUpVoteField.TENSION));
+        matchUpVoteBuffer.add(2L, vote(MatchUpVoteField.ACTING, MatchUpVoteField.ANGRY));
+        matchUpVoteBuffer.flush();
+
+        verify(transactionManager).commit(any());
+        assertThat(rows).containsOnlyKeys(1L, 2L);
+        // 행의 값은 VOTE 를 뺀 항목 순서
+        assertThat(rows.get(1L)[MatchUpVoteField.OST.ordinal() - 1]).isEqualTo(2L);
+        assertThat(rows.get(1L)[MatchUpVoteField.JOY.ordinal() - 1]).isEqualTo(1L);
+        assertThat(rows.get(1L)[MatchUpVoteField.TENSION.ordinal() - 1]).isEqualTo(1L);
+        assertThat(rows.get(1L)[MatchUpVoteField.ACTING.ordinal() - 1]).isEqualTo(0L);
+        assertThat(rows.get(2L)[MatchUpVoteField.ACTING.ordinal() - 1]).isEqualTo(1L);
+
+        long[] totals = new long[MatchUpVoteField.SIZE];
+        matchUpVoteBuffer.addPending(1L, totals);
+        assertThat(totals).containsOnly(0L);
+    }
+
+    @Test
+    void failedFlushRollsBackAndKeepsDeltas() {
+        willThrow(new RuntimeException("deadlock")).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+        matchUpVoteBuffer.add(1L, vote(MatchUpVoteField.OST, MatchUpVoteField.JOY));
+
+        matchUpVoteBuffer.flush();
+
+        // 배치 전체가 롤백되므로 되돌린 증감량을 다음 주기에 다시 반영해도 중복되지 않는다
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        long[] totals = new long[MatchUpVoteField.SIZE];
+        matchUpVoteBuffer.addPending(1L, totals);
+        assertThat(totals[MatchUpVoteField.VOTE.ordinal()]).isEqualTo(1L);
+        assertThat(totals[MatchUpVoteField.OST.ordinal()]).isEqualTo(1L);
+        assertThat(totals[MatchUpVoteField.JOY.ordinal()]).isEqualTo(1L);
+    }
+
+    // 투표 1건: 투표 수 1 + 매력 포인트 1개 + 감정 포인트 1개
+    private static long[] vote(MatchUpVoteField charm, MatchUpVoteField emotion) {
+        long[] vote = new long[MatchUpVoteField.SIZE];
+        vote[MatchUpVoteField.VOTE.ordinal()] = 1;
+        vote[charm.ordinal()] = 1;
+        vote[emotion.ordinal()] = 1;
+        return vote;
+    }
+}
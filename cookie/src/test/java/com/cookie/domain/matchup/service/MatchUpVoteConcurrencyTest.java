@@ -0,0 +1,227 @@
+package com.cookie.domain.matchup.service;
+
+import com.cookie.domain.matchup.dto.request.CharmPointRequest;
+import com.cookie.domain.matchup.dto.request.EmotionPointRequest;
+import com.cookie.domain.matchup.dto.request.MatchUpVoteRequest;
+import com.cookie.domain.matchup.entity.enums.MatchUpStatus;
+import com.cookie.domain.matchup.entity.enums.MatchUpVoteField;
+import com.cookie.domain.matchup.repository.MatchUpRepository;
+import com.cookie.domain.user.repository.MatchUpParticipationRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 투표자 10,000 명이 동시에 투표하는 동안 집계 버퍼를 계속 비울 때
+ * - 받아들인 투표의 투표 수 / 매력 / 감정 포인트 합이 DB 최종 값과 같다 (유실, 중복 반영 없음)
+ * - 같은 (유저, 매치업) 의 두 번째 투표는 모두 거절된다
+ * 요청 트랜잭션은 @Transactional 대신 TransactionTemplate 으로 감싸, 집계 증감이 커밋 이후에 쌓이는 경로를 그대로 탄다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MatchUpVoteConcurrencyTest {
+
+    private static final int VOTERS = 10_000;
+    private static final int DUPLICATES = 2_000;
+    private static final int THREADS = 64;
+    private static final long MATCH_UP_ID = 1L;
+    private static final long[] MOVIE_IDS = {11L, 12L};
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(THREADS + 4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE charm_point (
+                    id BIGINT PRIMARY KEY, ost BIGINT NOT NULL DEFAULT 0, directing BIGINT NOT NULL DEFAULT 0,
+                    story BIGINT NOT NULL DEFAULT 0, dialogue BIGINT NOT NULL DEFAULT 0, visual BIGINT NOT NULL DEFAULT 0,
+                    acting BIGINT NOT NULL DEFAULT 0, special_effects BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE emotion_point (
+                    id BIGINT PRIMARY KEY, touching BIGINT NOT NULL DEFAULT 0, angry BIGINT NOT NULL DEFAULT 0,
+                    joy BIGINT NOT NULL DEFAULT 0, immersion BIGINT NOT NULL DEFAULT 0, excited BIGINT NOT NULL DEFAULT 0,
+                    empathy BIGINT NOT NULL DEFAULT 0, tension BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE match_up_movie (
+                    id BIGINT PRIMARY KEY, vote_count BIGINT NOT NULL DEFAULT 0,
+                    charm_point_id BIGINT, emotion_point_id BIGINT
+                )
+                """);
+        jdbcTemplate.execute("CREATE TABLE match_up (id BIGINT PRIMARY KEY, movie1_id BIGINT, movie2_id BIGINT, status VARCHAR(20))");
+        jdbcTemplate.execute("""
+                CREATE TABLE match_up_participation (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    match_up_id BIGINT NOT NULL,
+                    matchup_movie_id BIGINT NOT NULL,
+                    CONSTRAINT uk_match_up_participation_user_match_up UNIQUE (user_id, match_up_id),
+                    INDEX idx_participation_movie (matchup_movie_id)
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO charm_point (id) VALUES (11), (12)");
+        jdbcTemplate.update("INSERT INTO emotion_point (id) VALUES (11), (12)");
+        jdbcTemplate.update("INSERT INTO match_up_movie (id, charm_point_id, emotion_point_id) VALUES (11, 11, 11), (12, 12, 12)");
+        jdbcTemplate.update("INSERT INTO match_up (id, movie1_id, movie2_id, status) VALUES (1, 11, 12, 'NOW')");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void concurrentVotersLoseNoVotesAndDuplicatesAreRejected() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        MatchUpVoteBuffer matchUpVoteBuffer = new MatchUpVoteBuffer(jdbcTemplate, transactionTemplate);
+        MatchUpRepository matchUpRepository = mock(MatchUpRepository.class);
+        given(matchUpRepository.findStatusByIdAndMovieId(anyLong(), anyLong())).willReturn(Optional.of(MatchUpStatus.NOW));
+        MatchUpService matchUpService = new MatchUpService(matchUpRepository, mock(MatchUpParticipationRepository.class),
+                matchUpVoteBuffer, jdbcTemplate, mock(ApplicationEventPublisher.class));
+
+        // 유저마다 한 번씩 + 일부 유저는 한 번 더 (같은 영화 또는 다른 영화)
+        Random random = new Random(21);
+        List<Long> attempts = new ArrayList<>(VOTERS + DUPLICATES);
+        for (long userId = 1; userId <= VOTERS; userId++) {
+            attempts.add(userId);
+        }
+        for (int i = 0; i < DUPLICATES; i++) {
+            attempts.add(1L + random.nextInt(VOTERS));
+        }
+        Collections.shuffle(attempts, random);
+
+        // 받아들인 투표의 영화별 기대 합계
+        AtomicLongArray[] expected = {new AtomicLongArray(MatchUpVoteField.SIZE), new AtomicLongArray(MatchUpVoteField.SIZE)};
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        // 투표가 들어오는 동안 집계 버퍼를 계속 비운다
+        AtomicBoolean voting = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (voting.get()) {
+                matchUpVoteBuffer.flush();
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        flusher.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < attempts.size(); i++) {
+            long userId = attempts.get(i);
+            int movie = random.nextInt(MOVIE_IDS.length);
+            int charm = random.nextInt(7);
+            int emotion = random.nextInt(7);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status ->
+                            matchUpService.addMatchUpVote(userId, MATCH_UP_ID, MOVIE_IDS[movie], request(charm, emotion)));
+                    accepted.incrementAndGet();
+                    expected[movie].incrementAndGet(MatchUpVoteField.VOTE.ordinal());
+                    expected[movie].incrementAndGet(MatchUpVoteField.OST.ordinal() + charm);
+                    expected[movie].incrementAndGet(MatchUpVoteField.TOUCHING.ordinal() + emotion);
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        voting.set(false);
+        flusher.join();
+        matchUpVoteBuffer.flush();
+
+        assertThat(failed).hasValue(0);
+        assertThat(accepted).hasValue(VOTERS);
+        assertThat(rejected).hasValue(DUPLICATES);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT user_id) FROM match_up_participation", Long.class))
+                .isEqualTo((long) VOTERS);
+
+        for (int i = 0; i < MOVIE_IDS.length; i++) {
+            long[] persisted = persisted(MOVIE_IDS[i]);
+            for (MatchUpVoteField field : MatchUpVoteField.values()) {
+                assertThat(persisted[field.ordinal()]).as("movie %d %s", MOVIE_IDS[i], field).isEqualTo(expected[i].get(field.ordinal()));
+            }
+        }
+        long[] pending = new long[MatchUpVoteField.SIZE];
+        matchUpVoteBuffer.addPending(MOVIE_IDS[0], pending);
+        matchUpVoteBuffer.addPending(MOVIE_IDS[1], pending);
+        assertThat(pending).containsOnly(0L);
+    }
+
+    // 매력 / 감정 포인트를 하나씩 고른 투표
+    private static MatchUpVoteRequest request(int charm, int emotion) {
+        long[] c = new long[7];
+        long[] e = new long[7];
+        c[charm] = 1;
+        e[emotion] = 1;
+        return new MatchUpVoteRequest(
+                new CharmPointRequest(c[0], c[1], c[2], c[3], c[4], c[5], c[6]),
+                new EmotionPointRequest(e[0], e[1], e[2], e[3], e[4], e[5], e[6]));
+    }
+
+    private static long[] persisted(long matchUpMovieId) {
+        String columns = String.join(", ", Arrays.stream(MatchUpVoteField.values()).map(MatchUpVoteField::getColumn).toList());
+        return jdbcTemplate.queryForObject("SELECT " + columns + """
+                 FROM match_up_movie mm
+                JOIN charm_point cp ON cp.id = mm.charm_point_id
+                JOIN emotion_point ep ON ep.id = mm.emotion_point_id
+                WHERE mm.id = ?
+                """, (rs, rowNum) -> {
+            long[] values = new long[MatchUpVoteField.SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getLong(i + 1);
+            }
+            return values;
+        }, matchUpMovieId);
+    }
+}
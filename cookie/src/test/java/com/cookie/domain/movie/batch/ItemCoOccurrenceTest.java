@@ -0,0 +1,104 @@
+package com.cookie.domain.movie.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemCoOccurrenceTest {
+
+    /**
+     * 유저 1: 10, 20, 30 / 유저 2: 10, 20 / 유저 3: 10, 40
+     * co(10, 20) = 2 -> 2 / sqrt(3 * 2), co(20, 30) = 1 -> 1 / sqrt(2 * 1), co(10, 30) = co(10, 40) = 1 -> 1 / sqrt(3)
+     */
+    private static ItemCoOccurrence sample() {
+        ItemCoOccurrence coOccurrence = new ItemCoOccurrence(200);
+        coOccurrence.add(1L, 10L);
+        coOccurrence.add(1L, 20L);
+        coOccurrence.add(1L, 30L);
+        coOccurrence.add(2L, 10L);
+        coOccurrence.add(2L, 20L);
+        coOccurrence.add(3L, 10L);
+        coOccurrence.add(3L, 40L);
+        coOccurrence.finish();
+        return coOccurrence;
+    }
+
+    @Test
+    void countsUsersMoviesAndPairs() {
+        ItemCoOccurrence coOccurrence = sample();
+
+        assertThat(coOccurrence.userCount()).isEqualTo(3);
+        assertThat(coOccurrence.movieCount()).isEqualTo(4);
+        assertThat(coOccurrence.pairCount()).isEqualTo(4);
+    }
+
+    @Test
+    void cosineSimilarityOfAllNeighbors() {
+        Map<Long, Map<Long, Double>> neighbors = neighbors(sample(), 10, 1);
+
+        assertThat(neighbors.get(10L)).containsOnlyKeys(20L, 30L, 40L);
+        assertThat(neighbors.get(10L).get(20L)).isCloseTo(2 / Math.sqrt(6), within(1e-6));
+        assertThat(neighbors.get(10L).get(40L)).isCloseTo(1 / Math.sqrt(3), within(1e-6));
+        assertThat(neighbors.get(20L).get(30L)).isCloseTo(1 / Math.sqrt(2), within(1e-6));
+        // 유사도는 대칭
+        assertThat(neighbors.get(30L).get(20L)).isEqualTo(neighbors.get(20L).get(30L));
+    }
+
+    @Test
+    void keepsOnlyTopNNeighborsPerMovie() {
+        Map<Long, Map<Long, Double>> neighbors = neighbors(sample(), 1, 1);
+
+        assertThat(neighbors.get(10L)).containsOnlyKeys(20L);
+        assertThat(neighbors.get(20L)).containsOnlyKeys(10L);
+        assertThat(neighbors.get(30L)).containsOnlyKeys(20L);
+        assertThat(neighbors.get(40L)).containsOnlyKeys(10L);
+    }
+
+    @Test
+    void topNReplacesLowestWhenSlotsAreFull() {
+        ItemCoOccurrence coOccurrence = new ItemCoOccurrence(200);
+        // 영화 1 과의 동시 출현: 2 -> 1회, 3 -> 2회, 4 -> 3회 (들어오는 순서와 관계없이 가장 낮은 2 가 밀려나야 한다)
+        long userId = 1;
+        for (long neighbor = 2; neighbor <= 4; neighbor++) {
+            for (int i = 0; i < neighbor - 1; i++) {
+                coOccurrence.add(userId, 1L);
+                coOccurrence.add(userId, neighbor);
+                userId++;
+            }
+        }
+        coOccurrence.finish();
+
+        assertThat(neighbors(coOccurrence, 2, 1).get(1L)).containsOnlyKeys(3L, 4L);
+    }
+
+    @Test
+    void dropsPairsBelowMinCoOccurrence() {
+        Map<Long, Map<Long, Double>> neighbors = neighbors(sample(), 10, 2);
+
+        assertThat(neighbors).containsOnlyKeys(10L, 20L);
+        assertThat(neighbors.get(10L)).containsOnlyKeys(20L);
+    }
+
+    @Test
+    void capsItemsPerUser() {
+        ItemCoOccurrence coOccurrence = new ItemCoOccurrence(2);
+        coOccurrence.add(1L, 10L);
+        coOccurrence.add(1L, 20L);
+        coOccurrence.add(1L, 30L);
+        coOccurrence.finish();
+
+        assertThat(coOccurrence.pairCount()).isEqualTo(1);
+        assertThat(neighbors(coOccurrence, 10, 1)).containsOnlyKeys(10L, 20L);
+    }
+
+    private static Map<Long, Map<Long, Double>> neighbors(ItemCoOccurrence coOccurrence, int limit, int minCoOccurrence) {
+        Map<Long, Map<Long, Double>> neighbors = new HashMap<>();
+        coOccurrence.forEachNeighbor(limit, minCoOccurrence, (movieId, neighborMovieId, similarity) ->
+                neighbors.computeIfAbsent(movieId, id -> new HashMap<>()).put(neighborMovieId, similarity));
+        return neighbors;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cookie.domain.movie.batch;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 100만 건으로 영화 유사도(이웃) 계산 시간 / 메모리
+ * MovieSimilarityTasklet 과 같은 설정(이웃 20, 유저당 최대 200, 최소 동시 출현 2)으로
+ * user_id 순 (유저, 영화) 행을 ItemCoOccurrence 에 넣고 이웃을 뽑는다.
+ * 영화 인기도는 소수 영화에 좋아요가 몰리도록 치우치게 생성한다.
+ */
+@Tag("benchmark")
+class MovieSimilarityBuildBenchmarkTest {
+
+    private static final int LIKES = 1_000_000;
+    private static final int USERS = 100_000;
+    private static final int MOVIES = 20_000;
+
+    @Test
+    void buildNeighborsFromOneMillionLikes() {
+        Random random = new Random(13);
+        long[] movieOfRank = new long[MOVIES];
+        for (int i = 0; i < MOVIES; i++) {
+            movieOfRank[i] = i + 1;
+        }
+
+        long begin = System.nanoTime();
+        ItemCoOccurrence coOccurrence = new ItemCoOccurrence(200);
+        int likesPerUser = LIKES / USERS;
+        long[] userMovies = new long[likesPerUser];
+        for (long user = 1; user <= USERS; user++) {
+            long userId = user;
+            for (int i = 0; i < likesPerUser; i++) {
+                // 인기 순위의 제곱 분포로 상위 영화에 좋아요가 몰리게 한다
+                double u = random.nextDouble();
+                userMovies[i] = movieOfRank[(int) (u * u * MOVIES)];
+            }
+            // 쿼리의 UNION 처럼 같은 유저의 중복 영화는 한 번만
+            Arrays.stream(userMovies).distinct().forEach(movieId -> coOccurrence.add(userId, movieId));
+        }
+        coOccurrence.finish();
+        long countMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        AtomicLong neighbors = new AtomicLong();
+        begin = System.nanoTime();
+        coOccurrence.forEachNeighbor(20, 2, (movieId, neighborMovieId, similarity) -> neighbors.incrementAndGet());
+        long neighborMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        System.out.printf("likes = %,d, users = %,d, movies = %,d%n", LIKES, coOccurrence.userCount(), coOccurrence.movieCount());
+        System.out.printf("co-occurrence: %,d ms, pairs = %,d, estimated %,d MB%n",
+                countMillis, coOccurrence.pairCount(), coOccurrence.estimatedBytes() / (1024 * 1024));
+        System.out.printf("top-20 neighbors: %,d ms, rows = %,d%n", neighborMillis, neighbors.get());
+
+        assertThat(coOccurrence.userCount()).isEqualTo(USERS);
+        assertThat(neighbors.get()).isPositive().isLessThanOrEqualTo(20L * coOccurrence.movieCount());
+    }
+}
@@ -0,0 +1,295 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.domain.actor.dto.response.ActorResponse;
+import com.cookie.domain.actor.repository.ActorRepository;
+import com.cookie.domain.category.dto.CategoryResponse;
+import com.cookie.domain.category.repository.CategoryRepository;
+import com.cookie.domain.director.dto.response.DirectorResponse;
+import com.cookie.domain.director.entity.Director;
+import com.cookie.domain.director.service.DirectorService;
+import com.cookie.domain.matchup.service.MatchUpService;
+import com.cookie.domain.movie.dto.response.MovieResponse;
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.entity.MovieImage;
+import com.cookie.domain.movie.repository.MovieCategoryRepository;
+import com.cookie.domain.movie.repository.MovieLikeRepository;
+import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.review.dto.response.ReviewResponse;
+import com.cookie.domain.review.entity.Review;
+import com.cookie.domain.review.repository.ReviewLikeRepository;
+import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.domain.review.service.ReviewCardAssembler;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.service.GenrePreferenceService;
+import com.cookie.global.cache.SingleFlightCacheManager;
+import com.cookie.global.service.LikeCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 영화 상세 페이지(getMovieDetails) 동시 부하 테스트
+ * - before: 요청마다 영화 / 이미지 / 감독 / 국가 / 배우 / 전체 리뷰 / 리뷰별 existsById / 카테고리 / 좋아요 / 리뷰 수를 따로 조회
+ * - after: 사용자와 무관한 부분은 MovieDetailService 캐시(@Cacheable(sync = true))에서, 사용자별 좋아요 여부만 2회 조회
+ * 캐시는 실제 프록시를 타도록 스프링 컨텍스트에 SingleFlightCacheManager 를 등록한다.
+ * DB 조회 지연은 고정 1ms + 반환 행당 5µs 로 흉내 낸다.
+ */
+@Tag("benchmark")
+class MovieDetailLoadBenchmarkTest {
+
+    private static final int MOVIES = 200;
+    private static final int REVIEWS_PER_MOVIE = 50;
+    private static final int USERS = 1_000;
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 300;
+    private static final long QUERY_BASE_MICROS = 1_000;
+    private static final long QUERY_ROW_MICROS = 5;
+
+    private final Map<Long, Movie> movies = new HashMap<>();
+    private final Map<Long, List<Review>> reviewsByMovie = new HashMap<>();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private MovieRepository movieRepository;
+    private ActorRepository actorRepository;
+    private ReviewRepository reviewRepository;
+    private MovieCategoryRepository movieCategoryRepository;
+    private MovieLikeRepository movieLikeRepository;
+    private AnnotationConfigApplicationContext context;
+    private MovieService movieService;
+
+    @BeforeEach
+    void setUp() {
+        User writer = User.builder().nickname("writer").profileImage("profile.png").build();
+        ReflectionTestUtils.setField(writer, "id", 1L);
+        for (long movieId = 1; movieId <= MOVIES; movieId++) {
+            Director director = Director.builder().id(movieId).name("director-" + movieId).build();
+            Movie movie = Movie.builder().title("movie-" + movieId).poster("poster.png").plot("plot").releasedAt("2024-01-01")
+                    .runtime(120).score(4.0).certification("15").movieLikes(0L).director(director).build();
+            ReflectionTestUtils.setField(movie, "id", movieId);
+            for (int i = 0; i < 5; i++) {
+                movie.getMovieImages().add(new MovieImage("image-" + i + ".png", movie));
+            }
+            ReflectionTestUtils.setField(movie, "reviewCount", (long) REVIEWS_PER_MOVIE);
+            movies.put(movieId, movie);
+
+            List<Review> reviews = new ArrayList<>();
+            for (int i = 0; i < REVIEWS_PER_MOVIE; i++) {
+                Review review = Review.builder().movie(movie).user(writer).content("review-" + i).movieScore(4).build();
+                ReflectionTestUtils.setField(review, "id", movieId * 1_000 + i);
+                reviews.add(review);
+            }
+            reviewsByMovie.put(movieId, reviews);
+        }
+
+        movieRepository = mock(MovieRepository.class);
+        willAnswer(invocation -> query(1, () -> Optional.ofNullable(movies.get(invocation.<Long>getArgument(0)))))
+                .given(movieRepository).findById(anyLong());
+        willAnswer(invocation -> query(5, () -> Optional.ofNullable(movies.get(invocation.<Long>getArgument(0)))))
+                .given(movieRepository).findByIdWithImages(anyLong());
+        willAnswer(invocation -> query(5, () -> Optional.ofNullable(movies.get(invocation.<Long>getArgument(0)))))
+                .given(movieRepository).findDetailById(anyLong());
+
+        actorRepository = mock(ActorRepository.class);
+        willAnswer(invocation -> query(10, () -> actors(invocation.getArgument(0))))
+                .given(actorRepository).findActorsByMovieId(anyLong());
+
+        reviewRepository = mock(ReviewRepository.class);
+        willAnswer(invocation -> query(REVIEWS_PER_MOVIE, () -> reviewsByMovie.get(invocation.<Long>getArgument(0))))
+                .given(reviewRepository).findReviewsByMovieId(anyLong());
+        willAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            return query(pageable.getPageSize(), () -> reviewsByMovie.get(invocation.<Long>getArgument(0)).subList(0, pageable.getPageSize()));
+        }).given(reviewRepository).findLatestVisibleByMovieId(anyLong(), any(Pageable.class));
+        willAnswer(invocation -> query(1, () -> true)).given(reviewRepository).existsById(anyLong());
+        willAnswer(invocation -> query(1, () -> (long) REVIEWS_PER_MOVIE)).given(reviewRepository).countByMovieId(anyLong());
+
+        movieCategoryRepository = mock(MovieCategoryRepository.class);
+        willAnswer(invocation -> query(3, List::of)).given(movieCategoryRepository).findByMovieIdWithCategory(anyLong());
+
+        movieLikeRepository = mock(MovieLikeRepository.class);
+        willAnswer(invocation -> query(1, () -> invocation.<Long>getArgument(1) % 2 == 0))
+                .given(movieLikeRepository).isMovieLikedByUser(anyLong(), anyLong());
+
+        ReviewLikeRepository reviewLikeRepository = mock(ReviewLikeRepository.class);
+        willAnswer(invocation -> query(1, () -> invocation.<List<Long>>getArgument(1).subList(0, 1)))
+                .given(reviewLikeRepository).findLikedReviewIds(anyLong(), anyList());
+
+        LikeCountBuffer likeCountBuffer = mock(LikeCountBuffer.class);
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(CachingConfig.class);
+        context.registerBean(MovieRepository.class, () -> movieRepository);
+        context.registerBean(ActorRepository.class, () -> actorRepository);
+        context.registerBean(ReviewRepository.class, () -> reviewRepository);
+        context.registerBean(MovieCategoryRepository.class, () -> movieCategoryRepository);
+        context.registerBean(LikeCountBuffer.class, () -> likeCountBuffer);
+        context.registerBean(MovieDetailService.class);
+        context.refresh();
+
+        movieService = new MovieService(movieRepository, reviewRepository, movieCategoryRepository,
+                movieLikeRepository, reviewLikeRepository, mock(GenrePreferenceService.class), mock(GenreTopMovieIndex.class),
+                mock(CategoryRepository.class), mock(MatchUpService.class), mock(DirectorService.class), mock(MainAdminRecommendCacheService.class),
+                mock(ReviewCardAssembler.class), likeCountBuffer, context.getBean(MovieDetailService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void detailPageUnderConcurrentLoad() throws Exception {
+        // 기존 방식과 같은 공용 정보를 돌려주는지 먼저 확인
+        MovieResponse expected = detailWithSeparateQueries(1L, 2L);
+        MovieResponse actual = movieService.getMovieDetails(1L, 2L);
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getImages()).isEqualTo(expected.getImages());
+        assertThat(actual.getActors()).hasSameSizeAs(expected.getActors());
+        assertThat(actual.getReviews()).extracting(ReviewResponse::getReviewId)
+                .isEqualTo(expected.getReviews().stream().map(ReviewResponse::getReviewId).toList());
+        assertThat(actual.getTotalReviews()).isEqualTo(expected.getTotalReviews());
+        assertThat(actual.isLiked()).isTrue();
+
+        queries.set(0);
+        long[] before = run(this::detailWithSeparateQueries);
+        int beforeQueries = queries.getAndSet(0);
+        long[] after = run(movieService::getMovieDetails);
+        int afterQueries = queries.get();
+
+        print("before", before, beforeQueries);
+        print("after ", after, afterQueries);
+        // 요청당 사용자별 2회 + 영화당 최초 1회 적재(4회)
+        assertThat(afterQueries).isLessThanOrEqualTo(before.length * 2 + MOVIES * 4);
+        assertThat(afterQueries).isLessThan(beforeQueries / 4);
+        assertThat(percentile(after, 0.50)).isLessThan(percentile(before, 0.50));
+        assertThat(percentile(after, 0.99)).isLessThan(percentile(before, 0.99));
+    }
+
+    // 읽기 모델 도입 전 getMovieDetails (감독 / 국가는 지연 로딩으로 1회씩 추가 조회)
+    private MovieResponse detailWithSeparateQueries(Long movieId, Long userId) {
+        Movie movie = movieRepository.findById(movieId)
+                .orElseThrow(() -> new IllegalArgumentException("Movie not found with id: " + movieId));
+        List<MovieImage> movieImages = movieRepository.findByIdWithImages(movieId)
+                .orElseThrow(() -> new IllegalArgumentException("Movie Images not found"))
+                .getMovieImages();
+        Director director = query(1, movie::getDirector);
+        String country = query(1, () -> movie.getCountry() != null ? movie.getCountry().getName() : null);
+
+        List<ActorResponse> actors = actorRepository.findActorsByMovieId(movieId);
+        List<ReviewResponse> reviews = reviewRepository.findReviewsByMovieId(movieId).stream()
+                .limit(4)
+                .map(review -> ReviewResponse.fromReview(review, review.getReviewLike(),
+                        userId != null && reviewRepository.existsById(userId), review.getCommentCount()))
+                .toList();
+        List<CategoryResponse> categories = movieCategoryRepository.findByMovieIdWithCategory(movieId).stream()
+                .map(movieCategory -> new CategoryResponse(movieCategory.getCategory().getId(),
+                        movieCategory.getCategory().getMainCategory(), movieCategory.getCategory().getSubCategory()))
+                .toList();
+        boolean isLiked = userId != null && movieLikeRepository.isMovieLikedByUser(movieId, userId);
+
+        return MovieResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .images(movieImages.stream().map(MovieImage::getUrl).toList())
+                .country(country)
+                .director(DirectorResponse.builder().id(director.getId()).name(director.getName()).build())
+                .actors(actors)
+                .reviews(reviews)
+                .categories(categories)
+                .isLiked(isLiked)
+                .totalReviews(reviewRepository.countByMovieId(movieId))
+                .build();
+    }
+
+    private long[] run(BiFunction<Long, Long, MovieResponse> detail) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long[] elapsed = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    int request = thread * REQUESTS_PER_THREAD + i;
+                    // 상위 영화에 요청이 몰리도록 제곱 분포로 영화 선택
+                    double skew = (request * 0.618_033_988_7) % 1.0;
+                    long movieId = 1 + (long) (skew * skew * MOVIES);
+                    long start = System.nanoTime();
+                    detail.apply(movieId, 1L + request % USERS);
+                    elapsed[request] = System.nanoTime() - start;
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.MINUTES);
+        executor.shutdown();
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private <T> T query(int rows, Supplier<T> result) {
+        queries.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(QUERY_BASE_MICROS + rows * QUERY_ROW_MICROS));
+        return result.get();
+    }
+
+    private static List<ActorResponse> actors(Long movieId) {
+        List<ActorResponse> actors = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            actors.add(new ActorResponse(movieId * 100 + i, "actor-" + i, "actor.png"));
+        }
+        return actors;
+    }
+
+    private static void print(String label, long[] sorted, int queries) {
+        System.out.printf("%s: p50 = %.2fms, p99 = %.2fms, queries = %,d (%d requests, %d threads, %d movies)%n",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), queries, sorted.length, THREADS, MOVIES);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean(name = "movieDetailCacheManager")
+        CacheManager movieDetailCacheManager() {
+            return new SingleFlightCacheManager(Duration.ofSeconds(3), new SimpleMeterRegistry())
+                    .cache("movieDetailCache", 1000, Duration.ofMinutes(1));
+        }
+    }
+}
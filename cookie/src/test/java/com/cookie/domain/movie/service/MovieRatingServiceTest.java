@@ -0,0 +1,244 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.admin.service.reviewAndLike.AdminReviewAndLikeService;
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.review.entity.Review;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.entity.enums.Role;
+import com.cookie.domain.user.entity.enums.SocialProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 실제 MySQL 로 영화 평점 증분 집계 확인
+ * - applyReviewScore 가 작성 / 수정 / 삭제마다 (점수 합, 리뷰 수, 평점)을 같이 갱신한다
+ * - 관리자 숨김은 평점에서 빼고, 숨김 해제는 다시 더하며, 같은 상태로의 요청은 아무것도 바꾸지 않는다
+ * - recomputeRatings 는 숨김 리뷰를 뺀 리뷰 테이블 기준으로 어긋난 영화만 고친다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MovieRatingServiceTest {
+
+    private static final double EPSILON = 0.0001;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static AnnotationConfigApplicationContext context;
+    private static MovieRatingService movieRatingService;
+    private static AdminReviewAndLikeService adminReviewAndLikeService;
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @BeforeAll
+    static void setUp() {
+        context = new AnnotationConfigApplicationContext(RatingConfig.class);
+        movieRatingService = context.getBean(MovieRatingService.class);
+        adminReviewAndLikeService = context.getBean(AdminReviewAndLikeService.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void applyReviewScoreTracksCreateUpdateAndDelete() {
+        Long movieId = inTransaction(entityManager -> persistMovie(entityManager).getId());
+
+        movieRatingService.addReviewScore(movieId, 4);
+        movieRatingService.addReviewScore(movieId, 5);
+        assertRating(movieId, 9, 2, 4.5);
+
+        movieRatingService.changeReviewScore(movieId, 5, 1);
+        assertRating(movieId, 5, 2, 2.5);
+
+        // 점수가 그대로인 수정은 아무것도 바꾸지 않는다
+        movieRatingService.changeReviewScore(movieId, 1, 1);
+        assertRating(movieId, 5, 2, 2.5);
+
+        movieRatingService.removeReviewScore(movieId, 1);
+        assertRating(movieId, 4, 1, 4.0);
+
+        // 마지막 리뷰가 지워지면 0 으로 나누지 않고 평점도 0
+        movieRatingService.removeReviewScore(movieId, 4);
+        assertRating(movieId, 0, 0, 0.0);
+    }
+
+    @Test
+    void adminHideRemovesScoreAndUnhideRestoresIt() {
+        long[] ids = inTransaction(entityManager -> {
+            Movie movie = persistMovie(entityManager);
+            Review low = persistReview(entityManager, movie, 2, false);
+            Review high = persistReview(entityManager, movie, 4, false);
+            return new long[]{movie.getId(), low.getId(), high.getId()};
+        });
+        Long movieId = ids[0];
+        Long highReviewId = ids[2];
+        // ReviewService 가 작성 시점에 하는 것과 같이 반영
+        movieRatingService.addReviewScore(movieId, 2);
+        movieRatingService.addReviewScore(movieId, 4);
+        assertRating(movieId, 6, 2, 3.0);
+
+        adminReviewAndLikeService.updateReviewHideStatus(highReviewId, true);
+        assertRating(movieId, 2, 1, 2.0);
+
+        // 이미 숨겨진 리뷰를 다시 숨겨도 두 번 빠지지 않는다
+        adminReviewAndLikeService.updateReviewHideStatus(highReviewId, true);
+        assertRating(movieId, 2, 1, 2.0);
+
+        adminReviewAndLikeService.updateReviewHideStatus(highReviewId, false);
+        assertRating(movieId, 6, 2, 3.0);
+
+        adminReviewAndLikeService.updateReviewHideStatus(highReviewId, false);
+        assertRating(movieId, 6, 2, 3.0);
+
+        // 증분 집계가 리뷰 테이블과 어긋나지 않았으므로 재계산은 이 영화를 건드리지 않는다
+        movieRatingService.updateMovieRatings();
+        assertRating(movieId, 6, 2, 3.0);
+    }
+
+    @Test
+    void recomputeRatingsFixesOnlyDriftedMoviesAndIgnoresHiddenReviews() {
+        // 먼저 다른 테스트가 남긴 어긋남까지 정리해 이번에 고친 건수만 센다
+        movieRatingService.updateMovieRatings();
+
+        long[] movieIds = inTransaction(entityManager -> {
+            Movie consistent = persistMovie(entityManager);
+            persistReview(entityManager, consistent, 3, false);
+            persistReview(entityManager, consistent, 5, false);
+
+            Movie drifted = persistMovie(entityManager);
+            persistReview(entityManager, drifted, 1, false);
+            persistReview(entityManager, drifted, 5, true);
+
+            Movie orphaned = persistMovie(entityManager);
+            return new long[]{consistent.getId(), drifted.getId(), orphaned.getId()};
+        });
+        updateAggregate(movieIds[0], 8, 2, 4.0);
+        // 숨김 리뷰까지 더해진 값, 리뷰가 없는데 남아 있는 값
+        updateAggregate(movieIds[1], 6, 2, 3.0);
+        updateAggregate(movieIds[2], 7, 1, 7.0);
+
+        assertThat(movieRatingService.updateMovieRatings()).isEqualTo(2);
+        assertRating(movieIds[0], 8, 2, 4.0);
+        assertRating(movieIds[1], 1, 1, 1.0);
+        assertRating(movieIds[2], 0, 0, 0.0);
+
+        assertThat(movieRatingService.updateMovieRatings()).isZero();
+    }
+
+    private static void assertRating(Long movieId, long scoreSum, long reviewCount, double score) {
+        Movie movie = inTransaction(entityManager -> entityManager.find(Movie.class, movieId));
+        assertThat(movie.getScoreSum()).isEqualTo(scoreSum);
+        assertThat(movie.getReviewCount()).isEqualTo(reviewCount);
+        assertThat(movie.getScore()).isCloseTo(score, within(EPSILON));
+    }
+
+    private static void updateAggregate(long movieId, long scoreSum, long reviewCount, double score) {
+        inTransaction(entityManager -> entityManager.createNativeQuery(
+                        "UPDATE movie SET score_sum = ?1, review_count = ?2, score = ?3 WHERE id = ?4")
+                .setParameter(1, scoreSum)
+                .setParameter(2, reviewCount)
+                .setParameter(3, score)
+                .setParameter(4, movieId)
+                .executeUpdate());
+    }
+
+    private static Movie persistMovie(EntityManager entityManager) {
+        Movie movie = Movie.builder().title("영화-" + SEQUENCE.incrementAndGet()).movieLikes(0L).build();
+        entityManager.persist(movie);
+        return movie;
+    }
+
+    // 같은 사용자가 한 영화에 두 번 쓰지 않도록 리뷰마다 작성자를 새로 만든다
+    private static Review persistReview(EntityManager entityManager, Movie movie, int movieScore, boolean hide) {
+        String nickname = "user-" + SEQUENCE.incrementAndGet();
+        User user = User.builder()
+                .nickname(nickname)
+                .socialProvider(SocialProvider.GOOGLE)
+                .socialId(nickname)
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        Review review = Review.builder()
+                .movie(movie)
+                .user(user)
+                .content("리뷰")
+                .movieScore(movieScore)
+                .isHide(hide)
+                .build();
+        entityManager.persist(review);
+        return review;
+    }
+
+    private static <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        return new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status ->
+                work.apply(EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)));
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackages = "com.cookie")
+    @Import({MovieRatingService.class, AdminReviewAndLikeService.class})
+    static class RatingConfig {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+            dataSource.setUsername(MYSQL.getUsername());
+            dataSource.setPassword(MYSQL.getPassword());
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.cookie");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            // 운영(spring boot 기본값)과 같은 테이블 / 컬럼 이름
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "update",
+                    "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                    "hibernate.implicit_naming_strategy", "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.cookie.domain.movie.service;
+
+import com.cookie.domain.category.repository.CategoryRepository;
+import com.cookie.domain.director.service.DirectorService;
+import com.cookie.domain.matchup.service.MatchUpService;
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
+import com.cookie.domain.movie.repository.MovieCategoryRepository;
+import com.cookie.domain.movie.repository.MovieLikeRepository;
+import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.review.repository.ReviewLikeRepository;
+import com.cookie.domain.review.repository.ReviewRepository;
+import com.cookie.domain.review.service.ReviewCardAssembler;
+import com.cookie.domain.user.entity.enums.Genre;
+import com.cookie.domain.user.service.GenrePreferenceService;
+import com.cookie.global.service.LikeCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 영화 50,000 개에서 추천(getRecommendedMovies) 부하 테스트
+ * - before: 요청마다 장르 전체 영화를 읽어 Java 에서 정렬 후 자르기 (장르당 최대 3회 조회)
+ * - after: GenreTopMovieIndex 의 장르별 상위 N 개에서 k 개만 꺼내기 (장르당 최초 1회 LIMIT 조회)
+ * DB 조회 지연은 고정 2ms + 반환 행당 2µs 로 흉내 낸다.
+ */
+@Tag("benchmark")
+class RecommendationLoadBenchmarkTest {
+
+    private static final int MOVIES = 50_000;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 500;
+    private static final long QUERY_BASE_MICROS = 2_000;
+    private static final long QUERY_ROW_MICROS = 2;
+
+    private final Map<String, List<MovieSimpleResponse>> moviesByGenre = new HashMap<>();
+    private final AtomicInteger queries = new AtomicInteger();
+    private MovieRepository movieRepository;
+    private MovieService movieService;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        List<String> genres = Arrays.stream(Genre.values()).map(Genre::getCategory).toList();
+        for (long id = 1; id <= MOVIES; id++) {
+            MovieSimpleResponse movie = new MovieSimpleResponse(id, "movie-" + id, null, "2024-01-01", "한국",
+                    random.nextInt(50) / 10.0, (long) random.nextInt(100_000), (long) random.nextInt(1_000));
+            Set<String> movieGenres = new HashSet<>();
+            int genreCount = 1 + random.nextInt(3);
+            while (movieGenres.size() < genreCount) {
+                movieGenres.add(genres.get(random.nextInt(genres.size())));
+            }
+            movieGenres.forEach(genre -> moviesByGenre.computeIfAbsent(genre, key -> new ArrayList<>()).add(movie));
+        }
+        Comparator<MovieSimpleResponse> byLikes = Comparator.comparing(MovieSimpleResponse::getLikes)
+                .thenComparing(MovieSimpleResponse::getId)
+                .reversed();
+        moviesByGenre.values().forEach(movies -> movies.sort(byLikes));
+
+        movieRepository = mock(MovieRepository.class);
+        willAnswer(invocation -> {
+            List<MovieSimpleResponse> movies = moviesByGenre.getOrDefault(invocation.<String>getArgument(0), List.of());
+            Pageable pageable = invocation.getArgument(1);
+            List<MovieSimpleResponse> rows = pageable.isPaged()
+                    ? movies.subList(0, Math.min(pageable.getPageSize(), movies.size()))
+                    : movies;
+            queries.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(QUERY_BASE_MICROS + rows.size() * QUERY_ROW_MICROS));
+            return new ArrayList<>(rows);
+        }).given(movieRepository).findTopMoviesByCategory(anyString(), any(Pageable.class));
+
+        GenrePreferenceService genrePreferenceService = mock(GenrePreferenceService.class);
+        willAnswer(invocation -> genreScores(invocation.getArgument(0), genres)).given(genrePreferenceService).getGenreScores(anyLong());
+
+        GenreTopMovieIndex genreTopMovieIndex = new GenreTopMovieIndex(movieRepository);
+        ReflectionTestUtils.setField(genreTopMovieIndex, "indexSize", 30);
+
+        movieService = new MovieService(movieRepository, mock(ReviewRepository.class), mock(MovieCategoryRepository.class),
+                mock(MovieLikeRepository.class), mock(ReviewLikeRepository.class), genrePreferenceService, genreTopMovieIndex,
+                mock(CategoryRepository.class), mock(MatchUpService.class), mock(DirectorService.class), mock(MainAdminRecommendCacheService.class),
+                mock(ReviewCardAssembler.class), mock(LikeCountBuffer.class), mock(MovieDetailService.class));
+    }
+
+    @Test
+    void recommendationsWith50kMovies() throws Exception {
+        // 기존 방식과 같은 결과인지 먼저 확인
+        for (long userId = 0; userId < 50; userId++) {
+            assertThat(movieService.getRecommendedMovies(userId)).isEqualTo(recommendWithFullScan(userId));
+        }
+
+        queries.set(0);
+        long[] before = run(this::recommendWithFullScan);
+        int beforeQueries = queries.getAndSet(0);
+        long[] after = run(userId -> movieService.getRecommendedMovies(userId));
+        int afterQueries = queries.get();
+
+        print("before", before, beforeQueries);
+        print("after ", after, afterQueries);
+        assertThat(afterQueries).isLessThanOrEqualTo(Genre.SIZE);
+        assertThat(percentile(after, 0.99)).isLessThan(percentile(before, 0.50));
+    }
+
+    // 인덱스 도입 전: 장르마다 전체 영화를 읽어 좋아요 순 상위 k 개를 고른다
+    private List<MovieSimpleResponse> recommendWithFullScan(long userId) {
+        List<String> sortedGenres = genreScores(userId, null).entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        int[] limits = sortedGenres.size() == 1 ? new int[]{9} : sortedGenres.size() == 2 ? new int[]{5, 4} : new int[]{3, 3, 3};
+
+        List<Long> seen = new ArrayList<>();
+        List<MovieSimpleResponse> recommended = new ArrayList<>();
+        for (int i = 0; i < limits.length; i++) {
+            int picked = 0;
+            for (MovieSimpleResponse movie : movieRepository.findTopMoviesByCategory(sortedGenres.get(i), Pageable.unpaged())) {
+                if (picked == limits[i]) {
+                    break;
+                }
+                if (!seen.contains(movie.getId())) {
+                    seen.add(movie.getId());
+                    recommended.add(movie);
+                    picked++;
+                }
+            }
+        }
+        return recommended;
+    }
+
+    private long[] run(LongFunction<List<MovieSimpleResponse>> recommend) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long[] elapsed = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long start = System.nanoTime();
+                    recommend.apply((long) (thread * REQUESTS_PER_THREAD + i) % 1_000);
+                    elapsed[thread * REQUESTS_PER_THREAD + i] = System.nanoTime() - start;
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.MINUTES);
+        executor.shutdown();
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    // userId 마다 상위 장르 1~3개가 다르도록 장르 점수 생성
+    private static Map<String, Long> genreScores(long userId, List<String> genres) {
+        List<String> categories = genres != null ? genres : Arrays.stream(Genre.values()).map(Genre::getCategory).toList();
+        Map<String, Long> scores = new LinkedHashMap<>();
+        categories.forEach(genre -> scores.put(genre, 0L));
+        int count = 1 + (int) (userId % 3);
+        for (int i = 0; i < count; i++) {
+            scores.put(categories.get((int) ((userId + i * 7) % categories.size())), 100L - i * 10);
+        }
+        return scores;
+    }
+
+    private static void print(String label, long[] sorted, int queries) {
+        System.out.printf("%s: p50 = %.2fms, p99 = %.2fms, queries = %,d (%d requests, %d threads, %,d movies)%n",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), queries, sorted.length, THREADS, MOVIES);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
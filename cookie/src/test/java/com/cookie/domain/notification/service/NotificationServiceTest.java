@@ -0,0 +1,166 @@
+package com.cookie.domain.notification.service;
+
+import com.cookie.domain.notification.repository.FcmTokenRepository;
+import com.cookie.domain.notification.sender.PushSendResult;
+import com.cookie.domain.notification.sender.PushSender;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class NotificationServiceTest {
+
+    private static final Long SENDER_ID = 1L;
+    private static final Long REVIEW_ID = 100L;
+
+    private UserRepository userRepository;
+    private FcmTokenService fcmTokenService;
+    private PushSender pushSender;
+    private RedisTemplate<String, Object> template;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationService notificationService;
+
+    // sendMulticast 호출마다 받은 토큰 묶음
+    private final List<List<String>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        fcmTokenService = mock(FcmTokenService.class);
+        pushSender = mock(PushSender.class);
+        template = mock(RedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationService = new NotificationService(userRepository, mock(FcmTokenRepository.class), fcmTokenService,
+                pushSender, meterRegistry, template, new ObjectMapper().findAndRegisterModules());
+
+        User sender = mock(User.class);
+        given(sender.getProfileImage()).willReturn("profile.png");
+        given(userRepository.findById(SENDER_ID)).willReturn(Optional.of(sender));
+    }
+
+    @Test
+    void recipientsAreSentInMulticastChunksOfAtMostFiveHundred() {
+        givenPushResults(token -> PushSendResult.Status.SUCCESS);
+        Map<Long, String> recipients = recipients(1_234);
+
+        notificationService.sendPushNotificationToUsers(SENDER_ID, recipients, "title", "body", REVIEW_ID);
+
+        assertThat(chunks).extracting(List::size).containsExactlyInAnyOrder(500, 500, 234);
+        assertThat(chunks.stream().flatMap(List::stream).toList())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(recipients.values());
+        assertThat(meterRegistry.counter("push.notification.sent", "result", "success").count()).isEqualTo(1_234);
+        verify(fcmTokenService, never()).deleteInvalidTokens(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onlyInvalidTokensArePrunedAndOnlyDeliveredUsersGetNotifications() {
+        // 10 으로 나누어 떨어지면 등록 해제, 7 로 나누어 떨어지면 일시 실패
+        givenPushResults(token -> {
+            long userId = Long.parseLong(token.substring("token-".length()));
+            if (userId % 10 == 0) {
+                return PushSendResult.Status.INVALID_TOKEN;
+            }
+            return userId % 7 == 0 ? PushSendResult.Status.FAILED : PushSendResult.Status.SUCCESS;
+        });
+        Map<Long, String> recipients = recipients(1_000);
+
+        notificationService.sendPushNotificationToUsers(SENDER_ID, recipients, "title", "body", REVIEW_ID);
+
+        ArgumentCaptor<List<String>> invalid = ArgumentCaptor.forClass(List.class);
+        verify(fcmTokenService).deleteInvalidTokens(invalid.capture());
+        List<String> expectedInvalid = new ArrayList<>();
+        List<String> expectedKeys = new ArrayList<>();
+        recipients.forEach((userId, token) -> {
+            if (userId % 10 == 0) {
+                expectedInvalid.add(token);
+            } else if (userId % 7 != 0) {
+                expectedKeys.add("notifications:user:" + userId);
+            }
+        });
+        assertThat(invalid.getValue()).containsExactlyInAnyOrderElementsOf(expectedInvalid);
+        assertThat(pushedNotificationKeys()).containsExactlyInAnyOrderElementsOf(expectedKeys);
+        assertThat(meterRegistry.counter("push.notification.sent", "result", "invalid_token").count()).isEqualTo(100);
+        assertThat(meterRegistry.counter("push.notification.sent", "result", "failed").count()).isEqualTo(expectedFailed());
+    }
+
+    @Test
+    void noRecipientsSendsNothing() {
+        notificationService.sendPushNotificationToUsers(SENDER_ID, Map.of(), "title", "body", REVIEW_ID);
+
+        verifyNoInteractions(pushSender, fcmTokenService, template);
+    }
+
+    private void givenPushResults(Function<String, PushSendResult.Status> statusOf) {
+        willAnswer(invocation -> {
+            List<String> tokens = invocation.getArgument(0);
+            chunks.add(new ArrayList<>(tokens));
+            return tokens.stream().map(token -> new PushSendResult(token, statusOf.apply(token))).toList();
+        }).given(pushSender).sendMulticast(anyList(), anyMap());
+    }
+
+    // 파이프라인 콜백을 목 커넥션으로 실행해 알림을 넣은 키 목록을 얻는다
+    @SuppressWarnings("unchecked")
+    private List<String> pushedNotificationKeys() {
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(template).executePipelined(callback.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        given(connection.listCommands()).willReturn(listCommands);
+        List<String> keys = new ArrayList<>();
+        willAnswer(invocation -> {
+            keys.add(new String((byte[]) invocation.getArgument(0), StandardCharsets.UTF_8));
+            return 1L;
+        }).given(listCommands).lPush(any(byte[].class), any(byte[].class));
+
+        callback.getValue().doInRedis(connection);
+        return keys;
+    }
+
+    private static long expectedFailed() {
+        long failed = 0;
+        for (long userId = 1; userId <= 1_000; userId++) {
+            if (userId % 10 != 0 && userId % 7 == 0) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static Map<Long, String> recipients(int count) {
+        Map<Long, String> recipients = new HashMap<>();
+        for (long userId = 1; userId <= count; userId++) {
+            recipients.put(userId, "token-" + userId);
+        }
+        return recipients;
+    }
+}
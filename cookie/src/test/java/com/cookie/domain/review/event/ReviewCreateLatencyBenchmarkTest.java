@@ -0,0 +1,362 @@
+package com.cookie.domain.review.event;
+
+import com.cookie.domain.badge.entity.Badge;
+import com.cookie.domain.badge.entity.BadgeAction;
+import com.cookie.domain.category.entity.Category;
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.entity.MovieCategory;
+import com.cookie.domain.movie.service.MovieRatingService;
+import com.cookie.domain.notification.entity.FcmToken;
+import com.cookie.domain.notification.service.NotificationService;
+import com.cookie.domain.review.controller.ReviewController;
+import com.cookie.domain.review.dto.request.CreateReviewRequest;
+import com.cookie.domain.review.service.ReviewCardAssembler;
+import com.cookie.domain.review.service.ReviewService;
+import com.cookie.domain.reward.service.RewardCacheService;
+import com.cookie.domain.reward.service.RewardHistoryService;
+import com.cookie.domain.reward.service.RewardPointService;
+import com.cookie.domain.user.dto.response.auth.CustomOAuth2User;
+import com.cookie.domain.user.dto.response.auth.OAuth2UserResponse;
+import com.cookie.domain.user.entity.BadgeAccumulationPoint;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.entity.enums.Role;
+import com.cookie.domain.user.entity.enums.SocialProvider;
+import com.cookie.domain.user.service.DailyGenreScoreService;
+import com.cookie.domain.user.service.GenrePreferenceService;
+import com.cookie.global.service.LikeCountBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * POST /api/reviews 요청 스레드 지연 비교 (p50 / p99)
+ * 실제 MySQL / Redis 위에 ReviewController -> ReviewService 를 그대로 올려 리뷰를 작성한다.
+ * - before: 커밋 전에 장르 점수, 장르별 토큰 조회 + 푸쉬, 리워드까지 요청 스레드에서 처리 (ReviewCreatedEvent 를 동기 리스너로 받음)
+ * - after: 운영 구성과 같이 커밋 후 ReviewCreatedEventListener 가 ReviewEventQueue(Redis) 에 넣고 바로 반환
+ * 외부 서비스인 FCM 발송만 NotificationService 를 고정 지연으로 대신한다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ReviewCreateLatencyBenchmarkTest {
+
+    private static final long FCM_SEND_MICROS = 10_000;
+    private static final List<String> GENRES = List.of("액션", "코미디", "범죄");
+    private static final int RECIPIENTS = 1_000;
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final int REQUESTS = WARMUP + ITERATIONS;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static AnnotationConfigApplicationContext inlineContext;
+    private static AnnotationConfigApplicationContext queueContext;
+    private static Long authorId;
+    private static final List<Long> MOVIE_IDS = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        // 스키마는 먼저 뜨는 컨텍스트가 만들고(update) 두 컨텍스트가 같은 DB / Redis 를 쓴다
+        queueContext = new AnnotationConfigApplicationContext(ReviewConfig.class, QueueConfig.class);
+        inlineContext = new AnnotationConfigApplicationContext(ReviewConfig.class, InlineConfig.class);
+        seed(queueContext);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (inlineContext != null) {
+            inlineContext.close();
+        }
+        if (queueContext != null) {
+            queueContext.close();
+        }
+    }
+
+    @Test
+    void createReviewLatency() {
+        // 같은 사용자가 같은 영화에 두 번 쓸 수 없으므로 요청마다 다른 영화
+        long[] before = measure(inlineContext.getBean(ReviewController.class), MOVIE_IDS.subList(0, REQUESTS));
+        long[] after = measure(queueContext.getBean(ReviewController.class), MOVIE_IDS.subList(REQUESTS, REQUESTS * 2));
+
+        System.out.printf("POST /api/reviews before: p50 = %.2fms, p99 = %.2fms%n", percentile(before, 0.50), percentile(before, 0.99));
+        System.out.printf("POST /api/reviews after : p50 = %.2fms, p99 = %.2fms%n", percentile(after, 0.50), percentile(after, 0.99));
+
+        // before 는 요청 안에서 후속 작업까지 끝냈고, after 는 리뷰 저장 + 단계별 큐 등록만 했다
+        assertThat(count("SELECT COUNT(r) FROM Review r")).isEqualTo(REQUESTS * 2L);
+        assertThat(count("SELECT COUNT(d) FROM DailyGenreScore d")).isEqualTo((long) REQUESTS * GENRES.size());
+        assertThat(count("SELECT COUNT(h) FROM RewardHistory h")).isEqualTo((long) REQUESTS);
+        assertThat(count("SELECT SUM(m.reviewCount) FROM Movie m")).isEqualTo(REQUESTS * 2L);
+        RedisTemplate<String, Object> template = redisTemplate(queueContext);
+        for (ReviewEventQueue.Stage stage : ReviewEventQueue.Stage.values()) {
+            assertThat(template.opsForList().size("events:review:created:" + stage.getKey())).isEqualTo((long) REQUESTS);
+        }
+
+        assertThat(percentile(after, 0.99)).isLessThan(percentile(before, 0.50));
+    }
+
+    private static long[] measure(ReviewController controller, List<Long> movieIds) {
+        CustomOAuth2User author = author();
+        Function<Long, ?> request = movieId -> controller.createReview(author, new CreateReviewRequest(movieId, "재밌어요", 5, false));
+        for (int i = 0; i < WARMUP; i++) {
+            request.apply(movieIds.get(i));
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            request.apply(movieIds.get(WARMUP + i));
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static CustomOAuth2User author() {
+        OAuth2UserResponse response = new OAuth2UserResponse();
+        response.setId(authorId);
+        response.setRole(Role.USER.name());
+        return new CustomOAuth2User(response);
+    }
+
+    private static long count(String jpql) {
+        EntityManager entityManager = queueContext.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            return entityManager.createQuery(jpql, Long.class).getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // 장르 3개, 장르를 고른 푸시 수신자 1,000 명(토큰 1개씩), 장르 3개가 달린 영화, 리워드 액션 / 뱃지
+    private static void seed(AnnotationConfigApplicationContext context) {
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            List<Category> genres = new ArrayList<>();
+            for (String genre : GENRES) {
+                Category category = new Category("장르", genre, genre);
+                entityManager.persist(category);
+                genres.add(category);
+            }
+
+            User author = user("author", genres.get(0));
+            entityManager.persist(author);
+            entityManager.persist(BadgeAccumulationPoint.builder().user(author).accPoint(0L).build());
+            authorId = author.getId();
+            for (int i = 0; i < RECIPIENTS; i++) {
+                User recipient = user("user-" + i, genres.get(i % genres.size()));
+                entityManager.persist(recipient);
+                entityManager.persist(FcmToken.builder().user(recipient).token("token-" + i).build());
+            }
+
+            for (int i = 0; i < REQUESTS * 2; i++) {
+                Movie movie = Movie.builder().title("영화-" + i).poster("poster-" + i).movieLikes(0L).build();
+                entityManager.persist(movie);
+                genres.forEach(genre -> entityManager.persist(MovieCategory.builder().movie(movie).category(genre).build()));
+                MOVIE_IDS.add(movie.getId());
+            }
+
+            entityManager.persist(BadgeAction.builder().name("review").actionPoint(10L).build());
+            for (String grade : List.of("normal", "rare", "epic")) {
+                entityManager.persist(Badge.builder().name(grade).grade(grade).needPoint(1_000_000L).build());
+            }
+        });
+    }
+
+    private static User user(String nickname, Category category) {
+        return User.builder()
+                .nickname(nickname)
+                .socialProvider(SocialProvider.GOOGLE)
+                .socialId(nickname)
+                .role(Role.USER)
+                .isPushEnabled(true)
+                .category(category)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, Object> redisTemplate(AnnotationConfigApplicationContext context) {
+        return context.getBean(RedisTemplate.class);
+    }
+
+    /**
+     * 두 모드가 공유하는 구성: 리뷰 작성 경로 + JPA(MySQL) + Redis
+     * 리뷰 작성에 쓰이지 않는 조회용 빈(ReviewCardAssembler, LikeCountBuffer)만 목으로 둔다.
+     */
+    @Configuration
+    @EnableJpaAuditing
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackages = "com.cookie")
+    @Import({ReviewController.class, ReviewService.class, MovieRatingService.class})
+    static class ReviewConfig {
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+            dataSource.setUsername(MYSQL.getUsername());
+            dataSource.setPassword(MYSQL.getPassword());
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.cookie");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            // 운영(spring boot 기본값)과 같은 테이블 / 컬럼 이름
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "update",
+                    "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                    "hibernate.implicit_naming_strategy", "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean(destroyMethod = "destroy")
+        LettuceConnectionFactory redisConnectionFactory() {
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            return connectionFactory;
+        }
+
+        // RedisConfig 와 같은 직렬화
+        @Bean
+        RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory) {
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+            redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+            redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+            return redisTemplate;
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        ReviewCardAssembler reviewCardAssembler() {
+            return mock(ReviewCardAssembler.class);
+        }
+
+        @Bean
+        LikeCountBuffer likeCountBuffer() {
+            return mock(LikeCountBuffer.class);
+        }
+    }
+
+    // after: 운영 구성 (커밋 후 Redis 큐에 등록, 워커는 띄우지 않음)
+    @Configuration
+    @Import({ReviewCreatedEventListener.class, ReviewEventQueue.class})
+    static class QueueConfig {
+    }
+
+    // before: 리뷰 트랜잭션 안에서 후속 작업을 모두 처리
+    @Configuration
+    @EnableCaching
+    @Import({ReviewCreatedEventHandler.class, DailyGenreScoreService.class, GenrePreferenceService.class,
+            RewardPointService.class, RewardCacheService.class, RewardHistoryService.class})
+    static class InlineConfig {
+
+        @Bean
+        CacheManager pointLivedCacheManager() {
+            return new ConcurrentMapCacheManager("pointLivedCache");
+        }
+
+        @Bean
+        NotificationService notificationService() {
+            NotificationService notificationService = mock(NotificationService.class);
+            willAnswer(invocation -> {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(FCM_SEND_MICROS));
+                return null;
+            }).given(notificationService).sendPushNotificationToUsers(anyLong(), anyMap(), anyString(), anyString(), anyLong());
+            return notificationService;
+        }
+
+        @Bean
+        InlineReviewCreatedListener inlineReviewCreatedListener(ReviewCreatedEventHandler handler) {
+            return new InlineReviewCreatedListener(handler);
+        }
+    }
+
+    static class InlineReviewCreatedListener {
+
+        private final ReviewCreatedEventHandler handler;
+
+        InlineReviewCreatedListener(ReviewCreatedEventHandler handler) {
+            this.handler = handler;
+        }
+
+        @EventListener
+        public void onReviewCreated(ReviewCreatedEvent event) {
+            handler.applyGenreScore(event);
+            handler.sendPushNotification(event);
+            handler.updateRewardPoint(event);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.cookie.domain.review.event;
+
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.repository.MovieRepository;
+import com.cookie.domain.notification.service.NotificationService;
+import com.cookie.domain.reward.service.RewardPointService;
+import com.cookie.domain.user.entity.User;
+import com.cookie.domain.user.repository.UserRepository;
+import com.cookie.domain.user.service.DailyGenreScoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCreatedEventHandlerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long MOVIE_ID = 10L;
+    private static final Long REVIEW_ID = 100L;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MovieRepository movieRepository;
+    @Mock
+    private DailyGenreScoreService dailyGenreScoreService;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private RewardPointService rewardPointService;
+
+    @InjectMocks
+    private ReviewCreatedEventHandler handler;
+
+    @Captor
+    private ArgumentCaptor<Map<Long, String>> tokenMapCaptor;
+
+    @BeforeEach
+    void setUp() {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(USER_ID);
+        given(user.getNickname()).willReturn("쿠키");
+        Movie movie = mock(Movie.class);
+        given(movie.getTitle()).willReturn("영화");
+
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(movieRepository.findById(MOVIE_ID)).willReturn(Optional.of(movie));
+        given(movieRepository.findGenresByMovieId(MOVIE_ID)).willReturn(List.of("액션", "드라마"));
+        given(userRepository.findTokensByGenreAndExcludeUser("액션", USER_ID))
+                .willReturn(List.<Object[]>of(new Object[]{2L, "token-2"}, new Object[]{3L, "token-3"}));
+        given(userRepository.findTokensByGenreAndExcludeUser("드라마", USER_ID))
+                .willReturn(List.<Object[]>of(new Object[]{3L, "token-3"}, new Object[]{4L, "token-4"}));
+    }
+
+    @Test
+    void sendPushNotificationSkipsUsersAlreadyNotifiedByAnotherGenre() {
+        ReviewCreatedEvent event = new ReviewCreatedEvent(REVIEW_ID, USER_ID, MOVIE_ID, 5);
+
+        handler.sendPushNotification(event);
+
+        verify(notificationService, times(2)).sendPushNotificationToUsers(eq(USER_ID), tokenMapCaptor.capture(), anyString(), anyString(), eq(REVIEW_ID));
+        assertThat(tokenMapCaptor.getAllValues()).containsExactly(
+                Map.of(2L, "token-2", 3L, "token-3"),
+                Map.of(4L, "token-4"));
+        assertThat(event.isGenreNotified("액션")).isTrue();
+        assertThat(event.isGenreNotified("드라마")).isTrue();
+    }
+
+    @Test
+    void retryDoesNotResendGenresNotifiedBeforeFailure() {
+        willDoNothing()
+                .willThrow(new RuntimeException("fcm unavailable"))
+                .willDoNothing()
+                .given(notificationService).sendPushNotificationToUsers(anyLong(), anyMap(), anyString(), anyString(), anyLong());
+        ReviewCreatedEvent event = new ReviewCreatedEvent(REVIEW_ID, USER_ID, MOVIE_ID, 5);
+
+        assertThatThrownBy(() -> handler.sendPushNotification(event)).isInstanceOf(RuntimeException.class);
+        ReviewCreatedEvent next = event.nextAttempt();
+        handler.sendPushNotification(next);
+
+        // 액션 1회, 드라마 실패 1회 + 재시도 1회
+        verify(notificationService, times(3)).sendPushNotificationToUsers(eq(USER_ID), tokenMapCaptor.capture(), anyString(), anyString(), eq(REVIEW_ID));
+        assertThat(tokenMapCaptor.getAllValues()).containsExactly(
+                Map.of(2L, "token-2", 3L, "token-3"),
+                Map.of(4L, "token-4"),
+                Map.of(4L, "token-4"));
+        assertThat(next.getAttempt()).isEqualTo(1);
+        assertThat(next.isGenreNotified("드라마")).isTrue();
+    }
+}
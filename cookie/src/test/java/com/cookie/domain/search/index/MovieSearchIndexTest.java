@@ -0,0 +1,174 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.domain.search.dto.response.SearchMovieResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class MovieSearchIndexTest {
+
+    // movie 테이블 행 (id -> title, likes, director) 과 movie_actor 행 (movie_id, 배우 이름)
+    private final Map<Long, Object[]> movies = new LinkedHashMap<>();
+    private final List<Object[]> actors = new ArrayList<>();
+    private MovieSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        movie(1L, "스파이더맨: 노 웨이 홈", 300, "존 왓츠");
+        movie(2L, "스파이더맨: 홈커밍", 200, "존 왓츠");
+        movie(3L, "기생충", 500, "봉준호");
+        movie(4L, "괴물", 100, "봉준호");
+        movie(5L, "The Matrix", 400, "Lana Wachowski");
+        actor(1L, "톰 홀랜드");
+        actor(2L, "톰 홀랜드");
+        actor(3L, "송강호");
+        actor(4L, "송강호");
+        actor(5L, "키아누 리브스");
+
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            SqlParameterSource params = invocation.getArgument(1);
+            RowCallbackHandler handler = invocation.getArgument(2);
+            Collection<?> movieIds = (Collection<?>) params.getValue("movieIds");
+            if (sql.contains("FROM movie_actor")) {
+                for (Object[] row : actors) {
+                    if (movieIds == null || movieIds.contains(row[0])) {
+                        handler.processRow(actorRow(row));
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Object[]> entry : movies.entrySet()) {
+                    if (movieIds == null || movieIds.contains(entry.getKey())) {
+                        handler.processRow(movieRow(entry.getKey(), entry.getValue()));
+                    }
+                }
+            }
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        index = new MovieSearchIndex(jdbcTemplate, mock(SearchSuggester.class));
+        index.rebuild();
+    }
+
+    @Test
+    void readyAfterRebuild() {
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void findsSubstringIgnoringSpacesAndPunctuation() {
+        assertThat(ids(index.search(SearchField.MOVIE, "웨이홈", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(SearchField.MOVIE, "노 웨이", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(SearchField.MOVIE, "MATRIX", 0, 10))).containsExactly(5L);
+    }
+
+    @Test
+    void findsByChosung() {
+        assertThat(ids(index.search(SearchField.MOVIE, "ㄱㅅㅊ", 0, 10))).containsExactly(3L);
+        assertThat(ids(index.search(SearchField.MOVIE, "ㅅㅍㅇㄷㅁ", 0, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search(SearchField.ACTOR, "ㅅㄱㅎ", 0, 10))).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void ranksExactThenPrefixThenSubstring() {
+        movie(6L, "홈", 0, null);
+        movie(7L, "홈 어론", 0, null);
+        index.reindex(List.of(6L, 7L));
+
+        // 완전 일치(6) > 앞부분 일치(7) > 부분 일치 중 앞쪽 위치(2: "스파이더맨홈커밍") > 뒤쪽 위치(1)
+        assertThat(ids(index.search(SearchField.MOVIE, "홈", 0, 10))).containsExactly(6L, 7L, 2L, 1L);
+    }
+
+    @Test
+    void sameMatchIsOrderedByLikes() {
+        // 두 영화 모두 감독 이름 완전 일치: 좋아요 많은 기생충(500) 먼저
+        assertThat(ids(index.search(SearchField.DIRECTOR, "봉준호", 0, 10))).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void searchesEachFieldSeparately() {
+        assertThat(ids(index.search(SearchField.ACTOR, "홀랜드", 0, 10))).containsExactly(1L, 2L);
+        assertThat(index.search(SearchField.MOVIE, "홀랜드", 0, 10)).isEmpty();
+        assertThat(ids(index.search(SearchField.DIRECTOR, "wachowski", 0, 10))).containsExactly(5L);
+    }
+
+    @Test
+    void candidatesSharingGramsButNotContainingQueryAreDropped() {
+        // "스파", "파이" 는 있지만 "스파이홈" 은 어느 제목에도 연속으로 없다
+        assertThat(index.search(SearchField.MOVIE, "스파이홈", 0, 10)).isEmpty();
+        assertThat(index.search(SearchField.MOVIE, "없는영화", 0, 10)).isEmpty();
+        assertThat(index.search(SearchField.MOVIE, " :! ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void appliesOffsetAndLimit() {
+        assertThat(ids(index.search(SearchField.MOVIE, "스파이더맨", 0, 1))).containsExactly(2L);
+        assertThat(ids(index.search(SearchField.MOVIE, "스파이더맨", 1, 1))).containsExactly(1L);
+        assertThat(index.search(SearchField.MOVIE, "스파이더맨", 2, 1)).isEmpty();
+    }
+
+    @Test
+    void reindexReplacesChangedMovie() {
+        movie(4L, "마더", 100, "봉준호");
+        index.reindex(List.of(4L));
+
+        assertThat(index.search(SearchField.MOVIE, "괴물", 0, 10)).isEmpty();
+        assertThat(ids(index.search(SearchField.MOVIE, "마더", 0, 10))).containsExactly(4L);
+        assertThat(ids(index.search(SearchField.ACTOR, "송강호", 0, 10))).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void removeDropsMovieFromEveryField() {
+        index.remove(List.of(3L));
+
+        assertThat(index.search(SearchField.MOVIE, "기생충", 0, 10)).isEmpty();
+        assertThat(ids(index.search(SearchField.DIRECTOR, "봉준호", 0, 10))).containsExactly(4L);
+        assertThat(ids(index.search(SearchField.ACTOR, "송강호", 0, 10))).containsExactly(4L);
+    }
+
+    private void movie(Long id, String title, long likes, String director) {
+        movies.put(id, new Object[]{title, likes, director});
+    }
+
+    private void actor(Long movieId, String name) {
+        actors.add(new Object[]{movieId, name});
+    }
+
+    private static ResultSet movieRow(Long id, Object[] row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getString("title")).willReturn((String) row[0]);
+        given(rs.getString("poster")).willReturn("poster-" + id);
+        given(rs.getLong("movie_likes")).willReturn((Long) row[1]);
+        given(rs.getString("director_name")).willReturn((String) row[2]);
+        return rs;
+    }
+
+    private static ResultSet actorRow(Object[] row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("movie_id")).willReturn((Long) row[0]);
+        given(rs.getString("name")).willReturn((String) row[1]);
+        return rs;
+    }
+
+    private static List<Long> ids(List<SearchMovieResponse> responses) {
+        return responses.stream().map(SearchMovieResponse::getId).toList();
+    }
+}
@@ -0,0 +1,253 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.domain.search.dto.response.SearchMovieResponse;
+import com.cookie.domain.search.dto.response.SearchSuggestResponse;
+import com.cookie.global.util.HangulUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영화 100,000 편에서 제목 / 배우 검색 지연 비교
+ * - like prefix: 기존 쿼리와 같은 LIKE 'x%' (앞부분 일치만 가능)
+ * - like substring: 부분 문자열 검색을 DB 로 할 때의 LIKE '%x%' (풀 스캔)
+ * - index: MovieSearchIndex (부분 문자열 + 관련도 정렬)
+ * 검색어는 실제 제목/이름의 가운데 2~3 글자로 만들고, 인덱스 결과가 LIKE '%x%' 결과와 같은지 먼저 확인한다.
+ * 자동완성은 제목 앞 1~3 글자(절반은 초성)로 SearchSuggester 와 LIKE 'x%' 를 비교한다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class MovieSearchLatencyBenchmarkTest {
+
+    private static final int MOVIES = 100_000;
+    private static final int DIRECTORS = 10_000;
+    private static final int ACTORS = 50_000;
+    private static final int ACTORS_PER_MOVIE = 3;
+    private static final int QUERIES = 300;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] SYLLABLES = ("가나다라마바사아자차카타파하강남동로명별산우정천한해호"
+            + "김이박최윤장임신오서권황안송전홍유고문양손배조백허노하곽성차주우구민류나진지엄채원천방공현함변염여추도소석선설마길연위표명기반왕금옥육인맹제모탁국어은편용").split("");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static MovieSearchIndex index;
+    private static SearchSuggester suggester;
+    private static final List<String> TITLES = new ArrayList<>();
+    private static final List<String> ACTOR_NAMES = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        createSchema();
+        seed(new Random(14));
+
+        suggester = new SearchSuggester();
+        ReflectionTestUtils.setField(suggester, "topSize", 10);
+        index = new MovieSearchIndex(new NamedParameterJdbcTemplate(dataSource), suggester);
+        long begin = System.nanoTime();
+        index.rebuild();
+        System.out.printf("index rebuild: %,d ms%n", (System.nanoTime() - begin) / 1_000_000);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void titleSearchLikeVersusIndex() {
+        compare("title", keywords(TITLES, new Random(1)), SearchField.MOVIE,
+                "SELECT id, poster, title FROM movie WHERE title LIKE ? LIMIT " + PAGE_SIZE,
+                "SELECT id FROM movie WHERE title LIKE ?");
+    }
+
+    @Test
+    void actorSearchLikeVersusIndex() {
+        compare("actor", keywords(ACTOR_NAMES, new Random(2)), SearchField.ACTOR,
+                "SELECT DISTINCT m.id, m.poster, m.title FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id "
+                        + "JOIN movie m ON m.id = ma.movie_id WHERE a.name LIKE ? LIMIT " + PAGE_SIZE,
+                "SELECT DISTINCT ma.movie_id FROM movie_actor ma JOIN actor a ON a.id = ma.actor_id WHERE a.name LIKE ?");
+    }
+
+    @Test
+    void suggestTrieVersusLikePrefix() {
+        List<String> prefixes = prefixes(TITLES, new Random(3));
+
+        // 모든 검색어에 후보가 나오고, 각 후보는 검색어로 시작 (초성 검색어는 초성으로 시작)
+        for (String prefix : prefixes) {
+            List<SearchSuggestResponse> suggestions = suggester.suggest(prefix, 10);
+            assertThat(suggestions).as(prefix).isNotEmpty().hasSizeLessThanOrEqualTo(10);
+            for (SearchSuggestResponse suggestion : suggestions) {
+                String keyword = HangulUtil.normalize(suggestion.getKeyword());
+                assertThat(keyword.startsWith(prefix) || HangulUtil.toChosung(keyword).startsWith(prefix)).as(prefix).isTrue();
+            }
+        }
+
+        List<String> syllablePrefixes = prefixes.stream().filter(prefix -> !HangulUtil.isChosungOnly(prefix)).toList();
+        long[] like = measure(syllablePrefixes, prefix -> jdbcTemplate.queryForList(
+                "SELECT id, poster, title FROM movie WHERE title LIKE ? ORDER BY movie_likes DESC LIMIT 10", prefix + "%"));
+        long[] suggested = measure(prefixes, prefix -> suggester.suggest(prefix, 10));
+
+        print("suggest like prefix", like);
+        print("suggest trie       ", suggested);
+        assertThat(percentile(suggested, 0.99)).isLessThan(1.0);
+        assertThat(percentile(suggested, 0.99)).isLessThan(percentile(like, 0.50));
+    }
+
+    private void compare(String label, List<String> keywords, SearchField field, String pageSql, String allIdsSql) {
+        // 인덱스가 LIKE '%x%' 와 같은 영화 집합을 찾는지 확인
+        for (String keyword : keywords.subList(0, 20)) {
+            List<Long> expected = jdbcTemplate.queryForList(allIdsSql, Long.class, "%" + keyword + "%");
+            List<SearchMovieResponse> found = index.search(field, keyword, 0, Integer.MAX_VALUE);
+            assertThat(new HashSet<>(found.stream().map(SearchMovieResponse::getId).toList()))
+                    .as(keyword).isEqualTo(new HashSet<>(expected));
+        }
+
+        long[] prefix = measure(keywords, keyword -> jdbcTemplate.queryForList(pageSql, keyword + "%"));
+        long[] substring = measure(keywords, keyword -> jdbcTemplate.queryForList(pageSql, "%" + keyword + "%"));
+        long[] indexed = measure(keywords, keyword -> index.search(field, keyword, 0, PAGE_SIZE));
+
+        print(label + " like prefix   ", prefix);
+        print(label + " like substring", substring);
+        print(label + " index         ", indexed);
+        assertThat(percentile(indexed, 0.99)).isLessThan(percentile(substring, 0.50));
+    }
+
+    private static long[] measure(List<String> keywords, Function<String, ?> search) {
+        // 워밍업
+        keywords.subList(0, 20).forEach(search::apply);
+        long[] elapsed = new long[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            long start = System.nanoTime();
+            search.apply(keywords.get(i));
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    // 실제 문자열의 가운데 부분 2~3 글자 (앞부분 일치로는 찾기 어려운 검색어)
+    private static List<String> keywords(List<String> values, Random random) {
+        List<String> keywords = new ArrayList<>(QUERIES);
+        while (keywords.size() < QUERIES) {
+            String value = values.get(random.nextInt(values.size()));
+            int length = 2 + random.nextInt(2);
+            if (value.length() <= length) {
+                continue;
+            }
+            int start = 1 + random.nextInt(value.length() - length);
+            keywords.add(value.substring(start, start + length));
+        }
+        return keywords;
+    }
+
+    // 실제 제목의 앞 1~3 글자, 절반은 초성으로 바꾼 검색어
+    private static List<String> prefixes(List<String> values, Random random) {
+        List<String> prefixes = new ArrayList<>(QUERIES);
+        while (prefixes.size() < QUERIES) {
+            String value = values.get(random.nextInt(values.size()));
+            String prefix = value.substring(0, Math.min(value.length(), 1 + random.nextInt(3)));
+            prefixes.add(random.nextBoolean() ? HangulUtil.toChosung(prefix) : prefix);
+        }
+        return prefixes;
+    }
+
+    private static void createSchema() {
+        jdbcTemplate.execute("CREATE TABLE director (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE actor (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255))");
+        jdbcTemplate.execute("""
+                CREATE TABLE movie (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    title VARCHAR(255),
+                    poster VARCHAR(255),
+                    movie_likes BIGINT NOT NULL DEFAULT 0,
+                    director_id BIGINT,
+                    INDEX idx_movie_title (title),
+                    INDEX idx_movie_director (director_id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE movie_actor (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    movie_id BIGINT NOT NULL,
+                    actor_id BIGINT NOT NULL,
+                    INDEX idx_movie_actor_movie (movie_id),
+                    INDEX idx_movie_actor_actor (actor_id)
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_actor_name ON actor (name)");
+    }
+
+    private static void seed(Random random) {
+        List<Object[]> directors = new ArrayList<>(DIRECTORS);
+        for (int i = 0; i < DIRECTORS; i++) {
+            directors.add(new Object[]{word(random, 3, 3)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO director (name) VALUES (?)", directors);
+
+        List<Object[]> actors = new ArrayList<>(ACTORS);
+        for (int i = 0; i < ACTORS; i++) {
+            String name = word(random, 3, 5);
+            ACTOR_NAMES.add(name);
+            actors.add(new Object[]{name});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO actor (name) VALUES (?)", actors);
+
+        List<Object[]> movies = new ArrayList<>(MOVIES);
+        List<Object[]> movieActors = new ArrayList<>(MOVIES * ACTORS_PER_MOVIE);
+        for (int id = 1; id <= MOVIES; id++) {
+            String title = word(random, 2, 10);
+            TITLES.add(title);
+            movies.add(new Object[]{title, "poster-" + id, random.nextInt(10_000), 1 + random.nextInt(DIRECTORS)});
+            for (int i = 0; i < ACTORS_PER_MOVIE; i++) {
+                movieActors.add(new Object[]{id, 1 + random.nextInt(ACTORS)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO movie (title, poster, movie_likes, director_id) VALUES (?, ?, ?, ?)", movies);
+        jdbcTemplate.batchUpdate("INSERT INTO movie_actor (movie_id, actor_id) VALUES (?, ?)", movieActors);
+    }
+
+    private static String word(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static void print(String label, long[] sorted) {
+        System.out.printf("%s: p50 = %.2fms, p99 = %.2fms (%d queries, %,d movies)%n",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.length, MOVIES);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int position = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, position)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.cookie.domain.search.index;
+
+import com.cookie.domain.search.dto.response.SearchSuggestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SearchSuggesterTest {
+
+    private SearchSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new SearchSuggester();
+        ReflectionTestUtils.setField(suggester, "topSize", 10);
+        suggester.rebuild(List.of(
+                document(1L, "스파이더맨: 노 웨이 홈", 300, "존 왓츠", "톰 홀랜드"),
+                document(2L, "스파이더맨: 홈커밍", 200, "존 왓츠", "톰 홀랜드"),
+                document(3L, "기생충", 500, "봉준호", "송강호"),
+                document(4L, "괴물", 100, "봉준호", "송강호"),
+                document(5L, "The Matrix", 400, "Lana Wachowski", "키아누 리브스")));
+    }
+
+    @Test
+    void titlePrefixOrderedByLikes() {
+        assertThat(suggester.suggest("스파", 10)).extracting(SearchSuggestResponse::getMovieId).containsExactly(1L, 2L);
+        assertThat(suggester.suggest("스파", 10).get(0).getType()).isEqualTo("movie");
+        assertThat(suggester.suggest("스파", 10).get(0).getPoster()).isEqualTo("poster-1");
+    }
+
+    @Test
+    void matchesFromEveryWordStartIgnoringSpacesAndPunctuation() {
+        assertThat(suggester.suggest("노웨이", 10)).extracting(SearchSuggestResponse::getKeyword)
+                .containsExactly("스파이더맨: 노 웨이 홈");
+        // "홈" 은 두 제목 모두에서 단어 시작
+        assertThat(suggester.suggest("홈", 10)).extracting(SearchSuggestResponse::getMovieId).containsExactly(1L, 2L);
+        assertThat(suggester.suggest("matr", 10)).extracting(SearchSuggestResponse::getKeyword).containsExactly("The Matrix");
+        assertThat(suggester.suggest("THE MAT", 10)).extracting(SearchSuggestResponse::getKeyword).containsExactly("The Matrix");
+    }
+
+    @Test
+    void chosungPrefix() {
+        assertThat(suggester.suggest("ㄱㅅ", 10)).extracting(SearchSuggestResponse::getKeyword).containsExactly("기생충");
+        assertThat(suggester.suggest("ㅂㅈㅎ", 10)).extracting(SearchSuggestResponse::getKeyword, SearchSuggestResponse::getType)
+                .containsExactly(tuple("봉준호", "director"));
+    }
+
+    @Test
+    void peopleAreOneSuggestionWeightedBySumOfMovieLikes() {
+        // 송강호: (500 + 1) + (100 + 1) = 602
+        List<SearchSuggestResponse> suggestions = suggester.suggest("송", 10);
+
+        assertThat(suggestions).extracting(SearchSuggestResponse::getKeyword).containsExactly("송강호");
+        assertThat(suggestions.get(0).getType()).isEqualTo("actor");
+        assertThat(suggestions.get(0).getMovieId()).isNull();
+
+        // 초성 "ㅅ" 에서 배우(602)가 영화(300, 200) 보다 앞선다
+        assertThat(suggester.suggest("ㅅ", 10)).extracting(SearchSuggestResponse::getKeyword)
+                .containsExactly("송강호", "스파이더맨: 노 웨이 홈", "스파이더맨: 홈커밍");
+    }
+
+    @Test
+    void sizeLimitsSuggestions() {
+        assertThat(suggester.suggest("스", 1)).extracting(SearchSuggestResponse::getMovieId).containsExactly(1L);
+        assertThat(suggester.suggest("스", 0)).isEmpty();
+        assertThat(suggester.suggest("스", -1)).isEmpty();
+    }
+
+    @Test
+    void blankOrPunctuationOnlyKeywordIsEmpty() {
+        assertThat(suggester.suggest("", 10)).isEmpty();
+        assertThat(suggester.suggest(" :: ", 10)).isEmpty();
+        assertThat(suggester.suggest(null, 10)).isEmpty();
+    }
+
+    @Test
+    void addedMovieIsSuggestedWithoutRebuild() {
+        suggester.add(List.of(document(6L, "스타워즈", 1_000, "조지 루카스", "마크 해밀")));
+
+        assertThat(suggester.suggest("스", 10)).extracting(SearchSuggestResponse::getMovieId).containsExactly(6L, 1L, 2L);
+    }
+
+    @Test
+    void emptyBeforeFirstRebuild() {
+        SearchSuggester empty = new SearchSuggester();
+        ReflectionTestUtils.setField(empty, "topSize", 10);
+        empty.add(List.of(document(1L, "기생충", 500, "봉준호", "송강호")));
+
+        assertThat(empty.suggest("기", 10)).isEmpty();
+    }
+
+    private static SearchDocument document(Long movieId, String title, long likes, String director, String actor) {
+        SearchDocument document = new SearchDocument(movieId, title, "poster-" + movieId, likes, director);
+        document.addTerm(SearchField.ACTOR, actor);
+        return document;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cookie.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    @Test
+    void findsByPrefixOrderedByWeightThenShorterKeyword() {
+        SuggestTrie trie = new SuggestTrie(10);
+        insert(trie, "스파이더맨", 100);
+        insert(trie, "스파이", 100);
+        insert(trie, "스타워즈", 300);
+        insert(trie, "기생충", 500);
+
+        assertThat(trie.find("스", 10)).extracting(SuggestTrie.Suggestion::getKeyword)
+                .containsExactly("스타워즈", "스파이", "스파이더맨");
+        assertThat(trie.find("스파", 10)).extracting(SuggestTrie.Suggestion::getKeyword)
+                .containsExactly("스파이", "스파이더맨");
+        assertThat(trie.find("스파이더맨", 10)).extracting(SuggestTrie.Suggestion::getKeyword)
+                .containsExactly("스파이더맨");
+    }
+
+    @Test
+    void unknownPrefixOrPrefixLongerThanKeyIsEmpty() {
+        SuggestTrie trie = new SuggestTrie(10);
+        insert(trie, "기생충", 500);
+
+        assertThat(trie.find("괴", 10)).isEmpty();
+        assertThat(trie.find("기생충2", 10)).isEmpty();
+    }
+
+    @Test
+    void sizeLimitsResult() {
+        SuggestTrie trie = new SuggestTrie(10);
+        for (int i = 0; i < 8; i++) {
+            insert(trie, "movie" + i, i);
+        }
+
+        assertThat(trie.find("movie", 3)).extracting(SuggestTrie.Suggestion::getKeyword)
+                .containsExactly("movie7", "movie6", "movie5");
+        assertThat(trie.find("movie", 0)).isEmpty();
+    }
+
+    @Test
+    void eachNodeKeepsOnlyTopSizeByWeight() {
+        SuggestTrie trie = new SuggestTrie(3);
+        for (int i = 0; i < 10; i++) {
+            // 가중치가 들쭉날쭉하게 들어와도 상위 3개만 남아야 한다
+            insert(trie, "movie" + i, (i * 7) % 10);
+        }
+
+        assertThat(trie.find("movie", 10)).extracting(SuggestTrie.Suggestion::getWeight).containsExactly(9L, 8L, 7L);
+    }
+
+    @Test
+    void reinsertingAfterWeightChangeReorders() {
+        SuggestTrie trie = new SuggestTrie(10);
+        SuggestTrie.Suggestion low = insert(trie, "봉준호", 1);
+        insert(trie, "봉만대", 5);
+
+        low.addWeight(10);
+        trie.insert("봉준호", low);
+
+        assertThat(trie.find("봉", 10)).extracting(SuggestTrie.Suggestion::getKeyword).containsExactly("봉준호", "봉만대");
+        assertThat(trie.find("봉", 10)).hasSize(2);
+    }
+
+    @Test
+    void sharedPrefixesShareNodes() {
+        SuggestTrie trie = new SuggestTrie(10);
+        insert(trie, "abc", 1);
+        insert(trie, "abd", 1);
+
+        // root + a + b + c + d
+        assertThat(trie.nodeCount()).isEqualTo(5);
+    }
+
+    private static SuggestTrie.Suggestion insert(SuggestTrie trie, String keyword, long weight) {
+        SuggestTrie.Suggestion suggestion = new SuggestTrie.Suggestion(SearchField.MOVIE, keyword, null, null, weight);
+        trie.insert(keyword, suggestion);
+        return suggestion;
+    }
+}
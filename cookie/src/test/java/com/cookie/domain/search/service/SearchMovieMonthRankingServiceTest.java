@@ -0,0 +1,183 @@
+package com.cookie.domain.search.service;
+
+import com.cookie.domain.director.entity.Director;
+import com.cookie.domain.movie.entity.Movie;
+import com.cookie.domain.movie.entity.MovieMonthRanking;
+import com.cookie.domain.movie.repository.MovieMonthRankingRepository;
+import com.cookie.domain.search.dto.response.SearchMovieMonthRankingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SearchMovieMonthRankingServiceTest {
+
+    private static final String CHANNEL = "search:month-ranking:invalidate";
+
+    private MovieMonthRankingRepository movieMonthRankingRepository;
+    private RedisTemplate<String, Object> redisTemplate;
+    private SearchMovieMonthRankingService service;
+    private MessageListener invalidateListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        movieMonthRankingRepository = mock(MovieMonthRankingRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        service = new SearchMovieMonthRankingService(movieMonthRankingRepository, redisTemplate, container);
+        service.subscribe();
+
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        ArgumentCaptor<Topic> topic = ArgumentCaptor.forClass(Topic.class);
+        verify(container).addMessageListener(listener.capture(), topic.capture());
+        assertThat(topic.getValue().getTopic()).isEqualTo(CHANNEL);
+        invalidateListener = listener.getValue();
+    }
+
+    @Test
+    void snapshotIsLoadedOnceAndMappedFromRankings() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호"), ranking(2, 20L, "괴물", null)));
+
+        List<SearchMovieMonthRankingResponse> first = service.getMoviesMonthRanking();
+        List<SearchMovieMonthRankingResponse> second = service.getMoviesMonthRanking();
+
+        assertThat(first).extracting(SearchMovieMonthRankingResponse::getRanking, SearchMovieMonthRankingResponse::getMovieId,
+                        SearchMovieMonthRankingResponse::getMovieTitle, SearchMovieMonthRankingResponse::getDirector)
+                .containsExactly(tuple(1, 10L, "기생충", "봉준호"), tuple(2, 20L, "괴물", null));
+        assertThat(second).isSameAs(first);
+        verify(movieMonthRankingRepository, times(1)).findAllWithMovieAndDirector();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eTagDependsOnlyOnContent() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호")));
+        // 다른 인스턴스라도 같은 순위면 같은 ETag
+        SearchMovieMonthRankingService otherInstance = new SearchMovieMonthRankingService(movieMonthRankingRepository,
+                mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class));
+
+        String eTag = service.getSnapshot().getETag();
+        assertThat(otherInstance.getSnapshot().getETag()).isEqualTo(eTag);
+
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 20L, "괴물", "봉준호")));
+        service.refreshAfterCommit();
+
+        assertThat(service.getSnapshot().getETag()).isNotEqualTo(eTag).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void refreshOutsideTransactionRebuildsAndBroadcastsImmediately() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호")));
+        service.getSnapshot();
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 20L, "괴물", "봉준호")));
+
+        service.refreshAfterCommit();
+
+        assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(20L);
+        verify(redisTemplate).convertAndSend(CHANNEL, instanceId());
+    }
+
+    @Test
+    void refreshInsideTransactionWaitsForCommit() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호")));
+        service.getSnapshot();
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 20L, "괴물", "봉준호")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.refreshAfterCommit();
+
+            // 커밋 전에는 이전 순위를 그대로 보여주고 전파도 하지 않는다
+            assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(10L);
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(20L);
+        verify(redisTemplate).convertAndSend(CHANNEL, instanceId());
+    }
+
+    @Test
+    void invalidationFromOtherInstanceRebuildsButOwnMessageIsIgnored() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호")));
+        service.getSnapshot();
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 20L, "괴물", "봉준호")));
+
+        invalidateListener.onMessage(message(instanceId()), null);
+        assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(10L);
+
+        invalidateListener.onMessage(message("other-instance"), null);
+        assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(20L);
+        verify(movieMonthRankingRepository, times(2)).findAllWithMovieAndDirector();
+    }
+
+    @Test
+    void failedRebuildClearsSnapshotAndNextReadRetries() {
+        given(movieMonthRankingRepository.findAllWithMovieAndDirector())
+                .willReturn(List.of(ranking(1, 10L, "기생충", "봉준호")));
+        service.getSnapshot();
+        willThrow(new IllegalStateException("db down")).given(movieMonthRankingRepository).findAllWithMovieAndDirector();
+        willThrow(new IllegalStateException("redis down")).given(redisTemplate).convertAndSend(anyString(), any());
+
+        // 재생성과 전파가 모두 실패해도 순위를 바꾼 쪽으로 예외가 나가지 않는다
+        service.refreshAfterCommit();
+
+        willReturn(List.of(ranking(1, 20L, "괴물", "봉준호"))).given(movieMonthRankingRepository).findAllWithMovieAndDirector();
+        assertThat(service.getMoviesMonthRanking()).extracting(SearchMovieMonthRankingResponse::getMovieId).containsExactly(20L);
+    }
+
+    private static String instanceId() {
+        return (String) ReflectionTestUtils.getField(SearchMovieMonthRankingService.class, "INSTANCE_ID");
+    }
+
+    private static DefaultMessage message(String sender) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), sender.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MovieMonthRanking ranking(int ranking, Long movieId, String title, String directorName) {
+        Director director = directorName == null ? null : Director.builder().name(directorName).build();
+        Movie movie = Movie.builder()
+                .title(title)
+                .poster("poster-" + movieId)
+                .releasedAt("2019-05-30")
+                .director(director)
+                .build();
+        ReflectionTestUtils.setField(movie, "id", movieId);
+        return MovieMonthRanking.builder().ranking(ranking).movie(movie).build();
+    }
+}
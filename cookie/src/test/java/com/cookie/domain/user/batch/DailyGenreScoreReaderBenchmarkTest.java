@@ -0,0 +1,94 @@
+package com.cookie.domain.user.batch;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일일 점수 100만 행에서 리더 처리 시간 / 힙 사용량 비교
+ * - 전체 적재: 기존 리더처럼 daily_genre_score 전체를 List 로 읽음
+ * - keyset 페이징: dailyGenreScoreUserReader 로 청크 크기만큼씩 유저 id 를 읽음
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class DailyGenreScoreReaderBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int USERS = 50_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static long maxDailyScoreId;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = GenreScoreBatchFixture.dataSource(MYSQL, 4);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        GenreScoreBatchFixture.createSchema(jdbcTemplate);
+        GenreScoreBatchFixture.seedDailyScores(jdbcTemplate, ROWS, USERS);
+        maxDailyScoreId = GenreScoreBatchFixture.maxDailyScoreId(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void readOneMillionDailyScores() throws Exception {
+        long heapBefore = usedHeap();
+        long begin = System.nanoTime();
+        List<Map<String, Object>> all = jdbcTemplate.queryForList("SELECT * FROM daily_genre_score WHERE id <= ?", maxDailyScoreId);
+        long loadAllMillis = (System.nanoTime() - begin) / 1_000_000;
+        long loadAllHeap = usedHeap() - heapBefore;
+        assertThat(all).hasSize(ROWS);
+        all = null;
+
+        BatchConfig batchConfig = new BatchConfig(null, null);
+        ReflectionTestUtils.setField(batchConfig, "chunkSize", CHUNK_SIZE);
+        JdbcPagingItemReader<Long> reader = batchConfig.dailyGenreScoreUserReader(dataSource, maxDailyScoreId, 1L, (long) USERS);
+        reader.afterPropertiesSet();
+
+        heapBefore = usedHeap();
+        long peakHeap = 0;
+        int users = 0;
+        begin = System.nanoTime();
+        reader.open(new ExecutionContext());
+        while (reader.read() != null) {
+            if (++users % CHUNK_SIZE == 0) {
+                peakHeap = Math.max(peakHeap, usedHeap() - heapBefore);
+            }
+        }
+        reader.close();
+        long pagingMillis = (System.nanoTime() - begin) / 1_000_000;
+        assertThat(users).isEqualTo(USERS);
+
+        System.out.printf("daily_genre_score %,d rows / %,d users%n", ROWS, USERS);
+        System.out.printf("load all : %,d ms, heap +%,d MB%n", loadAllMillis, loadAllHeap / (1024 * 1024));
+        System.out.printf("keyset   : %,d ms, heap peak +%,d MB (chunk %d)%n", pagingMillis, peakHeap / (1024 * 1024), CHUNK_SIZE);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
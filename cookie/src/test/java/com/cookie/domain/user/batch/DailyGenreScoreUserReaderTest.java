@@ -0,0 +1,95 @@
+package com.cookie.domain.user.batch;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class DailyGenreScoreUserReaderTest {
+
+    private static final int USERS = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static long maxDailyScoreId;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = GenreScoreBatchFixture.dataSource(MYSQL, 4);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        GenreScoreBatchFixture.createSchema(jdbcTemplate);
+        GenreScoreBatchFixture.seedDailyScores(jdbcTemplate, 20_000, USERS);
+        maxDailyScoreId = GenreScoreBatchFixture.maxDailyScoreId(jdbcTemplate);
+        // 범위 확정 이후 쌓인 점수는 이번 실행 대상이 아니다
+        jdbcTemplate.update("INSERT INTO daily_genre_score (user_id, category, score, action_type) VALUES (?, '액션', 1, 'MOVIE_LIKE')", USERS + 1);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void readsEachUserOnceWithinRange() throws Exception {
+        JdbcPagingItemReader<Long> reader = reader(1L, (long) USERS + 1);
+        reader.open(new ExecutionContext());
+
+        List<Long> userIds = readAll(reader, Integer.MAX_VALUE);
+        reader.close();
+
+        assertThat(userIds).hasSize(USERS).doesNotHaveDuplicates().isSorted();
+        assertThat(userIds).doesNotContain((long) USERS + 1);
+    }
+
+    @Test
+    void restartsFromSavedPosition() throws Exception {
+        ExecutionContext executionContext = new ExecutionContext();
+        JdbcPagingItemReader<Long> first = reader(1L, (long) USERS);
+        first.open(executionContext);
+        List<Long> firstHalf = readAll(first, 350);
+        first.update(executionContext);
+        first.close();
+
+        // 실패 후 재시작: 같은 ExecutionContext 로 열면 마지막으로 저장한 위치 다음부터 읽는다
+        JdbcPagingItemReader<Long> restarted = reader(1L, (long) USERS);
+        restarted.open(executionContext);
+        List<Long> rest = readAll(restarted, Integer.MAX_VALUE);
+        restarted.close();
+
+        List<Long> all = new ArrayList<>(firstHalf);
+        all.addAll(rest);
+        assertThat(all).hasSize(USERS).doesNotHaveDuplicates().isSorted();
+    }
+
+    private JdbcPagingItemReader<Long> reader(Long minUserId, Long maxUserId) throws Exception {
+        BatchConfig batchConfig = new BatchConfig(null, null);
+        ReflectionTestUtils.setField(batchConfig, "chunkSize", 100);
+        JdbcPagingItemReader<Long> reader = batchConfig.dailyGenreScoreUserReader(dataSource, maxDailyScoreId, minUserId, maxUserId);
+        reader.afterPropertiesSet();
+        return reader;
+    }
+
+    private static List<Long> readAll(JdbcPagingItemReader<Long> reader, int limit) throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        Long userId;
+        while (userIds.size() < limit && (userId = reader.read()) != null) {
+            userIds.add(userId);
+        }
+        return userIds;
+    }
+}
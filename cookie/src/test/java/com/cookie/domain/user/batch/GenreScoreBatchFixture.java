@@ -0,0 +1,76 @@
+package com.cookie.domain.user.batch;
+
+import com.cookie.domain.user.entity.enums.Genre;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 장르 점수 배치 테스트용 MySQL 스키마 / 데이터 생성
+ * 운영 테이블 중 배치가 읽고 쓰는 컬럼만 만든다. (user_id 는 운영의 FK 와 같이 인덱스를 둔다)
+ */
+final class GenreScoreBatchFixture {
+
+    private GenreScoreBatchFixture() {
+    }
+
+    static HikariDataSource dataSource(MySQLContainer<?> mysql, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.setMaximumPoolSize(poolSize);
+        return dataSource;
+    }
+
+    static void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS daily_genre_score");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS genre_score");
+        jdbcTemplate.execute("""
+                CREATE TABLE daily_genre_score (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    category VARCHAR(255),
+                    score BIGINT NOT NULL,
+                    action_type VARCHAR(255),
+                    INDEX idx_daily_genre_score_user (user_id)
+                )
+                """);
+        jdbcTemplate.execute("CREATE TABLE genre_score (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + Arrays.stream(Genre.values())
+                .map(genre -> genre.getColumn() + " BIGINT NOT NULL DEFAULT 0")
+                .collect(Collectors.joining(", "))
+                + ", CONSTRAINT uk_genre_score_user UNIQUE (user_id))");
+    }
+
+    /**
+     * rows 개의 일일 점수를 users 명에게 흩어서 생성 (같은 유저의 점수가 id 순으로 연속되지 않도록 섞는다)
+     */
+    static void seedDailyScores(JdbcTemplate jdbcTemplate, int rows, int users) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION cte_max_recursion_depth = " + (rows + 1));
+                statement.execute("""
+                        INSERT INTO daily_genre_score (user_id, category, score, action_type)
+                        WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                        SELECT (n * 7919) %% %d + 1,
+                               ELT(n %% 5 + 1, '액션', '드라마', '코미디', '로맨스', '공포'),
+                               n %% 8 + 1,
+                               'MOVIE_LIKE'
+                        FROM seq
+                        """.formatted(rows, users));
+            }
+            return null;
+        });
+    }
+
+    static long maxDailyScoreId(JdbcTemplate jdbcTemplate) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM daily_genre_score", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+}
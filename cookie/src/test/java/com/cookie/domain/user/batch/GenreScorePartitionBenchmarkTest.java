@@ -0,0 +1,139 @@
+package com.cookie.domain.user.batch;
+
+import com.cookie.domain.user.service.GenrePreferenceService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * genreScoreUpdateStep 파티션 수(1 / 4 / 8)별 처리 시간 비교
+ * 파티셔너가 나눈 user_id 구간마다 워커 스텝과 같은 reader -> 청크 트랜잭션 -> writer 를 병렬 실행한다.
+ * (JobRepository 기록은 제외) 파티션 수와 관계없이 genre_score 결과가 같아야 한다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class GenreScorePartitionBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int USERS = 100_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static long maxDailyScoreId;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = GenreScoreBatchFixture.dataSource(MYSQL, 10);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        GenreScoreBatchFixture.createSchema(jdbcTemplate);
+        GenreScoreBatchFixture.seedDailyScores(jdbcTemplate, ROWS, USERS);
+        maxDailyScoreId = GenreScoreBatchFixture.maxDailyScoreId(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void compareOneFourAndEightPartitions() throws Exception {
+        Map<String, Object> expected = null;
+        for (int partitionCount : new int[]{1, 4, 8}) {
+            jdbcTemplate.execute("TRUNCATE TABLE genre_score");
+
+            long begin = System.nanoTime();
+            runPartitioned(partitionCount);
+            long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+            Map<String, Object> result = jdbcTemplate.queryForMap(
+                    "SELECT COUNT(*) AS users, SUM(action) AS action, SUM(drama) AS drama, SUM(comedy) AS comedy, "
+                            + "SUM(romance) AS romance, SUM(horror) AS horror FROM genre_score");
+            System.out.printf("partitions = %d | %,d ms | %,.0f users/s | %s%n",
+                    partitionCount, elapsedMillis, USERS / (elapsedMillis / 1000.0), result);
+
+            assertThat(((Number) result.get("users")).longValue()).isEqualTo(USERS);
+            if (expected == null) {
+                expected = result;
+            }
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    private void runPartitioned(int partitionCount) throws Exception {
+        UserIdRangePartitioner partitioner = new UserIdRangePartitioner(jdbcTemplate, maxDailyScoreId);
+        Map<String, ExecutionContext> partitions = partitioner.partition(partitionCount);
+
+        ExecutorService executor = Executors.newFixedThreadPool(partitions.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            futures.add(executor.submit(() -> {
+                runWorkerStep(partition);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    // 워커 스텝: 파티션 구간 reader 에서 청크 크기만큼 읽어 청크 트랜잭션 안에서 writer 호출
+    private void runWorkerStep(ExecutionContext partition) throws Exception {
+        BatchConfig batchConfig = new BatchConfig(null, null);
+        ReflectionTestUtils.setField(batchConfig, "chunkSize", CHUNK_SIZE);
+        JdbcPagingItemReader<Long> reader = batchConfig.dailyGenreScoreUserReader(dataSource, maxDailyScoreId,
+                partition.getLong(UserIdRangePartitioner.MIN_USER_ID), partition.getLong(UserIdRangePartitioner.MAX_USER_ID));
+        reader.afterPropertiesSet();
+        GenreScoreWriter writer = new GenreScoreWriter(new NamedParameterJdbcTemplate(dataSource), mock(GenrePreferenceService.class), maxDailyScoreId);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        reader.open(new ExecutionContext());
+        try {
+            List<Long> userIds = new ArrayList<>(CHUNK_SIZE);
+            Long userId;
+            while ((userId = reader.read()) != null) {
+                userIds.add(userId);
+                if (userIds.size() == CHUNK_SIZE) {
+                    write(transactionTemplate, writer, userIds);
+                    userIds = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!userIds.isEmpty()) {
+                write(transactionTemplate, writer, userIds);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void write(TransactionTemplate transactionTemplate, GenreScoreWriter writer, List<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> writer.write(new Chunk<>(userIds)));
+    }
+}
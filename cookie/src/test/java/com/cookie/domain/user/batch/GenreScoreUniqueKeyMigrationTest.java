@@ -0,0 +1,51 @@
+package com.cookie.domain.user.batch;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class GenreScoreUniqueKeyMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = GenreScoreBatchFixture.dataSource(MYSQL, 2);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void removesDuplicatesAndAddsUniqueKey() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS genre_score");
+        jdbcTemplate.execute("CREATE TABLE genre_score (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, action BIGINT NOT NULL DEFAULT 0)");
+        jdbcTemplate.update("INSERT INTO genre_score (user_id, action) VALUES (1, 10), (1, 20), (2, 30), (1, 40), (2, 50), (3, 60)");
+
+        GenreScoreUniqueKeyMigration migration = new GenreScoreUniqueKeyMigration(jdbcTemplate);
+        migration.ensureUniqueKey();
+        // 이미 키가 있으면 아무것도 하지 않는다
+        migration.ensureUniqueKey();
+
+        assertThat(jdbcTemplate.queryForList("SELECT action FROM genre_score ORDER BY user_id", Long.class))
+                .containsExactly(40L, 50L, 60L);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO genre_score (user_id, action) VALUES (3, 70)"))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.cookie.domain.user.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UserIdRangePartitionerTest {
+
+    private static final long MAX_DAILY_SCORE_ID = 500L;
+
+    @Test
+    void splitsRangeIntoContiguousNonOverlappingPartitions() {
+        List<ExecutionContext> partitions = partition(1L, 100L, 4);
+
+        assertThat(partitions).hasSize(4);
+        assertCovers(partitions, 1L, 100L);
+    }
+
+    @Test
+    void unevenRangeStillCoversEveryUser() {
+        List<ExecutionContext> partitions = partition(7L, 1_000_003L, 8);
+
+        assertThat(partitions).hasSizeLessThanOrEqualTo(8);
+        assertCovers(partitions, 7L, 1_000_003L);
+    }
+
+    @Test
+    void gridLargerThanRangeCreatesOnePartitionPerUser() {
+        List<ExecutionContext> partitions = partition(5L, 6L, 8);
+
+        assertThat(partitions).hasSize(2);
+        assertCovers(partitions, 5L, 6L);
+    }
+
+    @Test
+    void singleUserAndNonPositiveGrid() {
+        assertCovers(partition(42L, 42L, 4), 42L, 42L);
+        assertThat(partition(1L, 10L, 0)).hasSize(1);
+    }
+
+    @Test
+    void noScoresCreatesOneEmptyPartition() {
+        List<ExecutionContext> partitions = partition(null, null, 4);
+
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.get(0);
+        assertThat(context.getLong(UserIdRangePartitioner.MIN_USER_ID))
+                .isGreaterThan(context.getLong(UserIdRangePartitioner.MAX_USER_ID));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ExecutionContext> partition(Long min, Long max, int gridSize) {
+        Map<String, Long> range = new HashMap<>();
+        range.put(UserIdRangePartitioner.MIN_USER_ID, min);
+        range.put(UserIdRangePartitioner.MAX_USER_ID, max);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(MAX_DAILY_SCORE_ID))).willReturn(range);
+
+        UserIdRangePartitioner partitioner = new UserIdRangePartitioner(jdbcTemplate, MAX_DAILY_SCORE_ID);
+        List<ExecutionContext> partitions = new ArrayList<>(partitioner.partition(gridSize).values());
+        partitions.sort(Comparator.comparingLong(context -> context.getLong(UserIdRangePartitioner.MIN_USER_ID)));
+        return partitions;
+    }
+
+    private static void assertCovers(List<ExecutionContext> partitions, long min, long max) {
+        long expectedStart = min;
+        for (ExecutionContext partition : partitions) {
+            long start = partition.getLong(UserIdRangePartitioner.MIN_USER_ID);
+            long end = partition.getLong(UserIdRangePartitioner.MAX_USER_ID);
+            assertThat(start).isEqualTo(expectedStart);
+            assertThat(end).isGreaterThanOrEqualTo(start);
+            expectedStart = end + 1;
+        }
+        assertThat(expectedStart - 1).isEqualTo(max);
+    }
+}
@@ -0,0 +1,93 @@
+package com.cookie.global.cache;
+
+import com.cookie.domain.actor.dto.response.ActorResponse;
+import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse;
+import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse.MainMatchUpMovieResponse;
+import com.cookie.domain.matchup.dto.response.MainMatchUpsResponse.MainMatchUpResponse;
+import com.cookie.domain.matchup.entity.enums.MatchUpType;
+import com.cookie.domain.movie.dto.response.MovieResponse;
+import com.cookie.domain.movie.dto.response.MovieSimpleResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCacheSerializerTest {
+
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer(512);
+
+    @Test
+    void smallValueIsStoredRaw() {
+        ActorResponse actor = new ActorResponse(1L, "송강호", "profile.jpg");
+
+        byte[] bytes = serializer.serialize(actor);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(actor);
+    }
+
+    @Test
+    void largeValueIsDeflatedAndRoundTrips() {
+        MovieResponse movie = MovieResponse.builder()
+                .id(1L)
+                .title("기생충")
+                .images(IntStream.range(0, 50).mapToObj(i -> "https://image.tmdb.org/t/p/w500/image-" + i + ".jpg").toList())
+                .actors(IntStream.range(0, 20).mapToObj(i -> new ActorResponse((long) i, "배우" + i, null)).toList())
+                .build();
+
+        byte[] bytes = serializer.serialize(movie);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(movie);
+    }
+
+    @Test
+    void cachedTypesPassTheFilter() {
+        MainMatchUpsResponse matchUps = new MainMatchUpsResponse(List.of(new MainMatchUpResponse(1L, "봉준호 vs 박찬욱",
+                MatchUpType.SHOW, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 8, 0, 0),
+                new MainMatchUpMovieResponse("기생충", "a.jpg"), new MainMatchUpMovieResponse("올드보이", "b.jpg"))), true);
+        List<MovieSimpleResponse> recommend = new ArrayList<>(List.of(
+                new MovieSimpleResponse(1L, "기생충", null, "2019-05-30", "한국", 4.5, 10L, 3L)));
+
+        MainMatchUpsResponse restored = (MainMatchUpsResponse) serializer.deserialize(serializer.serialize(matchUps));
+        assertThat(restored.getMatchUps().get(0).getType()).isEqualTo(MatchUpType.SHOW);
+        assertThat(restored.getMatchUps().get(0).getMovie2().getMovieTitle()).isEqualTo("올드보이");
+        assertThat(serializer.deserialize(serializer.serialize(recommend))).isEqualTo(recommend);
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isSameAs(NullValue.INSTANCE);
+    }
+
+    @Test
+    void classOutsideAllowListIsRejected() {
+        byte[] bytes = serializer.serialize(new Untrusted("payload"));
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasCauseInstanceOf(InvalidClassException.class);
+    }
+
+    @Test
+    void rejectedClassNestedInAllowedCollectionIsRejected() {
+        byte[] bytes = serializer.serialize(new ArrayList<>(List.of(new Untrusted("payload"))));
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThatThrownBy(() -> serializer.deserialize(new byte[]{9, 1, 2}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    // com.cookie 아래지만 dto / enum 패키지가 아닌 클래스
+    private record Untrusted(String value) implements Serializable {
+    }
+}
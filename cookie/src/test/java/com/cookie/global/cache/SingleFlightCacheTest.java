@@ -0,0 +1,235 @@
+package com.cookie.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 로더를 붙잡아 두는 테스트가 공용 풀 크기에 영향받지 않도록 별도 스레드 사용
+    private final ExecutorService async = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        async.shutdownNow();
+    }
+
+    private SingleFlightCache cache(Duration waitTimeout) {
+        return new SingleFlightCache("test", 1000, Duration.ofMinutes(1), waitTimeout, meterRegistry);
+    }
+
+    @Test
+    void thousandConcurrentRequestsCallLoaderOncePerKey() throws Exception {
+        SingleFlightCache cache = cache(Duration.ofSeconds(10));
+        int keys = 10;
+        int requests = 1_000;
+        Map<Integer, AtomicInteger> loads = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            int key = i % keys;
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(key, () -> {
+                    // DB 조회 대신 호출 수를 세고 잠시 머문다
+                    loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                    Thread.sleep(200);
+                    return "movie-" + key;
+                });
+            }));
+        }
+        start.countDown();
+        for (int i = 0; i < requests; i++) {
+            assertThat(results.get(i).get(30, TimeUnit.SECONDS)).isEqualTo("movie-" + (i % keys));
+        }
+        executor.shutdown();
+
+        assertThat(loads).hasSize(keys);
+        loads.forEach((key, count) -> assertThat(count.get()).as("key %d", key).isEqualTo(1));
+    }
+
+    @Test
+    void errorInLoaderCompletesFlightForWaiters() throws Exception {
+        SingleFlightCache cache = cache(Duration.ofSeconds(10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loading.countDown();
+            release.await();
+            throw new StackOverflowError("boom");
+        }), async);
+        loading.await();
+        CompletableFuture<Object> waiter = CompletableFuture.supplyAsync(() -> cache.get("key", () -> "unused"), async);
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThatThrownBy(leader::join).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        // 실패한 로드는 남지 않고 다음 요청이 다시 읽는다
+        assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    void waiterGivesUpAfterTimeoutWithoutFailingLeader() throws Exception {
+        SingleFlightCache cache = cache(Duration.ofMillis(100));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loading.countDown();
+            release.await();
+            return "slow";
+        }), async);
+        loading.await();
+
+        assertThatThrownBy(() -> cache.get("key", () -> "unused"))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(cache.get("key", () -> "unused")).isEqualTo("slow");
+    }
+
+    @Test
+    void loadRacingEvictIsNotCached() throws Exception {
+        SingleFlightCache cache = cache(Duration.ofSeconds(10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loading.countDown();
+            release.await();
+            return "stale";
+        }), async);
+        loading.await();
+        cache.evict("key");
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.get("key", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void cachesNullValues() {
+        SingleFlightCache cache = cache(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.<Object>get("key", () -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(cache.<Object>get("key", () -> {
+            loads.incrementAndGet();
+            return "unused";
+        })).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void refreshAheadReloadsInBackgroundWithoutBlockingReaders() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", 1000, Duration.ofMinutes(1), Duration.ofMillis(50), async,
+                Duration.ofSeconds(10), meterRegistry);
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 프록시를 거친 @Cacheable 메서드 재호출 대신 같은 키로 get(key, valueLoader) 를 다시 부른다
+        cache.registerReloader(key -> cache.get(key, () -> {
+            reloads.incrementAndGet();
+            reloading.countDown();
+            release.await();
+            return "v2";
+        }));
+
+        assertThat(cache.get("key", () -> "v1")).isEqualTo("v1");
+        Thread.sleep(100);
+
+        // refreshAfter 가 지난 첫 조회: 기존 값을 바로 받고 갱신은 백그라운드에서
+        assertThat(CompletableFuture.supplyAsync(() -> cache.get("key", () -> "unused"), async).get(1, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 갱신이 끝나지 않은 동안에도 조회는 막히지 않고, 갱신은 키당 한 번
+        for (int i = 0; i < 100; i++) {
+            assertThat(CompletableFuture.supplyAsync(() -> cache.get("key", () -> "unused"), async).get(1, TimeUnit.SECONDS)).isEqualTo("v1");
+        }
+        release.countDown();
+        awaitRefreshes(1);
+
+        assertThat(cache.get("key", () -> "unused")).isEqualTo("v2");
+        assertThat(reloads).hasValue(1);
+    }
+
+    @Test
+    void refreshRacingEvictDoesNotRepopulate() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", 1000, Duration.ofMinutes(1), Duration.ofMillis(50), async,
+                Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        cache.registerReloader(key -> cache.get(key, () -> {
+            reloading.countDown();
+            release.await();
+            return "stale";
+        }));
+
+        cache.get("key", () -> "v1");
+        Thread.sleep(100);
+        cache.get("key", () -> "unused");
+        assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict("key");
+        release.countDown();
+        awaitRefreshes(1);
+
+        assertThat(cache.get("key", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void noRefreshWithoutReloader() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache("test", 1000, Duration.ofMinutes(1), Duration.ofMillis(10), async,
+                Duration.ofSeconds(10), meterRegistry);
+        cache.get("key", () -> "v1");
+        Thread.sleep(50);
+
+        assertThat(cache.get("key", () -> "unused")).isEqualTo("v1");
+        assertThat(meterRegistry.find("cache.single-flight.refresh").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    private void awaitRefreshes(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("cache.single-flight.refresh").tag("result", "success").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    // 대기 요청이 flight 에 합류할 때까지 기다린다
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("cache.single-flight.requests").tag("result", "coalesced").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
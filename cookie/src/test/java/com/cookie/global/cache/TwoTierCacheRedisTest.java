@@ -0,0 +1,193 @@
+package com.cookie.global.cache;
+
+import com.cookie.domain.actor.dto.response.ActorResponse;
+import com.cookie.domain.movie.dto.response.MovieResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis 로 L2 캐시 값 직렬화 / 역직렬화 확인
+ * 인스턴스 A 가 넣은 값을 L1 이 빈 인스턴스 B 가 원본 조회 없이 L2 에서 읽어야 하고,
+ * 허용 목록 밖의 클래스가 L2 에 들어 있으면 미스로 보고 원본에서 다시 읽는다.
+ * 한 인스턴스가 원본을 읽는 사이 다른 인스턴스가 evict/clear 하면, 먼저 읽던 값은 L2 에 남지 않는다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TwoTierCacheRedisTest {
+
+    private static final String CACHE = "movieDetailCache";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        RedisTemplate<String, Object> template = rawTemplate();
+        template.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    void valueWrittenByOneInstanceIsReadFromRedisByAnother() {
+        MovieResponse movie = MovieResponse.builder()
+                .id(1L)
+                .title("기생충")
+                .actors(List.of(new ActorResponse(1L, "송강호", null)))
+                .build();
+        AtomicInteger loads = new AtomicInteger();
+
+        Cache instanceA = newCache();
+        Cache instanceB = newCache();
+        assertThat(instanceA.get(1L, () -> {
+            loads.incrementAndGet();
+            return movie;
+        })).isEqualTo(movie);
+        MovieResponse fromRedis = instanceB.get(1L, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(fromRedis).isEqualTo(movie);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void nullValueIsSharedThroughRedis() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(newCache().<Object>get(2L, () -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(newCache().<Object>get(2L, () -> {
+            loads.incrementAndGet();
+            return "unused";
+        })).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void disallowedClassInRedisIsTreatedAsMiss() {
+        byte[] poisoned = new CompactCacheSerializer(512).serialize(new Untrusted("payload"));
+        rawTemplate().execute((RedisCallback<Void>) connection -> {
+            connection.stringCommands().set(("cache:" + CACHE + ":3").getBytes(StandardCharsets.UTF_8), poisoned);
+            return null;
+        });
+        MovieResponse movie = MovieResponse.builder().id(3L).title("괴물").build();
+
+        MovieResponse loaded = newCache().get(3L, () -> movie);
+
+        assertThat(loaded).isEqualTo(movie);
+        // 원본에서 다시 읽은 값으로 L2 도 교체된다
+        assertThat(newCache().<Object>get(3L, () -> null)).isEqualTo(movie);
+    }
+
+    @Test
+    void loadStartedBeforeRemoteEvictDoesNotRepopulateRedis() throws Exception {
+        MovieResponse stale = MovieResponse.builder().id(4L).title("커밋 전").build();
+        MovieResponse fresh = MovieResponse.builder().id(4L).title("커밋 후").build();
+        Cache instanceA = newCache();
+        Cache instanceB = newCache();
+
+        // A: 커밋 전 값을 읽는 중 -> B: 커밋 후 evict (L2 삭제) -> A: 읽은 값을 L2 에 넣으려 함
+        CompletableFuture<MovieResponse> loadA = loadBlocked(instanceA, 4L, stale, () -> instanceB.evict(4L));
+
+        assertThat(loadA.get(5, TimeUnit.SECONDS)).isEqualTo(stale);
+        assertThat(newCache().<Object>get(4L, () -> fresh)).isEqualTo(fresh);
+    }
+
+    @Test
+    void loadStartedBeforeRemoteClearDoesNotRepopulateRedis() throws Exception {
+        MovieResponse stale = MovieResponse.builder().id(5L).title("커밋 전").build();
+        MovieResponse fresh = MovieResponse.builder().id(5L).title("커밋 후").build();
+        Cache instanceA = newCache();
+        Cache instanceB = newCache();
+
+        CompletableFuture<MovieResponse> loadA = loadBlocked(instanceA, 5L, stale, instanceB::clear);
+
+        assertThat(loadA.get(5, TimeUnit.SECONDS)).isEqualTo(stale);
+        assertThat(newCache().<Object>get(5L, () -> fresh)).isEqualTo(fresh);
+    }
+
+    @Test
+    void loadAfterRemoteEvictIsStored() {
+        MovieResponse movie = MovieResponse.builder().id(6L).title("기생충").build();
+        newCache().evict(6L);
+
+        newCache().get(6L, () -> movie);
+
+        // 무효화 이후에 시작한 로드는 L2 에 들어가 다른 인스턴스가 원본 없이 읽는다
+        assertThat(newCache().<Object>get(6L, () -> null)).isEqualTo(movie);
+    }
+
+    // cache 에서 value 를 읽는 로더가 도는 중에 whileLoading 을 실행하고, 끝나면 로더를 반환시킨다
+    private static CompletableFuture<MovieResponse> loadBlocked(Cache cache, Long key, MovieResponse value, Runnable whileLoading)
+            throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MovieResponse> load = CompletableFuture.supplyAsync(() -> cache.get(key, () -> {
+            loading.countDown();
+            release.await();
+            return value;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        whileLoading.run();
+        release.countDown();
+        return load;
+    }
+
+    private static Cache newCache() {
+        return new TwoTierCacheManager(connectionFactory, Duration.ofSeconds(3), new SimpleMeterRegistry())
+                .cache(CACHE, 100, Duration.ofMinutes(1), Duration.ofMinutes(5))
+                .getCache(CACHE);
+    }
+
+    private static RedisTemplate<String, Object> rawTemplate() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private record Untrusted(String value) implements Serializable {
+    }
+}
@@ -0,0 +1,98 @@
+package com.cookie.global.service;
+
+import com.cookie.global.util.StripedDeltaCounter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 리뷰 하나에 좋아요가 몰릴 때의 누적 처리량 (스레드 수별 ops/s)
+ * - striped: LikeCountBuffer 가 쓰는 StripedDeltaCounter (flush 스레드가 1ms 마다 drain)
+ * - atomic: ConcurrentHashMap + AtomicLong (같은 id 에서 CAS 경합)
+ * - row lock: 행 잠금 UPDATE 를 흉내 낸 synchronized 증가
+ */
+@Tag("benchmark")
+class LikeCountBufferBenchmarkTest {
+
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+    private static final Long HOT_REVIEW_ID = 1L;
+
+    @Test
+    void hotReviewLikeThroughput() throws Exception {
+        for (int threads : new int[]{1, 4, 16}) {
+            StripedDeltaCounter striped = new StripedDeltaCounter();
+            AtomicLong flushed = new AtomicLong();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread flusher = new Thread(() -> {
+                while (running.get()) {
+                    striped.drain().values().forEach(flushed::addAndGet);
+                    sleepMillis(1);
+                }
+            });
+            flusher.start();
+            double stripedOps = run(threads, striped::add);
+            running.set(false);
+            flusher.join();
+            striped.drain().values().forEach(flushed::addAndGet);
+            assertThat(flushed.get()).isEqualTo((long) threads * OPERATIONS_PER_THREAD);
+
+            ConcurrentHashMap<Long, AtomicLong> atomics = new ConcurrentHashMap<>();
+            double atomicOps = run(threads, (id, delta) -> atomics.computeIfAbsent(id, key -> new AtomicLong()).addAndGet(delta));
+
+            Object rowLock = new Object();
+            long[] row = new long[1];
+            double rowLockOps = run(threads, (id, delta) -> {
+                synchronized (rowLock) {
+                    row[0] += delta;
+                }
+            });
+
+            System.out.printf("threads = %2d | striped = %,.0f ops/s | atomic = %,.0f ops/s | row lock = %,.0f ops/s%n",
+                    threads, stripedOps, atomicOps, rowLockOps);
+        }
+    }
+
+    private double run(int threads, BiConsumer<Long, Long> add) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        add.accept(HOT_REVIEW_ID, 1L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return (double) threads * OPERATIONS_PER_THREAD / (elapsed / 1_000_000_000.0);
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.cookie.global.service;
+
+import com.cookie.domain.movie.event.MovieLikesFlushedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class LikeCountBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private ApplicationEventPublisher eventPublisher;
+    private LikeCountBuffer likeCountBuffer;
+    // 반영된 review_like 증감 합계
+    private final Map<Long, Long> persistedReviewLikes = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        likeCountBuffer = new LikeCountBuffer(jdbcTemplate, new TransactionTemplate(transactionManager), eventPublisher);
+
+        willAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            args.forEach(arg -> persistedReviewLikes.merge((Long) arg[1], (Long) arg[0], Long::sum));
+            return new int[args.size()];
+        }).given(jdbcTemplate).batchUpdate(startsWith("UPDATE review"), anyList());
+    }
+
+    @Test
+    void concurrentLikesAreFlushedExactlyOnce() throws Exception {
+        int threads = 8;
+        int likesPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < likesPerThread; i++) {
+                    // 좋아요 / 취소가 섞여 들어오는 인기 리뷰 1, 2
+                    likeCountBuffer.addReviewLike(1L, 1);
+                    likeCountBuffer.addReviewLike(2L, (i + thread) % 2 == 0 ? 1 : -1);
+                }
+                done.countDown();
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                likeCountBuffer.flush();
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            }
+        });
+        flusher.start();
+
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+        likeCountBuffer.flush();
+
+        assertThat(persistedReviewLikes.get(1L)).isEqualTo((long) threads * likesPerThread);
+        assertThat(persistedReviewLikes.getOrDefault(2L, 0L)).isZero();
+        assertThat(likeCountBuffer.reviewLikes(1L, 0)).isZero();
+    }
+
+    @Test
+    void failedFlushRollsBackAndKeepsDeltas() {
+        willThrow(new RuntimeException("deadlock"))
+                .given(jdbcTemplate).batchUpdate(startsWith("UPDATE movie"), anyList());
+        likeCountBuffer.addMovieLike(10L, 1);
+        likeCountBuffer.addMovieLike(10L, 1);
+
+        likeCountBuffer.flush();
+
+        // 실패한 배치는 롤백되고 증감량은 버퍼에 남아 있다
+        verify(transactionManager).rollback(any());
+        assertThat(likeCountBuffer.movieLikes(10L, 0L)).isEqualTo(2);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void flushedMovieIdsArePublished() {
+        likeCountBuffer.addMovieLike(10L, 1);
+        likeCountBuffer.addMovieLike(20L, -1);
+        likeCountBuffer.addReviewLike(1L, 1);
+
+        likeCountBuffer.flush();
+
+        ArgumentCaptor<MovieLikesFlushedEvent> event = ArgumentCaptor.forClass(MovieLikesFlushedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getMovieIds()).containsExactlyInAnyOrder(10L, 20L);
+    }
+
+    @Test
+    void discardedReviewLikesStayDiscardedWhenReconcileCommits() {
+        likeCountBuffer.addReviewLike(1L, 3);
+
+        completeTransaction(() -> likeCountBuffer.discardPendingReviewLikes(), TransactionSynchronization.STATUS_COMMITTED);
+        likeCountBuffer.flush();
+
+        assertThat(likeCountBuffer.reviewLikes(1L, 0)).isZero();
+        assertThat(persistedReviewLikes).isEmpty();
+    }
+
+    @Test
+    void discardedReviewLikesAreRestoredWhenReconcileRollsBack() {
+        likeCountBuffer.addReviewLike(1L, 3);
+
+        completeTransaction(() -> likeCountBuffer.discardPendingReviewLikes(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        likeCountBuffer.flush();
+
+        assertThat(persistedReviewLikes.get(1L)).isEqualTo(3L);
+    }
+
+    @Test
+    void flushWaitsUntilReconcileFinishes() throws Exception {
+        likeCountBuffer.addReviewLike(1L, 1);
+        CountDownLatch reconciling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<Integer> reconcile = executor.submit(() -> likeCountBuffer.reconcile(() -> {
+            reconciling.countDown();
+            await(release);
+            likeCountBuffer.discardPendingReviewLikes();
+            return 1;
+        }));
+        assertThat(reconciling.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> flush = executor.submit(likeCountBuffer::flush);
+
+        // 보정이 끝나기 전에는 flush 가 증감을 꺼내 가지 못한다
+        Thread.sleep(200);
+        assertThat(flush.isDone()).isFalse();
+        release.countDown();
+        assertThat(reconcile.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        flush.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(persistedReviewLikes).isEmpty();
+    }
+
+    // 트랜잭션 안에서 action 을 실행하고 status 로 끝난 것처럼 동기화 콜백 호출
+    private static void completeTransaction(Runnable action, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
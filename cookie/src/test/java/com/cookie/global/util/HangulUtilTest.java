@@ -0,0 +1,45 @@
+package com.cookie.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+    @Test
+    void normalizeLowercasesAndDropsSpacesAndPunctuation() {
+        assertThat(HangulUtil.normalize("스파이더맨: 노 웨이 홈")).isEqualTo("스파이더맨노웨이홈");
+        assertThat(HangulUtil.normalize("Spider-Man 2")).isEqualTo("spiderman2");
+        assertThat(HangulUtil.normalize("  !? ")).isEmpty();
+        assertThat(HangulUtil.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void toChosungConvertsOnlyHangulSyllables() {
+        assertThat(HangulUtil.toChosung("기생충")).isEqualTo("ㄱㅅㅊ");
+        // 쌍자음 초성, 받침 있는 음절, 처음/끝 음절
+        assertThat(HangulUtil.toChosung("꿈빛짱")).isEqualTo("ㄲㅂㅉ");
+        assertThat(HangulUtil.toChosung("가힣")).isEqualTo("ㄱㅎ");
+        // 한글이 아닌 문자와 자모는 그대로
+        assertThat(HangulUtil.toChosung("어벤져스2ㅋ")).isEqualTo("ㅇㅂㅈㅅ2ㅋ");
+        assertThat(HangulUtil.toChosung("matrix")).isEqualTo("matrix");
+    }
+
+    @Test
+    void containsHangulChecksSyllablesOnly() {
+        assertThat(HangulUtil.containsHangul("the 괴물")).isTrue();
+        assertThat(HangulUtil.containsHangul("matrix")).isFalse();
+        assertThat(HangulUtil.containsHangul("ㄱㅅㅊ")).isFalse();
+    }
+
+    @Test
+    void isChosungOnlyAcceptsConsonantsOnly() {
+        assertThat(HangulUtil.isChosungOnly("ㄱㅅㅊ")).isTrue();
+        assertThat(HangulUtil.isChosungOnly("ㄲㅎ")).isTrue();
+        assertThat(HangulUtil.isChosungOnly("ㄱ생ㅊ")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("ㄱㅅ1")).isFalse();
+        // 모음(ㅏ)은 초성이 아니다
+        assertThat(HangulUtil.isChosungOnly("ㄱㅏ")).isFalse();
+        assertThat(HangulUtil.isChosungOnly("")).isFalse();
+    }
+}
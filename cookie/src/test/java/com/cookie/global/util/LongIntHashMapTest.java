@@ -0,0 +1,73 @@
+package com.cookie.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+    @Test
+    void putGetAndAddTo() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThat(map.get(7L, -1)).isEqualTo(-1);
+        map.put(7L, 3);
+        map.put(7L, 5);
+        assertThat(map.get(7L, -1)).isEqualTo(5);
+
+        assertThat(map.addTo(7L, 2)).isEqualTo(7);
+        assertThat(map.addTo(-9L, 4)).isEqualTo(4);
+        assertThat(map.get(-9L, 0)).isEqualTo(4);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rehashKeepsEveryEntry() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        long initialCapacityBytes = map.capacityBytes();
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextBoolean() ? random.nextLong() : random.nextInt(1_000) + 1;
+            if (key == 0) {
+                continue;
+            }
+            int delta = random.nextInt(10) + 1;
+            map.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+        // 같은 슬롯으로 몰리기 쉬운 상위 비트만 다른 키와 극단값
+        for (int shift = 32; shift < 63; shift++) {
+            map.put(1L << shift, shift);
+            expected.put(1L << shift, shift);
+        }
+        map.put(Long.MIN_VALUE, 1);
+        map.put(Long.MAX_VALUE, 2);
+        expected.put(Long.MIN_VALUE, 1);
+        expected.put(Long.MAX_VALUE, 2);
+
+        assertThat(map.capacityBytes()).isGreaterThan(initialCapacityBytes);
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key, Integer.MIN_VALUE)).as("key %d", key).isEqualTo(value));
+
+        Map<Long, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    void zeroKeyIsRejected() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThatThrownBy(() -> map.put(0L, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.addTo(0L, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.get(0L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.size()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.cookie.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedDeltaCounterTest {
+
+    @Test
+    void drainReturnsAccumulatedDeltasAndResets() {
+        StripedDeltaCounter counter = new StripedDeltaCounter();
+        counter.add(1L, 3);
+        counter.add(1L, -1);
+        counter.add(2L, 5);
+
+        assertThat(counter.pending(1L)).isEqualTo(2);
+        assertThat(counter.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 5L));
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    void drainRemovesIdleKeys() {
+        StripedDeltaCounter counter = new StripedDeltaCounter();
+        counter.add(1L, 1);
+        counter.add(2L, 1);
+        counter.drain();
+        counter.add(2L, 1);
+
+        // 1 은 직전 drain 이후 증감이 없어 제거되고, 2 는 남는다
+        assertThat(counter.drain()).containsExactly(Map.entry(2L, 1L));
+        assertThat(counter.size()).isEqualTo(1);
+        counter.drain();
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    void concurrentAddAndDrainLoseNothing() throws Exception {
+        StripedDeltaCounter counter = new StripedDeltaCounter();
+        int threads = 8;
+        int addsPerThread = 200_000;
+        int keys = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] drainedTotals = new long[keys];
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < addsPerThread; i++) {
+                        counter.add((long) (i % keys), 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 증감이 들어오는 도중에 계속 drain 해서 샤드 제거와 add 가 경합하도록 한다
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                counter.drain().forEach((id, delta) -> drainedTotals[id.intValue()] += delta);
+            }
+        });
+        drainer.start();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        drainer.join();
+        executor.shutdown();
+
+        counter.drain().forEach((id, delta) -> drainedTotals[id.intValue()] += delta);
+        long expectedPerKey = (long) threads * addsPerThread / keys;
+        for (int key = 0; key < keys; key++) {
+            assertThat(drainedTotals[key]).as("key %d", key).isEqualTo(expectedPerKey);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.cookie.global.websocket;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM 안에 브로커 두 개(노드 A, B)를 띄우고 실제 Redis 로 중계
+ * 노드마다 simple broker + RedisBrokerRelay 를 brokerChannel 인터셉터로 붙여 운영 구성과 같게 맞춘다.
+ * A 에서 /topic 으로 보낸 메시지는 A 의 구독자와 B 의 구독자에게 각각 정확히 한 번씩 전달되어야 하고,
+ * B 가 받아 로컬로 전달한 메시지는 다시 발행되지 않아야 한다.
+ * Redis 리스너 컨테이너는 메시지를 비동기로 나눠 처리하므로 다른 노드에서 온 메시지의 순서는 검증하지 않는다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisBrokerRelayTest {
+
+    private static final String DESTINATION = "/topic/matchup/1/chat";
+    private static final String PROBE_DESTINATION = "/topic/probe";
+    private static final int MESSAGES = 200;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @AfterEach
+    void stopNodes() throws Exception {
+        for (Node node : nodes) {
+            node.stop();
+        }
+    }
+
+    @BeforeEach
+    void startNodes() throws Exception {
+        nodeA = node();
+        nodeB = node();
+        nodeA.subscribe("session-a", DESTINATION);
+        nodeB.subscribe("session-b", DESTINATION);
+
+        // 구독 등록이 비동기라 B 가 중계 메시지를 받기 시작할 때까지 확인용 메시지를 보낸다
+        nodeB.subscribe("session-probe", PROBE_DESTINATION);
+        awaitTrue(() -> {
+            nodeA.send(PROBE_DESTINATION, "probe");
+            return nodeB.delivered("session-probe").size() > 0;
+        });
+    }
+
+    @Test
+    void messageSentOnOneNodeReachesSubscriberOnOtherNodeExactlyOnce() throws Exception {
+        List<String> sent = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            String payload = "{\"seq\":" + i + "}";
+            sent.add(payload);
+            nodeA.send(DESTINATION, payload);
+        }
+
+        awaitTrue(() -> nodeB.delivered("session-b").size() >= MESSAGES);
+        // 늦게 도착하는 중복이 있는지 잠시 더 기다린다
+        Thread.sleep(500);
+
+        assertThat(payloads(nodeB.delivered("session-b"))).containsExactlyInAnyOrderElementsOf(sent);
+        assertThat(payloads(nodeA.delivered("session-a"))).containsExactlyElementsOf(sent);
+        assertThat(nodeB.delivered("session-b").get(0).getHeaders().get(SimpMessageHeaderAccessor.DESTINATION_HEADER))
+                .isEqualTo(DESTINATION);
+        assertThat(SimpMessageHeaderAccessor.wrap(nodeB.delivered("session-b").get(0)).getContentType())
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    void bothNodesPublishingDeliverEachMessageOncePerSubscriber() throws Exception {
+        for (int i = 0; i < MESSAGES; i++) {
+            nodeA.send(DESTINATION, "a-" + i);
+            nodeB.send(DESTINATION, "b-" + i);
+        }
+
+        awaitTrue(() -> nodeA.delivered("session-a").size() >= MESSAGES * 2 && nodeB.delivered("session-b").size() >= MESSAGES * 2);
+        Thread.sleep(500);
+
+        for (Node node : List.of(nodeA, nodeB)) {
+            List<String> received = payloads(node.delivered(node == nodeA ? "session-a" : "session-b"));
+            assertThat(received).hasSize(MESSAGES * 2).doesNotHaveDuplicates();
+            assertThat(received).containsAll(sequence("a-")).containsAll(sequence("b-"));
+        }
+    }
+
+    private Node node() {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        // WebSocketConfig 와 같이 brokerChannel 에 중계 인터셉터를 붙이고 simple broker 가 구독
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        RedisBrokerRelay relay = new RedisBrokerRelay(redisTemplate, listenerContainer, brokerChannel);
+        relay.subscribe();
+        brokerChannel.addInterceptor(relay);
+
+        List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+        MessageChannel clientOutboundChannel = (message, timeout) -> outbound.add(message);
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(),
+                clientOutboundChannel, brokerChannel, List.of("/topic"));
+        broker.start();
+
+        Node node = new Node(brokerChannel, broker, listenerContainer, outbound);
+        nodes.add(node);
+        return node;
+    }
+
+    private static List<String> payloads(List<Message<?>> messages) {
+        return messages.stream()
+                .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private static List<String> sequence(String prefix) {
+        List<String> sequence = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            sequence.add(prefix + i);
+        }
+        return sequence;
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).as("10초 안에 조건을 만족하지 못함").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private record Node(ExecutorSubscribableChannel brokerChannel, SimpleBrokerMessageHandler broker,
+                        RedisMessageListenerContainer listenerContainer, List<Message<?>> outbound) {
+
+        // 세션 하나가 destination 을 구독 (클라이언트 SUBSCRIBE 프레임과 같은 헤더)
+        void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        // 애플리케이션의 convertAndSend 처럼 brokerChannel 로 전송
+        void send(String destination, String payload) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            brokerChannel.send(MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+        }
+
+        List<Message<?>> delivered(String sessionId) {
+            return outbound.stream()
+                    .filter(message -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())))
+                    .toList();
+        }
+
+        void stop() throws Exception {
+            broker.stop();
+            listenerContainer.destroy();
+        }
+    }
+}